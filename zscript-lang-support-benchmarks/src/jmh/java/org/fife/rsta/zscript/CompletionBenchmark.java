@@ -0,0 +1,99 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JTextArea;
+
+import org.fife.rsta.zscript.ast.AstFactory;
+import org.fife.ui.autocomplete.Completion;
+import org.fife.ui.rsyntaxtextarea.RSyntaxDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures computing the completions shown in the popup, with the caret in
+ * the innermost block of a function in a medium-sized file.  This lives in
+ * the same package as {@link CodeCompletionProvider} so it can call
+ * <code>getCompletionsImpl()</code> directly, without the sorting and
+ * wrapping done by the AutoComplete library.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompletionBenchmark {
+
+	/**
+	 * What has been typed before the caret: nothing (e.g. Ctrl+Space on an
+	 * empty line), one character, or a member access.
+	 */
+	@Param({ "empty", "oneChar", "arrow" })
+	String prefix;
+
+	private CodeCompletionProvider provider;
+	private JTextArea textArea;
+
+
+	@Setup
+	public void setUp() {
+
+		String entered;
+		switch (prefix) {
+			case "empty":
+				entered = "";
+				break;
+			case "oneChar":
+				entered = "W";
+				break;
+			default:
+				entered = "Link->";
+				break;
+		}
+
+		ZScriptSource source = ZScriptSource.create(ZScriptSource.MEDIUM);
+		String text = source.getText();
+		int[] deepOffsets = source.getDeepOffsets();
+		int offs = deepOffsets[deepOffsets.length/2];
+		text = text.substring(0, offs) + entered + "\n" + text.substring(offs);
+
+		// The provider needs an RSyntaxDocument to find the entered text, but
+		// an RSyntaxTextArea can't be created on headless benchmark machines
+		textArea = new JTextArea(new RSyntaxDocument("text/zscript"));
+		textArea.setText(text);
+		textArea.setCaretPosition(offs + entered.length());
+
+		provider = new CodeCompletionProvider((ZScriptCompletionProvider)null);
+		provider.setAst(new AstFactory(new StringReader(text),
+				new ZScriptParser()).parse().getAst());
+
+		// Make sure we're measuring real work, not an error path
+		if (getCompletions().isEmpty()) {
+			throw new IllegalStateException("No completions for prefix: " + prefix);
+		}
+
+	}
+
+
+	@Benchmark
+	public List<Completion> getCompletions() {
+		return provider.getCompletionsImpl(textArea);
+	}
+
+
+}
@@ -0,0 +1,56 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.fife.rsta.zscript.ast.AstFactory;
+import org.fife.rsta.zscript.ast.ZScriptParseResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures a full parse of a file, i.e. what the editor does after each
+ * edit when incremental parsing isn't possible.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParseBenchmark {
+
+	@Param({ ZScriptSource.SMALL, ZScriptSource.MEDIUM, ZScriptSource.HUGE })
+	String size;
+
+	private String text;
+	private ZScriptParser parser;
+
+
+	@Setup
+	public void setUp() {
+		text = ZScriptSource.create(size).getText();
+		parser = new ZScriptParser();
+	}
+
+
+	@Benchmark
+	public ZScriptParseResult parse() {
+		return new AstFactory(new StringReader(text), parser).parse();
+	}
+
+
+}
@@ -0,0 +1,79 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.fife.rsta.zscript.ast.AstFactory;
+import org.fife.rsta.zscript.ast.VariableDecNode;
+import org.fife.rsta.zscript.ast.VariablesInScopeGrabber;
+import org.fife.rsta.zscript.ast.ZScriptAst;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures finding the variables in scope at the caret, with the caret in
+ * the innermost block of a function.  Each invocation uses the next
+ * function in the file.  Both the full AST walk and the AST's
+ * {@link org.fife.rsta.zscript.ast.ScopeIndex} are measured.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScopeBenchmark {
+
+	@Param({ ZScriptSource.SMALL, ZScriptSource.MEDIUM, ZScriptSource.HUGE })
+	String size;
+
+	private ZScriptAst ast;
+	private int[] offsets;
+	private int index;
+
+
+	@Setup
+	public void setUp() {
+		ZScriptSource source = ZScriptSource.create(size);
+		ast = new AstFactory(new StringReader(source.getText()),
+				new ZScriptParser()).parse().getAst();
+		offsets = source.getDeepOffsets();
+	}
+
+
+	private int nextOffset() {
+		int i = index;
+		index = i==offsets.length-1 ? 0 : i+1;
+		return offsets[i];
+	}
+
+
+	@Benchmark
+	public List<VariableDecNode> scopeIndex() {
+		return ast.getScopeIndex().getVariablesInScope(nextOffset());
+	}
+
+
+	@Benchmark
+	public List<VariableDecNode> variablesInScopeGrabber() {
+		VariablesInScopeGrabber grabber = new VariablesInScopeGrabber(nextOffset());
+		ast.getRootNode().accept(grabber);
+		return grabber.getVariableList();
+	}
+
+
+}
@@ -0,0 +1,100 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.swing.text.Segment;
+
+import org.fife.ui.rsyntaxtextarea.Token;
+import org.fife.ui.rsyntaxtextarea.TokenTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures syntax highlighting: tokenizing a single line, as RSyntaxTextArea
+ * does when painting.  Each invocation tokenizes the next line of the file,
+ * with the same initial token type the editor would pass in.<p>
+ *
+ * With a non-zero <code>cacheSize</code>, files with fewer lines than the
+ * cache are served from it once every line has been seen, as when
+ * repainting a visible region.  Cycling through more lines than that evicts
+ * each before it comes round again, so larger files measure the cost of a
+ * miss.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenMakerBenchmark {
+
+	@Param({ ZScriptSource.SMALL, ZScriptSource.MEDIUM, ZScriptSource.HUGE })
+	String size;
+
+	@Param({ "0", "2048" })
+	int cacheSize;
+
+	private ZScriptTokenMaker tokenMaker;
+	private Segment[] lines;
+	private int[] lineStarts;
+	private int[] initialTokenTypes;
+	private int line;
+
+
+	@Setup
+	public void setUp() {
+
+		char[] text = ZScriptSource.create(size).getText().toCharArray();
+		ZScriptTokenMaker.setTokenListCacheSize(cacheSize);
+		tokenMaker = new ZScriptTokenMaker();
+
+		// Like RSyntaxDocument, each line is a view into the same array,
+		// without its newline.
+		List<Segment> segments = new ArrayList<>();
+		List<Integer> starts = new ArrayList<>();
+		int start = 0;
+		for (int i=0; i<=text.length; i++) {
+			if (i==text.length || text[i]=='\n') {
+				segments.add(new Segment(text, start, i-start));
+				starts.add(start);
+				start = i + 1;
+			}
+		}
+
+		lines = segments.toArray(new Segment[0]);
+		lineStarts = new int[lines.length];
+		initialTokenTypes = new int[lines.length];
+		int tokenType = TokenTypes.NULL;
+		for (int i=0; i<lines.length; i++) {
+			lineStarts[i] = starts.get(i);
+			initialTokenTypes[i] = tokenType;
+			tokenType = tokenMaker.getLastTokenTypeOnLine(lines[i], tokenType);
+		}
+
+	}
+
+
+	@Benchmark
+	public Token getTokenList() {
+		int i = line;
+		line = i==lines.length-1 ? 0 : i+1;
+		return tokenMaker.getTokenList(lines[i], initialTokenTypes[i],
+				lineStarts[i]);
+	}
+
+
+}
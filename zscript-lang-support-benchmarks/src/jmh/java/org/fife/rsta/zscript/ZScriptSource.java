@@ -0,0 +1,162 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.util.Arrays;
+
+
+/**
+ * Generates the ZScript source code the benchmarks run against.  The code
+ * is synthetic but representative: imports, constants and globals, then
+ * scripts whose functions nest <code>if</code>, <code>for</code> and
+ * <code>while</code> blocks, each declaring local variables.  Generation is
+ * deterministic, so results are comparable across runs.<p>
+ *
+ * The offset of the innermost block of each function is recorded, for
+ * benchmarks that need a "deep" caret position.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class ZScriptSource {
+
+	private String text;
+	private int[] deepOffsets;
+
+	/**
+	 * The sizes available to benchmarks, as used in their <code>@Param</code>
+	 * annotations.
+	 */
+	static final String SMALL = "small";
+	static final String MEDIUM = "medium";
+	static final String HUGE = "huge";
+
+	private static final String[] BLOCK_TYPES = { "if", "for", "while" };
+
+
+	private ZScriptSource(String text, int[] deepOffsets) {
+		this.text = text;
+		this.deepOffsets = deepOffsets;
+	}
+
+
+	/**
+	 * Returns source code of a given size.
+	 *
+	 * @param size One of {@link #SMALL}, {@link #MEDIUM} or {@link #HUGE}.
+	 * @return The source.
+	 * @throws IllegalArgumentException If the size is unknown.
+	 */
+	static ZScriptSource create(String size) {
+		switch (size) {
+			case SMALL: // About 80 lines, a typical single-script file
+				return generate(1, 3, 4);
+			case MEDIUM: // About 3,000 lines, a quest's worth of scripts
+				return generate(20, 5, 6);
+			case HUGE: // About 80,000 lines, e.g. a concatenated buffer
+				return generate(400, 5, 8);
+			default:
+				throw new IllegalArgumentException("Unknown size: " + size);
+		}
+	}
+
+
+	private static ZScriptSource generate(int scriptCount, int functionCount,
+			int depth) {
+
+		StringBuilder sb = new StringBuilder();
+		int[] deepOffsets = new int[scriptCount * functionCount];
+		int deepOffsetCount = 0;
+
+		sb.append("import \"std.zh\";\n");
+		sb.append("import \"string.zh\";\n\n");
+		for (int i=0; i<scriptCount; i++) {
+			sb.append("const int CONST_").append(i).append(" = ").append(i).append(";\n");
+			sb.append("int global").append(i).append(";\n");
+		}
+		sb.append('\n');
+
+		for (int s=0; s<scriptCount; s++) {
+
+			sb.append("ffc script Script").append(s).append(" {\n\n");
+			sb.append("    int counter;\n");
+			sb.append("    float speed;\n\n");
+
+			for (int f=0; f<functionCount; f++) {
+
+				String name = f==0 ? "run" : ("function" + f);
+				sb.append("    void ").append(name).append("(int arg0, float arg1) {\n");
+
+				String indent = "        ";
+				for (int d=0; d<depth; d++) {
+					String var = "v" + d;
+					sb.append(indent).append("int ").append(var).append(" = arg0 + ")
+						.append(d).append(";\n");
+					sb.append(indent).append("Link->X += ").append(var).append(";\n");
+					switch (BLOCK_TYPES[d % BLOCK_TYPES.length]) {
+						case "if":
+							sb.append(indent).append("if (").append(var)
+								.append(" > CONST_").append(s).append(") {\n");
+							break;
+						case "for":
+							sb.append(indent).append("for (int i").append(d)
+								.append(" = 0; i").append(d).append(" < ").append(var)
+								.append("; i").append(d).append("++) {\n");
+							break;
+						default:
+							sb.append(indent).append("while (").append(var)
+								.append(" > 0 && Link->HP > 0) {\n");
+							break;
+					}
+					indent += "    ";
+				}
+
+				sb.append(indent).append("counter++;\n");
+				deepOffsets[deepOffsetCount++] = sb.length();
+				sb.append(indent).append("Trace(counter);\n");
+				sb.append(indent).append("Waitframe();\n");
+
+				for (int d=depth-1; d>=0; d--) {
+					indent = indent.substring(4);
+					sb.append(indent).append("}\n");
+				}
+				sb.append("    }\n\n");
+
+			}
+
+			sb.append("}\n\n");
+
+		}
+
+		return new ZScriptSource(sb.toString(),
+				Arrays.copyOf(deepOffsets, deepOffsetCount));
+
+	}
+
+
+	/**
+	 * Returns the offsets of the start of a line in the innermost block of
+	 * each function, in source order.
+	 *
+	 * @return The offsets.
+	 */
+	int[] getDeepOffsets() {
+		return deepOffsets;
+	}
+
+
+	/**
+	 * Returns the source code.
+	 *
+	 * @return The source code.
+	 */
+	String getText() {
+		return text;
+	}
+
+
+}
@@ -6,14 +6,37 @@
  */
 package org.fife.rsta.zscript.demo;
 
+import java.awt.BorderLayout;
 import java.awt.Frame;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.swing.BorderFactory;
+import javax.swing.DefaultListModel;
 import javax.swing.JDialog;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextField;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.Element;
 
 import org.fife.rsta.zscript.DocDisplayer;
+import org.fife.rsta.zscript.DocSearchIndex;
+import org.fife.ui.rsyntaxtextarea.DocumentRange;
+import org.fife.ui.rsyntaxtextarea.RSyntaxDocument;
 import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
+import org.fife.ui.rsyntaxtextarea.RSyntaxUtilities;
 import org.fife.ui.rtextarea.RTextScrollPane;
 import org.fife.ui.rtextarea.SearchContext;
 import org.fife.ui.rtextarea.SearchEngine;
@@ -22,13 +45,108 @@ import org.fife.ui.rtextarea.SearchEngine;
 /**
  * Displays documentation for tokens Ctrl+clicked by the user in a popup
  * window.  Real applications would probably open such documentation in a new
- * tab.
+ * tab.<p>
+ *
+ * Shared documents are displayed in one popup each, which is reused until it
+ * is closed.  The documentation can also be searched via
+ * {@link #showSearchDialog()}.
  *
  * @author Robert Futrell
  * @version 1.0
  */
 class DemoDocDisplayer implements DocDisplayer {
 
+	/**
+	 * The text areas displaying shared documents, in open popups.
+	 */
+	private Map<RSyntaxDocument, RSyntaxTextArea> views = new IdentityHashMap<>();
+
+	private JDialog searchDialog;
+	private JTextField searchField;
+	private DefaultListModel<DocSearchIndex.Hit> searchResults;
+	private JList<DocSearchIndex.Hit> searchList;
+
+	/**
+	 * The search index, or <code>null</code> while it is being built.
+	 */
+	private DocSearchIndex searchIndex;
+
+	private static final String SEARCH_TITLE = "Search Documentation";
+	private static final int MAX_SEARCH_RESULTS = 100;
+
+
+	private RSyntaxTextArea createView(String title, RSyntaxDocument doc) {
+
+		RSyntaxTextArea textArea = new RSyntaxTextArea(doc, null, 40, 80);
+		textArea.setEditable(false);
+		textArea.setCodeFoldingEnabled(true);
+
+		Frame owner = Frame.getFrames()[0];
+		JDialog dialog = new JDialog(owner);
+		dialog.setContentPane(new RTextScrollPane(textArea));
+		dialog.setTitle(title + " (read-only)");
+		dialog.pack();
+		dialog.setLocationRelativeTo(null);
+		dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+		dialog.addWindowListener(new WindowAdapter() {
+			@Override
+			public void windowClosed(WindowEvent e) {
+				views.remove(doc);
+			}
+		});
+
+		return textArea;
+
+	}
+
+
+	private void createSearchDialog() {
+
+		searchField = new JTextField(40);
+		searchField.getDocument().addDocumentListener(new DocumentListener() {
+			@Override
+			public void changedUpdate(DocumentEvent e) {
+			}
+			@Override
+			public void insertUpdate(DocumentEvent e) {
+				search();
+			}
+			@Override
+			public void removeUpdate(DocumentEvent e) {
+				search();
+			}
+		});
+		searchField.addActionListener(e -> displaySearchResult());
+
+		searchResults = new DefaultListModel<>();
+		searchList = new JList<>(searchResults);
+		searchList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+		searchList.setVisibleRowCount(20);
+		searchList.addMouseListener(new MouseAdapter() {
+			@Override
+			public void mouseClicked(MouseEvent e) {
+				if (e.getClickCount()==2) {
+					displaySearchResult();
+				}
+			}
+		});
+
+		JPanel cp = new JPanel(new BorderLayout(0, 5));
+		cp.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
+		cp.add(searchField, BorderLayout.NORTH);
+		cp.add(new JScrollPane(searchList));
+
+		Frame owner = Frame.getFrames()[0];
+		searchDialog = new JDialog(owner);
+		searchDialog.setContentPane(cp);
+		searchDialog.setTitle(SEARCH_TITLE + " (loading...)");
+		searchDialog.pack();
+		searchDialog.setLocationRelativeTo(owner);
+
+		loadSearchIndex();
+
+	}
+
 
 	@Override
 	public void display(String title, BufferedReader r, String toFocus) {
@@ -62,4 +180,105 @@ class DemoDocDisplayer implements DocDisplayer {
 	}
 
 
-}
\ No newline at end of file
+	@Override
+	public void display(String title, RSyntaxDocument doc, int offs) {
+
+		RSyntaxTextArea textArea = views.get(doc);
+		if (textArea==null) {
+			textArea = createView(title, doc);
+			views.put(doc, textArea);
+		}
+
+		JDialog dialog = (JDialog)textArea.getTopLevelAncestor();
+		dialog.setVisible(true);
+		dialog.toFront();
+
+		// Select the line jumped to
+		Element root = doc.getDefaultRootElement();
+		Element line = root.getElement(root.getElementIndex(offs));
+		DocumentRange range = new DocumentRange(line.getStartOffset(),
+				line.getEndOffset() - 1);
+		RSyntaxUtilities.selectAndPossiblyCenter(textArea, range, true);
+
+	}
+
+
+	/**
+	 * Displays the selected search result, or the first one if none is
+	 * selected.
+	 */
+	private void displaySearchResult() {
+		DocSearchIndex.Hit hit = searchList.getSelectedValue();
+		if (hit==null && !searchResults.isEmpty()) {
+			hit = searchResults.get(0);
+		}
+		if (hit==null) {
+			UIManager.getLookAndFeel().provideErrorFeedback(searchField);
+			return;
+		}
+		display(hit.getTitle(), hit.getDocument(), hit.getOffset());
+	}
+
+
+	/**
+	 * Builds the search index on a background thread, since it takes a
+	 * noticeable amount of time.  Anything typed in the meantime is searched
+	 * for when it is ready.
+	 */
+	private void loadSearchIndex() {
+		Thread thread = new Thread(() -> {
+			try {
+				DocSearchIndex index = DocSearchIndex.get();
+				SwingUtilities.invokeLater(() -> {
+					searchIndex = index;
+					searchDialog.setTitle(SEARCH_TITLE);
+					search();
+				});
+			} catch (IOException ioe) {
+				ioe.printStackTrace();
+				SwingUtilities.invokeLater(() ->
+					searchDialog.setTitle(SEARCH_TITLE + " (unavailable)"));
+			}
+		}, "DocSearchIndexLoader");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+
+	/**
+	 * Refreshes the search results for the text in the search field.
+	 */
+	private void search() {
+
+		searchResults.clear();
+		if (searchIndex==null) {
+			return; // Still loading
+		}
+
+		List<DocSearchIndex.Hit> hits = searchIndex.search(
+				searchField.getText(), MAX_SEARCH_RESULTS);
+		for (DocSearchIndex.Hit hit : hits) {
+			searchResults.addElement(hit);
+		}
+
+	}
+
+
+	/**
+	 * Displays a dialog for searching the documentation.  Results are
+	 * displayed when double-clicked, or when Enter is pressed in the search
+	 * field.  The first time the dialog is shown, the search index is built
+	 * in the background.
+	 */
+	void showSearchDialog() {
+		if (searchDialog==null) {
+			createSearchDialog();
+		}
+		searchDialog.setVisible(true);
+		searchDialog.toFront();
+		searchField.requestFocusInWindow();
+		searchField.selectAll();
+	}
+
+
+}
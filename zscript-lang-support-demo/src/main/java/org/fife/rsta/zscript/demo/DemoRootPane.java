@@ -222,6 +222,8 @@ public class DemoRootPane extends JRootPane implements SyntaxConstants,
 
 		menu = new JMenu("Help");
 		menu.setMnemonic('H');
+		menu.add(new JMenuItem(new SearchDocumentationAction()));
+		menu.addSeparator();
 		JMenuItem item = new JMenuItem(new AboutAction());
 		menu.add(item);
 		mb.add(menu);
@@ -450,6 +452,7 @@ public class DemoRootPane extends JRootPane implements SyntaxConstants,
 		LanguageSupport ls = LanguageSupportFactory.get().getSupportFor("text/zscript");
 		ZScriptLanguageSupport zsls = (ZScriptLanguageSupport)ls;
 		zsls.setDocDisplayer(new DemoDocDisplayer());
+		zsls.setBackgroundParsingEnabled(true);
 
 	}
 
@@ -798,6 +801,23 @@ public class DemoRootPane extends JRootPane implements SyntaxConstants,
 	}
 
 
+	private static class SearchDocumentationAction extends AbstractAction {
+
+		SearchDocumentationAction() {
+			putValue(NAME, "Search Documentation...");
+			putValue(ACCELERATOR_KEY, KeyStroke.getKeyStroke("F1"));
+		}
+
+		@Override
+		public void actionPerformed(ActionEvent e) {
+			LanguageSupport ls = LanguageSupportFactory.get().getSupportFor("text/zscript");
+			ZScriptLanguageSupport zsls = (ZScriptLanguageSupport)ls;
+			((DemoDocDisplayer)zsls.getDocDisplayer()).showSearchDialog();
+		}
+
+	}
+
+
 	private class TabLinesAction extends AbstractAction {
 
 		private boolean selected;
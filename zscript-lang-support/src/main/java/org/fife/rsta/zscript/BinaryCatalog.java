@@ -0,0 +1,423 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.fife.ui.autocomplete.Completion;
+import org.fife.ui.autocomplete.CompletionProvider;
+import org.fife.ui.autocomplete.FunctionCompletion;
+import org.fife.ui.autocomplete.ParameterizedCompletion.Parameter;
+import org.fife.ui.autocomplete.VariableCompletion;
+
+
+/**
+ * Reads and writes the {@link BuiltInCatalog} in a compact binary form.  The
+ * build compiles the text API descriptions in <code>/data</code> into this
+ * form (see the <code>compileCompletionCatalog</code> task), so editors
+ * don't pay for parsing them at runtime.<p>
+ *
+ * The format is:
+ * <pre>
+ * int     magic ("ZSCC")
+ * short   format version
+ * int     string count, then each string (modified UTF-8)
+ * int     description count, then each description's end offset (int),
+ *         then the UTF-8 bytes of all descriptions concatenated
+ * int     section count, then each section:
+ *           byte  kind (global functions, type members, or .zh file)
+ *           int   key (string index of the type or .zh file, or -1)
+ *           int   completion count, then each completion:
+ *                   byte  kind (function or property)
+ *                   int   name, type, parent type, "defined in" (string
+ *                         indices, or -1)
+ *                   short parameter count (-1 for none), then each
+ *                         parameter's type and name (string indices)
+ *                   int   description index (or -1)
+ * </pre>
+ * Strings are shared among all completions that use them.  Descriptions are
+ * only decoded the first time they are displayed.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class BinaryCatalog {
+
+	/**
+	 * Where the compiled catalog lives on the classpath.
+	 */
+	static final String RESOURCE = "/data/zscript-catalog.bin";
+
+	private static final int MAGIC = 0x5a534343; // "ZSCC"
+	private static final short VERSION = 1;
+
+	private static final byte SECTION_GLOBAL_FUNCTIONS = 0;
+	private static final byte SECTION_TYPE_MEMBERS = 1;
+	private static final byte SECTION_ZH_FILE = 2;
+
+	private static final byte COMPLETION_FUNCTION = 0;
+	private static final byte COMPLETION_METHOD = 1;
+	private static final byte COMPLETION_PROPERTY = 2;
+
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private BinaryCatalog() {
+		// Do nothing (comment for Sonar)
+	}
+
+
+	/**
+	 * Compiles the text API descriptions on the classpath into a binary
+	 * catalog.  This is run by the build.
+	 *
+	 * @param args The file to write to.
+	 * @throws IOException If an IO error occurs.
+	 */
+	public static void main(String[] args) throws IOException {
+
+		if (args.length!=1) {
+			System.err.println("Usage: BinaryCatalog <output-file>");
+			System.exit(1);
+		}
+
+		BuiltInCatalog catalog = new BuiltInCatalog();
+		catalog.loadFromText();
+
+		File file = new File(args[0]);
+		File parent = file.getParentFile();
+		if (parent!=null && !parent.isDirectory() && !parent.mkdirs()) {
+			throw new IOException("Cannot create directory: " + parent);
+		}
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(file)))) {
+			write(catalog, out);
+		}
+
+	}
+
+
+	/**
+	 * Loads the compiled catalog from the classpath, if it exists.
+	 *
+	 * @param catalog The catalog to populate.
+	 * @param p The provider to own the completions created.
+	 * @return Whether the compiled catalog was found.  If it wasn't, the
+	 *         caller should fall back on the text descriptions.
+	 * @throws IOException If an IO error occurs, or the catalog is corrupt
+	 *         or in an unknown format.
+	 */
+	static boolean read(BuiltInCatalog catalog, CompletionProvider p)
+			throws IOException {
+
+		InputStream in = BinaryCatalog.class.getResourceAsStream(RESOURCE);
+		if (in==null) {
+			return false;
+		}
+
+		try (DataInputStream din = new DataInputStream(
+				new BufferedInputStream(in))) {
+
+			if (din.readInt()!=MAGIC || din.readShort()!=VERSION) {
+				throw new IOException("Unknown completion catalog format");
+			}
+
+			String[] strings = new String[din.readInt()];
+			for (int i=0; i<strings.length; i++) {
+				strings[i] = din.readUTF();
+			}
+
+			int[] descEnds = new int[din.readInt()];
+			for (int i=0; i<descEnds.length; i++) {
+				descEnds[i] = din.readInt();
+			}
+			byte[] descBytes = new byte[descEnds.length==0 ? 0 : descEnds[descEnds.length-1]];
+			din.readFully(descBytes);
+			Descriptions descs = new Descriptions(descBytes, descEnds);
+
+			int sectionCount = din.readInt();
+			for (int i=0; i<sectionCount; i++) {
+				byte kind = din.readByte();
+				String key = string(strings, din.readInt());
+				SortedSet<Completion> completions = new TreeSet<>();
+				int count = din.readInt();
+				for (int j=0; j<count; j++) {
+					completions.add(readCompletion(din, p, strings, descs));
+				}
+				switch (kind) {
+					case SECTION_GLOBAL_FUNCTIONS:
+						SortedSet<FunctionCompletion> functions = new TreeSet<>();
+						for (Completion c : completions) {
+							functions.add((FunctionCompletion)c);
+						}
+						catalog.setGlobalFunctions(functions);
+						break;
+					case SECTION_TYPE_MEMBERS:
+						catalog.setGlobalVariableMembers(key, completions);
+						break;
+					case SECTION_ZH_FILE:
+						catalog.putZhFileContents(key, completions);
+						break;
+					default:
+						throw new IOException("Unknown catalog section: " + kind);
+				}
+			}
+
+		}
+
+		return true;
+
+	}
+
+
+	private static Completion readCompletion(DataInputStream in,
+			CompletionProvider p, String[] strings, Descriptions descs)
+					throws IOException {
+
+		byte kind = in.readByte();
+		String name = string(strings, in.readInt());
+		String type = string(strings, in.readInt());
+		String parentType = string(strings, in.readInt());
+		String definedIn = string(strings, in.readInt());
+
+		List<Parameter> params = null;
+		short paramCount = in.readShort();
+		if (paramCount>-1) {
+			params = new ArrayList<>(paramCount);
+			for (int i=0; i<paramCount; i++) {
+				String paramType = string(strings, in.readInt());
+				params.add(new Parameter(paramType, string(strings, in.readInt())));
+			}
+		}
+		int desc = in.readInt();
+
+		switch (kind) {
+			case COMPLETION_FUNCTION:
+			case COMPLETION_METHOD:
+				ZScriptFunctionCompletion fc = kind==COMPLETION_FUNCTION ?
+						new ZScriptFunctionCompletion(p, name, type) :
+						new ZScriptMethodCompletion(p, name, type);
+				fc.setParams(params);
+				fc.setDefinedIn(definedIn);
+				if (desc>-1) {
+					fc.setLazyShortDescription(new LazyDescription(descs, desc));
+				}
+				return fc;
+			case COMPLETION_PROPERTY:
+				ZScriptPropertyCompletion pc = new ZScriptPropertyCompletion(p,
+						parentType, name, type);
+				pc.setDefinedIn(definedIn);
+				if (desc>-1) {
+					pc.setLazyShortDescription(new LazyDescription(descs, desc));
+				}
+				return pc;
+			default:
+				throw new IOException("Unknown completion kind: " + kind);
+		}
+
+	}
+
+
+	private static String string(String[] strings, int index) {
+		return index==-1 ? null : strings[index];
+	}
+
+
+	/**
+	 * Writes a catalog in binary form.
+	 *
+	 * @param catalog The catalog to write.
+	 * @param out The stream to write to.
+	 * @throws IOException If an IO error occurs.
+	 */
+	static void write(BuiltInCatalog catalog, DataOutputStream out)
+			throws IOException {
+
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		ByteArrayOutputStream descBytes = new ByteArrayOutputStream();
+		List<Integer> descEnds = new ArrayList<>();
+
+		// Encode the sections first, so we know all strings and descriptions
+		ByteArrayOutputStream sectionBytes = new ByteArrayOutputStream();
+		DataOutputStream sections = new DataOutputStream(sectionBytes);
+		int sectionCount = 0;
+
+		writeSection(sections, SECTION_GLOBAL_FUNCTIONS, null,
+				catalog.getGlobalFunctions(), strings, descBytes, descEnds);
+		sectionCount++;
+		for (String type : catalog.getGlobalVariableTypes()) {
+			writeSection(sections, SECTION_TYPE_MEMBERS, type,
+					catalog.getGlobalVariableMembers(type), strings, descBytes,
+					descEnds);
+			sectionCount++;
+		}
+		for (String zhFile : catalog.getZhFileNames()) {
+			writeSection(sections, SECTION_ZH_FILE, zhFile,
+					catalog.getZhFileContents(zhFile), strings, descBytes,
+					descEnds);
+			sectionCount++;
+		}
+		sections.flush();
+
+		out.writeInt(MAGIC);
+		out.writeShort(VERSION);
+		out.writeInt(strings.size());
+		for (String str : strings.keySet()) {
+			out.writeUTF(str);
+		}
+		out.writeInt(descEnds.size());
+		for (int end : descEnds) {
+			out.writeInt(end);
+		}
+		descBytes.writeTo(out);
+		out.writeInt(sectionCount);
+		sectionBytes.writeTo(out);
+
+	}
+
+
+	private static void writeSection(DataOutputStream out, byte kind,
+			String key, List<? extends Completion> completions,
+			Map<String, Integer> strings, ByteArrayOutputStream descBytes,
+			List<Integer> descEnds) throws IOException {
+
+		out.writeByte(kind);
+		out.writeInt(stringIndex(strings, key));
+		out.writeInt(completions.size());
+
+		for (Completion c : completions) {
+
+			VariableCompletion vc = (VariableCompletion)c;
+			String parentType = null;
+			byte completionKind;
+			if (c instanceof ZScriptMethodCompletion) {
+				completionKind = COMPLETION_METHOD;
+			}
+			else if (c instanceof FunctionCompletion) {
+				completionKind = COMPLETION_FUNCTION;
+			}
+			else {
+				completionKind = COMPLETION_PROPERTY;
+				parentType = ((ZScriptPropertyCompletion)c).getParentType();
+			}
+
+			out.writeByte(completionKind);
+			out.writeInt(stringIndex(strings, vc.getName()));
+			out.writeInt(stringIndex(strings, vc.getType()));
+			out.writeInt(stringIndex(strings, parentType));
+			out.writeInt(stringIndex(strings, vc.getDefinedIn()));
+
+			if (c instanceof FunctionCompletion &&
+					((FunctionCompletion)c).getParamCount()>0) {
+				FunctionCompletion fc = (FunctionCompletion)c;
+				out.writeShort(fc.getParamCount());
+				for (int i=0; i<fc.getParamCount(); i++) {
+					Parameter param = fc.getParam(i);
+					out.writeInt(stringIndex(strings, param.getType()));
+					out.writeInt(stringIndex(strings, param.getName()));
+				}
+			}
+			else {
+				out.writeShort(-1);
+			}
+
+			String desc = vc.getShortDescription();
+			if (desc!=null) {
+				descBytes.write(desc.getBytes(StandardCharsets.UTF_8));
+				descEnds.add(descBytes.size());
+				out.writeInt(descEnds.size() - 1);
+			}
+			else {
+				out.writeInt(-1);
+			}
+
+		}
+
+	}
+
+
+	private static int stringIndex(Map<String, Integer> strings, String str) {
+		if (str==null) {
+			return -1;
+		}
+		return strings.computeIfAbsent(str, s -> strings.size());
+	}
+
+
+	/**
+	 * The descriptions of all completions in a compiled catalog, kept as
+	 * UTF-8 until they are actually needed.
+	 */
+	static final class Descriptions {
+
+		private byte[] bytes;
+		private int[] ends;
+
+		private Descriptions(byte[] bytes, int[] ends) {
+			this.bytes = bytes;
+			this.ends = ends;
+		}
+
+		/**
+		 * Decodes a description.
+		 *
+		 * @param index The index of the description.
+		 * @return The description.
+		 */
+		String get(int index) {
+			int start = index==0 ? 0 : ends[index-1];
+			return new String(bytes, start, ends[index]-start,
+					StandardCharsets.UTF_8);
+		}
+
+	}
+
+
+	/**
+	 * A single completion's description in a compiled catalog, decoded the
+	 * first time it is needed.  This is shared by all completion types that
+	 * are read from a catalog.
+	 */
+	static final class LazyDescription {
+
+		private Descriptions descs;
+		private int index;
+
+		LazyDescription(Descriptions descs, int index) {
+			this.descs = descs;
+			this.index = index;
+		}
+
+		/**
+		 * Decodes this description.
+		 *
+		 * @return The description.
+		 */
+		String decode() {
+			return descs.get(index);
+		}
+
+	}
+
+
+}
@@ -0,0 +1,314 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+
+import org.fife.ui.autocomplete.Completion;
+import org.fife.ui.autocomplete.FunctionCompletion;
+
+
+/**
+ * The built-in ZScript API: global functions, members of the built-in types
+ * (<code>ffc</code>, <code>Link</code>, <code>Screen</code>, etc.), and the
+ * contents of the standard <code>.zh</code> files.  This is loaded once, the
+ * first time it is needed, and shared by all text areas.  If the build has
+ * compiled the API descriptions into a binary catalog, that is what's
+ * loaded; otherwise (e.g. when running from an IDE) the text descriptions
+ * are parsed.<p>
+ *
+ * All lists returned are sorted and unmodifiable.  Each list also has a
+ * {@link CompletionIndex} for fast prefix lookups.  The completions in them
+ * belong to a single, AST-less {@link CodeCompletionProvider}, so they
+ * behave the same regardless of the text area they are displayed in.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class BuiltInCatalog {
+
+	private CodeCompletionProvider owner;
+	private List<FunctionCompletion> globalFunctions;
+	private Map<String, List<Completion>> globalVariableMembers;
+	private Map<String, List<Completion>> zhFileToContents;
+	private CompletionIndex<FunctionCompletion> globalFunctionIndex;
+	private Map<String, CompletionIndex<Completion>> globalVariableMemberIndexes;
+	private Map<String, CompletionIndex<Completion>> zhFileIndexes;
+	private IdentifierTable globalFunctionIdentifiers;
+	private Map<String, IdentifierTable> memberIdentifiers;
+
+
+	/**
+	 * The standard library files whose contents are described.
+	 */
+	private static final String[] STANDARD_ZH_FILES = { "std.zh", "string.zh" };
+
+
+	/**
+	 * Creates an empty catalog.
+	 *
+	 * @see #load()
+	 */
+	BuiltInCatalog() {
+		globalFunctions = Collections.emptyList();
+		globalVariableMembers = new TreeMap<>();
+		zhFileToContents = new TreeMap<>();
+		globalFunctionIndex = new CompletionIndex<>(globalFunctions);
+		globalVariableMemberIndexes = new TreeMap<>();
+		zhFileIndexes = new TreeMap<>();
+		globalFunctionIdentifiers = new IdentifierTable(Collections.emptyMap());
+		memberIdentifiers = Collections.emptyMap();
+		owner = new CodeCompletionProvider(this);
+	}
+
+
+	/**
+	 * Returns the shared catalog, loading it if necessary.  This method is
+	 * thread-safe.
+	 *
+	 * @return The catalog.
+	 */
+	static BuiltInCatalog get() {
+		return Holder.INSTANCE;
+	}
+
+
+	/**
+	 * Returns all global functions.
+	 *
+	 * @return The global functions, sorted.
+	 */
+	List<FunctionCompletion> getGlobalFunctions() {
+		return globalFunctions;
+	}
+
+
+	/**
+	 * Returns an index of all global functions.
+	 *
+	 * @return The index.
+	 */
+	CompletionIndex<FunctionCompletion> getGlobalFunctionIndex() {
+		return globalFunctionIndex;
+	}
+
+
+	/**
+	 * Returns the names of all global functions, for syntax highlighting.
+	 *
+	 * @return The global functions.
+	 */
+	IdentifierTable getGlobalFunctionIdentifiers() {
+		return globalFunctionIdentifiers;
+	}
+
+
+	/**
+	 * Returns an index of the members of a built-in type or global variable.
+	 *
+	 * @param global The type or global variable.
+	 * @return The index, or <code>null</code> if the type is unknown.
+	 */
+	CompletionIndex<Completion> getGlobalVariableMemberIndex(String global) {
+		return globalVariableMemberIndexes.get(global);
+	}
+
+
+	/**
+	 * Returns the members of a built-in type or global variable.
+	 *
+	 * @param global The type or global variable, e.g. <code>"Link"</code>
+	 *        or <code>"npc"</code>.
+	 * @return The members, sorted, or <code>null</code> if the type is
+	 *         unknown.
+	 */
+	List<Completion> getGlobalVariableMembers(String global) {
+		return globalVariableMembers.get(global);
+	}
+
+
+	/**
+	 * Returns the names of all built-in types and global variables with
+	 * members.
+	 *
+	 * @return The type names.
+	 */
+	Set<String> getGlobalVariableTypes() {
+		return globalVariableMembers.keySet();
+	}
+
+
+	/**
+	 * Returns the names of the members of a built-in type or global
+	 * variable, for syntax highlighting.
+	 *
+	 * @param global The type or global variable, e.g. <code>"Link"</code>.
+	 * @return The members, or <code>null</code> if the type is unknown.
+	 */
+	IdentifierTable getMemberIdentifiers(String global) {
+		return memberIdentifiers.get(global);
+	}
+
+
+	/**
+	 * Returns the provider that owns all completions in this catalog.
+	 *
+	 * @return The provider.
+	 */
+	CodeCompletionProvider getOwner() {
+		return owner;
+	}
+
+
+	/**
+	 * Returns the constants and functions defined in a standard
+	 * <code>.zh</code> file.
+	 *
+	 * @param zhFileName The file name, e.g. <code>"std.zh"</code>.
+	 * @return The contents, sorted, or <code>null</code> if the file is not
+	 *         a known standard library.
+	 */
+	List<Completion> getZhFileContents(String zhFileName) {
+		return zhFileToContents.get(zhFileName);
+	}
+
+
+	/**
+	 * Returns an index of the constants and functions defined in a standard
+	 * <code>.zh</code> file.
+	 *
+	 * @param zhFileName The file name.
+	 * @return The index, or <code>null</code> if the file is not a known
+	 *         standard library.
+	 */
+	CompletionIndex<Completion> getZhFileIndex(String zhFileName) {
+		return zhFileIndexes.get(zhFileName);
+	}
+
+
+	/**
+	 * Returns the names of all <code>.zh</code> files with known contents.
+	 *
+	 * @return The file names.
+	 */
+	Set<String> getZhFileNames() {
+		return zhFileToContents.keySet();
+	}
+
+
+	/**
+	 * Loads the built-in API, preferring the compiled catalog.
+	 *
+	 * @return The catalog.
+	 */
+	private static BuiltInCatalog load() {
+
+		BuiltInCatalog catalog = new BuiltInCatalog();
+
+		boolean loaded = false;
+		try {
+			loaded = BinaryCatalog.read(catalog, catalog.owner);
+		} catch (IOException ioe) {
+			ioe.printStackTrace(); // Stale or corrupt; fall back on text
+		}
+
+		if (!loaded) {
+			catalog = new BuiltInCatalog();
+			try {
+				catalog.loadFromText();
+			} catch (IOException ioe) {
+				ioe.printStackTrace(); // Never happens
+			}
+		}
+
+		catalog.globalVariableMembers = Collections.unmodifiableMap(
+				catalog.globalVariableMembers);
+		catalog.zhFileToContents = Collections.unmodifiableMap(
+				catalog.zhFileToContents);
+		catalog.globalVariableMemberIndexes = Collections.unmodifiableMap(
+				catalog.globalVariableMemberIndexes);
+		catalog.zhFileIndexes = Collections.unmodifiableMap(
+				catalog.zhFileIndexes);
+		catalog.createIdentifierTables();
+		return catalog;
+
+	}
+
+
+	/**
+	 * Creates the tables the token maker uses to highlight built-in
+	 * functions and members.
+	 */
+	private void createIdentifierTables() {
+
+		Map<String, Integer> identifiers = new HashMap<>();
+		IdentifierTable.addAll(globalFunctions, identifiers);
+		globalFunctionIdentifiers = new IdentifierTable(identifiers);
+
+		memberIdentifiers = new HashMap<>();
+		for (Map.Entry<String, List<Completion>> entry :
+				globalVariableMembers.entrySet()) {
+			identifiers = new HashMap<>();
+			IdentifierTable.addAll(entry.getValue(), identifiers);
+			memberIdentifiers.put(entry.getKey(), new IdentifierTable(identifiers));
+		}
+
+	}
+
+
+	/**
+	 * Parses the text descriptions of the built-in API into this catalog.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	void loadFromText() throws IOException {
+		CodeCompletionLoader.load(this, owner);
+		for (String zhFile : STANDARD_ZH_FILES) {
+			CodeCompletionLoader.loadZhFileDescription(this, owner, zhFile);
+		}
+	}
+
+
+	void putZhFileContents(String zhFileName, SortedSet<Completion> contents) {
+		zhFileToContents.put(zhFileName,
+				Collections.unmodifiableList(new ArrayList<>(contents)));
+		zhFileIndexes.put(zhFileName, new CompletionIndex<>(contents));
+	}
+
+
+	void setGlobalFunctions(SortedSet<FunctionCompletion> globalFunctions) {
+		this.globalFunctions = Collections.unmodifiableList(
+				new ArrayList<>(globalFunctions));
+		globalFunctionIndex = new CompletionIndex<>(globalFunctions);
+	}
+
+
+	void setGlobalVariableMembers(String global, SortedSet<Completion> members) {
+		globalVariableMembers.put(global,
+				Collections.unmodifiableList(new ArrayList<>(members)));
+		globalVariableMemberIndexes.put(global, new CompletionIndex<>(members));
+	}
+
+
+	/**
+	 * Lazily creates the shared instance; the JVM guarantees this happens
+	 * exactly once, on first access.
+	 */
+	private static final class Holder {
+		private static final BuiltInCatalog INSTANCE = load();
+	}
+
+
+}
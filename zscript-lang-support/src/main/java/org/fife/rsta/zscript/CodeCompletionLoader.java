@@ -24,7 +24,7 @@ import org.fife.ui.rsyntaxtextarea.HtmlUtil;
 
 
 /**
- * Loads all completions from zscript.txt.
+ * Loads all completions from zscript.txt into the {@link BuiltInCatalog}.
  *
  * @author Robert Futrell
  * @version 1.0
@@ -195,9 +195,10 @@ final class CodeCompletionLoader {
 	}
 
 
-	public static void load(CodeCompletionProvider p) throws IOException {
+	public static void load(BuiltInCatalog catalog, CompletionProvider p)
+			throws IOException {
 
-		InputStream in = p.getClass().getResourceAsStream("/data/zscript.txt");
+		InputStream in = CodeCompletionLoader.class.getResourceAsStream("/data/zscript.txt");
 
         try (BufferedReader r = new BufferedReader(new InputStreamReader(in))) {
             String line;
@@ -213,7 +214,7 @@ final class CodeCompletionLoader {
                 FunctionCompletion fc = getFunctionCompletion(r, p);
                 globalFunctions.add(fc);
             } while (!startingNewSection(r));
-            p.setGlobalFunctions(globalFunctions);
+            catalog.setGlobalFunctions(globalFunctions);
 
             // FFC stuff
             TreeSet<Completion> members = new TreeSet<>();
@@ -221,7 +222,7 @@ final class CodeCompletionLoader {
                 Completion c = getMethodOrPropertyCompletion(r, p, "ffc");
                 members.add(c);
             } while (!startingNewSection(r));
-            p.setGlobalVariableMembers("ffc", members);
+            catalog.setGlobalVariableMembers("ffc", members);
 
             // Link stuff
             members = new TreeSet<>();
@@ -229,7 +230,7 @@ final class CodeCompletionLoader {
                 Completion c = getMethodOrPropertyCompletion(r, p, "Link");
                 members.add(c);
             } while (!startingNewSection(r));
-            p.setGlobalVariableMembers("Link", members);
+            catalog.setGlobalVariableMembers("Link", members);
 
             // Screen stuff
             members = new TreeSet<>();
@@ -237,7 +238,7 @@ final class CodeCompletionLoader {
                 Completion c = getMethodOrPropertyCompletion(r, p, "Screen");
                 members.add(c);
             } while (!startingNewSection(r));
-            p.setGlobalVariableMembers("Screen", members);
+            catalog.setGlobalVariableMembers("Screen", members);
 
             // Item stuff
             members = new TreeSet<>();
@@ -245,7 +246,7 @@ final class CodeCompletionLoader {
                 Completion c = getMethodOrPropertyCompletion(r, p, "item");
                 members.add(c);
             } while (!startingNewSection(r));
-            p.setGlobalVariableMembers("item", members);
+            catalog.setGlobalVariableMembers("item", members);
 
             // Weapon stuff (lweapon and eweapon)
             members = new TreeSet<>();
@@ -253,8 +254,8 @@ final class CodeCompletionLoader {
                 Completion c = getMethodOrPropertyCompletion(r, p, "*weapon");
                 members.add(c);
             } while (!startingNewSection(r));
-            p.setGlobalVariableMembers("lweapon", members);
-            p.setGlobalVariableMembers("eweapon", members);
+            catalog.setGlobalVariableMembers("lweapon", members);
+            catalog.setGlobalVariableMembers("eweapon", members);
 
             // Itemdata stuff
             members = new TreeSet<>();
@@ -262,7 +263,7 @@ final class CodeCompletionLoader {
                 Completion c = getMethodOrPropertyCompletion(r, p, "Itemdata");
                 members.add(c);
             } while (!startingNewSection(r));
-            p.setGlobalVariableMembers("itemdata", members);
+            catalog.setGlobalVariableMembers("itemdata", members);
 
             // Game stuff
             members = new TreeSet<>();
@@ -270,7 +271,7 @@ final class CodeCompletionLoader {
                 Completion c = getMethodOrPropertyCompletion(r, p, "Game");
                 members.add(c);
             } while (!startingNewSection(r));
-            p.setGlobalVariableMembers("Game", members);
+            catalog.setGlobalVariableMembers("Game", members);
 
             // Npc stuff
             members = new TreeSet<>();
@@ -278,18 +279,18 @@ final class CodeCompletionLoader {
                 Completion c = getMethodOrPropertyCompletion(r, p, "npc");
                 members.add(c);
             } while (!startingNewSection(r));
-            p.setGlobalVariableMembers("npc", members);
+            catalog.setGlobalVariableMembers("npc", members);
 
         }
 
 	}
 
 
-	public static void loadZhFileDescription(CodeCompletionProvider p,
-					String zhFileName) throws IOException {
+	public static void loadZhFileDescription(BuiltInCatalog catalog,
+			CompletionProvider p, String zhFileName) throws IOException {
 
 		String res = "/data/" + zhFileName.substring(0, zhFileName.length()-3) + ".txt";
-		InputStream in = p.getClass().getResourceAsStream(res);
+		InputStream in = CodeCompletionLoader.class.getResourceAsStream(res);
         TreeSet<Completion> contents = new TreeSet<>();
 
         try (BufferedReader r = new BufferedReader(new InputStreamReader(in))) {
@@ -314,7 +315,7 @@ final class CodeCompletionLoader {
 
         }
 
-		p.putZhFileContents(zhFileName, contents);
+		catalog.putZhFileContents(zhFileName, contents);
 
 	}
 
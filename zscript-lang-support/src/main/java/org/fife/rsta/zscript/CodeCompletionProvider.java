@@ -7,12 +7,13 @@
 package org.fife.rsta.zscript;
 
 import java.awt.Point;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
@@ -26,8 +27,10 @@ import org.fife.rsta.zscript.ast.FunctionDecNode;
 import org.fife.rsta.zscript.ast.RootNode;
 import org.fife.rsta.zscript.ast.ScriptNode;
 import org.fife.rsta.zscript.ast.VariableDecNode;
-import org.fife.rsta.zscript.ast.VariablesInScopeGrabber;
+import org.fife.rsta.zscript.ast.ScopeIndex;
 import org.fife.rsta.zscript.ast.ZScriptAst;
+import org.fife.rsta.zscript.metrics.Metrics;
+import org.fife.rsta.zscript.metrics.Operation;
 import org.fife.ui.autocomplete.AbstractCompletionProvider;
 import org.fife.ui.autocomplete.BasicCompletion;
 import org.fife.ui.autocomplete.Completion;
@@ -50,13 +53,27 @@ import org.fife.ui.rsyntaxtextarea.Token;
 public class CodeCompletionProvider extends AbstractCompletionProvider {
 
 	private ZScriptAst ast;
-	private ArrayList<FunctionCompletion> globalFunctions;
-	private Map<String, List<Completion>> globalVariableMembers;
-	private Map<String, List<Completion>> zhFileToContents;
-	private ShorthandCompletionCache shorthandCache;
+	private BuiltInCatalog catalog;
+
+	/**
+	 * Descriptions of <code>.zh</code> files specific to this provider, in
+	 * addition to the standard ones in the catalog.
+	 */
+	private Map<String, CompletionIndex<Completion>> zhFileToContents;
+	private CompletionIndex<Completion> shorthandIndex;
+	private WorkspaceIndex workspaceIndex;
 
 	private CompletionComparator completionComparator = new CompletionComparator();
 
+	/**
+	 * The identifiers last returned by {@link #getUserIdentifiers()}, and
+	 * what they were built from.  Edits inside function bodies don't change
+	 * either, so those parses get the same map back.
+	 */
+	private Map<String, Integer> userIdentifiers;
+	private List<String> userFunctionNames;
+	private List<CompletionIndex<Completion>> userImportIndexes;
+
 	/**
 	 * Characters that cannot be part of an identifier.
 	 */
@@ -67,20 +84,21 @@ public class CodeCompletionProvider extends AbstractCompletionProvider {
 
 	public CodeCompletionProvider(ZScriptCompletionProvider parent) {
 		//this.parent = parent;
-		globalVariableMembers = new HashMap<>();
-		try {
-			CodeCompletionLoader.load(this);
-		} catch (IOException ioe) {
-			ioe.printStackTrace(); // Never happens
-		}
+		this(BuiltInCatalog.get());
+	}
+
 
+	/**
+	 * Constructor.
+	 *
+	 * @param catalog The built-in API to offer completions from.  This is
+	 *        passed in explicitly so the catalog can create its own
+	 *        provider while it is being loaded.
+	 */
+	CodeCompletionProvider(BuiltInCatalog catalog) {
+
+		this.catalog = catalog;
 		zhFileToContents = new HashMap<>();
-		try {
-			CodeCompletionLoader.loadZhFileDescription(this, "std.zh");
-			CodeCompletionLoader.loadZhFileDescription(this, "string.zh");
-		} catch (IOException ioe) {
-			ioe.printStackTrace(); // Never happens
-		}
 
 		setAutoActivationRules(false, ">");
 		setParameterChoicesProvider(new SourceParamChoicesProvider(this));
@@ -89,16 +107,15 @@ public class CodeCompletionProvider extends AbstractCompletionProvider {
 
 
 	private void addGlobalFunctionCompletions(String alreadyEntered,
-			List<Completion> list) {
-		addMembersImpl(globalFunctions, alreadyEntered, list);
+			List<List<Completion>> runs) {
+		List<Completion> list = new ArrayList<>();
+		catalog.getGlobalFunctionIndex().addPrefixMatches(alreadyEntered, list);
+		runs.add(list);
 		if (ast!=null) {
-			RootNode root = ast.getRootNode();
-			for (int i=0; i<root.getImportCount(); i++) {
-				String zhFile = root.getImport(i).getImport();
-				List<Completion> completions = zhFileToContents.get(zhFile);
-				if (completions!=null) {
-					addMembersImpl(completions, alreadyEntered, list);
-				}
+			for (CompletionIndex<Completion> completions : getImportedIndexes()) {
+				list = new ArrayList<>();
+				completions.addPrefixMatches(alreadyEntered, list);
+				runs.add(list);
 			}
 		}
 	}
@@ -106,61 +123,44 @@ public class CodeCompletionProvider extends AbstractCompletionProvider {
 
 	private void addGlobalMemberCompletions(String member, String alreadyEntered,
 			List<Completion> retVal) {
-		List<Completion> members = globalVariableMembers.get(member);
+		CompletionIndex<Completion> members =
+				catalog.getGlobalVariableMemberIndex(member);
 		if (members!=null) {
-			addMembersImpl(members, alreadyEntered, retVal);
+			members.addPrefixMatches(alreadyEntered, retVal);
 		}
 	}
 
 
-	private void addMembersImpl(List<? extends Completion> members,
-			String alreadyEntered, List<Completion> list) {
-
-		BasicCompletion alreadyEnteredC = new BasicCompletion(null, alreadyEntered);
-		int index = Collections.binarySearch(members, alreadyEnteredC, completionComparator);
-		if (index<0) { // No exact match
-			index = -index - 1;
-		}
-		else {
-			// If there are several overloads for the function being
-			// completed, Collections.binarySearch() will return the index
-			// of one of those overloads, but we must return all of them,
-			// so search backward until we find the first one.
-			int pos = index - 1;
-			while (pos>0 && completionComparator.compare(
-							members.get(pos), alreadyEnteredC)==0) {
-				list.add(members.get(pos));
-				pos--;
-			}
-		}
-
-		while (index<members.size()) {
-			Completion c = members.get(index);
-			if (Util.startsWithIgnoreCase(c.getInputText(), alreadyEntered)) {
-				list.add(c);
-				index++;
-			}
-			else {
-				break;
+	/**
+	 * Adds the declaration of a function or constant from an imported
+	 * <code>.zh</code> file, if there is one, for its tool tip.
+	 */
+	private void addImportedCompletionsAt(String name, List<Completion> retVal) {
+		for (CompletionIndex<Completion> completions : getImportedIndexes()) {
+			Completion c = completions.get(name);
+			if (c!=null) {
+				retVal.add(c);
+				return;
 			}
 		}
-
 	}
 
 
 	private void addShorthandCompletions(String alreadyEntered,
-			List<Completion> list) {
-		List<Completion> shorthands = shorthandCache.getShorthandCompletions();
-		// Not really members, but this method works...
-		addMembersImpl(shorthands, alreadyEntered, list);
+			List<List<Completion>> runs) {
+		if (shorthandIndex!=null) {
+			List<Completion> list = new ArrayList<>();
+			shorthandIndex.addPrefixMatches(alreadyEntered, list);
+			runs.add(list);
+		}
 	}
 
 
 	private void addVariableCompletions(String alreadyEntered, int dot,
-			List<Completion> list) {
+			List<List<Completion>> runs) {
 		SortedSet<Completion> varCompletions = getVariableCompletions(alreadyEntered, dot);
 		if (varCompletions!=null) {
-			list.addAll(varCompletions);
+			runs.add(new ArrayList<>(varCompletions));
 		}
 	}
 
@@ -251,12 +251,13 @@ OUTER:
 			first = first.substring(0, possibleBracket);
 		}
 		SortedSet<Completion> vars = getVariableCompletions(first, dot);
+		String type = null;
 		List<Completion> completionsForType = Collections.emptyList();
 		if (!vars.isEmpty()) {
 			// If > 1, then might have one var name that's also a prefix for
 			// another var's name, such as "foo" and "foobar"
 			VariableCompletion vc = (VariableCompletion)vars.first();
-			String type = vc.getType();
+			type = vc.getType();
 			completionsForType = getCompletionsForType(type);
 		}
 		if (!completionsForType.isEmpty()) {
@@ -271,19 +272,10 @@ OUTER:
 		if (endsWithArrow) {
 			retVal.addAll(completionsForType);
 		}
-		else {
-			String last = sections[sections.length-1];
-			SortedSet<Completion> varCompletions = new TreeSet<>(completionComparator);
-			varCompletions.addAll(completionsForType);
-
+		else if (type!=null) {
 			// Get only those that match what's typed
-			if (varCompletions.size()>0) {
-				Completion start = new BasicCompletion(null, last);
-				Completion end = new BasicCompletion(null, last + '{');
-				varCompletions = varCompletions.subSet(start, end);
-			}
-
-			retVal.addAll(varCompletions);
+			String last = sections[sections.length-1];
+			addGlobalMemberCompletions(type, last, retVal);
 		}
 
 	}
@@ -291,6 +283,21 @@ OUTER:
 
 	@Override
 	public List<Completion> getCompletionsAt(JTextComponent tc, Point p) {
+		long start = Metrics.start();
+		try {
+			return createCompletionsAt(tc, p);
+		} finally {
+			Metrics.end(tc.getDocument(), Operation.COMPLETIONS_AT, start);
+		}
+	}
+
+
+	/**
+	 * Returns the completions for the text at a point.
+	 *
+	 * @see #getCompletionsAt(JTextComponent, Point)
+	 */
+	private List<Completion> createCompletionsAt(JTextComponent tc, Point p) {
 
 		int offset = tc.viewToModel2D(p);
 		if (offset<0 || offset>=tc.getDocument().getLength()) {
@@ -319,7 +326,7 @@ return null;
 					Token source = getSourceToken(token, offset);
 					List<? extends Completion> sourceList;
 					if (source==null) {
-						sourceList = globalFunctions;
+						sourceList = catalog.getGlobalFunctions();
 					}
 					else {
 						sourceList = getGlobalVariableMembers(source.getLexeme());
@@ -330,6 +337,10 @@ return null;
 							completionsAt.add(fc);
 						}
 					}
+					// User and imported functions are highlighted too
+					if (completionsAt.isEmpty() && source==null && ast!=null) {
+						addImportedCompletionsAt(t.getLexeme(), completionsAt);
+					}
 					break;
 				case Token.IDENTIFIER:
 					if (ast!=null) {
@@ -340,12 +351,12 @@ return null;
 									getVariableDeclaration(source.getLexeme(), rsta, ast, offset);
 							if (varDec!=null) {
 								String type = varDec.getType();
-								List<Completion> completions = getCompletionsForType(type);
-								String property = t.getLexeme();
-								BasicCompletion c = new BasicCompletion(null, property);
-								int index = Collections.binarySearch(completions, c, completionComparator);
-								if (index>-1) {
-									completionsAt.add(completions.get(index));
+								CompletionIndex<Completion> completions =
+										catalog.getGlobalVariableMemberIndex(type);
+								Completion c = completions!=null ?
+										completions.get(t.getLexeme()) : null;
+								if (c!=null) {
+									completionsAt.add(c);
 								}
 							}
 						}
@@ -356,6 +367,9 @@ return null;
 							if (varDec!=null) {
 								completionsAt.add(new ZScriptVariableCompletion(this, varDec));
 							}
+							else {
+								addImportedCompletionsAt(varName, completionsAt);
+							}
 						}
 					}
 					break;
@@ -400,7 +414,7 @@ return null;
 
 
 	private List<Completion> getCompletionsForType(String type) {
-		List<Completion> completions = globalVariableMembers.get(type);
+		List<Completion> completions = catalog.getGlobalVariableMembers(type);
 		if (completions==null) {
 			completions = Collections.emptyList();
 		}
@@ -410,6 +424,21 @@ return null;
 
 	@Override
 	protected List<Completion> getCompletionsImpl(JTextComponent comp) {
+		long start = Metrics.start();
+		try {
+			return createCompletions(comp);
+		} finally {
+			Metrics.end(comp.getDocument(), Operation.COMPLETIONS, start);
+		}
+	}
+
+
+	/**
+	 * Returns the completions for the text at the caret.
+	 *
+	 * @see #getCompletionsImpl(JTextComponent)
+	 */
+	private List<Completion> createCompletions(JTextComponent comp) {
 
 		//List completions = super.getCompletionsImpl(comp);
 
@@ -420,36 +449,21 @@ return null;
 
 			int arrowIndex = text.indexOf("->");
 			if (arrowIndex==-1) {
-				addGlobalFunctionCompletions(text, retVal);
-				addVariableCompletions(text, comp.getCaretPosition(), retVal);
-				addShorthandCompletions(text, retVal);
+				// Each source returns a sorted run of only those completions
+				// that start with what the user has entered.
+				List<List<Completion>> runs = new ArrayList<>();
+				addGlobalFunctionCompletions(text, runs);
+				addVariableCompletions(text, comp.getCaretPosition(), runs);
+				addShorthandCompletions(text, runs);
+				retVal = mergeSortedRuns(runs);
 			}
 			else {
+				// Already sorted and filtered
 				getCompletionsArrowed(comp, text, retVal);
-				text = text.substring(arrowIndex+2);
-			}
-		}
-
-		Collections.sort(retVal);
-
-		// Only return stuff that starts with what the user has entered.
-		Completion startComp = new BasicCompletion(null, text);
-		int start = Collections.binarySearch(retVal, startComp, completionComparator);
-		if (start<0) {
-			start = -(start+1);
-		}
-		else {
-			// There might be multiple entries with the same input text.
-			while (start>0 && completionComparator.compare(retVal.get(start-1), startComp)==0) {
-				start--;
 			}
 		}
 
-		Completion endComp = new BasicCompletion(null, text + '{');
-		int end = Collections.binarySearch(retVal, endComp, completionComparator);
-		end = -(end+1);
-
-		return retVal.subList(start, end);
+		return retVal;
 
 	}
 
@@ -494,16 +508,15 @@ return null;
 
 		SortedSet<Completion> varCompletions = new TreeSet<>(completionComparator);
 
-		// Go through all code blocks in scope and look for variables
-		// declared before the caret.
-		VariablesInScopeGrabber varGrabber = new VariablesInScopeGrabber(dot);
-		ast.getRootNode().accept(varGrabber);
-		List<VariableDecNode> varList = varGrabber.getVariableList();
+		// Look up the variables declared before the caret in all code
+		// blocks in scope.
+		ScopeIndex scopeIndex = ast.getScopeIndex();
+		List<VariableDecNode> varList = scopeIndex.getVariablesInScope(dot);
 		for (VariableDecNode varDec : varList) {
 			VariableCompletion vc = new ZScriptVariableCompletion(this, varDec);
 			varCompletions.add(vc);
 		}
-		List<FunctionDecNode> funcList = varGrabber.getFunctionList();
+		List<FunctionDecNode> funcList = scopeIndex.getFunctionsInScope(dot);
 		for (FunctionDecNode funcDec : funcList) {
 			FunctionCompletion fc = new ZScriptFunctionCompletion(this, funcDec);
 			varCompletions.add(fc);
@@ -521,6 +534,104 @@ return null;
 	}
 
 
+	/**
+	 * Returns the constants and functions defined in the <code>.zh</code>
+	 * files imported by the current AST.  User libraries are followed to the
+	 * files they import, and so on; each file is only returned once.
+	 *
+	 * @return The contents of the imported files.
+	 */
+	private Set<CompletionIndex<Completion>> getImportedIndexes() {
+		Set<CompletionIndex<Completion>> indexes = new LinkedHashSet<>();
+		RootNode root = ast.getRootNode();
+		for (int i=0; i<root.getImportCount(); i++) {
+			String zhFile = root.getImport(i).getImport();
+			CompletionIndex<Completion> contents = getZhFileIndex(zhFile);
+			if (contents!=null) {
+				indexes.add(contents);
+			}
+			else if (workspaceIndex!=null) {
+				for (String library : workspaceIndex.getImportClosure(zhFile)) {
+					contents = getZhFileIndex(library);
+					if (contents==null) {
+						contents = workspaceIndex.getCompletions(library);
+					}
+					if (contents!=null) {
+						indexes.add(contents);
+					}
+				}
+			}
+		}
+		return indexes;
+	}
+
+
+	/**
+	 * Returns the functions declared in the current AST and the functions and
+	 * constants of the files it imports, for highlighting.  If neither has
+	 * changed since the last call, the same map is returned.  A changed user
+	 * library always has a new index, and indexes are compared by identity.
+	 *
+	 * @return The identifiers, each mapped to a token type, or
+	 *         <code>null</code> if there is no AST yet.
+	 * @see ZScriptTokenMaker#setUserIdentifiers(Map)
+	 */
+	Map<String, Integer> getUserIdentifiers() {
+
+		if (ast==null) {
+			return null;
+		}
+
+		List<String> functionNames = new ArrayList<>();
+		RootNode root = ast.getRootNode();
+		for (int i=0; i<root.getFunctionCount(); i++) {
+			functionNames.add(root.getFunction(i).getName());
+		}
+		for (int i=0; i<root.getScriptCount(); i++) {
+			ScriptNode script = root.getScript(i);
+			for (int j=0; j<script.getFunctionCount(); j++) {
+				functionNames.add(script.getFunction(j).getName());
+			}
+		}
+		List<CompletionIndex<Completion>> importIndexes =
+				new ArrayList<>(getImportedIndexes());
+
+		if (userIdentifiers!=null && functionNames.equals(userFunctionNames) &&
+				importIndexes.equals(userImportIndexes)) {
+			return userIdentifiers;
+		}
+
+		Map<String, Integer> identifiers = new HashMap<>();
+		for (String name : functionNames) {
+			identifiers.put(name, Token.FUNCTION);
+		}
+		List<Completion> list = new ArrayList<>();
+		for (CompletionIndex<Completion> completions : importIndexes) {
+			completions.addPrefixMatches("", list);
+		}
+		IdentifierTable.addAll(list, identifiers);
+
+		userIdentifiers = identifiers;
+		userFunctionNames = functionNames;
+		userImportIndexes = importIndexes;
+		return identifiers;
+
+	}
+
+
+	/**
+	 * Returns the constants and functions defined in a standard
+	 * <code>.zh</code> file.
+	 *
+	 * @param zhFileName The file name.
+	 * @return The contents, or <code>null</code> if the file is unknown.
+	 */
+	private CompletionIndex<Completion> getZhFileIndex(String zhFileName) {
+		CompletionIndex<Completion> contents = zhFileToContents.get(zhFileName);
+		return contents!=null ? contents : catalog.getZhFileIndex(zhFileName);
+	}
+
+
 	/**
 	 * Returns whether a character is a sequence point character (i.e., cannot
 	 * be part of an identifier).
@@ -533,33 +644,68 @@ return null;
 	}
 
 
-	public void putZhFileContents(String zhFileName, SortedSet<Completion> contents) {
-		zhFileToContents.put(zhFileName, new ArrayList<>(contents));
-	}
+	/**
+	 * Merges runs of completions, each sorted by input text, into a single
+	 * sorted list.  There are only ever a handful of runs, so we just scan
+	 * their heads for the smallest each time.
+	 *
+	 * @param runs The sorted runs.
+	 * @return The merged list.
+	 */
+	private List<Completion> mergeSortedRuns(List<List<Completion>> runs) {
+
+		int total = 0;
+		for (List<Completion> run : runs) {
+			total += run.size();
+		}
+		List<Completion> merged = new ArrayList<>(total);
+		int[] heads = new int[runs.size()];
+
+		while (merged.size()<total) {
+			int min = -1;
+			for (int i=0; i<heads.length; i++) {
+				List<Completion> run = runs.get(i);
+				if (heads[i]<run.size() && (min==-1 || completionComparator.compare(
+						run.get(heads[i]), runs.get(min).get(heads[min]))<0)) {
+					min = i;
+				}
+			}
+			merged.add(runs.get(min).get(heads[min]++));
+		}
 
+		return merged;
 
-	public void setAst(ZScriptAst ast) {
-		this.ast = ast;
 	}
 
 
-	void setGlobalFunctions(SortedSet<FunctionCompletion> globalFunctions) {
-		this.globalFunctions = new ArrayList<>(globalFunctions);
+	public void putZhFileContents(String zhFileName, SortedSet<Completion> contents) {
+		zhFileToContents.put(zhFileName, new CompletionIndex<>(contents));
 	}
 
 
-	void setGlobalVariableMembers(String global, SortedSet<Completion> members) {
-		globalVariableMembers.put(global, new ArrayList<>(members));
+	public void setAst(ZScriptAst ast) {
+		this.ast = ast;
 	}
 
 
 	void setShorthandCache(ShorthandCompletionCache cache) {
-		this.shorthandCache = cache;
+		shorthandIndex = new CompletionIndex<>(cache.getShorthandCompletions());
+	}
+
+
+	/**
+	 * Sets the index used to find the contents of user <code>.zh</code>
+	 * libraries that aren't part of the standard library.
+	 *
+	 * @param index The index, or <code>null</code> for none.
+	 */
+	void setWorkspaceIndex(WorkspaceIndex index) {
+		workspaceIndex = index;
 	}
 
 
     private List<Completion> getGlobalVariableMembers(String global) {
-        return globalVariableMembers.get(global);
+        return catalog.getGlobalVariableMembers(global);
     }
 
 }
@@ -0,0 +1,194 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.fife.ui.autocomplete.Completion;
+
+
+/**
+ * An immutable index of completions by input text, for fast case-insensitive
+ * prefix lookups.  The case-folded input texts are packed, in sorted order,
+ * into a single <code>char</code> array; a lookup is two binary searches
+ * over it, with no allocation beyond the results.<p>
+ *
+ * Completions with equal input text (e.g. overloads) are all returned, in
+ * the order they were given to the constructor.
+ *
+ * @param <C> The type of completion indexed.
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class CompletionIndex<C extends Completion> {
+
+	private Completion[] completions;
+	private char[] keyChars;
+	private int[] keyStarts;
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param completions The completions to index.
+	 */
+	CompletionIndex(Collection<? extends C> completions) {
+
+		int count = completions.size();
+		Completion[] items = completions.toArray(new Completion[count]);
+		String[] keys = new String[count];
+		Integer[] order = new Integer[count];
+		int totalLength = 0;
+		for (int i=0; i<count; i++) {
+			keys[i] = fold(items[i].getInputText());
+			order[i] = i;
+			totalLength += keys[i].length();
+		}
+		Arrays.sort(order, Comparator.comparing(i -> keys[i])); // Stable
+
+		this.completions = new Completion[count];
+		keyChars = new char[totalLength];
+		keyStarts = new int[count + 1];
+		int pos = 0;
+		for (int i=0; i<count; i++) {
+			int index = order[i];
+			this.completions[i] = items[index];
+			keyStarts[i] = pos;
+			keys[index].getChars(0, keys[index].length(), keyChars, pos);
+			pos += keys[index].length();
+		}
+		keyStarts[count] = pos;
+
+	}
+
+
+	/**
+	 * Adds all completions whose input text starts with a prefix, ignoring
+	 * case, to a list.  They are added in sorted order.
+	 *
+	 * @param prefix The prefix.  If this is empty, all completions are added.
+	 * @param list The list to add to.
+	 */
+	@SuppressWarnings("unchecked")
+	void addPrefixMatches(CharSequence prefix, List<? super C> list) {
+		int end = upperBound(prefix);
+		for (int i=lowerBound(prefix); i<end; i++) {
+			list.add((C)completions[i]);
+		}
+	}
+
+
+	/**
+	 * Compares the start of a key to a prefix.
+	 *
+	 * @return A value less than, equal to, or greater than <code>0</code> if
+	 *         the key sorts before the prefix, starts with it, or sorts after
+	 *         it, respectively.
+	 */
+	private int comparePrefix(int index, CharSequence prefix) {
+		int start = keyStarts[index];
+		int keyLen = keyStarts[index+1] - start;
+		for (int i=0; i<prefix.length(); i++) {
+			if (i==keyLen) {
+				return -1;
+			}
+			int diff = keyChars[start+i] - fold(prefix.charAt(i));
+			if (diff!=0) {
+				return diff;
+			}
+		}
+		return 0;
+	}
+
+
+	/**
+	 * Returns the first completion whose input text equals a string,
+	 * ignoring case.
+	 *
+	 * @param inputText The input text.
+	 * @return The completion, or <code>null</code> if there is none.
+	 */
+	@SuppressWarnings("unchecked")
+	C get(String inputText) {
+		int index = lowerBound(inputText);
+		if (index<completions.length && comparePrefix(index, inputText)==0 &&
+				keyStarts[index+1]-keyStarts[index]==inputText.length()) {
+			return (C)completions[index];
+		}
+		return null;
+	}
+
+
+	private static char fold(char ch) {
+		// Same as String.CASE_INSENSITIVE_ORDER
+		return Character.toLowerCase(Character.toUpperCase(ch));
+	}
+
+
+	private static String fold(String str) {
+		char[] chars = str.toCharArray();
+		for (int i=0; i<chars.length; i++) {
+			chars[i] = fold(chars[i]);
+		}
+		return new String(chars);
+	}
+
+
+	/**
+	 * Returns the index of the first key that starts with or sorts after a
+	 * prefix.
+	 */
+	private int lowerBound(CharSequence prefix) {
+		int low = 0;
+		int high = completions.length;
+		while (low<high) {
+			int mid = (low + high) >>> 1;
+			if (comparePrefix(mid, prefix)<0) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+
+	/**
+	 * Returns the number of completions in this index.
+	 *
+	 * @return The number of completions.
+	 */
+	int size() {
+		return completions.length;
+	}
+
+
+	/**
+	 * Returns the index of the first key that sorts after all keys starting
+	 * with a prefix.
+	 */
+	private int upperBound(CharSequence prefix) {
+		int low = 0;
+		int high = completions.length;
+		while (low<high) {
+			int mid = (low + high) >>> 1;
+			if (comparePrefix(mid, prefix)<=0) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+
+}
@@ -7,16 +7,26 @@
 package org.fife.rsta.zscript;
 
 import java.io.BufferedReader;
+import java.io.StringReader;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+
+import org.fife.ui.rsyntaxtextarea.RSyntaxDocument;
 
 
 /**
  * Called to display read-only documentation for something the user
  * Ctrl+clicked on in the editor.  Applications can pass one of these to the
  * <code>ZScriptLanguageSupport</code> to open and display the resource
- * appropriately.
+ * appropriately.<p>
+ *
+ * Implementations can also let the user search the documentation via
+ * {@link DocSearchIndex}, and display the results found via
+ * {@link #display(String, RSyntaxDocument, int)}.
  *
  * @author Robert Futrell
  * @version 1.0
+ * @see DocSearchIndex
  */
 public interface DocDisplayer {
 
@@ -34,4 +44,41 @@ public interface DocDisplayer {
 	void display(String title, BufferedReader r, String toFocus);
 
 
+	/**
+	 * Called when documentation that has already been loaded should be
+	 * displayed.  The document is shared by all callers and cannot be
+	 * modified, so implementations can display it directly, e.g. via
+	 * <code>new RSyntaxTextArea(doc, null, rows, cols)</code>, and can keep
+	 * reusing the same view for it.<p>
+	 *
+	 * The default implementation copies the document's text and calls
+	 * {@link #display(String, BufferedReader, String)}, with the line at
+	 * <code>offs</code> as the text to focus on.
+	 *
+	 * @param title The title of the documentation.
+	 * @param doc The documentation itself.
+	 * @param offs The offset to jump to.
+	 */
+	default void display(String title, RSyntaxDocument doc, int offs) {
+
+		String text;
+		String toFocus = null;
+		try {
+			text = doc.getText(0, doc.getLength());
+			if (offs>0) {
+				Element root = doc.getDefaultRootElement();
+				Element line = root.getElement(root.getElementIndex(offs));
+				int start = line.getStartOffset();
+				toFocus = text.substring(start, line.getEndOffset() - 1);
+			}
+		} catch (BadLocationException ble) {
+			ble.printStackTrace(); // Never happens
+			return;
+		}
+
+		display(title, new BufferedReader(new StringReader(text)), toFocus);
+
+	}
+
+
 }
@@ -0,0 +1,624 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.swing.text.BadLocationException;
+
+import org.fife.rsta.zscript.ast.Scanner;
+import org.fife.rsta.zscript.ast.Token;
+import org.fife.ui.rsyntaxtextarea.RSyntaxDocument;
+
+
+/**
+ * A full-text index of the reference files shipped with this library, i.e.
+ * the documentation of the built-in API and of the standard
+ * <code>.zh</code> files.  The index is built the first time it is
+ * requested.<p>
+ *
+ * Each file is split into entries: a declaration plus the comments and blank
+ * lines before it, and the body of a function.  Entries are tokenized with
+ * the ZScript {@link Scanner}, comments included, so e.g.
+ * <code>Link-&gt;PressA</code> is indexed as <code>link</code> and
+ * <code>pressa</code>.  Entries inside a <code>class</code> or
+ * <code>namespace</code> are also indexed by its name.<p>
+ *
+ * A search returns the entries containing every word of the query, where
+ * each word matches terms it is a prefix of.  Results are ranked by how
+ * rare the matched terms are, with exact matches and matches in code rather
+ * than comments ranked higher.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see DocDisplayer
+ */
+public final class DocSearchIndex {
+
+	private ReferenceDoc[] docs;
+
+	/**
+	 * All indexed terms, sorted.
+	 */
+	private String[] terms;
+
+	/**
+	 * For each term, the entries containing it, in ascending order.
+	 */
+	private int[][] postings;
+
+	/**
+	 * For each term, its weight in each entry in {@link #postings}.
+	 */
+	private byte[][] postingWeights;
+
+	/**
+	 * For each term, its inverse document frequency.
+	 */
+	private float[] idf;
+
+	/**
+	 * For each entry, the index of the file it is in.
+	 */
+	private int[] entryDocs;
+
+	/**
+	 * For each entry, the offset of its declaration.
+	 */
+	private int[] entryOffsets;
+
+	/**
+	 * For each entry, the text of its declaration, qualified by the class or
+	 * namespace it is in.
+	 */
+	private String[] entryTexts;
+
+	private static final String[] RESOURCES = {
+		ReferenceDoc.ZSCRIPT,
+		"/data/unmodified/std_functions.zh",
+		"/data/unmodified/std_constants.zh",
+		"/data/unmodified/string.zh",
+	};
+
+	private static final byte WEIGHT_COMMENT	= 1;
+	private static final byte WEIGHT_CONTAINER	= 2;
+	private static final byte WEIGHT_CODE		= 3;
+	private static final byte WEIGHT_DECLARED	= 4;
+
+	private static DocSearchIndex instance;
+
+
+	private DocSearchIndex() throws IOException {
+
+		docs = new ReferenceDoc[RESOURCES.length];
+		Map<String, TermBuilder> builders = new TreeMap<>();
+		List<Integer> docList = new ArrayList<>();
+		List<Integer> offsetList = new ArrayList<>();
+		List<String> textList = new ArrayList<>();
+
+		for (int i=0; i<RESOURCES.length; i++) {
+
+			docs[i] = ReferenceDoc.get(RESOURCES[i]);
+			RSyntaxDocument doc = docs[i].getDocument();
+			String text;
+			try {
+				text = doc.getText(0, doc.getLength());
+			} catch (BadLocationException ble) {
+				throw new IOException(ble); // Never happens
+			}
+
+			SourceText source = new SourceText(text);
+			int[] lineEntries = new int[source.lineStarts.length];
+			String[] declaredNames = new String[source.lineStarts.length];
+			String[] containers = new String[source.lineStarts.length];
+			int firstEntry = docList.size();
+			int entry = firstEntry;
+			int trailingStart = 0;
+			String container = null;
+			int containerDepth = 0; // Brace depth of the container's members
+
+			for (int line=0; line<lineEntries.length; line++) {
+				lineEntries[line] = entry;
+				if (!source.isCode[line]) {
+					if (entry>firstEntry && source.braceDepths[line]>containerDepth) {
+						lineEntries[line] = entry - 1; // Comment in a body
+					}
+					continue;
+				}
+				String lineText = source.getLine(line).trim();
+				if (container!=null) {
+					containers[line] = container.toLowerCase(Locale.ROOT);
+				}
+				// Function bodies, and braces on lines of their own, belong
+				// to the declaration before them
+				if (entry>firstEntry && (source.braceDepths[line]>containerDepth ||
+						lineText.startsWith("{") || lineText.startsWith("}"))) {
+					lineEntries[line] = entry - 1;
+					if (container!=null && lineText.startsWith("}") &&
+							source.braceDepths[line]==containerDepth) {
+						container = null; // e.g. "}; //ffc"
+						containerDepth = 0;
+					}
+					trailingStart = line + 1;
+					continue;
+				}
+				String entryText = lineText;
+				if (lineText.startsWith("class ") ||
+						lineText.startsWith("namespace ")) {
+					container = lineText.substring(lineText.indexOf(' ') + 1).trim();
+					containerDepth = source.braceDepths[line] + 1;
+					containers[line] = null;
+				}
+				else if (container!=null) {
+					entryText = container + ": " + lineText;
+				}
+				String name = ReferenceDoc.getDeclaredName(lineText);
+				if (name!=null) {
+					declaredNames[line] = name.toLowerCase(Locale.ROOT);
+				}
+				docList.add(i);
+				offsetList.add(source.lineStarts[line]);
+				textList.add(entryText);
+				entry++;
+				trailingStart = line + 1;
+			}
+
+			Scanner s = new Scanner(source.scannable, 0, source.scannable.length);
+			int prevLine = -1;
+			Token t;
+			while ((t=s.yylex())!=null) {
+				String term = getTerm(t);
+				if (term==null) {
+					continue;
+				}
+				int line = t.getLine();
+				if (lineEntries[line]==docList.size()) {
+					// Comments after the last declaration
+					docList.add(i);
+					offsetList.add(source.lineStarts[trailingStart]);
+					textList.add(source.getLine(trailingStart).trim());
+				}
+				if (line!=prevLine && containers[line]!=null) {
+					add(builders, containers[line], lineEntries[line],
+							WEIGHT_CONTAINER);
+				}
+				prevLine = line;
+				byte weight = WEIGHT_CODE;
+				if (source.isComment[t.getOffset()]) {
+					weight = WEIGHT_COMMENT;
+				}
+				else if (term.equals(declaredNames[line])) {
+					weight = WEIGHT_DECLARED;
+				}
+				add(builders, term, lineEntries[line], weight);
+			}
+
+		}
+
+		int entryCount = docList.size();
+		entryDocs = new int[entryCount];
+		entryOffsets = new int[entryCount];
+		for (int i=0; i<entryCount; i++) {
+			entryDocs[i] = docList.get(i);
+			entryOffsets[i] = offsetList.get(i);
+		}
+		entryTexts = textList.toArray(new String[0]);
+
+		int termCount = builders.size();
+		terms = builders.keySet().toArray(new String[0]);
+		postings = new int[termCount][];
+		postingWeights = new byte[termCount][];
+		idf = new float[termCount];
+		int i = 0;
+		for (TermBuilder builder : builders.values()) {
+			postings[i] = Arrays.copyOf(builder.entries, builder.size);
+			postingWeights[i] = Arrays.copyOf(builder.weights, builder.size);
+			idf[i] = (float)Math.log(1 + (double)entryCount / builder.size);
+			i++;
+		}
+
+	}
+
+
+	private static void add(Map<String, TermBuilder> builders, String term,
+			int entry, byte weight) {
+		builders.computeIfAbsent(term, t -> new TermBuilder()).add(entry, weight);
+	}
+
+
+	/**
+	 * Returns the shared index, building it if necessary.  Since building it
+	 * takes a noticeable amount of time, applications should call this
+	 * method off the EDT the first time.  This method is thread-safe.
+	 *
+	 * @return The index.
+	 * @throws IOException If a reference file cannot be loaded.
+	 */
+	public static synchronized DocSearchIndex get() throws IOException {
+		if (instance==null) {
+			instance = new DocSearchIndex();
+		}
+		return instance;
+	}
+
+
+	/**
+	 * Returns the term to index a token by, if any.
+	 */
+	private static String getTerm(Token t) {
+		String lexeme = t.getLexeme();
+		if (t.isInvalid() || !Character.isJavaIdentifierStart(lexeme.charAt(0))) {
+			return null; // Operators, separators, literals
+		}
+		return lexeme.toLowerCase(Locale.ROOT);
+	}
+
+
+	/**
+	 * Returns the index of the first term not less than a string.
+	 */
+	private int lowerBound(String s) {
+		int low = 0;
+		int high = terms.length;
+		while (low<high) {
+			int mid = (low + high) >>> 1;
+			if (terms[mid].compareTo(s)<0) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+
+	/**
+	 * Searches the reference files.
+	 *
+	 * @param query The words to search for.
+	 * @param maxResults The maximum number of results to return.
+	 * @return The matching entries, best first.  This will be empty if
+	 *         nothing matches or the query has no words.
+	 */
+	public List<Hit> search(String query, int maxResults) {
+
+		List<String> words = tokenize(query);
+		if (words.isEmpty() || maxResults<=0) {
+			return Collections.emptyList();
+		}
+
+		int entryCount = entryOffsets.length;
+		float[] scores = new float[entryCount];
+		int[] matchCounts = new int[entryCount];
+		float[] wordScores = new float[entryCount];
+
+		for (String word : words) {
+			Arrays.fill(wordScores, 0);
+			for (int t=lowerBound(word); t<terms.length &&
+					terms[t].startsWith(word); t++) {
+				float termScore = idf[t] * (terms[t].length()==word.length() ? 2 : 1);
+				int[] entries = postings[t];
+				byte[] weights = postingWeights[t];
+				for (int p=0; p<entries.length; p++) {
+					float score = termScore * weights[p];
+					if (score>wordScores[entries[p]]) {
+						wordScores[entries[p]] = score;
+					}
+				}
+			}
+			for (int e=0; e<entryCount; e++) {
+				if (wordScores[e]>0) {
+					scores[e] += wordScores[e];
+					matchCounts[e]++;
+				}
+			}
+		}
+
+		// Keep the best entries matching every word, in descending order
+		int[] best = new int[maxResults];
+		int count = 0;
+		for (int e=0; e<entryCount; e++) {
+			if (matchCounts[e]==words.size()) {
+				int pos = count;
+				while (pos>0 && scores[best[pos-1]]<scores[e]) {
+					pos--;
+				}
+				if (pos<maxResults) {
+					int last = Math.min(count, maxResults-1);
+					System.arraycopy(best, pos, best, pos+1, last-pos);
+					best[pos] = e;
+					count = Math.min(count+1, maxResults);
+				}
+			}
+		}
+
+		List<Hit> hits = new ArrayList<>(count);
+		for (int i=0; i<count; i++) {
+			int e = best[i];
+			ReferenceDoc doc = docs[entryDocs[e]];
+			hits.add(new Hit(doc.getTitle(), doc.getDocument(), entryOffsets[e],
+					entryTexts[e], scores[e]));
+		}
+		return hits;
+
+	}
+
+
+	/**
+	 * Returns the terms to search for in a query.
+	 */
+	private static List<String> tokenize(String query) {
+		List<String> words = new ArrayList<>();
+		char[] array = query.toCharArray();
+		Scanner s = new Scanner(array, 0, array.length);
+		try {
+			Token t;
+			while ((t=s.yylex())!=null) {
+				String term = getTerm(t);
+				if (term!=null && !words.contains(term)) {
+					words.add(term);
+				}
+			}
+		} catch (IOException ioe) { // Never happens
+			ioe.printStackTrace();
+		}
+		return words;
+	}
+
+
+	/**
+	 * A search result.
+	 */
+	public static final class Hit {
+
+		private String title;
+		private RSyntaxDocument doc;
+		private int offset;
+		private String text;
+		private float score;
+
+		private Hit(String title, RSyntaxDocument doc, int offset, String text,
+				float score) {
+			this.title = title;
+			this.doc = doc;
+			this.offset = offset;
+			this.text = text;
+			this.score = score;
+		}
+
+		/**
+		 * Returns the shared, read-only document the result is in.
+		 *
+		 * @return The document.
+		 * @see DocDisplayer#display(String, RSyntaxDocument, int)
+		 */
+		public RSyntaxDocument getDocument() {
+			return doc;
+		}
+
+		/**
+		 * Returns the offset of the declaration found.
+		 *
+		 * @return The offset.
+		 */
+		public int getOffset() {
+			return offset;
+		}
+
+		/**
+		 * Returns how well this result matched.  Higher is better.
+		 *
+		 * @return The score.
+		 */
+		public float getScore() {
+			return score;
+		}
+
+		/**
+		 * Returns the text of the declaration found.  If it is in a class or
+		 * namespace, it is preceded by its name, e.g.
+		 * <code>"Link: bool PressA;"</code>.
+		 *
+		 * @return The text.
+		 */
+		public String getText() {
+			return text;
+		}
+
+		/**
+		 * Returns the title of the document the result is in.
+		 *
+		 * @return The title.
+		 */
+		public String getTitle() {
+			return title;
+		}
+
+		@Override
+		public String toString() {
+			return text + " - " + title;
+		}
+
+	}
+
+
+	/**
+	 * The text of a reference file prepared for scanning.  Comment
+	 * delimiters and all punctuation in comments are replaced with spaces,
+	 * so that the words in comments are scanned like code, and so that
+	 * apostrophes and quotes in them aren't scanned as the start of literals
+	 * running to the end of the file.  Quotes in code that aren't closed on
+	 * the same line are removed for the same reason.
+	 */
+	private static final class SourceText {
+
+		private String text;
+		private char[] scannable;
+		private boolean[] isComment;
+		private int[] lineStarts;
+		private boolean[] isCode;
+
+		/**
+		 * For each line, the number of curly braces open at its start.
+		 */
+		private int[] braceDepths;
+
+		SourceText(String text) {
+
+			this.text = text;
+			scannable = text.toCharArray();
+			isComment = new boolean[scannable.length];
+
+			List<Integer> starts = new ArrayList<>();
+			List<Boolean> code = new ArrayList<>();
+			List<Integer> depths = new ArrayList<>();
+			starts.add(0);
+			code.add(false);
+			depths.add(0);
+			int depth = 0;
+
+			boolean inBlockComment = false;
+			boolean inLineComment = false;
+			for (int i=0; i<scannable.length; i++) {
+				char ch = scannable[i];
+				if (ch=='\n') {
+					inLineComment = false;
+					starts.add(i + 1);
+					code.add(false);
+					depths.add(depth);
+				}
+				else if (inBlockComment) {
+					if (ch=='*' && i+1<scannable.length && scannable[i+1]=='/') {
+						blank(i, 2);
+						inBlockComment = false;
+						i++;
+					}
+					else {
+						blankPunctuation(i);
+					}
+				}
+				else if (inLineComment) {
+					blankPunctuation(i);
+				}
+				else if (ch=='/' && i+1<scannable.length && scannable[i+1]=='/') {
+					blank(i, 2);
+					inLineComment = true;
+					i++;
+				}
+				else if (ch=='/' && i+1<scannable.length && scannable[i+1]=='*') {
+					blank(i, 2);
+					inBlockComment = true;
+					i++;
+				}
+				else if (!Character.isWhitespace(ch)) {
+					code.set(code.size()-1, true);
+					if (ch=='{') {
+						depth++;
+					}
+					else if (ch=='}') {
+						depth = Math.max(0, depth-1);
+					}
+					else if (ch=='"' || ch=='\'') {
+						int end = getLiteralEnd(i);
+						if (end==-1) {
+							scannable[i] = ' ';
+						}
+						else {
+							i = end;
+						}
+					}
+				}
+			}
+
+			lineStarts = new int[starts.size()];
+			isCode = new boolean[lineStarts.length];
+			braceDepths = new int[lineStarts.length];
+			for (int i=0; i<lineStarts.length; i++) {
+				lineStarts[i] = starts.get(i);
+				isCode[i] = code.get(i);
+				braceDepths[i] = depths.get(i);
+			}
+
+		}
+
+		private void blank(int offs, int len) {
+			for (int i=offs; i<offs+len; i++) {
+				scannable[i] = ' ';
+				isComment[i] = true;
+			}
+		}
+
+		private void blankPunctuation(int offs) {
+			if (!Character.isJavaIdentifierPart(scannable[offs])) {
+				scannable[offs] = ' ';
+			}
+			isComment[offs] = true;
+		}
+
+		/**
+		 * Returns the offset of the quote closing a string or character
+		 * literal, or <code>-1</code> if it isn't closed on the same line.
+		 */
+		private int getLiteralEnd(int start) {
+			char quote = scannable[start];
+			for (int i=start+1; i<scannable.length; i++) {
+				char ch = scannable[i];
+				if (ch==quote) {
+					return i;
+				}
+				else if (ch=='\n') {
+					break;
+				}
+				else if (ch=='\\') {
+					i++;
+				}
+			}
+			return -1;
+		}
+
+		String getLine(int line) {
+			int end = line+1<lineStarts.length ? lineStarts[line+1]-1 :
+					text.length();
+			return text.substring(lineStarts[line], end);
+		}
+
+	}
+
+
+	/**
+	 * Collects the postings of a term while the index is built.
+	 */
+	private static final class TermBuilder {
+
+		private int[] entries = new int[4];
+		private byte[] weights = new byte[4];
+		private int size;
+
+		void add(int entry, byte weight) {
+			if (size>0 && entries[size-1]==entry) {
+				weights[size-1] = (byte)Math.max(weights[size-1], weight);
+				return;
+			}
+			if (size==entries.length) {
+				entries = Arrays.copyOf(entries, size*2);
+				weights = Arrays.copyOf(weights, size*2);
+			}
+			entries[size] = entry;
+			weights[size++] = weight;
+		}
+
+	}
+
+
+}
@@ -9,6 +9,7 @@ package org.fife.rsta.zscript;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
 
@@ -37,6 +38,11 @@ public final class IconFactory {
 
 	private Map<String, Icon> iconMap;
 
+	/**
+	 * Decorated icons, created the first time they are requested.
+	 */
+	private Map<IconData, Icon> decoratedIconMap;
+
 	private static final IconFactory INSTANCE = new IconFactory();
 
 
@@ -56,6 +62,8 @@ public final class IconFactory {
 		iconMap.put(ERROR_ICON, loadIcon("error_obj.gif"));
 		iconMap.put(WARNING_ICON, loadIcon("warning_obj.gif"));
 
+		decoratedIconMap = new ConcurrentHashMap<>();
+
 	}
 
 
@@ -69,8 +77,24 @@ public final class IconFactory {
 	}
 
 
+	/**
+	 * Returns the icon for a member, decorated as appropriate.  Icons are
+	 * shared, so renderers can call this for every cell they paint.
+	 *
+	 * @param data The member's icon data.
+	 * @return The icon.
+	 */
 	public Icon getIcon(IconData data) {
-		// TODO: Optimize me
+		Icon icon = decoratedIconMap.get(data);
+		if (icon==null) {
+			icon = createIcon(data);
+			decoratedIconMap.put(data, icon);
+		}
+		return icon;
+	}
+
+
+	private Icon createIcon(IconData data) {
 		DecoratableIcon icon = new DecoratableIcon(16, getIcon(data.getIcon()));
 		if (data.isConstant()) {
 			icon.addDecorationIcon(getIcon(CONSTANT_ICON));
@@ -97,16 +121,64 @@ public final class IconFactory {
 	}
 
 
+	/**
+	 * Describes the icon for a member.  Instances are immutable, and the
+	 * ones used for AST nodes and completions are shared; see
+	 * {@link #get(String, boolean)}.
+	 */
 	public static class IconData {
 
-		private String icon;
-		private boolean constant;
+		private final String icon;
+		private final boolean constant;
+
+		private static final Map<String, IconData> PLAIN =
+				new ConcurrentHashMap<>();
+		private static final Map<String, IconData> CONSTANT =
+				new ConcurrentHashMap<>();
+
+		public static final IconData FIELD = get(FIELD_PUBLIC_ICON, false);
+		public static final IconData CONSTANT_FIELD = get(FIELD_PUBLIC_ICON, true);
+		public static final IconData IMPORT = get(IMPORT_ICON, false);
+		public static final IconData METHOD = get(METHOD_PUBLIC_ICON, false);
+		public static final IconData SCRIPT = get(SCRIPT_ICON, false);
 
 		public IconData(String icon, boolean constant) {
 			this.icon = icon;
 			this.constant = constant;
 		}
 
+		@Override
+		public boolean equals(Object obj) {
+			if (obj==this) {
+				return true;
+			}
+			if (obj instanceof IconData) {
+				IconData other = (IconData)obj;
+				return constant==other.constant && icon.equals(other.icon);
+			}
+			return false;
+		}
+
+		/**
+		 * Returns the shared icon data for a main icon and decorations.
+		 *
+		 * @param icon The key of the main icon.
+		 * @param constant Whether the member is a constant.
+		 * @return The icon data.
+		 */
+		public static IconData get(String icon, boolean constant) {
+			Map<String, IconData> map = constant ? CONSTANT : PLAIN;
+			IconData data = map.get(icon);
+			if (data==null) {
+				data = new IconData(icon, constant);
+				IconData existing = map.putIfAbsent(icon, data);
+				if (existing!=null) {
+					data = existing;
+				}
+			}
+			return data;
+		}
+
 		/**
 		 * Returns the main icon to use when rendering this member's completion.
 		 * This icon will be decorated appropriately based on whether it is
@@ -118,6 +190,11 @@ public final class IconFactory {
 			return icon;
 		}
 
+		@Override
+		public int hashCode() {
+			return icon.hashCode() * 2 + (constant ? 1 : 0);
+		}
+
 		public boolean isConstant() {
 			return constant;
 		}
@@ -0,0 +1,144 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.util.Map;
+
+import org.fife.ui.autocomplete.Completion;
+import org.fife.ui.autocomplete.FunctionCompletion;
+import org.fife.ui.rsyntaxtextarea.TokenTypes;
+
+
+/**
+ * A set of identifiers, each with the token type it should be highlighted
+ * as, that can be queried with a range of a <code>char</code> array.  This
+ * lets {@link ZScriptTokenMaker} classify identifiers as it lexes them
+ * without creating a <code>String</code> for each one.<p>
+ *
+ * This is an open-addressing hash table with linear probing, kept at most
+ * half full, so a lookup is usually a single probe.  Tables are built once
+ * and never modified, so they can be shared between threads.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class IdentifierTable {
+
+	private String[] keys;
+	private int[] hashes;
+	private int[] types;
+	private int mask;
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param identifiers The identifiers, each mapped to a token type such
+	 *        as <code>TokenTypes.FUNCTION</code>.
+	 */
+	IdentifierTable(Map<String, Integer> identifiers) {
+
+		int capacity = 8;
+		while (capacity<identifiers.size()*2) {
+			capacity <<= 1;
+		}
+		keys = new String[capacity];
+		hashes = new int[capacity];
+		types = new int[capacity];
+		mask = capacity - 1;
+
+		for (Map.Entry<String, Integer> entry : identifiers.entrySet()) {
+			String key = entry.getKey();
+			int hash = hash(key);
+			int i = hash & mask;
+			while (keys[i]!=null) {
+				i = (i+1) & mask;
+			}
+			keys[i] = key;
+			hashes[i] = hash;
+			types[i] = entry.getValue();
+		}
+
+	}
+
+
+	/**
+	 * Adds completions to a map of identifiers to token types.  Functions are
+	 * highlighted as functions; everything else as variables.  Array
+	 * variables are added without their trailing <code>"[]"</code>.
+	 *
+	 * @param completions The completions to add.
+	 * @param identifiers The map to add to.
+	 */
+	static void addAll(Iterable<? extends Completion> completions,
+			Map<String, Integer> identifiers) {
+		for (Completion c : completions) {
+			String name = c.getInputText();
+			if (name.endsWith("[]")) {
+				name = name.substring(0, name.length()-2);
+			}
+			identifiers.putIfAbsent(name, c instanceof FunctionCompletion ?
+					TokenTypes.FUNCTION : TokenTypes.VARIABLE);
+		}
+	}
+
+
+	/**
+	 * Returns the token type of an identifier.
+	 *
+	 * @param array The array containing the identifier.
+	 * @param offs The offset of the identifier in the array.
+	 * @param len The length of the identifier.
+	 * @return The identifier's token type, or <code>TokenTypes.NULL</code>
+	 *         if it is not in this table.
+	 */
+	int get(char[] array, int offs, int len) {
+
+		int hash = 0;
+		for (int i=0; i<len; i++) {
+			hash = 31*hash + array[offs+i];
+		}
+		hash = spread(hash);
+
+		for (int i=hash & mask; keys[i]!=null; i=(i+1) & mask) {
+			if (hashes[i]==hash && matches(keys[i], array, offs, len)) {
+				return types[i];
+			}
+		}
+		return TokenTypes.NULL;
+
+	}
+
+
+	private static int hash(String str) {
+		return spread(str.hashCode());
+	}
+
+
+	private static boolean matches(String key, char[] array, int offs, int len) {
+		if (key.length()!=len) {
+			return false;
+		}
+		for (int i=0; i<len; i++) {
+			if (key.charAt(i)!=array[offs+i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * Mixes the high bits of a <code>String</code> hash code into the low
+	 * ones, since only the low ones pick a slot.
+	 */
+	private static int spread(int hash) {
+		return hash ^ (hash>>>16);
+	}
+
+
+}
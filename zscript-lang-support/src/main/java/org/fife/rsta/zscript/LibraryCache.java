@@ -0,0 +1,211 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.fife.rsta.zscript.ast.ZScriptAst;
+
+
+/**
+ * Holds one parsed AST per library, along with the graph of which libraries
+ * import which.  The ASTs are never modified once cached, so they are
+ * shared by every text area that imports the library, directly or
+ * not.<p>
+ *
+ * For each library, the set of libraries it transitively imports is
+ * computed the first time it's needed and then cached.  When a library
+ * changes, only its own AST and the cached import sets of the libraries
+ * that (transitively) depend on it are discarded; everything else is
+ * kept.<p>
+ *
+ * Libraries are identified by their normalized <code>import</code> path.
+ * This class is not thread-safe.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see WorkspaceIndex
+ */
+final class LibraryCache {
+
+	private Map<String, Node> nodes;
+
+
+	LibraryCache() {
+		nodes = new HashMap<>();
+	}
+
+
+	/**
+	 * Returns the cached AST of a library.
+	 *
+	 * @param path The library.
+	 * @return The AST, or <code>null</code> if it isn't cached.
+	 */
+	ZScriptAst getAst(String path) {
+		Node node = nodes.get(path);
+		return node!=null ? node.ast : null;
+	}
+
+
+	/**
+	 * Returns the libraries a library imports, directly or not, if they have
+	 * been computed.
+	 *
+	 * @param path The library.
+	 * @return The library itself followed by those it imports, in
+	 *         depth-first order, or <code>null</code> if this isn't
+	 *         cached.
+	 * @see #setImportClosure(String, List)
+	 */
+	List<String> getImportClosure(String path) {
+		Node node = nodes.get(path);
+		return node!=null ? node.closure : null;
+	}
+
+
+	/**
+	 * Returns the libraries a library directly imports.
+	 *
+	 * @param path The library.
+	 * @return The imported libraries.  This will be empty if the library is
+	 *         unknown.
+	 */
+	String[] getImports(String path) {
+		Node node = nodes.get(path);
+		return node!=null ? node.imports : new String[0];
+	}
+
+
+	/**
+	 * Returns the libraries that import a library, directly or not.
+	 *
+	 * @param path The library.
+	 * @return The dependent libraries, not including <code>path</code>
+	 *         itself.
+	 */
+	Set<String> getTransitiveDependents(String path) {
+
+		Node node = nodes.get(path);
+		if (node==null) {
+			return Collections.emptySet();
+		}
+
+		Set<String> dependents = new HashSet<>();
+		Deque<Node> todo = new ArrayDeque<>();
+		todo.push(node);
+		while (!todo.isEmpty()) {
+			for (String dependent : todo.pop().dependents) {
+				if (!dependent.equals(path) && dependents.add(dependent)) {
+					todo.push(nodes.get(dependent));
+				}
+			}
+		}
+		return dependents;
+
+	}
+
+
+	/**
+	 * Marks a library as changed.  Its AST, and the import sets of it and
+	 * its transitive dependents, are discarded.  Its place in the import
+	 * graph is kept until it is {@link #put(String, ZScriptAst, String[])
+	 * put} again.
+	 *
+	 * @param path The library.
+	 * @return The transitive dependents whose cached data was discarded.
+	 */
+	Set<String> invalidate(String path) {
+		Set<String> dependents = getTransitiveDependents(path);
+		Node node = nodes.get(path);
+		if (node!=null) {
+			node.ast = null;
+			node.closure = null;
+		}
+		for (String dependent : dependents) {
+			nodes.get(dependent).closure = null;
+		}
+		return dependents;
+	}
+
+
+	private Node getOrCreateNode(String path) {
+		return nodes.computeIfAbsent(path, p -> new Node());
+	}
+
+
+	/**
+	 * Caches a library's AST and the libraries it imports, replacing any
+	 * previous version.  If its imports changed, the graph is updated; the
+	 * import sets of its transitive dependents are discarded.
+	 *
+	 * @param path The library.
+	 * @param ast The library's AST.  This may be <code>null</code> if only
+	 *        its imports are known, e.g. when loaded from a saved index.
+	 * @param imports The libraries it directly imports.
+	 */
+	void put(String path, ZScriptAst ast, String[] imports) {
+
+		invalidate(path);
+		Node node = getOrCreateNode(path);
+
+		for (String imported : node.imports) {
+			Node importedNode = nodes.get(imported);
+			if (importedNode!=null) {
+				importedNode.dependents.remove(path);
+			}
+		}
+		for (String imported : imports) {
+			getOrCreateNode(imported).dependents.add(path);
+		}
+
+		node.ast = ast;
+		node.imports = imports;
+
+	}
+
+
+	/**
+	 * Caches the libraries a library imports, directly or not.
+	 *
+	 * @param path The library.
+	 * @param closure The library followed by the libraries it imports.
+	 * @see #getImportClosure(String)
+	 */
+	void setImportClosure(String path, List<String> closure) {
+		getOrCreateNode(path).closure = Collections.unmodifiableList(
+				new ArrayList<>(closure));
+	}
+
+
+	/**
+	 * A library in the import graph.
+	 */
+	private static final class Node {
+
+		private ZScriptAst ast;
+		private String[] imports;
+		private Set<String> dependents;
+		private List<String> closure;
+
+		private Node() {
+			imports = new String[0];
+			dependents = new HashSet<>();
+		}
+
+	}
+
+
+}
@@ -0,0 +1,248 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.DocumentFilter;
+
+import org.fife.ui.rsyntaxtextarea.RSyntaxDocument;
+
+
+/**
+ * A read-only reference file, such as <code>zscript.txt</code>, loaded into
+ * a document shared by everything displaying it.  Each file is loaded once,
+ * the first time it is requested, and indexed so that {@link DocDisplayer}s
+ * can jump straight to what was clicked on instead of searching for it.
+ * The indexes are by:
+ *
+ * <ul>
+ *    <li>Section - the text of headings such as
+ *        <code>//--- FFC Functions and Variables ---</code>, and of
+ *        <code>class</code> and <code>namespace</code> declarations such as
+ *        <code>namespace Link</code>.
+ *    <li>Symbol - the names of functions and variables.  Members of a class
+ *        or namespace are qualified by its name, e.g.
+ *        <code>Link-&gt;X</code>.  Only the first of several overloads is
+ *        indexed.
+ * </ul>
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see DocDisplayer#display(String, RSyntaxDocument, int)
+ */
+final class ReferenceDoc {
+
+	private String title;
+	private RSyntaxDocument doc;
+	private Map<String, Integer> sectionOffsets;
+	private Map<String, Integer> symbolOffsets;
+
+	/**
+	 * The built-in functions and variables.
+	 */
+	static final String ZSCRIPT = "/data/unmodified/zscript.txt";
+
+	private static final Map<String, ReferenceDoc> DOCS = new HashMap<>();
+
+	private static final Pattern HEADING = Pattern.compile("^//---\\s*(.+?)\\s*---$");
+	private static final Pattern CONTAINER = Pattern.compile("^(?:class|namespace)\\s+(\\w+)$");
+	private static final Pattern DECLARATION = Pattern.compile(
+			"^(?!(?:break|case|continue|do|else|for|goto|if|return|switch|while)\\b)" +
+			"[\\w\\[\\]]+\\s+(\\w+)\\s*[(;\\[]");
+
+
+	private ReferenceDoc(String resource) throws IOException {
+
+		title = resource.substring(resource.lastIndexOf('/') + 1);
+		sectionOffsets = new HashMap<>();
+		symbolOffsets = new HashMap<>();
+
+		InputStream in = ReferenceDoc.class.getResourceAsStream(resource);
+		if (in==null) {
+			throw new IOException("Resource not found: " + resource);
+		}
+
+		StringBuilder sb = new StringBuilder();
+		try (BufferedReader r = new BufferedReader(new InputStreamReader(in,
+				StandardCharsets.UTF_8))) {
+			String container = null;
+			String line;
+			while ((line=r.readLine())!=null) {
+				container = index(line.trim(), sb.length(), container);
+				sb.append(line).append('\n');
+			}
+		}
+
+		doc = new RSyntaxDocument("text/zscript");
+		try {
+			doc.insertString(0, sb.toString(), null);
+		} catch (BadLocationException ble) {
+			throw new IOException(ble); // Never happens
+		}
+		doc.setDocumentFilter(new ReadOnlyFilter());
+
+	}
+
+
+	/**
+	 * Returns a reference file, loading it if necessary.  This method is
+	 * thread-safe.
+	 *
+	 * @param resource The resource, e.g. {@link #ZSCRIPT}.
+	 * @return The reference file.
+	 * @throws IOException If the resource cannot be loaded.
+	 */
+	static synchronized ReferenceDoc get(String resource) throws IOException {
+		ReferenceDoc doc = DOCS.get(resource);
+		if (doc==null) {
+			doc = new ReferenceDoc(resource);
+			DOCS.put(resource, doc);
+		}
+		return doc;
+	}
+
+
+	/**
+	 * Returns the name of the function or variable declared on a line of
+	 * code.
+	 *
+	 * @param line The line, trimmed.
+	 * @return The name, or <code>null</code> if the line is not a
+	 *         declaration.
+	 */
+	static String getDeclaredName(String line) {
+		Matcher m = DECLARATION.matcher(line);
+		return m.find() ? m.group(1) : null;
+	}
+
+
+	/**
+	 * Returns the shared document.  It cannot be modified.
+	 *
+	 * @return The document.
+	 */
+	RSyntaxDocument getDocument() {
+		return doc;
+	}
+
+
+	/**
+	 * Returns the offset of a section.
+	 *
+	 * @param section The heading text, e.g.
+	 *        <code>"FFC Functions and Variables"</code>, or a class or
+	 *        namespace declaration, e.g. <code>"namespace Link"</code>.
+	 * @return The offset of the start of its line, or <code>-1</code> if
+	 *         there is no such section.
+	 * @see #getSymbolOffset(String)
+	 */
+	int getSectionOffset(String section) {
+		Integer offs = sectionOffsets.get(section);
+		return offs!=null ? offs : -1;
+	}
+
+
+	/**
+	 * Returns the offset of the declaration of a function or variable.
+	 *
+	 * @param symbol The symbol's name, e.g. <code>"Rand"</code>, or
+	 *        <code>"Link-&gt;X"</code> for members.
+	 * @return The offset of the start of its line, or <code>-1</code> if
+	 *         the symbol is not declared.
+	 * @see #getSectionOffset(String)
+	 */
+	int getSymbolOffset(String symbol) {
+		Integer offs = symbolOffsets.get(symbol);
+		return offs!=null ? offs : -1;
+	}
+
+
+	/**
+	 * Returns the title to display this file with, i.e. its file name.
+	 *
+	 * @return The title.
+	 */
+	String getTitle() {
+		return title;
+	}
+
+
+	/**
+	 * Indexes a line of the file.
+	 *
+	 * @param line The line, trimmed.
+	 * @param offs The offset of the line.
+	 * @param container The class or namespace the line is in, if any.
+	 * @return The class or namespace the next line is in.
+	 */
+	private String index(String line, int offs, String container) {
+
+		Matcher m = HEADING.matcher(line);
+		if (m.find()) {
+			sectionOffsets.putIfAbsent(m.group(1), offs);
+			return container;
+		}
+
+		m = CONTAINER.matcher(line);
+		if (m.find()) {
+			sectionOffsets.putIfAbsent(line, offs);
+			return m.group(1);
+		}
+
+		if (container!=null && line.startsWith("}")) { // e.g. "}; //ffc"
+			return null;
+		}
+
+		if (!line.startsWith("//") && !line.startsWith("*") &&
+				!line.startsWith("/*")) {
+			String name = getDeclaredName(line);
+			if (name!=null) {
+				if (container!=null) {
+					name = container + "->" + name;
+				}
+				symbolOffsets.putIfAbsent(name, offs);
+			}
+		}
+
+		return container;
+
+	}
+
+
+	/**
+	 * Rejects all changes to the shared document once it is loaded.
+	 */
+	private static final class ReadOnlyFilter extends DocumentFilter {
+
+		@Override
+		public void insertString(FilterBypass fb, int offs, String str,
+				AttributeSet attr) {
+		}
+
+		@Override
+		public void remove(FilterBypass fb, int offs, int len) {
+		}
+
+		@Override
+		public void replace(FilterBypass fb, int offs, int len, String text,
+				AttributeSet attrs) {
+		}
+
+	}
+
+
+}
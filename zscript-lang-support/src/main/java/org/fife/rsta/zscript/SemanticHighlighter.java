@@ -0,0 +1,633 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.swing.SwingUtilities;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+
+import org.fife.rsta.zscript.ast.FunctionDecNode;
+import org.fife.rsta.zscript.ast.MemberNode;
+import org.fife.rsta.zscript.ast.RootNode;
+import org.fife.rsta.zscript.ast.Scanner;
+import org.fife.rsta.zscript.ast.ScopeIndex;
+import org.fife.rsta.zscript.ast.ScriptNode;
+import org.fife.rsta.zscript.ast.TokenTypes;
+import org.fife.rsta.zscript.ast.VariableDecNode;
+import org.fife.rsta.zscript.ast.ZScriptAst;
+import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
+import org.fife.ui.rsyntaxtextarea.Token;
+
+
+/**
+ * Restyles identifiers in a text area by what they refer to, rather than
+ * just how they're spelled.  Calls to user functions are highlighted as
+ * functions, global variables as variables, and script-level variables as
+ * annotations (a token type ZScript doesn't otherwise use, so color schemes
+ * can give them their own color).  Local variables and arguments are plain
+ * identifiers, even if they shadow something else.<p>
+ *
+ * After each parse, the text of the document is snapshotted on the EDT.
+ * Each identifier in it is then resolved to its declaration on a worker
+ * thread, through the AST's {@link ScopeIndex}, and the resulting styles
+ * are compared against the previous ones there too, so only the lines
+ * whose styles actually changed are repainted.  The AST's offsets move as
+ * the document is edited, so if it is edited before the results are
+ * ready, they are dropped; the next parse will start another run.<p>
+ *
+ * Between runs, styles move with the text as it is edited.  The
+ * {@link ZScriptTokenMaker} asks this class to restyle each line as it is
+ * lexed.  If the text area is given a new document, the styles are
+ * cleared and the new document is re-parsed, which starts a fresh run.
+ * Instances of this class should only be used on the EDT.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see ZScriptLanguageSupport#setSemanticHighlightingEnabled(boolean)
+ */
+final class SemanticHighlighter implements DocumentListener,
+		PropertyChangeListener {
+
+	private RSyntaxTextArea textArea;
+	private ZScriptParser parser;
+	private Document doc;
+
+	/**
+	 * The number of edits made to the document.
+	 */
+	private long version;
+
+	/**
+	 * The in-flight run, if any.
+	 */
+	private Future<?> pending;
+
+	/**
+	 * The identifiers currently styled, sorted by offset.  An identifier
+	 * mangled by an edit has its length set to <code>-1</code> so it no
+	 * longer matches anything.
+	 */
+	private Ranges ranges;
+
+	/**
+	 * If more runs of lines than this change at once, the whole text area
+	 * is repainted instead.
+	 */
+	private static final int MAX_REPAINT_RUNS = 64;
+
+	private static final int FUNCTION = 0;
+	private static final int GLOBAL_VARIABLE = 1;
+	private static final int SCRIPT_VARIABLE = 2;
+	private static final int LOCAL_VARIABLE = 3;
+
+	/**
+	 * The token type each kind of declaration is styled as.
+	 */
+	private static final int[] TOKEN_TYPES = {
+		Token.FUNCTION, Token.VARIABLE, Token.ANNOTATION, Token.IDENTIFIER,
+	};
+
+	/**
+	 * Shared by all highlighters, like the parser's worker.
+	 */
+	private static final ExecutorService EXECUTOR =
+			Executors.newSingleThreadExecutor(r -> {
+				Thread t = new Thread(r, "ZScriptSemanticHighlighter");
+				t.setDaemon(true);
+				t.setPriority(Thread.NORM_PRIORITY - 1);
+				return t;
+			});
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param textArea The text area to highlight.
+	 * @param parser The parser for the text area.
+	 * @see #uninstall()
+	 */
+	SemanticHighlighter(RSyntaxTextArea textArea, ZScriptParser parser) {
+		this.textArea = textArea;
+		this.parser = parser;
+		doc = textArea.getDocument();
+		doc.addDocumentListener(this);
+		textArea.addPropertyChangeListener("document", this);
+		ranges = new Ranges(0);
+	}
+
+
+	/**
+	 * Restyles the identifiers in a line's tokens.
+	 *
+	 * @param t The first token in the line.
+	 */
+	void apply(Token t) {
+
+		if (ranges.count==0 || t==null || !t.isPaintable()) {
+			return;
+		}
+
+		// Find the first range in this line, then walk both lists together
+		int i = ranges.indexOf(t.getOffset());
+		for (; t!=null && t.isPaintable() && i<ranges.count; t=t.getNextToken()) {
+			int offs = t.getOffset();
+			while (i<ranges.count && ranges.starts[i]<offs) {
+				i++;
+			}
+			if (i<ranges.count && ranges.starts[i]==offs &&
+					ranges.lengths[i]==t.length() && isIdentifier(t)) {
+				t.setType(ranges.types[i]);
+			}
+		}
+
+	}
+
+
+	/**
+	 * Cancels the in-flight run, if any, and makes sure that anything
+	 * already queued is seen as stale.
+	 */
+	private void cancel() {
+		if (pending!=null) {
+			pending.cancel(false);
+			pending = null;
+		}
+		version++;
+	}
+
+
+	@Override
+	public void changedUpdate(DocumentEvent e) {
+		// Attribute changes (e.g. syntax highlighting) don't matter
+	}
+
+
+	private static boolean isIdentifier(Token t) {
+		switch (t.getType()) {
+			case Token.IDENTIFIER:
+			case Token.FUNCTION:
+			case Token.VARIABLE:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+
+	@Override
+	public void insertUpdate(DocumentEvent e) {
+		version++;
+		int offs = e.getOffset();
+		int len = e.getLength();
+		int i = ranges.indexOf(offs);
+		ranges.invalidateIfContains(i-1, offs); // Inserted into an identifier
+		for (; i<ranges.count; i++) {
+			ranges.starts[i] += len;
+		}
+	}
+
+
+	/**
+	 * Called when the text area is given a new document.
+	 *
+	 * @param e The event.
+	 */
+	@Override
+	public void propertyChange(PropertyChangeEvent e) {
+
+		cancel();
+		doc.removeDocumentListener(this);
+		doc = textArea.getDocument();
+		doc.addDocumentListener(this);
+
+		// The styles were for the old text
+		if (ranges.count>0) {
+			ranges = new Ranges(0);
+			textArea.repaint();
+		}
+
+		// Nothing changes the new document's version until it's edited, so
+		// parse it now; the AST event that follows starts a fresh run
+		textArea.forceReparsing(parser);
+
+	}
+
+
+	/**
+	 * Called on the EDT with the results of a run.
+	 */
+	private void publish(Result result) {
+
+		if (result.version!=version) {
+			return; // Stale; the next parse will start another run
+		}
+		pending = null;
+		ranges = result.ranges;
+
+		int[] lines = result.changedLines;
+		if (lines.length/2>MAX_REPAINT_RUNS) {
+			textArea.repaint();
+			return;
+		}
+		try {
+			for (int i=0; i<lines.length; i+=2) {
+				repaintLines(lines[i], lines[i+1]);
+			}
+		} catch (BadLocationException ble) { // Never happens
+			ble.printStackTrace();
+			textArea.repaint();
+		}
+
+	}
+
+
+	@Override
+	public void removeUpdate(DocumentEvent e) {
+		version++;
+		int offs = e.getOffset();
+		int len = e.getLength();
+		int i = ranges.indexOf(offs);
+		ranges.invalidateIfContains(i-1, offs);
+		for (; i<ranges.count; i++) {
+			if (ranges.starts[i]>=offs+len) {
+				ranges.starts[i] -= len;
+			}
+			else { // Removed, at least partly
+				ranges.starts[i] = offs; // Keeps starts sorted
+				ranges.lengths[i] = -1;
+			}
+		}
+	}
+
+
+	private void repaintLines(int firstLine, int lastLine)
+			throws BadLocationException {
+		int lineCount = textArea.getLineCount();
+		if (firstLine>=lineCount) {
+			return;
+		}
+		lastLine = Math.min(lastLine, lineCount - 1);
+		Rectangle2D first = textArea.modelToView2D(
+				textArea.getLineStartOffset(firstLine));
+		Rectangle2D last = textArea.modelToView2D(
+				textArea.getLineEndOffset(lastLine) - 1);
+		if (first!=null && last!=null) {
+			Rectangle r = first.createUnion(last).getBounds();
+			textArea.repaint(0, r.y, textArea.getWidth(), r.height);
+		}
+	}
+
+
+	/**
+	 * Stops highlighting.  This should be called when ZScript support is
+	 * removed from the text area.
+	 */
+	void uninstall() {
+		cancel();
+		textArea.removePropertyChangeListener("document", this);
+		doc.removeDocumentListener(this);
+		if (ranges.count>0) {
+			ranges = new Ranges(0);
+			textArea.repaint();
+		}
+	}
+
+
+	/**
+	 * Starts restyling identifiers to match a new AST.  This should be
+	 * called whenever the text area is re-parsed.
+	 *
+	 * @param ast The AST, or <code>null</code> to remove all semantic
+	 *        styles.  Its offsets should be current, though it may not
+	 *        reflect the very latest edits.
+	 */
+	void update(ZScriptAst ast) {
+
+		if (pending!=null) {
+			pending.cancel(false);
+			pending = null;
+		}
+
+		String text = null;
+		if (ast!=null) {
+			try {
+				text = doc.getText(0, doc.getLength());
+			} catch (BadLocationException ble) { // Never happens
+				ble.printStackTrace();
+				return;
+			}
+		}
+
+		// Copy the current styles, since we shift them as the user types
+		Ranges previous = ranges.copy();
+		long v = version;
+		String snapshot = text;
+		pending = EXECUTOR.submit(() -> {
+			Result result = new Result(v, snapshot, ast, previous);
+			SwingUtilities.invokeLater(() -> publish(result));
+		});
+
+	}
+
+
+	/**
+	 * Styles for a set of identifiers, sorted by offset.
+	 */
+	private static final class Ranges {
+
+		private int[] starts;
+		private int[] lengths;
+		private int[] types;
+		private int count;
+
+		Ranges(int capacity) {
+			starts = new int[capacity];
+			lengths = new int[capacity];
+			types = new int[capacity];
+		}
+
+		void add(int start, int length, int type) {
+			if (count==starts.length) {
+				int size = Math.max(64, count * 2);
+				starts = Arrays.copyOf(starts, size);
+				lengths = Arrays.copyOf(lengths, size);
+				types = Arrays.copyOf(types, size);
+			}
+			starts[count] = start;
+			lengths[count] = length;
+			types[count] = type;
+			count++;
+		}
+
+		Ranges copy() {
+			Ranges copy = new Ranges(0);
+			copy.starts = Arrays.copyOf(starts, count);
+			copy.lengths = Arrays.copyOf(lengths, count);
+			copy.types = Arrays.copyOf(types, count);
+			copy.count = count;
+			return copy;
+		}
+
+		/**
+		 * Returns the index of the first range starting at or after an
+		 * offset.
+		 */
+		int indexOf(int offs) {
+			int low = 0;
+			int high = count - 1;
+			while (low<=high) {
+				int mid = (low + high) >>> 1;
+				if (starts[mid]<offs) {
+					low = mid + 1;
+				}
+				else {
+					high = mid - 1;
+				}
+			}
+			return low;
+		}
+
+		/**
+		 * Makes the range at an index match nothing if it contains an
+		 * offset, other than at its start.
+		 */
+		void invalidateIfContains(int i, int offs) {
+			if (i>-1 && starts[i]<offs && starts[i]+lengths[i]>offs) {
+				lengths[i] = -1;
+			}
+		}
+
+		/**
+		 * Returns whether the range at an index is the same in two sets.
+		 */
+		boolean matches(int i, Ranges other, int j) {
+			return starts[i]==other.starts[j] && lengths[i]==other.lengths[j] &&
+					types[i]==other.types[j];
+		}
+
+	}
+
+
+	/**
+	 * Resolves names to the kind of declaration they refer to, through an
+	 * AST's scope index.  This is used off the EDT.
+	 */
+	private static final class Resolver {
+
+		private ZScriptAst ast;
+		private ScopeIndex scopeIndex;
+		private Set<VariableDecNode> globalVars;
+		private Set<VariableDecNode> scriptVars;
+
+		/**
+		 * The member the functions were last looked up in, and the depth of
+		 * each function callable there: 1 for script functions, 0 for
+		 * global ones.  Identifiers are resolved in source order, so this
+		 * changes once per member.
+		 */
+		private MemberNode member;
+		private Map<String, Integer> functionDepths;
+
+		Resolver(ZScriptAst ast) {
+			this.ast = ast;
+			scopeIndex = ast.getScopeIndex();
+			globalVars = Collections.newSetFromMap(new IdentityHashMap<>());
+			scriptVars = Collections.newSetFromMap(new IdentityHashMap<>());
+			RootNode root = ast.getRootNode();
+			for (int i=0; i<root.getVariableCount(); i++) {
+				globalVars.add(root.getVariableDec(i));
+			}
+			for (int i=0; i<root.getScriptCount(); i++) {
+				ScriptNode script = root.getScript(i);
+				for (int j=0; j<script.getVariableCount(); j++) {
+					scriptVars.add(script.getVariableDec(j));
+				}
+			}
+		}
+
+		/**
+		 * Returns the kind of the innermost declaration of a name visible
+		 * at an offset, or <code>-1</code> if there is none.  If a function
+		 * and a variable are declared at the same depth, the function wins.
+		 */
+		int resolve(String name, int offs) {
+
+			MemberNode m = ast.getMemberContaining(offs);
+			if (functionDepths==null || m!=member) {
+				member = m;
+				functionDepths = new HashMap<>();
+				List<FunctionDecNode> functions = scopeIndex.getFunctionsInScope(offs);
+				int scriptFunctionCount = m instanceof ScriptNode ?
+						((ScriptNode)m).getFunctionCount() : 0;
+				for (int i=0; i<functions.size(); i++) {
+					functionDepths.putIfAbsent(functions.get(i).getName(),
+							i<scriptFunctionCount ? 1 : 0);
+				}
+			}
+			Integer functionDepth = functionDepths.get(name);
+
+			VariableDecNode var = scopeIndex.getVariableDec(name, offs);
+			if (var==null) {
+				return functionDepth!=null ? FUNCTION : -1;
+			}
+			int kind = LOCAL_VARIABLE;
+			int depth = 2;
+			if (globalVars.contains(var)) {
+				kind = GLOBAL_VARIABLE;
+				depth = 0;
+			}
+			else if (scriptVars.contains(var)) {
+				kind = SCRIPT_VARIABLE;
+				depth = 1;
+			}
+			return functionDepth!=null && functionDepth>=depth ? FUNCTION : kind;
+
+		}
+
+	}
+
+
+	/**
+	 * The styles computed from one snapshot, and the lines whose styles
+	 * differ from the previous run.
+	 */
+	private static final class Result {
+
+		private long version;
+		private Ranges ranges;
+
+		/**
+		 * Pairs of first and last lines, inclusive, in ascending order.
+		 */
+		private int[] changedLines;
+
+		/**
+		 * Resolves every identifier in a snapshot of the document.  This is
+		 * called off the EDT.
+		 */
+		Result(long version, String text, ZScriptAst ast, Ranges previous) {
+
+			this.version = version;
+			ranges = new Ranges(0);
+			int[] lineStarts = new int[] { 0 };
+			if (text!=null) {
+				lineStarts = getLineStarts(text);
+				resolveAll(text, new Resolver(ast));
+			}
+
+			// Collect the offsets whose styles were added, removed or changed
+			Ranges changed = new Ranges(0);
+			int i = 0;
+			int j = 0;
+			while (i<ranges.count || j<previous.count) {
+				if (j==previous.count ||
+						(i<ranges.count && ranges.starts[i]<previous.starts[j])) {
+					changed.add(ranges.starts[i++], 0, 0);
+				}
+				else if (i==ranges.count || previous.starts[j]<ranges.starts[i]) {
+					changed.add(previous.starts[j++], 0, 0);
+				}
+				else {
+					if (!ranges.matches(i, previous, j)) {
+						changed.add(ranges.starts[i], 0, 0);
+					}
+					i++;
+					j++;
+				}
+			}
+
+			// Coalesce them into runs of lines
+			int[] lines = new int[16];
+			int size = 0;
+			for (int k=0; k<changed.count; k++) {
+				int line = Arrays.binarySearch(lineStarts, changed.starts[k]);
+				if (line<0) {
+					line = -line - 2;
+				}
+				if (size>0 && line<=lines[size-1]+1) {
+					lines[size-1] = Math.max(lines[size-1], line);
+				}
+				else {
+					if (size==lines.length) {
+						lines = Arrays.copyOf(lines, size*2);
+					}
+					lines[size++] = line;
+					lines[size++] = line;
+				}
+			}
+			changedLines = Arrays.copyOf(lines, size);
+
+		}
+
+		private static int[] getLineStarts(String text) {
+			int[] lineStarts = new int[64];
+			int count = 1;
+			for (int i=0; i<text.length(); i++) {
+				if (text.charAt(i)=='\n') {
+					if (count==lineStarts.length) {
+						lineStarts = Arrays.copyOf(lineStarts, count*2);
+					}
+					lineStarts[count++] = i + 1;
+				}
+			}
+			return Arrays.copyOf(lineStarts, count);
+		}
+
+		private void resolveAll(String text, Resolver resolver) {
+
+			char[] array = text.toCharArray();
+			Scanner s = new Scanner(array, 0, array.length);
+
+			try {
+				org.fife.rsta.zscript.ast.Token prev = null;
+				org.fife.rsta.zscript.ast.Token t;
+				while ((t=s.yylex())!=null) {
+					// "foo->bar" - "bar" is a member, not a declaration
+					if (t.isIdentifier() && (prev==null ||
+							!prev.isType(TokenTypes.OPERATOR_MEMBER))) {
+						// The name in "int foo" is only in scope once its
+						// declaration ends
+						int offs = t.getOffset();
+						if (prev!=null && (prev.isIdentifier() ||
+								(prev.getType()&TokenTypes.DATA_TYPE)==TokenTypes.DATA_TYPE)) {
+							offs += t.getLength() + 1;
+						}
+						int kind = resolver.resolve(t.getLexeme(), offs);
+						if (kind>-1) {
+							ranges.add(t.getOffset(), t.getLength(),
+									TOKEN_TYPES[kind]);
+						}
+					}
+					prev = t;
+				}
+			} catch (IOException ioe) { // Never happens
+				ioe.printStackTrace();
+			}
+
+		}
+
+	}
+
+
+}
@@ -14,9 +14,7 @@ import javax.swing.text.JTextComponent;
 
 import org.fife.rsta.ac.LanguageSupport;
 import org.fife.rsta.ac.LanguageSupportFactory;
-import org.fife.rsta.zscript.ast.RootNode;
 import org.fife.rsta.zscript.ast.VariableDecNode;
-import org.fife.rsta.zscript.ast.VariablesInScopeGrabber;
 import org.fife.rsta.zscript.ast.ZScriptAst;
 import org.fife.ui.autocomplete.BasicCompletion;
 import org.fife.ui.autocomplete.Completion;
@@ -64,14 +62,10 @@ public class SourceParamChoicesProvider implements ParameterChoicesProvider {
 		if (ast==null) {
 			return null;
 		}
-		RootNode root = ast.getRootNode();
-
 		List<Completion> choices = new ArrayList<>();
 
 		int dot = textArea.getCaretPosition();
-		VariablesInScopeGrabber grabber = new VariablesInScopeGrabber(dot);
-		root.accept(grabber);
-		List<VariableDecNode> vars = grabber.getVariableList();
+		List<VariableDecNode> vars = ast.getScopeIndex().getVariablesInScope(dot);
 		for (VariableDecNode varDec : vars) {
 			if (type.equals(varDec.getType())) {
 				choices.add(new ZScriptVariableCompletion(provider, varDec));
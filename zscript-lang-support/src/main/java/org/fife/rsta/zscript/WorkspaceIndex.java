@@ -0,0 +1,928 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.beans.PropertyChangeListener;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+import javax.swing.event.SwingPropertyChangeSupport;
+
+import org.fife.rsta.zscript.ast.AstFactory;
+import org.fife.rsta.zscript.ast.FunctionDecNode;
+import org.fife.rsta.zscript.ast.RootNode;
+import org.fife.rsta.zscript.ast.VariableDecNode;
+import org.fife.rsta.zscript.ast.ZScriptAst;
+import org.fife.ui.autocomplete.Completion;
+import org.fife.ui.autocomplete.CompletionProvider;
+import org.fife.ui.autocomplete.ParameterizedCompletion.Parameter;
+import org.fife.ui.rsyntaxtextarea.parser.Parser;
+
+
+/**
+ * Indexes the top-level functions, constants and global variables of the
+ * <code>.zh</code> libraries imported by the code being edited, so they can
+ * be offered in code completion, tool tips and hyperlinks like the standard
+ * library is.  <code>import</code> paths are resolved relative to a root
+ * directory, e.g. that of a quest.<p>
+ *
+ * Each library is parsed only once.  Its symbols are kept, along with its
+ * size, modification time and a hash of its content, in a file that can be
+ * saved via {@link #save()} and reloaded via {@link #load()} in a later
+ * session.  A library is only re-parsed if its content has actually
+ * changed; if just its modification time has, the hash is enough to tell.
+ * Libraries are re-checked at most every couple of seconds, so lookups are
+ * effectively constant time.<p>
+ *
+ * Libraries imported by other libraries are indexed too.  The parsed ASTs
+ * and the import graph are kept in a {@link LibraryCache}, so a library
+ * imported by many files is parsed once, and a change to it only affects
+ * the files that depend on it.<p>
+ *
+ * If {@link #setWatchingEnabled(boolean) watching} is enabled, the root
+ * directory is watched for changes instead, and libraries under it are no
+ * longer checked on each lookup.  Changed libraries are re-parsed on a
+ * background thread, and {@link #PROPERTY_LIBRARIES} is fired once per batch
+ * of changes.  Libraries outside of the root are still checked on lookup.<p>
+ *
+ * This class is meant to be used on the EDT.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see ZScriptLanguageSupport#setWorkspaceIndex(WorkspaceIndex)
+ */
+public class WorkspaceIndex {
+
+	/**
+	 * Property fired when libraries change on disk while watching is
+	 * enabled.  The new value will be the <code>Set</code> of the changed
+	 * libraries and those that import them, directly or not.
+	 */
+	public static final String PROPERTY_LIBRARIES =
+			"org.fife.rsta.zscript.Libraries";
+
+	private Path root;
+	private Path indexFile;
+	private Charset charset;
+
+	/**
+	 * Libraries by key; see {@link #getKey(Path)}.  Libraries that don't
+	 * exist are kept too, so we don't look for them on each lookup.
+	 */
+	private Map<String, Library> libraries;
+
+	/**
+	 * The key of each <code>import</code> path seen, as they're looked up
+	 * on every completion.
+	 */
+	private Map<String, String> keys;
+	private LibraryCache cache;
+
+	/**
+	 * The content hash of each known library, or {@link #MISSING}.  Unlike
+	 * everything else, this is also read by the watcher thread.
+	 */
+	private Map<String, Long> hashes;
+
+	private WorkspaceWatcher watcher;
+	private SwingPropertyChangeSupport support;
+
+	/**
+	 * Whether the libraries have changed since they were last saved.
+	 */
+	private boolean dirty;
+
+	/**
+	 * How often a library is checked for changes on disk.
+	 */
+	private static final long REVALIDATE_MILLIS = 2000;
+
+	/**
+	 * The "hash" of a library that does not exist.  Real hashes are
+	 * unsigned 32-bit values.
+	 */
+	static final long MISSING = -1;
+
+	private static final int MAGIC = 0x5a535749; // "ZSWI"
+	private static final short VERSION = 3;
+
+	private static final byte SYMBOL_FUNCTION = 0;
+	private static final byte SYMBOL_VARIABLE = 1;
+	private static final byte SYMBOL_CONSTANT = 2;
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param root The directory <code>import</code>s are relative to.
+	 * @param indexFile The file the index is saved to and loaded from.  This
+	 *        may be <code>null</code> if the index should not be persisted.
+	 * @param charset The encoding of library files.
+	 * @see #load()
+	 */
+	public WorkspaceIndex(Path root, Path indexFile, Charset charset) {
+		this.root = root.toAbsolutePath().normalize();
+		this.indexFile = indexFile;
+		this.charset = charset;
+		libraries = new HashMap<>();
+		keys = new HashMap<>();
+		cache = new LibraryCache();
+		hashes = new ConcurrentHashMap<>();
+		support = new SwingPropertyChangeSupport(this);
+	}
+
+
+	public void addPropertyChangeListener(String property, PropertyChangeListener listener) {
+		support.addPropertyChangeListener(property, listener);
+	}
+
+
+	/**
+	 * Returns the parsed contents of a library.  The returned AST is shared,
+	 * and must not be modified.
+	 *
+	 * @param importPath The path as it appears in the <code>import</code>
+	 *        statement.
+	 * @return The AST, or <code>null</code> if the library does not exist.
+	 */
+	ZScriptAst getAst(String importPath) {
+		String key = normalize(importPath);
+		Library library = getLibrary(key);
+		if (library==null) {
+			return null;
+		}
+		ZScriptAst ast = cache.getAst(key);
+		if (ast==null) { // Only its symbols were loaded from the saved index
+			try {
+				ast = parse(Files.readAllBytes(resolve(key)), charset);
+			} catch (IOException ioe) {
+				ioe.printStackTrace();
+				return null;
+			}
+			cache.put(key, ast, library.imports);
+		}
+		return ast;
+	}
+
+
+	/**
+	 * Returns the completions for the contents of a library.  These are
+	 * shared by all text areas.
+	 *
+	 * @param importPath The path as it appears in the <code>import</code>
+	 *        statement.
+	 * @return The completions, or <code>null</code> if the library does not
+	 *         exist.
+	 * @see #getImportClosure(String)
+	 */
+	CompletionIndex<Completion> getCompletions(String importPath) {
+		Library library = getLibrary(normalize(importPath));
+		return library!=null ? library.getCompletions() : null;
+	}
+
+
+	/**
+	 * Returns a library and all of the libraries it imports, directly or
+	 * not.  Each is checked for changes on disk.
+	 *
+	 * @param importPath The path as it appears in the <code>import</code>
+	 *        statement.
+	 * @return The keys of the library and those it imports, in
+	 *         depth-first order.  Some of these libraries may not exist.
+	 */
+	List<String> getImportClosure(String importPath) {
+
+		String key = normalize(importPath);
+
+		// The usual case - nothing in the closure has changed
+		List<String> closure = cache.getImportClosure(key);
+		if (closure!=null) {
+			for (String path : closure) {
+				getLibrary(path);
+			}
+			if (cache.getImportClosure(key)==closure) {
+				return closure;
+			}
+		}
+
+		closure = new ArrayList<>();
+		Set<String> visited = new HashSet<>();
+		Deque<String> todo = new ArrayDeque<>();
+		todo.push(key);
+		while (!todo.isEmpty()) {
+			String path = todo.pop();
+			if (visited.add(path)) {
+				closure.add(path);
+				Library library = getLibrary(path);
+				if (library!=null) {
+					for (int i=library.imports.length-1; i>=0; i--) {
+						todo.push(library.imports[i]);
+					}
+				}
+			}
+		}
+
+		cache.setImportClosure(key, closure);
+		return cache.getImportClosure(key);
+
+	}
+
+
+	/**
+	 * Returns the encoding of library files.
+	 *
+	 * @return The encoding.
+	 */
+	Charset getCharset() {
+		return charset;
+	}
+
+
+	static long hash(byte[] bytes) {
+		CRC32C crc = new CRC32C();
+		crc.update(bytes);
+		return crc.getValue();
+	}
+
+
+	/**
+	 * Returns a library, re-indexing it if it has changed on disk.
+	 *
+	 * @param key The library's key.
+	 * @return The library, or <code>null</code> if it does not exist.
+	 */
+	private Library getLibrary(String key) {
+
+		Library library = libraries.get(key);
+		long now = System.currentTimeMillis();
+		// While watching, each library under the root need only be checked
+		// once per session
+		if (library!=null && (watcher!=null && library.inRoot ?
+				library.lastChecked>0 : now-library.lastChecked<REVALIDATE_MILLIS)) {
+			return library.exists() ? library : null;
+		}
+
+		Path file = resolve(key);
+		try {
+
+			BasicFileAttributes attrs = Files.readAttributes(file,
+					BasicFileAttributes.class);
+			long modified = attrs.lastModifiedTime().toMillis();
+
+			if (library==null || !library.exists() ||
+					library.size!=attrs.size() || library.modified!=modified) {
+				byte[] bytes = Files.readAllBytes(file);
+				long hash = hash(bytes);
+				ZScriptAst ast = null;
+				if (library==null || !library.exists() || library.hash!=hash) {
+					ast = parse(bytes, charset);
+				}
+				library = update(key, ast, bytes.length, modified, hash);
+			}
+
+		} catch (NoSuchFileException nsfe) {
+			if (library==null || library.exists()) {
+				library = update(key, null, 0, 0, MISSING);
+			}
+		} catch (IOException ioe) {
+			ioe.printStackTrace();
+			return null;
+		}
+
+		library.lastChecked = now;
+		return library.exists() ? library : null;
+
+	}
+
+
+	/**
+	 * Returns the libraries a file imports.
+	 */
+	private String[] getImports(ZScriptAst ast) {
+		RootNode rootNode = ast.getRootNode();
+		String[] imports = new String[rootNode.getImportCount()];
+		for (int i=0; i<imports.length; i++) {
+			imports[i] = normalize(rootNode.getImport(i).getImport());
+		}
+		return imports;
+	}
+
+
+	/**
+	 * Returns the key a library is indexed under.  This is its path relative
+	 * to the root directory, with <code>.</code> and <code>..</code> segments
+	 * removed, or its absolute path if it is outside of the root.  Either
+	 * way, <code>/</code> is the separator.  This method is thread-safe.
+	 *
+	 * @param file The library, either absolute or relative to the root.
+	 * @return The key.
+	 */
+	String getKey(Path file) {
+		Path path = root.resolve(file).normalize();
+		if (path.startsWith(root)) {
+			path = root.relativize(path);
+		}
+		return path.toString().replace('\\', '/');
+	}
+
+
+	/**
+	 * Returns the root directory <code>import</code>s are resolved against.
+	 *
+	 * @return The root directory.
+	 */
+	public Path getRoot() {
+		return root;
+	}
+
+
+	/**
+	 * Returns the declaration of a function, constant or global variable in
+	 * one of the libraries imported by a file, directly or not.
+	 *
+	 * @param root The root of the file's AST.
+	 * @param name The name of the symbol.
+	 * @return The symbol, or <code>null</code> if it isn't found.
+	 */
+	Symbol getSymbol(RootNode root, String name) {
+		for (int i=0; i<root.getImportCount(); i++) {
+			for (String path : getImportClosure(root.getImport(i).getImport())) {
+				Library library = getLibrary(path);
+				Symbol symbol = library!=null ? library.getSymbol(name) : null;
+				if (symbol!=null) {
+					return symbol;
+				}
+			}
+		}
+		return null;
+	}
+
+
+	/**
+	 * Returns the libraries known to this index, whether they exist or not.
+	 * This method is thread-safe.
+	 *
+	 * @return The keys of the libraries.
+	 */
+	Set<String> getTrackedLibraries() {
+		return Collections.unmodifiableSet(hashes.keySet());
+	}
+
+
+	/**
+	 * Returns whether a library is under the root directory, and so is
+	 * covered by the watcher.
+	 */
+	private static boolean isInRoot(String key) {
+		return !Paths.get(key).isAbsolute();
+	}
+
+
+	/**
+	 * Returns whether a library is known to this index.  This method is
+	 * thread-safe.
+	 *
+	 * @param key The library's key.
+	 * @return Whether the library is known.
+	 */
+	boolean isTracked(String key) {
+		return hashes.containsKey(key);
+	}
+
+
+	/**
+	 * Returns whether a library's content is what this index last saw.
+	 * This method is thread-safe.
+	 *
+	 * @param key The library's key.
+	 * @param hash The hash of its content, or {@link #MISSING}.
+	 * @return Whether the hash matches.
+	 */
+	boolean isUpToDate(String key, long hash) {
+		Long known = hashes.get(key);
+		return known!=null && known==hash;
+	}
+
+
+	/**
+	 * Returns whether the root directory is being watched for changes.
+	 *
+	 * @return Whether watching is enabled.
+	 * @see #setWatchingEnabled(boolean)
+	 */
+	public boolean isWatchingEnabled() {
+		return watcher!=null;
+	}
+
+
+	/**
+	 * Loads a previously saved index.  Libraries are not re-read until they
+	 * are next used, and then only if they have changed.  If the index file
+	 * does not exist, or is from an incompatible version of this library,
+	 * nothing happens.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 * @see #save()
+	 */
+	public void load() throws IOException {
+
+		if (indexFile==null || !Files.isRegularFile(indexFile)) {
+			return;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+				Files.newInputStream(indexFile)))) {
+
+			if (in.readInt()!=MAGIC || in.readShort()!=VERSION) {
+				return; // Just a cache, so it'll be rebuilt
+			}
+
+			int count = in.readInt();
+			for (int i=0; i<count; i++) {
+				String path = in.readUTF();
+				long size = in.readLong();
+				long modified = in.readLong();
+				long hash = in.readLong();
+				String[] imports = new String[in.readShort()];
+				for (int j=0; j<imports.length; j++) {
+					imports[j] = in.readUTF();
+				}
+				Symbol[] symbols = new Symbol[in.readInt()];
+				for (int j=0; j<symbols.length; j++) {
+					symbols[j] = readSymbol(in, path);
+				}
+				Library library = new Library(path, symbols, imports,
+						isInRoot(path));
+				library.size = size;
+				library.modified = modified;
+				library.hash = hash;
+				libraries.put(path, library);
+				hashes.put(path, hash);
+				cache.put(path, null, imports);
+			}
+
+		}
+
+		dirty = false;
+
+	}
+
+
+	/**
+	 * Returns the key of the library an <code>import</code> refers to.
+	 *
+	 * @param importPath The path as it appears in the <code>import</code>
+	 *        statement.
+	 * @return The key.
+	 * @see #getKey(Path)
+	 */
+	private String normalize(String importPath) {
+		return keys.computeIfAbsent(importPath,
+				p -> getKey(Paths.get(p.replace('\\', '/'))));
+	}
+
+
+	/**
+	 * Parses a library.  This method is thread-safe.
+	 *
+	 * @param bytes The library's content.
+	 * @param charset The encoding of the content.
+	 * @return The library's AST.
+	 */
+	static ZScriptAst parse(byte[] bytes, Charset charset) {
+		return new AstFactory(charset.decode(ByteBuffer.wrap(bytes)),
+				(Parser)null).parse().getAst();
+	}
+
+
+	/**
+	 * Returns the top-level symbols in a library.
+	 */
+	private static Symbol[] getSymbols(ZScriptAst ast) {
+
+		RootNode rootNode = ast.getRootNode();
+		List<Symbol> symbols = new ArrayList<>();
+
+		for (int i=0; i<rootNode.getFunctionCount(); i++) {
+			FunctionDecNode function = rootNode.getFunction(i);
+			String[] params = new String[function.getArgumentCount() * 2];
+			for (int j=0; j<function.getArgumentCount(); j++) {
+				VariableDecNode arg = function.getArgument(j);
+				params[j*2] = arg.getType();
+				params[j*2+1] = arg.getName();
+			}
+			symbols.add(new Symbol(SYMBOL_FUNCTION, function.getName(),
+					function.getType(), params, function.getStartOffset()));
+		}
+
+		for (int i=0; i<rootNode.getVariableCount(); i++) {
+			VariableDecNode var = rootNode.getVariableDec(i);
+			symbols.add(new Symbol(var.isConstant() ? SYMBOL_CONSTANT : SYMBOL_VARIABLE,
+					var.getName(), var.getType(), null, var.getStartOffset()));
+		}
+
+		return symbols.toArray(new Symbol[0]);
+
+	}
+
+
+	/**
+	 * Installs libraries re-parsed by the watcher thread, then notifies
+	 * listeners of all of them at once.
+	 *
+	 * @param changes The changed libraries.
+	 */
+	void publish(List<Change> changes) {
+
+		Set<String> changed = new HashSet<>();
+		long now = System.currentTimeMillis();
+
+		for (Change change : changes) {
+			Library library = libraries.get(change.key);
+			boolean exists = change.hash!=MISSING;
+			if (library!=null && library.exists()==exists && library.hash==change.hash) {
+				continue; // Already picked up on the EDT
+			}
+			update(change.key, change.ast, change.size, change.modified,
+					change.hash).lastChecked = now;
+			changed.add(change.key);
+			changed.addAll(cache.getTransitiveDependents(change.key));
+		}
+
+		if (!changed.isEmpty()) {
+			support.firePropertyChange(PROPERTY_LIBRARIES, null,
+					Collections.unmodifiableSet(changed));
+		}
+
+	}
+
+
+	private static Symbol readSymbol(DataInputStream in, String library)
+			throws IOException {
+		byte kind = in.readByte();
+		String name = in.readUTF();
+		String type = in.readUTF();
+		int offset = in.readInt();
+		String[] params = null;
+		short paramCount = in.readShort();
+		if (paramCount>-1) {
+			params = new String[paramCount * 2];
+			for (int i=0; i<params.length; i++) {
+				params[i] = in.readUTF();
+			}
+		}
+		Symbol symbol = new Symbol(kind, name, type, params, offset);
+		symbol.library = library;
+		return symbol;
+	}
+
+
+	public void removePropertyChangeListener(String property, PropertyChangeListener listener) {
+		support.removePropertyChangeListener(property, listener);
+	}
+
+
+	/**
+	 * Returns the file an <code>import</code> refers to.
+	 *
+	 * @param importPath The path as it appears in the <code>import</code>
+	 *        statement, or a library's key.
+	 * @return The file.  This may not exist.
+	 */
+	public Path resolve(String importPath) {
+		return root.resolve(importPath.replace('\\', '/')).normalize();
+	}
+
+
+	/**
+	 * Saves this index, if it has changed since it was loaded or last
+	 * saved.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 * @see #load()
+	 */
+	public void save() throws IOException {
+
+		if (indexFile==null || !dirty) {
+			return;
+		}
+
+		List<Library> existing = new ArrayList<>();
+		for (Library library : libraries.values()) {
+			if (library.exists()) {
+				existing.add(library);
+			}
+		}
+
+		// Write to a temporary file so a crash can't leave a corrupt index
+		Path temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				Files.newOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			out.writeInt(existing.size());
+			for (Library library : existing) {
+				out.writeUTF(library.path);
+				out.writeLong(library.size);
+				out.writeLong(library.modified);
+				out.writeLong(library.hash);
+				out.writeShort(library.imports.length);
+				for (String imported : library.imports) {
+					out.writeUTF(imported);
+				}
+				out.writeInt(library.symbols.length);
+				for (Symbol symbol : library.symbols) {
+					writeSymbol(out, symbol);
+				}
+			}
+		}
+		try {
+			Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException amnse) {
+			Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		dirty = false;
+
+	}
+
+
+	/**
+	 * Toggles whether the root directory is watched for changes made outside
+	 * the editor.  While watching, libraries are not checked for changes
+	 * when they are looked up.
+	 *
+	 * Libraries outside of the root directory are still checked on lookup.
+	 *
+	 * @param watching Whether to watch the root directory.
+	 * @throws IOException If the directory cannot be watched.
+	 * @see #isWatchingEnabled()
+	 * @see #PROPERTY_LIBRARIES
+	 */
+	public void setWatchingEnabled(boolean watching) throws IOException {
+		if (watching && watcher==null) {
+			watcher = new WorkspaceWatcher(this);
+			watcher.start();
+		}
+		else if (!watching && watcher!=null) {
+			watcher.stop();
+			watcher = null;
+		}
+	}
+
+
+	/**
+	 * Installs a new version of a library.
+	 *
+	 * @param key The library's key.
+	 * @param ast The library's new AST, or <code>null</code> if only its
+	 *        modification time changed, or it does not exist.
+	 * @param size The size of the library.
+	 * @param modified The modification time of the library.
+	 * @param hash The hash of its content, or {@link #MISSING}.
+	 * @return The library.
+	 */
+	private Library update(String key, ZScriptAst ast, long size,
+			long modified, long hash) {
+
+		Library library = libraries.get(key);
+		if (ast!=null) {
+			library = new Library(key, getSymbols(ast), getImports(ast),
+					isInRoot(key));
+			libraries.put(key, library);
+			cache.put(key, ast, library.imports);
+		}
+		else if (hash==MISSING) {
+			library = new Library(key, null, new String[0], isInRoot(key));
+			libraries.put(key, library);
+			cache.put(key, null, library.imports);
+		}
+
+		library.size = size;
+		library.modified = modified;
+		library.hash = hash;
+		hashes.put(key, hash);
+		dirty = true;
+		return library;
+
+	}
+
+
+	private static void writeSymbol(DataOutputStream out, Symbol symbol)
+			throws IOException {
+		out.writeByte(symbol.kind);
+		out.writeUTF(symbol.name);
+		out.writeUTF(symbol.type);
+		out.writeInt(symbol.offset);
+		if (symbol.params!=null) {
+			out.writeShort(symbol.params.length / 2);
+			for (String param : symbol.params) {
+				out.writeUTF(param);
+			}
+		}
+		else {
+			out.writeShort(-1);
+		}
+	}
+
+
+	/**
+	 * A library re-read by the watcher thread.
+	 */
+	static final class Change {
+
+		private String key;
+		private ZScriptAst ast;
+		private long size;
+		private long modified;
+		private long hash;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param key The library's key.
+		 * @param ast The library's AST, or <code>null</code> if it was
+		 *        deleted.
+		 * @param size The size of the library.
+		 * @param modified The modification time of the library.
+		 * @param hash The hash of its content, or {@link #MISSING}.
+		 */
+		Change(String key, ZScriptAst ast, long size, long modified,
+				long hash) {
+			this.key = key;
+			this.ast = ast;
+			this.size = size;
+			this.modified = modified;
+			this.hash = hash;
+		}
+
+	}
+
+
+	/**
+	 * An indexed library.
+	 */
+	private static final class Library {
+
+		private String path;
+		private long size;
+		private long modified;
+		private long hash;
+		private long lastChecked;
+		private String[] imports;
+
+		/**
+		 * Whether the library is under the root directory, and so is
+		 * covered by the watcher.
+		 */
+		private boolean inRoot;
+
+		/**
+		 * The library's symbols, or <code>null</code> if it does not exist.
+		 */
+		private Symbol[] symbols;
+
+		/**
+		 * Created the first time the library is used in this session.
+		 */
+		private CompletionIndex<Completion> completions;
+		private Map<String, Symbol> symbolsByName;
+
+		private Library(String path, Symbol[] symbols, String[] imports,
+				boolean inRoot) {
+			this.path = path;
+			this.symbols = symbols;
+			this.imports = imports;
+			this.inRoot = inRoot;
+			if (symbols!=null) {
+				for (Symbol symbol : symbols) {
+					symbol.library = path;
+				}
+			}
+		}
+
+		private boolean exists() {
+			return symbols!=null;
+		}
+
+		private CompletionIndex<Completion> getCompletions() {
+			if (completions==null) {
+				CompletionProvider owner = BuiltInCatalog.get().getOwner();
+				List<Completion> list = new ArrayList<>(symbols.length);
+				for (Symbol symbol : symbols) {
+					list.add(symbol.createCompletion(owner));
+				}
+				completions = new CompletionIndex<>(list);
+			}
+			return completions;
+		}
+
+		private Symbol getSymbol(String name) {
+			if (symbolsByName==null) {
+				symbolsByName = new HashMap<>();
+				for (Symbol symbol : symbols) {
+					symbolsByName.putIfAbsent(symbol.name, symbol);
+				}
+			}
+			return symbolsByName.get(name);
+		}
+
+	}
+
+
+	/**
+	 * A top-level function, constant or global variable in a library.
+	 */
+	static final class Symbol {
+
+		private byte kind;
+		private String name;
+		private String type;
+		private int offset;
+		private String library;
+
+		/**
+		 * The type and name of each parameter, in order, or
+		 * <code>null</code> if this isn't a function.
+		 */
+		private String[] params;
+
+		private Symbol(byte kind, String name, String type, String[] params,
+				int offset) {
+			this.kind = kind;
+			this.name = name;
+			this.type = type;
+			this.params = params;
+			this.offset = offset;
+		}
+
+		private Completion createCompletion(CompletionProvider owner) {
+			if (kind==SYMBOL_FUNCTION) {
+				ZScriptFunctionCompletion fc = new ZScriptFunctionCompletion(
+						owner, name, type);
+				if (params.length>0) {
+					List<Parameter> paramList = new ArrayList<>(params.length/2);
+					for (int i=0; i<params.length; i+=2) {
+						paramList.add(new Parameter(params[i], params[i+1]));
+					}
+					fc.setParams(paramList);
+				}
+				fc.setDefinedIn(library);
+				return fc;
+			}
+			ZScriptVariableCompletion vc = new ZScriptVariableCompletion(owner,
+					name, type, kind==SYMBOL_CONSTANT);
+			vc.setDefinedIn(library);
+			return vc;
+		}
+
+		/**
+		 * Returns the <code>import</code> path of the library this symbol
+		 * is declared in.
+		 *
+		 * @return The library.
+		 */
+		String getLibrary() {
+			return library;
+		}
+
+		/**
+		 * Returns the name of this symbol.
+		 *
+		 * @return The name.
+		 */
+		String getName() {
+			return name;
+		}
+
+	}
+
+
+}
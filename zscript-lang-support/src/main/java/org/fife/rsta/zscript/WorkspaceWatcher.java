@@ -0,0 +1,232 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
+
+import org.fife.rsta.zscript.ast.ZScriptAst;
+
+
+/**
+ * Watches the root directory of a {@link WorkspaceIndex} for changes made
+ * outside the editor, e.g. by a version control checkout.  Events are
+ * collected until there has been no change for a moment, so a checkout
+ * touching many files results in a single batch.  The libraries in the
+ * batch that the index knows about and whose content has changed are then
+ * re-parsed on the watcher's thread, and the results are handed to the
+ * index on the EDT all at once.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see WorkspaceIndex#setWatchingEnabled(boolean)
+ */
+final class WorkspaceWatcher implements Runnable {
+
+	private WorkspaceIndex index;
+	private WatchService watchService;
+	private Map<WatchKey, Path> keyToDir;
+	private Thread thread;
+
+	/**
+	 * How long to wait for more events before processing a batch.
+	 */
+	private static final long QUIET_MILLIS = 300;
+
+
+	/**
+	 * Constructor.  Call {@link #start()} to start watching.
+	 *
+	 * @param index The index to update.
+	 * @throws IOException If the root directory cannot be watched.
+	 */
+	WorkspaceWatcher(WorkspaceIndex index) throws IOException {
+		this.index = index;
+		watchService = FileSystems.getDefault().newWatchService();
+		keyToDir = new HashMap<>();
+		register(index.getRoot());
+	}
+
+
+	/**
+	 * Adds the files changed by a batch of events to a set.
+	 *
+	 * @return Whether events were lost and everything should be re-checked.
+	 */
+	private boolean addChangedFiles(WatchKey key, Set<Path> changed) {
+
+		Path dir = keyToDir.get(key);
+		boolean overflow = false;
+
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind()==StandardWatchEventKinds.OVERFLOW) {
+				overflow = true;
+				continue;
+			}
+			Path file = dir.resolve((Path)event.context());
+			if (event.kind()==StandardWatchEventKinds.ENTRY_CREATE &&
+					Files.isDirectory(file)) {
+				try {
+					register(file);
+				} catch (IOException ioe) {
+					ioe.printStackTrace();
+				}
+			}
+			changed.add(file);
+		}
+
+		if (!key.reset()) { // Directory was deleted
+			keyToDir.remove(key);
+		}
+		return overflow;
+
+	}
+
+
+	/**
+	 * Re-reads and re-parses a library, if its content has changed.
+	 *
+	 * @param key The library's key.
+	 * @return The change, or <code>null</code> if it didn't really change.
+	 */
+	private WorkspaceIndex.Change createChange(String key) {
+
+		Path file = index.resolve(key);
+		try {
+			BasicFileAttributes attrs = Files.readAttributes(file,
+					BasicFileAttributes.class);
+			byte[] bytes = Files.readAllBytes(file);
+			long hash = WorkspaceIndex.hash(bytes);
+			if (index.isUpToDate(key, hash)) {
+				return null;
+			}
+			ZScriptAst ast = WorkspaceIndex.parse(bytes, index.getCharset());
+			return new WorkspaceIndex.Change(key, ast, bytes.length,
+					attrs.lastModifiedTime().toMillis(), hash);
+		} catch (NoSuchFileException nsfe) {
+			return index.isUpToDate(key, WorkspaceIndex.MISSING) ? null :
+					new WorkspaceIndex.Change(key, null, 0, 0, WorkspaceIndex.MISSING);
+		} catch (IOException | RuntimeException e) {
+			e.printStackTrace(); // Picked up again on its next change
+			return null;
+		}
+
+	}
+
+
+	/**
+	 * Starts watching the directory and any subdirectories.
+	 */
+	private void register(Path dir) throws IOException {
+		Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path d,
+					BasicFileAttributes attrs) throws IOException {
+				WatchKey key = d.register(watchService,
+						StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_MODIFY,
+						StandardWatchEventKinds.ENTRY_DELETE);
+				keyToDir.put(key, d);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+
+	@Override
+	public void run() {
+
+		try {
+
+			while (!Thread.currentThread().isInterrupted()) {
+
+				Set<Path> changed = new LinkedHashSet<>();
+				boolean overflow = addChangedFiles(watchService.take(), changed);
+				WatchKey key;
+				while ((key=watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS))!=null) {
+					overflow |= addChangedFiles(key, changed);
+				}
+
+				Set<String> libraries = new LinkedHashSet<>();
+				if (overflow) {
+					libraries.addAll(index.getTrackedLibraries());
+				}
+				for (Path file : changed) {
+					String library = index.getKey(file);
+					if (index.isTracked(library)) {
+						libraries.add(library);
+					}
+				}
+
+				List<WorkspaceIndex.Change> changes = new ArrayList<>();
+				for (String library : libraries) {
+					WorkspaceIndex.Change change = createChange(library);
+					if (change!=null) {
+						changes.add(change);
+					}
+				}
+				if (!changes.isEmpty()) {
+					SwingUtilities.invokeLater(() -> index.publish(changes));
+				}
+
+			}
+
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			// stop() was called
+		}
+
+	}
+
+
+	/**
+	 * Starts watching on a background thread.
+	 *
+	 * @see #stop()
+	 */
+	void start() {
+		thread = new Thread(this, "ZScriptWorkspaceWatcher");
+		thread.setDaemon(true);
+		thread.setPriority(Thread.NORM_PRIORITY - 1);
+		thread.start();
+	}
+
+
+	/**
+	 * Stops watching.  Any batch being processed is discarded.
+	 *
+	 * @see #start()
+	 */
+	void stop() {
+		thread.interrupt();
+		try {
+			watchService.close();
+		} catch (IOException ioe) {
+			ioe.printStackTrace();
+		}
+	}
+
+
+}
@@ -6,6 +6,9 @@
  */
 package org.fife.rsta.zscript;
 
+import java.awt.Color;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import javax.swing.Icon;
 import javax.swing.JList;
 
@@ -27,6 +30,21 @@ class ZScriptCellRenderer extends CompletionCellRenderer {
 
 	private Icon emptyIcon;
 
+	/**
+	 * The labels built for function and variable completions when not
+	 * selected and selected, so they aren't rebuilt each time a cell is
+	 * painted.  These are cleared when the colors or the "show types"
+	 * property change.
+	 */
+	private Map<Completion, String> labels;
+	private Map<Completion, String> selectedLabels;
+
+	/**
+	 * The maximum number of labels cached before the caches are cleared,
+	 * so completions that are no longer used aren't held onto forever.
+	 */
+	private static final int MAX_CACHED_LABELS = 4096;
+
 
 	/**
 	 * Constructor.
@@ -36,6 +54,35 @@ class ZScriptCellRenderer extends CompletionCellRenderer {
 	}
 
 
+	/**
+	 * Caches this renderer's current text as a completion's label.
+	 *
+	 * @param c The completion.
+	 * @param selected Whether the completion is selected.
+	 * @see #useCachedLabel(Completion, boolean)
+	 */
+	private void cacheLabel(Completion c, boolean selected) {
+		if (labels==null) {
+			labels = new IdentityHashMap<>();
+			selectedLabels = new IdentityHashMap<>();
+		}
+		Map<Completion, String> cache = selected ? selectedLabels : labels;
+		if (cache.size()>=MAX_CACHED_LABELS) {
+			cache.clear();
+		}
+		cache.put(c, getText());
+	}
+
+
+	/**
+	 * Discards all cached labels.
+	 */
+	private void clearLabels() {
+		labels = null;
+		selectedLabels = null;
+	}
+
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -43,7 +90,11 @@ class ZScriptCellRenderer extends CompletionCellRenderer {
 	protected void prepareForFunctionCompletion(JList list,
 			FunctionCompletion fc, int index, boolean selected,
 			boolean hasFocus) {
-		super.prepareForFunctionCompletion(list, fc, index, selected, hasFocus);
+		if (!useCachedLabel(fc, selected)) {
+			super.prepareForFunctionCompletion(list, fc, index, selected,
+					hasFocus);
+			cacheLabel(fc, selected);
+		}
 		Icon icon = fc.getIcon();
 		setIcon(icon!=null ? icon : emptyIcon);
 	}
@@ -79,10 +130,75 @@ class ZScriptCellRenderer extends CompletionCellRenderer {
 	protected void prepareForVariableCompletion(JList list,
 			VariableCompletion vc, int index, boolean selected,
 			boolean hasFocus) {
-		super.prepareForVariableCompletion(list, vc, index, selected, hasFocus);
+		if (!useCachedLabel(vc, selected)) {
+			super.prepareForVariableCompletion(list, vc, index, selected,
+					hasFocus);
+			cacheLabel(vc, selected);
+		}
 		Icon icon = vc.getIcon();
 		setIcon(icon!=null ? icon : emptyIcon);
 	}
 
 
+	/**
+	 * Overridden to discard cached labels.
+	 */
+	@Override
+	public void setParamColor(Color color) {
+		super.setParamColor(color);
+		clearLabels();
+	}
+
+
+	/**
+	 * Overridden to discard cached labels.
+	 */
+	@Override
+	public void setShowTypes(boolean show) {
+		super.setShowTypes(show);
+		clearLabels();
+	}
+
+
+	/**
+	 * Overridden to discard cached labels.
+	 */
+	@Override
+	public void setTypeColor(Color color) {
+		super.setTypeColor(color);
+		clearLabels();
+	}
+
+
+	/**
+	 * Overridden to discard cached labels, since their colors may depend
+	 * on the Look and Feel.
+	 */
+	@Override
+	public void updateUI() {
+		super.updateUI();
+		clearLabels();
+	}
+
+
+	/**
+	 * Sets this renderer's text to a completion's cached label, if any.
+	 *
+	 * @param c The completion.
+	 * @param selected Whether the completion is selected.
+	 * @return Whether a cached label was found.
+	 * @see #cacheLabel(Completion, boolean)
+	 */
+	private boolean useCachedLabel(Completion c, boolean selected) {
+		if (labels!=null) {
+			String label = (selected ? selectedLabels : labels).get(c);
+			if (label!=null) {
+				setText(label);
+				return true;
+			}
+		}
+		return false;
+	}
+
+
 }
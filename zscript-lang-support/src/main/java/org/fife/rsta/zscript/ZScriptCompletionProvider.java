@@ -7,6 +7,7 @@
 package org.fife.rsta.zscript;
 
 import java.util.List;
+import java.util.Map;
 
 import org.fife.rsta.ac.ShorthandCompletionCache;
 import org.fife.rsta.zscript.ast.ZScriptAst;
@@ -35,7 +36,7 @@ public class ZScriptCompletionProvider extends LanguageAwareCompletionProvider {
 				createCommentCompletionProvider();
 		ShorthandCompletionCache cache = new ZScriptShorthandCompletionCache(
 				codeProvider, commentsProvider);
-		setDefaultCompletionProvider(createCodeCompletionProvider());
+		setDefaultCompletionProvider(codeProvider);
 		setStringCompletionProvider(createStringCompletionProvider());
 		setCommentCompletionProvider(commentsProvider);
 		setShorthandCompletionCache(cache);
@@ -69,11 +70,34 @@ public class ZScriptCompletionProvider extends LanguageAwareCompletionProvider {
 	}
 
 
+	/**
+	 * Returns the functions and constants declared or imported by the
+	 * current AST, for highlighting.
+	 *
+	 * @return The identifiers, each mapped to a token type, or
+	 *         <code>null</code> if there is no AST yet.
+	 */
+	Map<String, Integer> getUserIdentifiers() {
+		return getCodeCompletionProvider().getUserIdentifiers();
+	}
+
+
 	public void setAst(ZScriptAst ast) {
 		getCodeCompletionProvider().setAst(ast);
 	}
 
 
+	/**
+	 * Sets the index used to find the contents of user <code>.zh</code>
+	 * libraries.
+	 *
+	 * @param index The index, or <code>null</code> for none.
+	 */
+	public void setWorkspaceIndex(WorkspaceIndex index) {
+		getCodeCompletionProvider().setWorkspaceIndex(index);
+	}
+
+
 	/**
 	 * Set short hand completion cache (template and comment completions).
 	 */
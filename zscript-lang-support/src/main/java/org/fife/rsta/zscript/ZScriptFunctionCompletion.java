@@ -21,6 +21,12 @@ public class ZScriptFunctionCompletion extends FunctionCompletion {
 
 	private IconData iconData;
 
+	/**
+	 * If non-<code>null</code>, the short description has not been decoded
+	 * yet.
+	 */
+	private BinaryCatalog.LazyDescription lazyDesc;
+
 
 	public ZScriptFunctionCompletion(CompletionProvider provider,
 			FunctionDecNode node) {
@@ -42,7 +48,7 @@ public class ZScriptFunctionCompletion extends FunctionCompletion {
 	public ZScriptFunctionCompletion(CompletionProvider provider,
 			String name, String type) {
 		super(provider, name, type);
-		iconData = new IconData(IconFactory.METHOD_PUBLIC_ICON, false);
+		iconData = IconData.METHOD;
 	}
 
 
@@ -52,4 +58,25 @@ public class ZScriptFunctionCompletion extends FunctionCompletion {
 	}
 
 
+	@Override
+	public String getShortDescription() {
+		if (lazyDesc!=null) {
+			setShortDescription(lazyDesc.decode());
+			lazyDesc = null;
+		}
+		return super.getShortDescription();
+	}
+
+
+	/**
+	 * Sets the short description to be decoded from a compiled catalog the
+	 * first time it is needed.
+	 *
+	 * @param desc The description.
+	 */
+	void setLazyShortDescription(BinaryCatalog.LazyDescription desc) {
+		lazyDesc = desc;
+	}
+
+
 }
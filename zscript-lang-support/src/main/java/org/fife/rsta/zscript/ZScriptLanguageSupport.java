@@ -18,10 +18,12 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import javax.swing.ActionMap;
 import javax.swing.InputMap;
 import javax.swing.KeyStroke;
 import javax.swing.ListCellRenderer;
+import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import javax.swing.event.CaretEvent;
 import javax.swing.event.CaretListener;
@@ -30,6 +32,7 @@ import javax.swing.text.BadLocationException;
 import org.fife.rsta.ac.AbstractLanguageSupport;
 import org.fife.rsta.ac.GoToMemberAction;
 import org.fife.rsta.zscript.ast.BodiedNode;
+import org.fife.rsta.zscript.ast.RootNode;
 import org.fife.rsta.zscript.ast.ZScriptAst;
 import org.fife.rsta.zscript.tree.ZScriptOutlineTree;
 import org.fife.ui.autocomplete.AutoCompletion;
@@ -53,6 +56,27 @@ public class ZScriptLanguageSupport extends AbstractLanguageSupport {
 
 	private DocDisplayer docDisplayer;
 
+	/**
+	 * Whether text areas are parsed on a background thread.
+	 */
+	private boolean backgroundParsing;
+
+	/**
+	 * Whether only the edited member is re-parsed, when possible.
+	 */
+	private boolean incrementalParsing;
+
+	/**
+	 * Whether identifiers are styled by what they refer to.
+	 */
+	private boolean semanticHighlighting;
+
+	/**
+	 * Indexes user <code>.zh</code> libraries, if any.
+	 */
+	private WorkspaceIndex workspaceIndex;
+	private PropertyChangeListener librariesListener;
+
 
 	public ZScriptLanguageSupport() {
 		setParameterAssistanceEnabled(true);
@@ -60,6 +84,7 @@ public class ZScriptLanguageSupport extends AbstractLanguageSupport {
 		setAutoActivationEnabled(true);
 		setAutoActivationDelay(0);
 		parserToInfoMap = new HashMap<>();
+		librariesListener = e -> librariesChanged((Set<?>)e.getNewValue());
 	}
 
 
@@ -125,6 +150,7 @@ public class ZScriptLanguageSupport extends AbstractLanguageSupport {
 	public void install(RSyntaxTextArea textArea) {
 
 		ZScriptCompletionProvider provider = new ZScriptCompletionProvider();
+		provider.setWorkspaceIndex(workspaceIndex);
 		// We use a custom auto-completion.
 		//AutoCompletion ac = createAutoCompletion(provider);
 		AutoCompletion ac = new ZScriptAutoCompletion(provider, textArea);
@@ -142,10 +168,16 @@ public class ZScriptLanguageSupport extends AbstractLanguageSupport {
 		ZScriptScopeListener scopeListener = new ZScriptScopeListener(textArea);
 
 		ZScriptParser parser = new ZScriptParser();
+		parser.setBackgroundParsingEnabled(backgroundParsing);
+		parser.setIncrementalParsingEnabled(incrementalParsing);
 		textArea.addParser(parser);
 		textArea.putClientProperty(PROPERTY_LANGUAGE_PARSER, parser);
 
-		Info info = new Info(textArea, provider, parser, scopeListener);
+		// Our own token maker, so it can highlight the functions this
+		// document declares and imports
+		Info info = new Info(textArea, provider, parser, scopeListener,
+				new ZScriptTokenMaker());
+		info.setSemanticHighlightingEnabled(semanticHighlighting);
 		parserToInfoMap.put(parser, info);
 
 		installKeyboardShortcuts(textArea);
@@ -155,6 +187,52 @@ public class ZScriptLanguageSupport extends AbstractLanguageSupport {
 	}
 
 
+	/**
+	 * Returns the index of user <code>.zh</code> libraries.
+	 *
+	 * @return The index, or <code>null</code> if there is none.
+	 * @see #setWorkspaceIndex(WorkspaceIndex)
+	 */
+	public WorkspaceIndex getWorkspaceIndex() {
+		return workspaceIndex;
+	}
+
+
+	/**
+	 * Returns whether text areas are parsed on a background thread.
+	 *
+	 * @return Whether background parsing is enabled.
+	 * @see #setBackgroundParsingEnabled(boolean)
+	 */
+	public boolean isBackgroundParsingEnabled() {
+		return backgroundParsing;
+	}
+
+
+	/**
+	 * Returns whether only the edited function or script is re-parsed, when
+	 * possible.
+	 *
+	 * @return Whether incremental parsing is enabled.
+	 * @see #setIncrementalParsingEnabled(boolean)
+	 */
+	public boolean isIncrementalParsingEnabled() {
+		return incrementalParsing;
+	}
+
+
+	/**
+	 * Returns whether identifiers are styled by what they refer to, e.g.
+	 * global variables differently from local ones.
+	 *
+	 * @return Whether semantic highlighting is enabled.
+	 * @see #setSemanticHighlightingEnabled(boolean)
+	 */
+	public boolean isSemanticHighlightingEnabled() {
+		return semanticHighlighting;
+	}
+
+
 	/**
 	 * Installs extra keyboard shortcuts supported by this language support.
 	 *
@@ -173,11 +251,132 @@ public class ZScriptLanguageSupport extends AbstractLanguageSupport {
 	}
 
 
+	/**
+	 * Called when libraries in the workspace index change on disk.  Text
+	 * areas that import any of them are re-parsed, so anything derived from
+	 * their ASTs is refreshed.  Completions and links need nothing done,
+	 * since they look libraries up in the index each time.
+	 *
+	 * @param libraries The changed libraries and their dependents.
+	 */
+	private void librariesChanged(Set<?> libraries) {
+		for (Map.Entry<ZScriptParser, Info> entry : parserToInfoMap.entrySet()) {
+			ZScriptAst ast = entry.getKey().getAst();
+			if (ast!=null && importsAny(ast.getRootNode(), libraries)) {
+				entry.getKey().invalidate(); // Else the last result is reused
+				entry.getValue().textArea.forceReparsing(entry.getKey());
+			}
+		}
+	}
+
+
+	private boolean importsAny(RootNode root, Set<?> libraries) {
+		for (int i=0; i<root.getImportCount(); i++) {
+			String library = root.getImport(i).getImport();
+			for (String imported : workspaceIndex.getImportClosure(library)) {
+				if (libraries.contains(imported)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+
+	/**
+	 * Toggles whether text areas are parsed on a background thread.  This
+	 * keeps typing responsive in large files, at the cost of the AST (and
+	 * parser notices) briefly lagging behind the document.  This affects
+	 * both text areas that already have this language support installed
+	 * and those installed later.
+	 *
+	 * @param background Whether to parse on a background thread.
+	 * @see #isBackgroundParsingEnabled()
+	 */
+	public void setBackgroundParsingEnabled(boolean background) {
+		if (background!=backgroundParsing) {
+			backgroundParsing = background;
+			for (ZScriptParser parser : parserToInfoMap.keySet()) {
+				parser.setBackgroundParsingEnabled(background);
+			}
+		}
+	}
+
+
+	/**
+	 * Toggles whether only the function or script containing an edit is
+	 * re-parsed, when possible.  This only applies when parsing
+	 * synchronously.  This affects both text areas that already have this
+	 * language support installed and those installed later.
+	 *
+	 * @param incremental Whether to parse incrementally.
+	 * @see #isIncrementalParsingEnabled()
+	 * @see #setBackgroundParsingEnabled(boolean)
+	 */
+	public void setIncrementalParsingEnabled(boolean incremental) {
+		if (incremental!=incrementalParsing) {
+			incrementalParsing = incremental;
+			for (ZScriptParser parser : parserToInfoMap.keySet()) {
+				parser.setIncrementalParsingEnabled(incremental);
+			}
+		}
+	}
+
+
+	/**
+	 * Toggles whether identifiers are styled by what they refer to, e.g.
+	 * global variables differently from local ones.  The styles are
+	 * computed on a background thread after each parse.  This affects both
+	 * text areas that already have this language support installed and
+	 * those installed later.
+	 *
+	 * @param enabled Whether semantic highlighting is enabled.
+	 * @see #isSemanticHighlightingEnabled()
+	 */
+	public void setSemanticHighlightingEnabled(boolean enabled) {
+		if (enabled!=semanticHighlighting) {
+			semanticHighlighting = enabled;
+			for (Map.Entry<ZScriptParser, Info> entry : parserToInfoMap.entrySet()) {
+				Info info = entry.getValue();
+				info.setSemanticHighlightingEnabled(enabled);
+				if (enabled && entry.getKey().getAst()!=null) {
+					info.semanticHighlighter.update(entry.getKey().getAst());
+				}
+			}
+		}
+	}
+
+
 	public void setDocDisplayer(DocDisplayer displayer) {
 		this.docDisplayer = displayer;
 	}
 
 
+	/**
+	 * Sets the index used to offer completions for, and link to, the
+	 * functions and constants in user <code>.zh</code> libraries imported
+	 * by the code being edited.  This affects both text areas that already
+	 * have this language support installed and those installed later.
+	 *
+	 * @param index The index, or <code>null</code> for none.
+	 * @see #getWorkspaceIndex()
+	 */
+	public void setWorkspaceIndex(WorkspaceIndex index) {
+		if (workspaceIndex!=null) {
+			workspaceIndex.removePropertyChangeListener(
+					WorkspaceIndex.PROPERTY_LIBRARIES, librariesListener);
+		}
+		workspaceIndex = index;
+		if (index!=null) {
+			index.addPropertyChangeListener(WorkspaceIndex.PROPERTY_LIBRARIES,
+					librariesListener);
+		}
+		for (Info info : parserToInfoMap.values()) {
+			info.provider.setWorkspaceIndex(index);
+		}
+	}
+
+
 	@Override
 	public void uninstall(RSyntaxTextArea textArea) {
 
@@ -189,9 +388,12 @@ public class ZScriptLanguageSupport extends AbstractLanguageSupport {
 			parser.removePropertyChangeListener(
 					ZScriptParser.PROPERTY_AST, info);
 			info.scopeListener.uninstall();
+			info.setSemanticHighlightingEnabled(false);
+			info.uninstallTokenMaker();
 		}
 		if (parser!=null) {
 			textArea.removeParser(parser);
+			parser.dispose();
 		}
 		textArea.putClientProperty(PROPERTY_LANGUAGE_PARSER, null);
 
@@ -208,18 +410,40 @@ public class ZScriptLanguageSupport extends AbstractLanguageSupport {
 	 */
 	private static class Info implements PropertyChangeListener {
 
+		private RSyntaxTextArea textArea;
 		private ZScriptCompletionProvider provider;
 		private ZScriptScopeListener scopeListener;
+		private ZScriptTokenMaker tokenMaker;
+		private ZScriptParser parser;
+		private SemanticHighlighter semanticHighlighter;
+
+		/**
+		 * The syntax style of the document before our token maker was
+		 * installed, restored when this language support is uninstalled.
+		 */
+		private String previousSyntaxStyle;
 
 		Info(RSyntaxTextArea textArea, ZScriptCompletionProvider provider,
-					ZScriptParser parser, ZScriptScopeListener scopeListener) {
+					ZScriptParser parser, ZScriptScopeListener scopeListener,
+					ZScriptTokenMaker tokenMaker) {
+			this.textArea = textArea;
 			this.provider = provider;
 			this.scopeListener = scopeListener;
+			this.tokenMaker = tokenMaker;
+			this.parser = parser;
+			installTokenMaker();
 			parser.addPropertyChangeListener(ZScriptParser.PROPERTY_AST, this);
+			textArea.addPropertyChangeListener("document", this);
+		}
+
+		private void installTokenMaker() {
+			RSyntaxDocument doc = (RSyntaxDocument)textArea.getDocument();
+			previousSyntaxStyle = doc.getSyntaxStyle();
+			doc.setSyntaxStyle(tokenMaker);
 		}
 
 		/**
-		 * Called when a text area is re-parsed.
+		 * Called when a text area is re-parsed, or given a new document.
 		 *
 		 * @param e The event.
 		 */
@@ -228,18 +452,70 @@ public class ZScriptLanguageSupport extends AbstractLanguageSupport {
 
 			String name = e.getPropertyName();
 
-			if (ZScriptParser.PROPERTY_AST.equals(name)) {
+			if ("document".equals(name)) {
+				restoreSyntaxStyle((RSyntaxDocument)e.getOldValue());
+				// The text area takes on the new document's syntax style
+				// after this event, so ours must be installed after that
+				SwingUtilities.invokeLater(() -> {
+					if (textArea.getDocument()==e.getNewValue() &&
+							textArea.getClientProperty(PROPERTY_LANGUAGE_PARSER)==parser) {
+						installTokenMaker();
+					}
+				});
+			}
+
+			else if (ZScriptParser.PROPERTY_AST.equals(name)) {
 				provider.setAst((ZScriptAst)e.getNewValue());
+				if (tokenMaker.setUserIdentifiers(provider.getUserIdentifiers())) {
+					textArea.repaint();
+				}
+				if (semanticHighlighter!=null) {
+					semanticHighlighter.update((ZScriptAst)e.getNewValue());
+				}
+				// Background parses finish outside of RSTA's parsing cycle,
+				// so have it fetch the new notices.  The parser hands back
+				// its cached result rather than parsing again.
+				ZScriptParser parser = (ZScriptParser)e.getSource();
+				if (parser.isBackgroundParsingEnabled()) {
+					textArea.forceReparsing(parser);
+				}
 			}
 
 		}
 
+		private void restoreSyntaxStyle(RSyntaxDocument doc) {
+			// If the text area's style has changed, it has already replaced
+			// our token maker
+			if (doc!=null &&
+					previousSyntaxStyle.equals(textArea.getSyntaxEditingStyle())) {
+				doc.setSyntaxStyle(previousSyntaxStyle);
+			}
+		}
+
+		void setSemanticHighlightingEnabled(boolean enabled) {
+			if (enabled && semanticHighlighter==null) {
+				semanticHighlighter = new SemanticHighlighter(textArea, parser);
+			}
+			else if (!enabled && semanticHighlighter!=null) {
+				semanticHighlighter.uninstall();
+				semanticHighlighter = null;
+			}
+			tokenMaker.setSemanticHighlighter(semanticHighlighter);
+		}
+
+		void uninstallTokenMaker() {
+			textArea.removePropertyChangeListener("document", this);
+			restoreSyntaxStyle((RSyntaxDocument)textArea.getDocument());
+		}
+
 	}
 
 
 	/**
 	 * A hack of <code>AutoCompletion</code> that forces the parser to
-	 * re-parse the document when the user presses Ctrl+space.
+	 * re-parse the document when the user presses Ctrl+space.  If background
+	 * parsing is enabled, this only waits on an in-flight parse when the AST
+	 * is out of date.
 	 */
 	private class ZScriptAutoCompletion extends AutoCompletion {
 
@@ -253,11 +529,12 @@ public class ZScriptLanguageSupport extends AbstractLanguageSupport {
 
 		@Override
 		protected int refreshPopupWindow() {
-			// Force the parser to re-parse
+			// Make sure the AST is current; this is a no-op if the document
+			// hasn't changed since the last parse
 			ZScriptParser parser = getParser(textArea);
 			RSyntaxDocument doc = (RSyntaxDocument) textArea.getDocument();
 			String style = textArea.getSyntaxEditingStyle();
-			parser.parse(doc, style);
+			parser.ensureAstUpToDate(doc, style);
 			return super.refreshPopupWindow();
 		}
 
@@ -6,9 +6,9 @@
  */
 package org.fife.rsta.zscript;
 
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
 
 import javax.swing.UIManager;
 import javax.swing.event.HyperlinkEvent;
@@ -18,6 +18,8 @@ import org.fife.rsta.ac.LanguageSupport;
 import org.fife.rsta.ac.LanguageSupportFactory;
 import org.fife.rsta.zscript.ast.VariableDecNode;
 import org.fife.rsta.zscript.ast.ZScriptAst;
+import org.fife.rsta.zscript.metrics.Metrics;
+import org.fife.rsta.zscript.metrics.Operation;
 import org.fife.ui.rsyntaxtextarea.LinkGenerator;
 import org.fife.ui.rsyntaxtextarea.LinkGeneratorResult;
 import org.fife.ui.rsyntaxtextarea.RSyntaxDocument;
@@ -35,7 +37,8 @@ import org.fife.ui.rsyntaxtextarea.TokenTypes;
  * they are taken to the declaration of that member (variable, etc.).<p>
  *
  * Currently this only identifies local
- * variables.  In the future it could also identify scripts, as well as provide
+ * variables, and functions and constants in user libraries indexed by a
+ * {@link WorkspaceIndex}.  In the future it could also identify scripts, as well as provide
  * links from global variables such as Link, Script, etc., into their
  * respective members.
  *
@@ -141,20 +144,41 @@ class ZScriptLinkGenerator implements LinkGenerator {
 	}
 
 
+	/**
+	 * Returns a link to the documentation of a member of a global variable
+	 * or built-in type, e.g. <code>Link-&gt;X</code> or
+	 * <code>e-&gt;Damage</code> for an <code>eweapon e</code>.  If the
+	 * member isn't documented, the link is to the documentation of its
+	 * owner.
+	 */
 	private LinkGeneratorResult handleDereferenceLink(Token parent, Token main,
 			RSyntaxTextArea textArea, int offs) {
-//		return new SelectRegionLinkGeneratorResult(textArea,
-//				main.offset, 1, 2);
-// TODO: Implement me right!  Need actual property definition to be able to
-// look it up in the doc
-String searchFor = null;//main.getLexeme();
-if (isGlobalVariable(parent.getLexeme())) {
-	searchFor = "namespace " + parent.getLexeme();
-}
-//else if ("lweapon".equalsIgnoreCase(searchFor) || "eweapon".equalsIgnoreCase(searchFor)) {
-//	//searchFor = null;//"Weapon Functions and Variables";
-//}
-return new OpenBuiltInStuffLinkGeneratorResult(textArea, main.getOffset(), searchFor);
+
+		String owner = parent.getLexeme();
+		String section = null;
+		if (isGlobalVariable(owner)) {
+			section = "namespace " + owner;
+		}
+		else {
+			owner = null;
+			ZScriptAst ast = zls.getParser(textArea).getAst();
+			if (ast!=null) {
+				VariableDecNode varDec = ZScriptUtils.getVariableDeclaration(
+						parent.getLexeme(), textArea, ast, offs);
+				if (varDec!=null) {
+					owner = varDec.getType();
+					if ("lweapon".equals(owner) || "eweapon".equals(owner)) {
+						owner = "weapon";
+					}
+					section = "class " + owner;
+				}
+			}
+		}
+
+		String symbol = owner!=null ? owner + "->" + main.getLexeme() : null;
+		return new OpenBuiltInStuffLinkGeneratorResult(textArea,
+				main.getOffset(), symbol, section);
+
 	}
 
 
@@ -164,10 +188,12 @@ return new OpenBuiltInStuffLinkGeneratorResult(textArea, main.getOffset(), searc
 
 
 	/**
-	 * {@inheritDoc}
+	 * Returns the link at an offset, if any.
+	 *
+	 * @see #isLinkAtOffset(RSyntaxTextArea, int)
 	 */
-	@Override
-	public LinkGeneratorResult isLinkAtOffset(RSyntaxTextArea textArea, int offs) {
+	private LinkGeneratorResult getLinkAtOffset(RSyntaxTextArea textArea,
+			int offs) {
 
 		Token t = textArea.modelToToken(offs);
 		if (t==null) {
@@ -199,6 +225,14 @@ return new OpenBuiltInStuffLinkGeneratorResult(textArea, main.getOffset(), searc
 					return new SelectRegionLinkGeneratorResult(textArea,
 							main.getOffset(), start, end);
 				}
+				// Or a function or constant in an imported user library
+				WorkspaceIndex index = zls.getWorkspaceIndex();
+				WorkspaceIndex.Symbol symbol = index!=null ?
+						index.getSymbol(ast.getRootNode(), varName) : null;
+				if (symbol!=null) {
+					return new OpenLibraryLinkGeneratorResult(textArea,
+							main.getOffset(), index, symbol);
+				}
 			}
 
 		}
@@ -214,11 +248,28 @@ return new OpenBuiltInStuffLinkGeneratorResult(textArea, main.getOffset(), searc
 				return handleDereferenceLink(parent, main, textArea, offs);
 			}
 
-			// Just a plain old global function or variable
-			String res = "/data/unmodified/std_" +
-				(main.getType()==TokenTypes.FUNCTION ? "functions.zh" : "constants.zh");
-			return new OpenResourceLinkGeneratorResult(textArea, main.getOffset(), res,
-					main.getLexeme());
+			// Functions and constants declared by or imported into this
+			// document are highlighted the same way as built-in ones
+			char[] lexeme = main.getLexeme().toCharArray();
+			if (BuiltInCatalog.get().getGlobalFunctionIdentifiers().
+					get(lexeme, 0, lexeme.length)==TokenTypes.NULL) {
+				ZScriptAst ast = zls.getParser(textArea).getAst();
+				WorkspaceIndex index = zls.getWorkspaceIndex();
+				WorkspaceIndex.Symbol symbol = ast!=null && index!=null ?
+						index.getSymbol(ast.getRootNode(), main.getLexeme()) : null;
+				return symbol==null ? null : new OpenLibraryLinkGeneratorResult(
+						textArea, main.getOffset(), index, symbol);
+			}
+
+			// Built-in functions are documented in zscript.txt
+			if (main.getType()==TokenTypes.FUNCTION) {
+				return new OpenBuiltInStuffLinkGeneratorResult(textArea,
+						main.getOffset(), main.getLexeme(), null);
+			}
+
+			// Just a plain old global variable
+			return new OpenResourceLinkGeneratorResult(textArea, main.getOffset(),
+					"/data/unmodified/std_constants.zh", main.getLexeme());
 		}
 
 		// Complex data types link to information about their members.
@@ -240,7 +291,8 @@ return new OpenBuiltInStuffLinkGeneratorResult(textArea, main.getOffset(), searc
 				searchFor = "NPC Functions and Variables";
 			}
 			if (searchFor!=null) {
-				return new OpenBuiltInStuffLinkGeneratorResult(textArea, t.getOffset(), searchFor);
+				return new OpenBuiltInStuffLinkGeneratorResult(textArea,
+						t.getOffset(), null, searchFor);
 			}
 		}
 
@@ -248,7 +300,8 @@ return new OpenBuiltInStuffLinkGeneratorResult(textArea, main.getOffset(), searc
 		else if (t.getType()==TokenTypes.RESERVED_WORD) {
 			String lexeme = t.getLexeme();
 			if (isGlobalVariable(lexeme)) {
-				return new OpenBuiltInStuffLinkGeneratorResult(textArea, t.getOffset(), "namespace " + lexeme);
+				return new OpenBuiltInStuffLinkGeneratorResult(textArea,
+						t.getOffset(), null, "namespace " + lexeme);
 			}
 		}
 
@@ -257,46 +310,124 @@ return new OpenBuiltInStuffLinkGeneratorResult(textArea, main.getOffset(), searc
 	}
 
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public LinkGeneratorResult isLinkAtOffset(RSyntaxTextArea textArea, int offs) {
+		long start = Metrics.start();
+		try {
+			return getLinkAtOffset(textArea, offs);
+		} finally {
+			Metrics.end(textArea.getDocument(), Operation.LINK, start);
+		}
+	}
+
+
 	/**
 	 * Opens links to stuff in zscript.txt.  This can probably be merged with
 	 * the other LinkGeneratorResult class below, but first I need to figure
 	 * out a way to determine what the target file should be based on what
 	 * was clicked.  For example, a "Rand" function is defined in both
-	 * zscript.txt (a built-in function) and in std_functions.zh.
+	 * zscript.txt (a built-in function) and in std_functions.zh.<p>
+	 *
+	 * The shared {@link ReferenceDoc} is displayed at the declaration of a
+	 * symbol, or if it isn't documented, at the start of a section.
 	 */
 	private static class OpenBuiltInStuffLinkGeneratorResult
 		implements LinkGeneratorResult {
 
 		private RSyntaxTextArea textArea;
 		private int sourceOffs;
-		private String res;
-		private String searchFor;
+		private String symbol;
+		private String section;
 
 		OpenBuiltInStuffLinkGeneratorResult(RSyntaxTextArea textArea,
-				int sourceOffs, String searchFor) {
+				int sourceOffs, String symbol, String section) {
 			this.textArea = textArea;
 			this.sourceOffs = sourceOffs;
-			this.res = "/data/unmodified/zscript.txt";
-			this.searchFor = searchFor;
+			this.symbol = symbol;
+			this.section = section;
 		}
 
 		@Override
 		public HyperlinkEvent execute() {
-			InputStream in = getClass().getResourceAsStream(res);
-			BufferedReader r = new BufferedReader(new InputStreamReader(in));
 
 			LanguageSupport ls = LanguageSupportFactory.get().getSupportFor("text/zscript");
 			ZScriptLanguageSupport zsls = (ZScriptLanguageSupport)ls;
 			DocDisplayer docDisplayer = zsls.getDocDisplayer();
-			if (docDisplayer!=null) {
-				String title = res.substring(res.lastIndexOf('/')+1);
-				docDisplayer.display(title, r, searchFor);
+			if (docDisplayer==null) {
+				UIManager.getLookAndFeel().provideErrorFeedback(textArea);
+				return null;
 			}
-			else {
+
+			ReferenceDoc doc;
+			try {
+				doc = ReferenceDoc.get(ReferenceDoc.ZSCRIPT);
+			} catch (IOException ioe) {
+				UIManager.getLookAndFeel().provideErrorFeedback(textArea);
+				ioe.printStackTrace();
+				return null;
+			}
+
+			int offs = symbol!=null ? doc.getSymbolOffset(symbol) : -1;
+			if (offs==-1 && section!=null) {
+				offs = doc.getSectionOffset(section);
+			}
+			if (offs==-1 && section==null) {
+				// e.g. a function from std.zh rather than a built-in one
 				UIManager.getLookAndFeel().provideErrorFeedback(textArea);
+				return null;
 			}
 
+			docDisplayer.display(doc.getTitle(), doc.getDocument(),
+					Math.max(offs, 0));
 			return null;
+
+		}
+
+		@Override
+		public int getSourceOffset() {
+			return sourceOffs;
+		}
+
+	}
+
+
+	/**
+	 * Opens a user <code>.zh</code> library at the declaration of a symbol.
+	 * Since the library may not be open yet, the host application is
+	 * notified with a hyperlink to the file, whose description is the name of
+	 * the symbol.
+	 */
+	private static class OpenLibraryLinkGeneratorResult
+			implements LinkGeneratorResult {
+
+		private RSyntaxTextArea textArea;
+		private int sourceOffs;
+		private WorkspaceIndex index;
+		private WorkspaceIndex.Symbol symbol;
+
+		OpenLibraryLinkGeneratorResult(RSyntaxTextArea textArea,
+				int sourceOffs, WorkspaceIndex index,
+				WorkspaceIndex.Symbol symbol) {
+			this.textArea = textArea;
+			this.sourceOffs = sourceOffs;
+			this.index = index;
+			this.symbol = symbol;
+		}
+
+		@Override
+		public HyperlinkEvent execute() {
+			URL url;
+			try {
+				url = index.resolve(symbol.getLibrary()).toUri().toURL();
+			} catch (MalformedURLException mue) {
+				mue.printStackTrace(); // Never happens
+				return null;
+			}
+			return new HyperlinkEvent(textArea, HyperlinkEvent.EventType.ACTIVATED,
+					url, symbol.getName());
 		}
 
 		@Override
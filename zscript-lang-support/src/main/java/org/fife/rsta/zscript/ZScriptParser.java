@@ -7,12 +7,29 @@
 package org.fife.rsta.zscript;
 
 import java.beans.PropertyChangeListener;
+import java.io.StringReader;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.swing.SwingUtilities;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.event.SwingPropertyChangeSupport;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
 
+import org.fife.io.DocumentReader;
 import org.fife.rsta.zscript.ast.ZScriptAst;
 import org.fife.rsta.zscript.ast.ZScriptParseResult;
 import org.fife.rsta.zscript.ast.AstFactory;
+import org.fife.rsta.zscript.ast.OffsetTracker;
+import org.fife.rsta.zscript.metrics.Metrics;
+import org.fife.rsta.zscript.metrics.Operation;
 import org.fife.ui.rsyntaxtextarea.RSyntaxDocument;
 import org.fife.ui.rsyntaxtextarea.parser.AbstractParser;
 import org.fife.ui.rsyntaxtextarea.parser.DefaultParseResult;
@@ -22,10 +39,23 @@ import org.fife.ui.rsyntaxtextarea.parser.ParserNotice;
 
 /**
  * Creates a very basic AST from a ZScript file.  This parser cannot be
- * shared across multiple editors.
+ * shared across multiple editors.<p>
+ *
+ * By default, parsing is done synchronously on the calling thread (usually
+ * the EDT).  If background parsing is enabled, the document is snapshotted
+ * and parsed on a worker thread instead; results for stale versions of the
+ * document are dropped, and the new AST is published on the EDT via
+ * {@link #PROPERTY_AST}.<p>
+ *
+ * When parsing synchronously, incremental parsing may also be enabled.  In
+ * that mode, if all edits since the last parse fall inside the body of a
+ * single function or script, only that body is re-parsed and spliced into
+ * the previous AST.
  *
  * @author Robert Futrell
  * @version 1.0
+ * @see #setBackgroundParsingEnabled(boolean)
+ * @see #setIncrementalParsingEnabled(boolean)
  */
 public class ZScriptParser extends AbstractParser {
 
@@ -38,9 +68,115 @@ public class ZScriptParser extends AbstractParser {
 	private ZScriptAst ast;
 	private SwingPropertyChangeSupport support;
 
+	/**
+	 * Whether parsing is done on a worker thread.
+	 */
+	private boolean backgroundParsing;
+
+	/**
+	 * Whether synchronous parses only re-parse the edited member, if
+	 * possible.
+	 */
+	private boolean incrementalParsing;
+
+	/**
+	 * Whether {@link #ast} was created synchronously from the live document,
+	 * meaning its offsets track edits and it can be re-parsed incrementally.
+	 */
+	private boolean astIncrementable;
+
+	/**
+	 * Keeps the offsets in {@link #ast} up to date as the document is
+	 * edited.
+	 */
+	private OffsetTracker offsetTracker;
+
+	/**
+	 * The tracker for the AST being created by {@link #pendingParse}.  This
+	 * is cleared when the parse is cancelled or published, so a result
+	 * whose tracker doesn't match it is stale.
+	 */
+	private OffsetTracker pendingTracker;
+
+	/**
+	 * The notices from the parse that created {@link #ast}.
+	 */
+	private List<ParserNotice> lastNotices;
+
+	/**
+	 * The line count of the document when {@link #ast} was created.
+	 */
+	private int lastLineCount;
+
+	/**
+	 * Tracks the modification count of the document being parsed.
+	 */
+	private VersionTracker versionTracker;
+
+	/**
+	 * The document version {@link #ast} was created from, or <tt>-1</tt> if
+	 * no AST has been created yet.
+	 */
+	private long astVersion;
+
+	/**
+	 * The result of the most recent parse.  When parsing in the background,
+	 * this is what is handed back to RSyntaxTextArea.
+	 */
+	private DefaultParseResult lastResult;
+
+	/**
+	 * The in-flight background parse, if any.
+	 */
+	private Future<BackgroundParse> pendingParse;
+
+	/**
+	 * The document version {@link #pendingParse} is parsing.
+	 */
+	private long pendingVersion;
+
+	/**
+	 * The number of parses actually done, and the number skipped because
+	 * the AST was already up to date.
+	 */
+	private long parseCount;
+	private long parseSkipCount;
+
+	/**
+	 * The total time spent parsing, in milliseconds.
+	 */
+	private long totalParseTime;
+
+	/**
+	 * The longest code completion will block waiting for an in-flight parse
+	 * before falling back on the previous AST.
+	 */
+	private static final int MAX_COMPLETION_WAIT_MILLIS = 2000;
+
+	/**
+	 * The number of edits after which incremental parsing gives way to a
+	 * full parse, so an AST's edit log doesn't grow without bound.
+	 */
+	private static final int MAX_TRACKED_EDITS = 4096;
+
+	/**
+	 * Shared by all parsers; parses are cheap enough that one worker
+	 * keeps up, and it keeps us from hogging cores with many editors open.
+	 */
+	private static final ExecutorService EXECUTOR =
+			Executors.newSingleThreadExecutor(r -> {
+				Thread t = new Thread(r, "ZScriptParser");
+				t.setDaemon(true);
+				t.setPriority(Thread.NORM_PRIORITY - 1);
+				return t;
+			});
+
 
 	public ZScriptParser() {
 		support = new SwingPropertyChangeSupport(this);
+		versionTracker = new VersionTracker();
+		astVersion = -1;
+		pendingVersion = -1;
 	}
 
 
@@ -49,6 +185,75 @@ public class ZScriptParser extends AbstractParser {
 	}
 
 
+	/**
+	 * Stops tracking the last-parsed document and cancels any pending
+	 * background parse.  This should be called when this parser is removed
+	 * from its text area.
+	 */
+	public void dispose() {
+		cancelPendingParse();
+		versionTracker.track(null);
+		setOffsetTracker(null);
+	}
+
+
+	private void cancelPendingParse() {
+		if (pendingParse!=null) {
+			pendingParse.cancel(false);
+			pendingParse = null;
+			pendingVersion = -1;
+		}
+		if (pendingTracker!=null) {
+			pendingTracker.dispose();
+			pendingTracker = null;
+		}
+	}
+
+
+	/**
+	 * Returns an AST for the current content of a document, waiting for an
+	 * in-flight background parse if necessary.  This is what code completion
+	 * calls to ensure it is working with up-to-date information.
+	 *
+	 * @param doc The document.
+	 * @param style The syntax style of the document.
+	 * @return The AST.  If background parsing is enabled and a parse takes
+	 *         unreasonably long, this may be the AST from a prior version
+	 *         of the document.
+	 */
+	public ZScriptAst ensureAstUpToDate(RSyntaxDocument doc, String style) {
+
+		versionTracker.track(doc);
+		long version = versionTracker.getVersion();
+		if (ast!=null && astVersion==version) {
+			parseSkipCount++;
+			return ast;
+		}
+
+		if (!backgroundParsing) {
+			parse(doc, style);
+			return ast;
+		}
+
+		schedule(doc, version);
+		Future<BackgroundParse> future = pendingParse;
+		if (future!=null) {
+			try {
+				publish(future.get(MAX_COMPLETION_WAIT_MILLIS, TimeUnit.MILLISECONDS));
+			} catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+			} catch (TimeoutException | CancellationException e) {
+				// Fall back on the previous AST
+			} catch (ExecutionException ee) {
+				ee.printStackTrace();
+			}
+		}
+
+		return ast;
+
+	}
+
+
 	/**
 	 * Returns the most recent AST generated from source.
 	 *
@@ -59,29 +264,455 @@ public class ZScriptParser extends AbstractParser {
 	}
 
 
+	/**
+	 * Returns the number of times a document has actually been parsed.
+	 *
+	 * @return The parse count.
+	 * @see #getParseSkipCount()
+	 * @see #resetParseStatistics()
+	 */
+	public long getParseCount() {
+		return parseCount;
+	}
+
+
+	/**
+	 * Returns the number of times a parse was skipped because the document
+	 * had not changed since the last AST was created.
+	 *
+	 * @return The number of skipped parses.
+	 * @see #getParseCount()
+	 * @see #resetParseStatistics()
+	 */
+	public long getParseSkipCount() {
+		return parseSkipCount;
+	}
+
+
+	/**
+	 * Returns the total time spent parsing, in milliseconds.  For background
+	 * parses, only parses whose results were used are counted.
+	 *
+	 * @return The total parse time.
+	 * @see #getParseCount()
+	 * @see #resetParseStatistics()
+	 */
+	public long getTotalParseTime() {
+		return totalParseTime;
+	}
+
+
+	/**
+	 * Forces the next parse to be a full one, even if the document has not
+	 * changed since the last parse.  This should be called when something
+	 * the results depend on, but that isn't in the document, changes, e.g.
+	 * an imported library.  Any pending background parse is cancelled.
+	 */
+	public void invalidate() {
+		cancelPendingParse();
+		astVersion = -1;
+		astIncrementable = false;
+	}
+
+
+	/**
+	 * Returns whether parsing is done on a background thread.
+	 *
+	 * @return Whether parsing is done on a background thread.
+	 * @see #setBackgroundParsingEnabled(boolean)
+	 */
+	public boolean isBackgroundParsingEnabled() {
+		return backgroundParsing;
+	}
+
+
+	/**
+	 * Returns whether only the edited function or script is re-parsed, when
+	 * possible.
+	 *
+	 * @return Whether incremental parsing is enabled.
+	 * @see #setIncrementalParsingEnabled(boolean)
+	 */
+	public boolean isIncrementalParsingEnabled() {
+		return incrementalParsing;
+	}
+
+
 	@Override
 	public ParseResult parse(RSyntaxDocument doc, String style) {
+
+		versionTracker.track(doc);
+		long version = versionTracker.getVersion();
+
+		// Nothing has changed since the last parse (or we're being asked for
+		// the notices of a background parse we just published)
+		if (lastResult!=null && astVersion==version) {
+			parseSkipCount++;
+			return lastResult;
+		}
+
+		if (backgroundParsing) {
+			schedule(doc, version);
+			// Keep displaying the old notices until the new ones arrive
+			return lastResult!=null ? lastResult : new DefaultParseResult(this);
+		}
+
 		ZScriptAst old = ast;
-		AstFactory parser2 = new AstFactory(doc, this, null);
-		ZScriptParseResult zspr = parser2.parse();
-		DefaultParseResult result = new DefaultParseResult(this);
+		long start = System.currentTimeMillis();
+		long metricsStart = Metrics.start();
+		int lineCount = doc.getDefaultRootElement().getElementCount();
+		ZScriptParseResult zspr = null;
+		if (incrementalParsing && astIncrementable && !versionTracker.isAllDirty() &&
+				offsetTracker!=null && offsetTracker.getEditCount()<MAX_TRACKED_EDITS) {
+			zspr = AstFactory.reparseMember(ast, lastNotices, doc,
+					versionTracker.getDirtyStart(), versionTracker.getDirtyEnd(),
+					versionTracker.getLengthDelta(), lineCount - lastLineCount,
+					this, offsetTracker);
+		}
+		if (zspr==null) {
+			OffsetTracker tracker = new OffsetTracker(doc);
+			AstFactory parser2 = new AstFactory(new DocumentReader(doc), this,
+					tracker, 0);
+			zspr = parser2.parse();
+			setOffsetTracker(tracker);
+		}
+		long parseTime = System.currentTimeMillis() - start;
+		Metrics.end(doc, Operation.PARSE, metricsStart);
+		Metrics.documentParsed(doc, doc.getLength(), zspr.getAst());
+		DefaultParseResult result = createParseResult(zspr, parseTime);
+		parseCount++;
+		totalParseTime += parseTime;
 		ast = zspr.getAst();
+		astVersion = version;
+		astIncrementable = true;
+		lastNotices = zspr.getNotices();
+		lastLineCount = lineCount;
+		versionTracker.markClean();
+		lastResult = result;
+		support.firePropertyChange(PROPERTY_AST, old, ast);
+//System.out.println("----------");
+//ast.getRootNode().accept(new org.fife.rsta.zscript.ast.AstPrinter());
+//System.out.println("----------");
+		return result;
+
+	}
+
+
+	private DefaultParseResult createParseResult(ZScriptParseResult zspr,
+			long parseTime) {
+		DefaultParseResult result = new DefaultParseResult(this);
 		List<ParserNotice> notices = zspr.getNotices();
 		for (ParserNotice notice : notices) {
 			//System.out.println(">>> " + notice);
 			result.addNotice(notice);
 		}
-		support.firePropertyChange(PROPERTY_AST, old, ast);
-//System.out.println("----------");
-//ast.getRootNode().accept(new org.fife.rsta.zscript.ast.AstPrinter());
-//System.out.println("----------");
+		result.setParseTime(parseTime);
 		return result;
 	}
 
 
+	/**
+	 * Installs the result of a background parse, if it is not stale.  This
+	 * must be called on the EDT.
+	 *
+	 * @param bp The background parse result.  This may be <code>null</code>
+	 *        if the parse was skipped.
+	 */
+	private void publish(BackgroundParse bp) {
+
+		// Skipped as superseded, cancelled (its tracker has been disposed
+		// of), already published (e.g. code completion waited on it), or the
+		// document has changed since; a newer parse will be requested.
+		if (bp==null || bp.tracker!=pendingTracker || bp.version<=astVersion ||
+				bp.version!=versionTracker.getVersion()) {
+			return;
+		}
+
+		if (pendingVersion==bp.version) {
+			pendingParse = null;
+			pendingVersion = -1;
+		}
+
+		pendingTracker = null;
+		setOffsetTracker(bp.tracker);
+
+		ZScriptAst old = ast;
+		ast = bp.result.getAst();
+		astVersion = bp.version;
+		astIncrementable = false; // Dirty range is relative to the snapshot
+		lastResult = createParseResult(bp.result, bp.parseTime);
+		parseCount++;
+		totalParseTime += bp.parseTime;
+		support.firePropertyChange(PROPERTY_AST, old, ast);
+
+	}
+
+
 	public void removePropertyChangeListener(String property, PropertyChangeListener listener) {
 		support.removePropertyChangeListener(property, listener);
 	}
 
 
-}
\ No newline at end of file
+	/**
+	 * Resets the parse count, skip count and total parse time.
+	 *
+	 * @see #getParseCount()
+	 * @see #getParseSkipCount()
+	 * @see #getTotalParseTime()
+	 */
+	public void resetParseStatistics() {
+		parseCount = parseSkipCount = totalParseTime = 0;
+	}
+
+
+	/**
+	 * Queues a background parse of a document, unless one is already in
+	 * flight for this version of it.  Any parse of an older version is
+	 * cancelled.
+	 *
+	 * @param doc The document.
+	 * @param version The document's current version.
+	 */
+	private void schedule(RSyntaxDocument doc, long version) {
+
+		if (pendingParse!=null && pendingVersion==version) {
+			return;
+		}
+		cancelPendingParse();
+
+		// Snapshot on the calling thread so the worker never touches the
+		// live document.
+		String text;
+		try {
+			text = doc.getText(0, doc.getLength());
+		} catch (BadLocationException ble) { // Never happens
+			ble.printStackTrace();
+			return;
+		}
+
+		// Offsets in the snapshot are relative to the edits made from here on
+		OffsetTracker tracker = new OffsetTracker(doc);
+		pendingTracker = tracker;
+		pendingVersion = version;
+		pendingParse = EXECUTOR.submit(() -> {
+			if (versionTracker.getVersion()!=version) {
+				return null; // Superseded before we even started
+			}
+			long start = System.currentTimeMillis();
+			long metricsStart = Metrics.start();
+			AstFactory factory = new AstFactory(new StringReader(text), this,
+					tracker, 0);
+			ZScriptParseResult result = factory.parse();
+			Metrics.end(doc, Operation.PARSE, metricsStart);
+			Metrics.documentParsed(doc, text.length(), result.getAst());
+			BackgroundParse bp = new BackgroundParse(version, result, tracker,
+					System.currentTimeMillis() - start);
+			SwingUtilities.invokeLater(() -> publish(bp));
+			return bp;
+		});
+
+	}
+
+
+	/**
+	 * Installs the tracker for a new AST, disposing of the previous one.
+	 *
+	 * @param tracker The new tracker.  This may be <code>null</code>.
+	 */
+	private void setOffsetTracker(OffsetTracker tracker) {
+		if (offsetTracker!=null && offsetTracker!=tracker) {
+			offsetTracker.dispose();
+		}
+		offsetTracker = tracker;
+	}
+
+
+	/**
+	 * Toggles whether parsing is done on a background thread.  This is
+	 * recommended for large files, where parsing on the EDT can cause
+	 * noticeable pauses while typing.
+	 *
+	 * @param background Whether to parse on a background thread.
+	 * @see #isBackgroundParsingEnabled()
+	 */
+	public void setBackgroundParsingEnabled(boolean background) {
+		if (background!=backgroundParsing) {
+			backgroundParsing = background;
+			if (!background) {
+				cancelPendingParse();
+			}
+		}
+	}
+
+
+	/**
+	 * Toggles whether only the function or script containing the edits made
+	 * since the last parse is re-parsed, when possible.  If edits span
+	 * multiple members, or change the structure of the file, a full parse is
+	 * done anyway.<p>
+	 *
+	 * This only applies to synchronous parsing.
+	 *
+	 * @param incremental Whether to parse incrementally.
+	 * @see #isIncrementalParsingEnabled()
+	 * @see #setBackgroundParsingEnabled(boolean)
+	 */
+	public void setIncrementalParsingEnabled(boolean incremental) {
+		incrementalParsing = incremental;
+	}
+
+
+	/**
+	 * The result of parsing a snapshot of the document.
+	 */
+	private static final class BackgroundParse {
+
+		private long version;
+		private ZScriptParseResult result;
+		private OffsetTracker tracker;
+		private long parseTime;
+
+		private BackgroundParse(long version, ZScriptParseResult result,
+				OffsetTracker tracker, long parseTime) {
+			this.version = version;
+			this.result = result;
+			this.tracker = tracker;
+			this.parseTime = parseTime;
+		}
+
+	}
+
+
+	/**
+	 * Keeps a modification count for the document being parsed, so we can
+	 * tell whether a parse result is stale.  It also tracks the range of text
+	 * modified since the last parse, for incremental parsing.
+	 */
+	private static final class VersionTracker implements DocumentListener {
+
+		private Document doc;
+		private volatile long version;
+		private boolean allDirty;
+		private int dirtyStart;
+		private int dirtyEnd;
+		private int lengthDelta;
+
+		VersionTracker() {
+			allDirty = true;
+		}
+
+		@Override
+		public void changedUpdate(DocumentEvent e) {
+			// Attribute changes (e.g. syntax highlighting) don't matter
+		}
+
+		/**
+		 * Returns the start of the range modified since the last parse.
+		 */
+		int getDirtyStart() {
+			return dirtyStart;
+		}
+
+		/**
+		 * Returns the end of the range modified since the last parse,
+		 * exclusive.
+		 */
+		int getDirtyEnd() {
+			return dirtyEnd;
+		}
+
+		/**
+		 * Returns the net number of characters inserted since the last parse.
+		 */
+		int getLengthDelta() {
+			return lengthDelta;
+		}
+
+		long getVersion() {
+			return version;
+		}
+
+		@Override
+		public void insertUpdate(DocumentEvent e) {
+			version++;
+			int offs = e.getOffset();
+			int len = e.getLength();
+			if (dirtyStart==-1) {
+				dirtyStart = offs;
+				dirtyEnd = offs + len;
+			}
+			else {
+				if (dirtyEnd>offs) {
+					dirtyEnd += len;
+				}
+				dirtyStart = Math.min(dirtyStart, offs);
+				dirtyEnd = Math.max(dirtyEnd, offs + len);
+			}
+			lengthDelta += len;
+		}
+
+		/**
+		 * Returns whether the entire document must be considered modified,
+		 * for example because a new document is being tracked.
+		 */
+		boolean isAllDirty() {
+			return allDirty;
+		}
+
+		/**
+		 * Called after a parse of the current document content.
+		 */
+		void markClean() {
+			allDirty = false;
+			dirtyStart = dirtyEnd = -1;
+			lengthDelta = 0;
+		}
+
+		@Override
+		public void removeUpdate(DocumentEvent e) {
+			version++;
+			int offs = e.getOffset();
+			int len = e.getLength();
+			if (dirtyStart==-1) {
+				dirtyStart = dirtyEnd = offs;
+			}
+			else {
+				if (dirtyEnd>=offs + len) {
+					dirtyEnd -= len;
+				}
+				else if (dirtyEnd>offs) {
+					dirtyEnd = offs;
+				}
+				if (dirtyStart>offs) {
+					dirtyStart = Math.max(offs, dirtyStart - len);
+				}
+				dirtyStart = Math.min(dirtyStart, offs);
+				dirtyEnd = Math.max(dirtyEnd, offs);
+			}
+			lengthDelta -= len;
+		}
+
+		/**
+		 * Starts tracking a document, if it isn't already being tracked.
+		 *
+		 * @param doc The document to track, or <code>null</code> to stop
+		 *        tracking.
+		 */
+		void track(Document doc) {
+			if (doc!=this.doc) {
+				if (this.doc!=null) {
+					this.doc.removeDocumentListener(this);
+				}
+				this.doc = doc;
+				if (doc!=null) {
+					doc.addDocumentListener(this);
+				}
+				version++; // Everything from the old document is stale
+				allDirty = true;
+			}
+		}
+
+	}
+
+
+}
@@ -61,6 +61,16 @@ public class ZScriptPropertyCompletion extends ZScriptVariableCompletion {
 	}
 
 
+	/**
+	 * Returns the type of the "parent" variable of this property.
+	 *
+	 * @return The parent type.
+	 */
+	String getParentType() {
+		return parentType;
+	}
+
+
 	@Override
 	public String getToolTipText() {
 		String text = getSummary();
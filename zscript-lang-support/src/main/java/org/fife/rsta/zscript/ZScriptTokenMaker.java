@@ -1,4 +1,4 @@
-/* The following code was generated by JFlex 1.4.1 on 1/30/16 11:16 AM */
+/* The following code was generated by JFlex 1.4.1 on 10/18/26, 2:54 AM */
 
 /*
  * 07/29/2012
@@ -9,6 +9,9 @@
 package org.fife.rsta.zscript;
 
 import java.io.*;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.swing.text.Segment;
 
 import org.fife.ui.rsyntaxtextarea.*;
@@ -33,6 +36,15 @@ import org.fife.ui.rsyntaxtextarea.*;
  * The actual algorithm generated for scanning has, of course, not been
  * modified.<p>
  *
+ * Built-in functions and the members of <code>Link</code>,
+ * <code>Screen</code> and <code>Game</code> are not part of the grammar;
+ * the lexer matches them as plain identifiers, which are then looked up in
+ * tables built from the completion catalog.  Functions and constants
+ * declared or imported by the code being edited can be highlighted the same
+ * way, via {@link #setUserIdentifiers(Map)}.  This keeps the DFA small, and
+ * makes highlighting an imported library's functions cost nothing extra
+ * while lexing.<p>
+ *
  * If you wish to regenerate this file yourself, keep in mind the following:
  * <ul>
  *   <li>The generated <code>ZScriptTokenMaker.java</code> file will contain two
@@ -67,15 +79,14 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
    */
   private static final String ZZ_CMAP_PACKED = 
     "\11\0\1\31\1\24\1\0\1\31\1\37\22\0\1\31\1\17\1\25"+
-    "\1\40\1\41\1\45\1\126\1\14\1\12\1\12\1\45\1\7\1\44"+
-    "\1\20\1\34\1\13\1\30\1\120\1\22\1\111\1\121\3\5\2\3"+
-    "\1\55\1\43\1\15\1\11\1\16\1\10\1\40\1\105\1\4\1\60"+
-    "\1\65\1\6\1\35\1\57\1\101\1\67\1\122\1\102\1\33\1\76"+
-    "\1\103\1\114\1\100\1\110\1\112\1\64\1\73\1\32\1\104\1\106"+
-    "\1\23\1\115\1\116\1\42\1\21\1\42\1\125\1\2\1\0\1\27"+
-    "\1\63\1\77\1\72\1\54\1\36\1\66\1\46\1\52\1\1\1\113"+
-    "\1\53\1\62\1\70\1\61\1\50\1\117\1\71\1\51\1\47\1\75"+
-    "\1\26\1\56\1\107\1\74\1\123\1\124\1\127\1\124\1\44\uff81\0";
+    "\1\40\1\41\1\45\1\75\1\14\1\12\1\12\1\45\1\7\1\44"+
+    "\1\20\1\34\1\13\1\30\3\22\4\5\2\3\1\55\1\43\1\15"+
+    "\1\11\1\16\1\10\1\40\4\4\1\6\1\35\1\70\4\1\1\33"+
+    "\6\1\1\67\1\1\1\32\2\1\1\23\2\1\1\42\1\21\1\42"+
+    "\1\74\1\2\1\0\1\27\1\63\1\64\1\72\1\54\1\36\1\62"+
+    "\1\46\1\52\1\1\1\66\1\53\1\57\1\65\1\60\1\50\1\1"+
+    "\1\61\1\51\1\47\1\71\1\26\1\56\1\23\2\1\1\73\1\76"+
+    "\1\73\1\44\uff81\0";
 
   /** 
    * Translates characters to character classes
@@ -89,25 +100,18 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
 
   private static final String ZZ_ACTION_PACKED_0 =
     "\2\0\1\1\1\2\1\3\3\4\1\5\1\4\1\6"+
-    "\3\4\1\2\1\7\1\2\1\3\1\10\1\2\1\4"+
-    "\2\2\1\1\30\2\2\4\1\11\1\12\3\11\2\13"+
-    "\2\3\1\14\1\15\2\16\1\17\1\6\2\7\1\20"+
-    "\1\2\1\13\2\2\1\21\10\2\1\22\34\2\4\0"+
-    "\1\3\1\0\1\3\1\13\1\14\1\6\1\23\1\6"+
-    "\3\16\1\6\2\7\1\24\1\2\1\25\4\2\1\26"+
-    "\33\2\4\0\1\14\1\0\1\6\1\7\2\25\1\22"+
-    "\2\2\1\27\1\2\1\26\2\2\1\22\17\2\2\0"+
-    "\1\30\1\25\1\0\4\2\1\0\6\2\1\21\4\2"+
-    "\3\0\2\2\1\31\1\2\1\0\3\2\1\22\5\2"+
-    "\1\0\1\32\14\0\2\2\11\0\3\2\1\0\2\2"+
-    "\22\0\1\2\17\0\2\2\1\0\1\2\44\0\1\2"+
-    "\5\0\1\33\11\0\1\2\6\0\1\32\14\0\1\34"+
-    "\16\0\1\35\3\0\1\2\47\0\1\35\20\0\1\33"+
-    "\22\0\1\36\12\0\1\32\3\0\2\32\53\0\1\36"+
-    "\115\0\1\37\101\0\1\37\64\0";
+    "\3\4\1\7\1\10\1\2\1\3\1\11\1\2\1\4"+
+    "\1\2\1\1\1\7\16\2\2\4\1\12\1\13\3\12"+
+    "\2\14\2\3\1\15\1\16\2\17\1\20\1\6\2\10"+
+    "\1\21\1\2\1\14\10\2\1\22\15\2\4\0\1\3"+
+    "\1\0\1\3\1\14\1\15\1\6\1\23\1\6\3\17"+
+    "\1\6\2\10\1\24\1\2\1\25\2\2\1\26\17\2"+
+    "\4\0\1\15\1\0\1\6\1\10\2\25\1\27\1\2"+
+    "\1\26\7\2\2\0\1\30\1\25\6\2\2\0\1\2"+
+    "\1\31\3\2";
 
   private static int [] zzUnpackAction() {
-    int [] result = new int[728];
+    int [] result = new int[158];
     int offset = 0;
     offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
     return result;
@@ -132,100 +136,29 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
   private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
 
   private static final String ZZ_ROWMAP_PACKED_0 =
-    "\0\0\0\130\0\260\0\u0108\0\u0160\0\u01b8\0\u0210\0\u0268"+
-    "\0\u0210\0\u02c0\0\u0318\0\u0370\0\u03c8\0\u0420\0\260\0\u0478"+
-    "\0\u04d0\0\u0528\0\u0580\0\u05d8\0\u0630\0\u0688\0\u06e0\0\u0210"+
-    "\0\u0210\0\u0738\0\u0790\0\u07e8\0\u0840\0\u0898\0\u08f0\0\u0948"+
-    "\0\u09a0\0\u09f8\0\u0a50\0\u0aa8\0\u0b00\0\u0b58\0\u0bb0\0\u0c08"+
-    "\0\u0c60\0\u0cb8\0\u0d10\0\u0d68\0\u0dc0\0\u0e18\0\u0e70\0\u0ec8"+
-    "\0\u0f20\0\u0f78\0\u0fd0\0\u0210\0\u1028\0\u1080\0\u10d8\0\u1130"+
-    "\0\u1188\0\u11e0\0\u1238\0\u1290\0\u0210\0\u12e8\0\u1340\0\u0210"+
-    "\0\u1398\0\u13f0\0\u1448\0\u0210\0\u14a0\0\u14f8\0\u1550\0\u15a8"+
-    "\0\u0108\0\u1600\0\u1658\0\u16b0\0\u1708\0\u1760\0\u17b8\0\u1810"+
-    "\0\u1868\0\u0108\0\u18c0\0\u1918\0\u1970\0\u19c8\0\u1a20\0\u1a78"+
-    "\0\u1ad0\0\u1b28\0\u1b80\0\u1bd8\0\u1c30\0\u1c88\0\u1ce0\0\u1d38"+
-    "\0\u1d90\0\u1de8\0\u1e40\0\u1e98\0\u1ef0\0\u1f48\0\u1fa0\0\u1ff8"+
-    "\0\u2050\0\u20a8\0\u2100\0\u2158\0\u21b0\0\u2208\0\u2260\0\u22b8"+
-    "\0\u2310\0\u2368\0\u23c0\0\u2418\0\u1130\0\u2470\0\u1130\0\u24c8"+
-    "\0\u0210\0\u2520\0\u2578\0\u25d0\0\u2628\0\u2680\0\u26d8\0\u2730"+
-    "\0\u0210\0\u2788\0\u27e0\0\u2838\0\u2890\0\u28e8\0\u2940\0\u0108"+
-    "\0\u2998\0\u29f0\0\u2a48\0\u2aa0\0\u2af8\0\u2b50\0\u2ba8\0\u2c00"+
-    "\0\u2c58\0\u2cb0\0\u2d08\0\u2d60\0\u2db8\0\u2e10\0\u2e68\0\u2ec0"+
-    "\0\u2f18\0\u2f70\0\u2fc8\0\u3020\0\u3078\0\u30d0\0\u3128\0\u3180"+
-    "\0\u31d8\0\u3230\0\u3288\0\u32e0\0\u3338\0\u3390\0\u33e8\0\u3440"+
-    "\0\u3498\0\u34f0\0\u3548\0\u35a0\0\u35f8\0\u3650\0\u36a8\0\u3700"+
-    "\0\u0108\0\u3758\0\u37b0\0\u3808\0\u3860\0\u38b8\0\u3910\0\u3968"+
-    "\0\u39c0\0\u3a18\0\u3a70\0\u3ac8\0\u3b20\0\u3b78\0\u3bd0\0\u3c28"+
-    "\0\u3c80\0\u3cd8\0\u3d30\0\u3d88\0\u3de0\0\u3e38\0\u3e90\0\u3ee8"+
-    "\0\u1130\0\u3f40\0\u3f98\0\u3ff0\0\u4048\0\u40a0\0\u40f8\0\u4150"+
-    "\0\u41a8\0\u4200\0\u4258\0\u42b0\0\u4308\0\u4360\0\u43b8\0\u4410"+
-    "\0\u4468\0\u44c0\0\u4518\0\u3ee8\0\u4570\0\u45c8\0\u4620\0\u0108"+
-    "\0\u4678\0\u46d0\0\u4728\0\u4780\0\u47d8\0\u4830\0\u4888\0\u48e0"+
-    "\0\u4938\0\u4990\0\u49e8\0\u4a40\0\u0210\0\u4a98\0\u4af0\0\u4b48"+
-    "\0\u4ba0\0\u4bf8\0\u4c50\0\u4ca8\0\u4d00\0\u4d58\0\u4db0\0\u4e08"+
-    "\0\u4e60\0\u4eb8\0\u4f10\0\u4f68\0\u4fc0\0\u5018\0\u5070\0\u50c8"+
-    "\0\u5120\0\u5178\0\u51d0\0\u5228\0\u5280\0\u52d8\0\u5330\0\u5388"+
-    "\0\u53e0\0\u5438\0\u5490\0\u54e8\0\u5540\0\u5598\0\u55f0\0\u5648"+
-    "\0\u56a0\0\u56f8\0\u5750\0\u57a8\0\u5800\0\u5858\0\u58b0\0\u5908"+
-    "\0\u5960\0\u59b8\0\u5a10\0\u5a68\0\u5ac0\0\u5b18\0\u5b70\0\u5bc8"+
-    "\0\u5c20\0\u5c78\0\u5cd0\0\u5d28\0\u5d80\0\u5dd8\0\u5e30\0\u5e88"+
-    "\0\u5ee0\0\u5f38\0\u5f90\0\u5fe8\0\u6040\0\u6098\0\u60f0\0\u6148"+
-    "\0\u61a0\0\u61f8\0\u6250\0\u62a8\0\u6300\0\u6358\0\u63b0\0\u6408"+
-    "\0\u6460\0\u64b8\0\u6510\0\u6568\0\u65c0\0\u6618\0\u6670\0\u66c8"+
-    "\0\u6720\0\u6778\0\u67d0\0\u6828\0\u6880\0\u68d8\0\u6930\0\u6988"+
-    "\0\u69e0\0\u6a38\0\u6a90\0\u6ae8\0\u6b40\0\u6b98\0\u6bf0\0\u6c48"+
-    "\0\u6ca0\0\u6cf8\0\u6d50\0\u6da8\0\u6e00\0\u6e58\0\u6eb0\0\u6f08"+
-    "\0\u6f60\0\u6fb8\0\u7010\0\u7068\0\u70c0\0\u7118\0\u7170\0\u71c8"+
-    "\0\u7220\0\u7278\0\u72d0\0\u7328\0\u7380\0\u73d8\0\u7430\0\u7488"+
-    "\0\u74e0\0\u7538\0\u7590\0\u75e8\0\u7640\0\u7698\0\u76f0\0\u7748"+
-    "\0\u77a0\0\u77f8\0\u7850\0\u78a8\0\u7900\0\u7958\0\u79b0\0\u7a08"+
-    "\0\u0210\0\u7a60\0\u7ab8\0\u7b10\0\u7b68\0\u7bc0\0\u7c18\0\u7c70"+
-    "\0\u7cc8\0\u7d20\0\u7d78\0\u7dd0\0\u7e28\0\u7e80\0\u7ed8\0\u7f30"+
-    "\0\u7f88\0\u7fe0\0\u8038\0\u8090\0\u80e8\0\u8140\0\u8198\0\u81f0"+
-    "\0\u8248\0\u82a0\0\u82f8\0\u8350\0\u83a8\0\u8400\0\u8458\0\u84b0"+
-    "\0\u8508\0\u8560\0\u85b8\0\u8610\0\u8668\0\u86c0\0\u8718\0\u8770"+
-    "\0\u87c8\0\u8820\0\u8878\0\u88d0\0\u8928\0\u8980\0\u89d8\0\u8a30"+
-    "\0\u75e8\0\u8a88\0\u8ae0\0\u8b38\0\u8b90\0\u8be8\0\u8c40\0\u8c98"+
-    "\0\u8cf0\0\u8d48\0\u8da0\0\u0210\0\u8df8\0\u8e50\0\u8ea8\0\u8f00"+
-    "\0\u8f58\0\u8fb0\0\u9008\0\u9060\0\u90b8\0\u9110\0\u9168\0\u91c0"+
-    "\0\u9218\0\u9270\0\u92c8\0\u9320\0\u0210\0\u9378\0\u93d0\0\u9428"+
-    "\0\u9480\0\u94d8\0\u9530\0\u9588\0\u95e0\0\u9638\0\u9690\0\u96e8"+
-    "\0\u9740\0\u9798\0\u97f0\0\u9848\0\u98a0\0\u98f8\0\u9950\0\u0210"+
-    "\0\u99a8\0\u9a00\0\u9a58\0\u9ab0\0\u9b08\0\u9b60\0\u9bb8\0\u9c10"+
-    "\0\u9c68\0\u9cc0\0\u9d18\0\u9d70\0\u9dc8\0\u9e20\0\u9e78\0\u8c40"+
-    "\0\u9ed0\0\u9f28\0\u9f80\0\u9fd8\0\ua030\0\ua088\0\ua0e0\0\ua138"+
-    "\0\ua190\0\ua1e8\0\ua240\0\ua298\0\ua2f0\0\ua348\0\ua3a0\0\ua3f8"+
-    "\0\ua450\0\ua4a8\0\ua500\0\ua558\0\ua5b0\0\ua608\0\ua660\0\ua6b8"+
-    "\0\ua710\0\ua768\0\ua7c0\0\ua818\0\ua870\0\ua8c8\0\ua920\0\ua978"+
-    "\0\ua9d0\0\uaa28\0\uaa80\0\uaad8\0\uab30\0\uab88\0\uabe0\0\uac38"+
-    "\0\uac90\0\uace8\0\uad40\0\uad98\0\uadf0\0\uae48\0\uaea0\0\uaef8"+
-    "\0\uaf50\0\uafa8\0\ub000\0\ub058\0\ub0b0\0\ub108\0\ub160\0\ub1b8"+
-    "\0\ub210\0\ub268\0\ub2c0\0\ub318\0\ub370\0\ub3c8\0\ub420\0\ub478"+
-    "\0\ub4d0\0\ub528\0\ub580\0\ub5d8\0\ub630\0\ub688\0\ub6e0\0\ub738"+
-    "\0\ub790\0\ub7e8\0\ub840\0\ub898\0\ub8f0\0\ub948\0\ub9a0\0\ub9f8"+
-    "\0\uba50\0\ubaa8\0\ubb00\0\ubb58\0\ubbb0\0\ubc08\0\ubc60\0\ubcb8"+
-    "\0\ubd10\0\ubd68\0\ubdc0\0\ube18\0\ube70\0\ubec8\0\ubf20\0\ubf78"+
-    "\0\ubfd0\0\uc028\0\uc080\0\uc0d8\0\uc130\0\uc188\0\uc1e0\0\uc238"+
-    "\0\uc290\0\uc2e8\0\uc340\0\uc398\0\uc3f0\0\uc448\0\uc4a0\0\uc4f8"+
-    "\0\uc550\0\uc5a8\0\uc600\0\uc658\0\uc6b0\0\uc708\0\uc760\0\uc7b8"+
-    "\0\uc810\0\u0210\0\uc868\0\uc8c0\0\uc918\0\uc970\0\uc9c8\0\uca20"+
-    "\0\uca78\0\ucad0\0\ucb28\0\ucb80\0\ucbd8\0\ucc30\0\ucc88\0\ucce0"+
-    "\0\ucd38\0\ucd90\0\ucde8\0\uce40\0\uce98\0\ucef0\0\ucf48\0\ucfa0"+
-    "\0\ucff8\0\ud050\0\ud0a8\0\ud100\0\ud158\0\ud1b0\0\ud208\0\ud260"+
-    "\0\ud2b8\0\ud310\0\ud368\0\ud3c0\0\ud418\0\ud470\0\ud4c8\0\ud520"+
-    "\0\ud578\0\ud5d0\0\ud628\0\ud680\0\ud6d8\0\ud730\0\ud788\0\ud7e0"+
-    "\0\ud838\0\ud890\0\ud8e8\0\ud940\0\ud998\0\ud9f0\0\uda48\0\udaa0"+
-    "\0\udaf8\0\udb50\0\udba8\0\u9d18\0\udc00\0\udc58\0\udcb0\0\udd08"+
-    "\0\udd60\0\uddb8\0\ude10\0\ude68\0\udec0\0\udf18\0\udf70\0\udfc8"+
-    "\0\ue020\0\ue078\0\ue0d0\0\ue128\0\ue180\0\ue1d8\0\ue230\0\ue288"+
-    "\0\ue2e0\0\ue338\0\ue390\0\ue3e8\0\ue440\0\ue498\0\ue4f0\0\ue548"+
-    "\0\ue5a0\0\ue5f8\0\ue650\0\ue6a8\0\ue700\0\ue758\0\ue7b0\0\ue808"+
-    "\0\ue860\0\ue8b8\0\ue910\0\ue968\0\ue9c0\0\uea18\0\uea70\0\ueac8"+
-    "\0\ueb20\0\ueb78\0\uebd0\0\uec28\0\uec80\0\uecd8\0\ued30\0\ued88"+
-    "\0\uede0\0\uee38\0\uee90\0\ueee8\0\uef40\0\uef98\0\ueff0\0\uf048";
+    "\0\0\0\77\0\176\0\275\0\374\0\u013b\0\u017a\0\u01b9"+
+    "\0\u017a\0\u01f8\0\u0237\0\u0276\0\u02b5\0\u02f4\0\176\0\u0333"+
+    "\0\u0372\0\u03b1\0\u03f0\0\u042f\0\u046e\0\u04ad\0\u017a\0\u017a"+
+    "\0\u04ec\0\u052b\0\u056a\0\u05a9\0\u05e8\0\u0627\0\u0666\0\u06a5"+
+    "\0\u06e4\0\u0723\0\u0762\0\u07a1\0\u07e0\0\u081f\0\u085e\0\u089d"+
+    "\0\u08dc\0\u017a\0\u091b\0\u095a\0\u0999\0\u09d8\0\u0a17\0\u0a56"+
+    "\0\u0a95\0\u0ad4\0\u017a\0\u0b13\0\u0b52\0\u017a\0\u0b91\0\u0bd0"+
+    "\0\u0c0f\0\u017a\0\u0c4e\0\u0c8d\0\u0ccc\0\u0d0b\0\u0d4a\0\u0d89"+
+    "\0\u0dc8\0\u0e07\0\u0e46\0\u0e85\0\275\0\u0ec4\0\u0f03\0\u0f42"+
+    "\0\u0f81\0\u0fc0\0\u0fff\0\u103e\0\u107d\0\u10bc\0\u10fb\0\u113a"+
+    "\0\u1179\0\u11b8\0\u11f7\0\u1236\0\u1275\0\u12b4\0\u12f3\0\u1332"+
+    "\0\u09d8\0\u1371\0\u09d8\0\u13b0\0\u017a\0\u13ef\0\u142e\0\u146d"+
+    "\0\u14ac\0\u14eb\0\u152a\0\u1569\0\u017a\0\u15a8\0\u15e7\0\u1626"+
+    "\0\u1665\0\275\0\u16a4\0\u16e3\0\u1722\0\u1761\0\u17a0\0\u17df"+
+    "\0\u181e\0\u185d\0\u189c\0\u18db\0\u191a\0\u1959\0\u1998\0\u19d7"+
+    "\0\u1a16\0\u1a55\0\u1a94\0\u1ad3\0\u1b12\0\u1b51\0\u1b90\0\u1bcf"+
+    "\0\u1c0e\0\u1c4d\0\u1c8c\0\275\0\u1ccb\0\u1d0a\0\u1d49\0\u1d88"+
+    "\0\u1dc7\0\u1e06\0\u1e45\0\u1e84\0\u1ec3\0\u1f02\0\u1f41\0\u1f80"+
+    "\0\u09d8\0\u1fbf\0\u1ffe\0\u203d\0\u207c\0\u20bb\0\u20fa\0\u2139"+
+    "\0\u1f80\0\u2178\0\275\0\u21b7\0\u21f6\0\u2235";
 
   private static int [] zzUnpackRowMap() {
-    int [] result = new int[728];
+    int [] result = new int[158];
     int offset = 0;
     offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
     return result;
@@ -251,697 +184,298 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
     "\1\3\2\4\1\5\1\4\1\5\1\4\1\6\1\7"+
     "\1\10\1\11\1\12\1\13\1\14\1\15\1\7\1\16"+
     "\1\17\1\5\1\4\1\0\1\20\1\21\1\4\1\22"+
-    "\1\23\1\4\1\24\1\25\1\26\1\27\1\30\2\3"+
-    "\1\11\1\31\1\7\1\10\1\4\1\32\1\4\1\33"+
-    "\1\34\1\35\1\36\1\7\1\37\1\40\1\41\2\4"+
-    "\1\42\1\43\1\4\1\44\1\45\1\46\1\47\1\50"+
-    "\1\51\2\4\1\52\1\53\1\54\4\4\1\55\1\56"+
-    "\1\4\1\57\1\5\1\60\5\4\2\5\2\4\1\11"+
-    "\1\7\1\61\1\62\24\63\1\64\11\63\1\65\7\63"+
-    "\1\66\7\63\1\67\51\63\7\3\12\0\3\3\2\0"+
-    "\3\3\1\0\2\3\1\0\2\3\1\0\2\3\4\0"+
-    "\7\3\1\0\46\3\4\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\7\4\1\0\46\4\4\0\3\70"+
-    "\1\5\1\70\1\5\1\71\12\0\1\70\1\5\1\70"+
-    "\2\0\2\70\1\5\1\0\1\72\1\73\1\74\2\70"+
-    "\1\0\2\70\4\0\5\70\1\73\1\71\1\0\17\70"+
-    "\1\72\13\70\1\5\6\70\2\5\2\70\13\0\1\7"+
-    "\1\0\1\7\257\0\1\7\127\0\1\7\1\0\1\75"+
-    "\114\0\10\76\1\77\3\76\1\100\4\76\1\101\2\76"+
-    "\1\0\103\76\15\0\1\10\130\0\1\10\122\0\1\7"+
-    "\4\0\1\7\1\0\1\7\107\0\21\20\1\102\2\20"+
-    "\1\103\1\104\102\20\1\3\6\4\12\0\1\3\2\4"+
-    "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\3\4\1\105\42\4\4\0"+
-    "\3\70\1\5\1\70\1\5\1\71\12\0\1\70\1\5"+
-    "\1\106\2\0\2\70\1\5\1\0\1\72\1\73\1\74"+
-    "\2\70\1\0\2\70\4\0\5\70\1\73\1\71\1\0"+
-    "\17\70\1\72\11\70\1\106\1\70\1\5\6\70\2\5"+
-    "\2\70\35\0\1\23\76\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\4\4\1\107\2\4\1\0\3\4"+
-    "\1\110\6\4\1\111\33\4\7\0\1\74\1\0\1\74"+
-    "\14\0\1\74\5\0\1\74\60\0\1\74\6\0\2\74"+
-    "\6\0\1\3\6\4\12\0\1\3\2\4\2\0\1\4"+
-    "\1\112\1\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\46\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\1\4\1\113\1\4\1\0"+
-    "\2\4\1\0\1\4\1\114\1\0\1\3\1\4\4\0"+
-    "\5\4\1\115\1\4\1\0\3\4\1\116\42\4\4\0"+
-    "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
-    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\1\117"+
-    "\6\4\1\0\13\4\1\120\32\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\21\4"+
-    "\1\121\24\4\4\0\1\3\6\4\12\0\1\3\2\4"+
-    "\2\0\3\4\1\0\2\4\1\0\1\4\1\122\1\0"+
-    "\1\3\1\4\4\0\1\4\1\123\5\4\1\0\4\4"+
-    "\1\124\5\4\1\125\33\4\4\0\1\3\6\4\12\0"+
+    "\1\23\1\4\1\24\1\25\1\4\1\26\1\27\2\3"+
+    "\1\11\1\30\1\7\1\10\1\4\1\31\1\4\1\32"+
+    "\1\33\1\34\1\35\1\7\1\36\2\4\1\37\1\40"+
+    "\1\41\1\42\1\43\1\4\1\44\1\45\1\4\1\46"+
+    "\1\11\1\7\1\47\1\50\24\51\1\52\11\51\1\53"+
+    "\7\51\1\54\7\51\1\55\20\51\7\3\12\0\3\3"+
+    "\2\0\3\3\1\0\2\3\1\0\2\3\1\0\2\3"+
+    "\4\0\7\3\1\0\15\3\4\0\1\3\6\4\12\0"+
     "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\7\4\1\0\1\126\45\4"+
-    "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\5\4\1\127\1\4\1\0\1\126\45\4\4\0\1\3"+
-    "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\1\130\6\4"+
-    "\1\0\46\4\4\0\1\3\6\4\12\0\1\3\2\4"+
-    "\2\0\1\4\1\131\1\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\7\4\1\0\46\4\4\0"+
-    "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
-    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\5\4"+
-    "\1\132\1\4\1\0\3\4\1\133\42\4\4\0\1\3"+
-    "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\3\4\1\134\7\4\1\135\32\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\4\4\1\136\2\4"+
-    "\1\0\1\137\20\4\1\140\17\4\1\141\4\4\4\0"+
-    "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
-    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\5\4"+
-    "\1\142\1\4\1\0\46\4\4\0\1\3\6\4\12\0"+
-    "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\7\4\1\0\12\4\1\143"+
-    "\33\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\2\4\1\114\4\4\1\0\46\4\4\0\1\3"+
-    "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\6\4\1\144"+
-    "\1\0\46\4\4\0\1\3\6\4\12\0\1\3\2\4"+
-    "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\3\4\1\122\42\4\4\0"+
-    "\1\3\6\4\12\0\1\3\2\4\2\0\1\4\1\145"+
-    "\1\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\7\4\1\0\13\4\1\146\32\4\4\0\1\3"+
-    "\6\4\12\0\1\3\2\4\2\0\1\4\1\147\1\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\4\4\1\145\2\4\1\0\46\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\3\4"+
-    "\1\150\42\4\4\0\1\3\6\4\12\0\1\3\2\4"+
-    "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\3\4\1\151\42\4\4\0"+
+    "\1\0\1\3\1\4\4\0\7\4\1\0\15\4\4\0"+
+    "\3\56\1\5\1\56\1\5\1\57\12\0\1\56\1\5"+
+    "\1\56\2\0\2\56\1\5\1\0\1\60\1\61\1\62"+
+    "\2\56\1\0\2\56\4\0\5\56\1\61\1\57\1\0"+
+    "\13\56\1\60\1\56\13\0\1\7\1\0\1\7\175\0"+
+    "\1\7\76\0\1\7\1\0\1\63\63\0\10\64\1\65"+
+    "\3\64\1\66\4\64\1\67\2\64\1\0\52\64\15\0"+
+    "\1\10\77\0\1\10\71\0\1\7\4\0\1\7\1\0"+
+    "\1\7\56\0\21\20\1\70\2\20\1\71\1\72\51\20"+
     "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
     "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\7\4"+
-    "\1\0\5\4\1\152\5\4\1\153\32\4\4\0\1\3"+
-    "\6\4\12\0\1\3\2\4\2\0\1\4\1\154\1\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\7\4\1\0\46\4\4\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\7\4\1\0\17\4\1\155\26\4"+
-    "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\1\4"+
-    "\1\156\1\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\46\4\132\0\1\7\130\0"+
-    "\1\7\24\63\1\0\11\63\1\0\7\63\1\0\7\63"+
-    "\1\0\51\63\47\0\1\157\2\0\1\160\124\0\1\161"+
-    "\136\0\1\162\51\0\7\70\12\0\3\70\2\0\3\70"+
-    "\1\0\2\70\1\0\2\70\1\0\2\70\4\0\7\70"+
-    "\1\0\46\70\4\0\3\70\1\163\1\70\1\163\1\70"+
-    "\1\164\10\0\1\164\1\70\1\163\1\70\2\0\2\70"+
-    "\1\163\1\0\2\70\1\0\2\70\1\0\2\70\4\0"+
-    "\7\70\1\0\33\70\1\163\6\70\2\163\2\70\4\0"+
-    "\7\70\12\0\3\70\2\0\3\70\1\0\1\70\1\165"+
-    "\1\0\2\70\1\0\2\70\4\0\5\70\1\165\1\70"+
-    "\1\0\46\70\4\0\7\70\12\0\3\70\2\0\3\70"+
-    "\1\0\1\165\1\70\1\0\2\70\1\0\2\70\4\0"+
-    "\7\70\1\0\17\70\1\165\26\70\4\0\3\70\1\74"+
-    "\1\70\1\74\1\166\12\0\1\70\1\74\1\70\2\0"+
-    "\2\70\1\74\1\0\1\70\1\167\1\0\2\167\1\0"+
-    "\2\70\4\0\5\70\1\167\1\166\1\0\33\70\1\74"+
-    "\6\70\2\74\2\70\4\0\14\170\1\171\7\170\1\0"+
-    "\113\170\1\172\3\170\1\171\7\170\1\0\110\170\1\173"+
-    "\2\170\1\76\3\170\1\174\4\170\1\76\1\175\1\176"+
-    "\1\0\3\76\1\175\5\170\1\76\10\170\1\76\13\170"+
-    "\1\76\4\170\2\76\15\170\1\176\1\170\1\175\6\170"+
-    "\1\175\1\173\6\170\5\103\1\20\2\103\1\20\3\103"+
-    "\1\20\4\103\2\20\1\177\1\0\4\20\5\103\1\20"+
-    "\10\103\1\20\13\103\1\20\4\103\2\20\15\103\1\177"+
-    "\1\103\1\20\6\103\2\20\27\103\1\200\3\103\1\201"+
-    "\102\103\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\4\4\1\202\2\4\1\0\46\4\4\0\3\70\4\203"+
-    "\12\0\1\70\1\203\1\70\2\0\1\70\2\203\1\0"+
-    "\2\70\1\0\2\203\1\0\2\70\4\0\6\70\1\203"+
-    "\1\0\2\70\1\203\2\70\1\203\1\70\1\203\4\70"+
-    "\1\203\4\70\1\203\5\70\1\203\3\70\1\203\6\70"+
-    "\2\203\2\70\4\0\1\3\6\4\12\0\1\3\2\4"+
+    "\1\0\2\4\1\73\12\4\4\0\3\56\1\5\1\56"+
+    "\1\5\1\57\12\0\1\56\1\5\1\74\2\0\2\56"+
+    "\1\5\1\0\1\60\1\61\1\62\2\56\1\0\2\56"+
+    "\4\0\5\56\1\61\1\57\1\0\13\56\1\60\1\56"+
+    "\35\0\1\23\45\0\1\3\6\4\12\0\1\3\2\4"+
     "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\12\4\1\204\33\4\4\0"+
+    "\1\4\4\0\4\4\1\75\2\4\1\0\15\4\7\0"+
+    "\1\62\1\0\1\62\14\0\1\62\5\0\1\62\46\0"+
+    "\1\3\6\4\12\0\1\3\2\4\2\0\1\4\1\76"+
+    "\1\4\1\0\2\4\1\0\1\4\1\77\1\0\1\3"+
+    "\1\4\4\0\5\4\1\100\1\4\1\0\2\4\1\101"+
+    "\12\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
+    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
+    "\4\0\1\102\6\4\1\0\3\4\1\103\11\4\4\0"+
     "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
     "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\7\4"+
-    "\1\0\10\4\1\205\35\4\4\0\1\3\6\4\12\0"+
-    "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\7\4\1\0\21\4\1\206"+
-    "\24\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\5\4\1\207\1\4\1\0\46\4\4\0\1\3"+
+    "\1\0\6\4\1\104\6\4\4\0\1\3\6\4\12\0"+
+    "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\1\4"+
+    "\1\105\1\0\1\3\1\4\4\0\1\4\1\106\5\4"+
+    "\1\0\1\4\1\107\5\4\1\110\5\4\4\0\1\3"+
     "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
     "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\21\4\1\210\24\4\4\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\7\4\1\0\3\4\1\211\42\4"+
+    "\1\111\14\4\4\0\1\3\6\4\12\0\1\3\2\4"+
+    "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
+    "\1\4\4\0\5\4\1\112\1\4\1\0\1\111\14\4"+
     "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
     "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\7\4\1\0\13\4\1\122\32\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\4\4\1\212\2\4"+
-    "\1\0\46\4\4\0\1\3\6\4\12\0\1\3\2\4"+
-    "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\17\4\1\213\26\4\4\0"+
-    "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
-    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\7\4"+
-    "\1\0\13\4\1\214\32\4\4\0\1\3\6\4\12\0"+
+    "\1\113\6\4\1\0\15\4\4\0\1\3\6\4\12\0"+
     "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\6\4\1\215\1\0\46\4"+
+    "\1\0\1\3\1\4\4\0\6\4\1\114\1\0\15\4"+
     "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
     "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\2\4\1\216\4\4\1\0\46\4\4\0\1\3\6\4"+
+    "\5\4\1\115\1\4\1\0\15\4\4\0\1\3\6\4"+
     "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\1\4\1\210\5\4"+
-    "\1\0\46\4\4\0\1\3\6\4\12\0\1\3\2\4"+
-    "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\6\4\1\217\1\0\46\4\4\0\1\3"+
-    "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\3\4\1\220"+
-    "\3\4\1\0\46\4\4\0\1\3\6\4\12\0\1\3"+
+    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\2\4"+
+    "\1\116\1\117\11\4\4\0\1\3\6\4\12\0\1\3"+
     "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\4\4\1\221\2\4\1\0\46\4"+
+    "\1\3\1\4\4\0\7\4\1\0\2\4\1\120\12\4"+
     "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
     "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\7\4\1\0\4\4\1\222\41\4\4\0\1\3\6\4"+
+    "\2\4\1\77\4\4\1\0\15\4\4\0\1\3\6\4"+
     "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\6\4\1\223\1\0"+
-    "\46\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\2\4\1\224\1\111\3\4\1\0\46\4\4\0"+
+    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\6\4"+
+    "\1\121\6\4\4\0\1\3\6\4\12\0\1\3\2\4"+
+    "\2\0\1\4\1\122\1\4\1\0\2\4\1\0\2\4"+
+    "\1\0\1\3\1\4\4\0\7\4\1\0\15\4\4\0"+
     "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
     "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\7\4"+
-    "\1\0\3\4\1\225\42\4\4\0\1\3\6\4\12\0"+
-    "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\6\4\1\226\1\0\46\4"+
-    "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\7\4\1\0\12\4\1\111\32\4\1\227\4\0\1\3"+
-    "\6\4\12\0\1\3\2\4\2\0\1\4\1\230\1\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\7\4\1\0\46\4\4\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\7\4\1\0\13\4\1\231\32\4"+
-    "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\7\4\1\0\13\4\1\232\32\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\3\4"+
-    "\1\233\42\4\4\0\1\3\6\4\12\0\1\3\2\4"+
-    "\2\0\1\234\2\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\7\4\1\0\46\4\4\0\1\3"+
+    "\1\0\2\4\1\105\12\4\101\0\1\7\77\0\1\7"+
+    "\24\51\1\0\11\51\1\0\7\51\1\0\7\51\1\0"+
+    "\20\51\47\0\1\123\2\0\1\124\73\0\1\125\105\0"+
+    "\1\126\20\0\7\56\12\0\3\56\2\0\3\56\1\0"+
+    "\2\56\1\0\2\56\1\0\2\56\4\0\7\56\1\0"+
+    "\15\56\4\0\3\56\1\127\1\56\1\127\1\56\1\130"+
+    "\10\0\1\130\1\56\1\127\1\56\2\0\2\56\1\127"+
+    "\1\0\2\56\1\0\2\56\1\0\2\56\4\0\7\56"+
+    "\1\0\15\56\4\0\7\56\12\0\3\56\2\0\3\56"+
+    "\1\0\1\56\1\131\1\0\2\56\1\0\2\56\4\0"+
+    "\5\56\1\131\1\56\1\0\15\56\4\0\7\56\12\0"+
+    "\3\56\2\0\3\56\1\0\1\131\1\56\1\0\2\56"+
+    "\1\0\2\56\4\0\7\56\1\0\13\56\1\131\1\56"+
+    "\4\0\3\56\1\62\1\56\1\62\1\132\12\0\1\56"+
+    "\1\62\1\56\2\0\2\56\1\62\1\0\1\56\1\133"+
+    "\1\0\2\133\1\0\2\56\4\0\5\56\1\133\1\132"+
+    "\1\0\15\56\4\0\14\134\1\135\7\134\1\0\62\134"+
+    "\1\136\3\134\1\135\7\134\1\0\57\134\1\137\2\134"+
+    "\1\64\3\134\1\140\4\134\1\64\1\141\1\142\1\0"+
+    "\3\64\1\141\5\134\1\64\10\134\1\64\11\134\1\64"+
+    "\1\134\1\64\1\134\1\64\11\134\5\71\1\20\2\71"+
+    "\1\20\3\71\1\20\4\71\2\20\1\143\1\0\4\20"+
+    "\5\71\1\20\10\71\1\20\11\71\1\20\1\71\1\20"+
+    "\1\71\1\20\32\71\1\144\3\71\1\145\51\71\1\3"+
     "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\1\4\1\235"+
-    "\5\4\1\0\46\4\4\0\1\3\6\4\12\0\1\3"+
+    "\1\0\2\4\1\0\1\3\1\4\4\0\4\4\1\146"+
+    "\2\4\1\0\15\4\4\0\3\56\4\147\12\0\1\56"+
+    "\1\147\1\56\2\0\1\56\2\147\1\0\2\56\1\0"+
+    "\2\147\1\0\2\56\4\0\6\56\1\147\1\0\5\56"+
+    "\2\147\5\56\1\147\4\0\1\3\6\4\12\0\1\3"+
     "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\7\4\1\0\12\4\1\111\33\4"+
-    "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\1\4"+
-    "\1\236\1\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\46\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\31\4"+
-    "\1\111\14\4\4\0\1\3\6\4\12\0\1\3\2\4"+
-    "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\12\4\1\237\33\4\4\0"+
-    "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
-    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\7\4"+
-    "\1\0\1\111\45\4\4\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\3\4\1\111\3\4\1\0\46\4"+
+    "\1\3\1\4\4\0\7\4\1\0\7\4\1\150\5\4"+
     "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
     "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\7\4\1\0\21\4\1\240\24\4\4\0\1\3\6\4"+
+    "\5\4\1\151\1\4\1\0\15\4\4\0\1\3\6\4"+
     "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\4\4\1\241\2\4"+
-    "\1\0\46\4\4\0\1\3\6\4\12\0\1\3\2\4"+
+    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\6\4"+
+    "\1\152\6\4\4\0\1\3\6\4\12\0\1\3\2\4"+
     "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\4\4\1\232\2\4\1\0\46\4\4\0"+
+    "\1\4\4\0\7\4\1\0\2\4\1\153\12\4\4\0"+
     "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
     "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\7\4"+
-    "\1\0\12\4\1\242\1\4\1\243\31\4\54\0\1\244"+
-    "\132\0\1\245\123\0\1\246\136\0\1\247\51\0\3\70"+
-    "\1\163\1\70\1\163\1\70\12\0\1\70\1\163\1\70"+
-    "\2\0\2\70\1\163\1\0\1\72\1\73\1\0\2\70"+
-    "\1\0\2\70\4\0\5\70\1\73\1\70\1\0\17\70"+
-    "\1\72\13\70\1\163\6\70\2\163\2\70\7\0\1\163"+
-    "\1\0\1\163\14\0\1\163\5\0\1\163\60\0\1\163"+
-    "\6\0\2\163\6\0\3\70\1\250\1\70\1\250\1\70"+
-    "\1\251\10\0\1\251\1\70\1\250\1\70\2\0\2\70"+
-    "\1\250\1\0\2\70\1\0\2\70\1\0\2\70\4\0"+
-    "\7\70\1\0\33\70\1\250\6\70\2\250\2\70\4\0"+
-    "\14\170\1\100\7\170\1\0\114\170\3\76\1\174\4\76"+
-    "\3\170\1\0\110\170\1\76\6\170\1\171\5\170\1\76"+
-    "\1\170\1\0\3\170\1\76\60\170\1\76\6\170\2\76"+
-    "\6\170\14\0\1\171\113\0\5\170\1\173\6\170\1\171"+
-    "\5\170\1\173\1\170\1\0\3\170\1\173\60\170\1\173"+
-    "\6\170\2\173\11\170\4\252\5\170\1\100\5\170\1\252"+
-    "\1\170\1\0\2\170\2\252\4\170\2\252\15\170\1\252"+
-    "\3\170\1\252\2\170\1\252\1\170\1\252\4\170\1\252"+
-    "\4\170\1\252\5\170\1\252\3\170\1\252\6\170\2\252"+
-    "\6\170\3\103\4\253\12\103\1\200\1\253\2\103\1\201"+
-    "\1\103\2\253\4\103\2\253\15\103\1\253\3\103\1\253"+
-    "\2\103\1\253\1\103\1\253\4\103\1\253\4\103\1\253"+
-    "\5\103\1\253\3\103\1\253\6\103\2\253\32\103\1\0"+
-    "\103\103\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\7\4\1\0\14\4\1\122\31\4\4\0\3\70\4\203"+
-    "\12\0\1\70\1\203\1\70\2\0\1\70\2\203\1\0"+
-    "\1\254\1\255\1\0\2\203\1\0\2\70\4\0\5\70"+
-    "\1\255\1\203\1\0\2\70\1\203\2\70\1\203\1\70"+
-    "\1\203\4\70\1\203\2\70\1\254\1\70\1\203\5\70"+
-    "\1\203\3\70\1\203\6\70\2\203\2\70\4\0\1\3"+
+    "\1\0\3\4\1\105\11\4\4\0\1\3\6\4\12\0"+
+    "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
+    "\1\0\1\3\1\4\4\0\4\4\1\154\2\4\1\0"+
+    "\15\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
+    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
+    "\4\0\7\4\1\0\13\4\1\155\1\4\4\0\1\3"+
     "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
     "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\35\4\1\256\10\4\4\0\1\3\6\4\12\0\1\3"+
+    "\3\4\1\156\11\4\4\0\1\3\6\4\12\0\1\3"+
     "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\7\4\1\0\42\4\1\257\3\4"+
-    "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\1\4\1\260\5\4\1\0\46\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\3\4\1\213\3\4"+
-    "\1\0\46\4\4\0\1\3\6\4\12\0\1\3\2\4"+
-    "\2\0\1\4\1\125\1\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\7\4\1\0\46\4\4\0"+
+    "\1\3\1\4\4\0\6\4\1\157\1\0\15\4\4\0"+
     "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
-    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\3\4"+
-    "\1\122\3\4\1\0\46\4\4\0\1\3\6\4\12\0"+
+    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\2\4"+
+    "\1\160\4\4\1\0\15\4\4\0\1\3\6\4\12\0"+
     "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\6\4\1\261\1\0\46\4"+
-    "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\4\4\1\262\2\4\1\0\46\4\4\0\1\3\6\4"+
+    "\1\0\1\3\1\4\4\0\1\4\1\152\5\4\1\0"+
+    "\15\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
+    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
+    "\4\0\6\4\1\161\1\0\15\4\4\0\1\3\6\4"+
     "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\4\4"+
-    "\1\263\41\4\4\0\1\3\6\4\12\0\1\3\2\4"+
+    "\2\4\1\0\1\3\1\4\4\0\3\4\1\162\3\4"+
+    "\1\0\15\4\4\0\1\3\6\4\12\0\1\3\2\4"+
     "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\3\4\1\264\42\4\4\0"+
-    "\1\3\6\4\12\0\1\3\2\4\2\0\1\4\1\265"+
-    "\1\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\7\4\1\0\46\4\4\0\1\3\6\4\12\0"+
+    "\1\4\4\0\4\4\1\163\2\4\1\0\15\4\4\0"+
+    "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
+    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\1\4"+
+    "\1\164\5\4\1\0\15\4\4\0\1\3\6\4\12\0"+
     "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\6\4\1\122\1\0\46\4"+
-    "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\5\4\1\220\1\4\1\0\46\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\6\4\1\266\1\0"+
-    "\46\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\1\4\1\267\1\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\7\4\1\0\46\4\4\0\1\3"+
-    "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\16\4\1\270\27\4\4\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\5\4\1\210\1\4\1\0\46\4"+
-    "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\1\4"+
-    "\1\271\1\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\46\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\6\4\1\272\1\0"+
-    "\46\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
+    "\1\0\1\3\1\4\4\0\7\4\1\0\2\4\1\165"+
+    "\12\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
     "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\2\4\1\270\4\4\1\0\46\4\4\0\1\3"+
+    "\4\0\7\4\1\0\2\4\1\166\12\4\4\0\1\3"+
     "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\6\4\1\273"+
-    "\1\0\46\4\4\0\1\3\6\4\12\0\1\3\2\4"+
+    "\1\0\2\4\1\0\1\3\1\4\4\0\6\4\1\167"+
+    "\1\0\15\4\4\0\1\3\6\4\12\0\1\3\2\4"+
     "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\1\4\1\111\5\4\1\0\46\4\4\0"+
+    "\1\4\4\0\7\4\1\0\7\4\1\170\5\4\4\0"+
     "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
     "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\7\4"+
-    "\1\0\5\4\1\274\40\4\4\0\1\3\6\4\12\0"+
+    "\1\0\3\4\1\171\11\4\4\0\1\3\6\4\12\0"+
     "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\7\4\1\0\22\4\1\54"+
-    "\23\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\7\4\1\0\17\4\1\275\26\4\4\0\1\3"+
-    "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\21\4\1\276\24\4\4\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\1\4\1\277\1\4\1\300\3\4"+
-    "\1\0\46\4\4\0\1\3\6\4\12\0\1\3\2\4"+
-    "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\2\4\1\301\3\4\1\302"+
-    "\6\4\1\303\30\4\4\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\1\4\1\304\5\4\1\0\46\4"+
-    "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\7\4\1\0\14\4\1\111\31\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\4\4\1\305\2\4"+
-    "\1\0\46\4\61\0\1\306\126\0\1\244\123\0\1\307"+
-    "\113\0\1\310\73\0\3\70\1\250\1\70\1\250\1\70"+
-    "\12\0\1\70\1\250\1\70\2\0\2\70\1\250\1\0"+
-    "\1\70\1\167\1\0\2\167\1\0\2\70\4\0\5\70"+
-    "\1\167\1\70\1\0\33\70\1\250\6\70\2\250\2\70"+
-    "\7\0\1\250\1\0\1\250\14\0\1\250\5\0\1\250"+
-    "\60\0\1\250\6\0\2\250\6\0\3\170\4\76\5\170"+
-    "\1\100\5\170\1\76\1\170\1\0\2\170\2\76\4\170"+
-    "\2\76\15\170\1\76\3\170\1\76\2\170\1\76\1\170"+
-    "\1\76\4\170\1\76\4\170\1\76\5\170\1\76\3\170"+
-    "\1\76\6\170\2\76\6\170\3\103\4\20\12\103\1\200"+
-    "\1\20\2\103\1\201\1\103\2\20\4\103\2\20\15\103"+
-    "\1\20\3\103\1\20\2\103\1\20\1\103\1\20\4\103"+
-    "\1\20\4\103\1\20\5\103\1\20\3\103\1\20\6\103"+
-    "\2\20\6\103\7\70\12\0\3\70\2\0\3\70\1\0"+
-    "\1\70\1\311\1\0\2\70\1\0\2\70\4\0\5\70"+
-    "\1\311\1\70\1\0\46\70\4\0\7\70\12\0\3\70"+
-    "\2\0\3\70\1\0\1\311\1\70\1\0\2\70\1\0"+
-    "\2\70\4\0\7\70\1\0\17\70\1\311\26\70\4\0"+
-    "\1\3\6\4\11\0\1\312\1\3\2\4\2\0\3\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\7\4\1\0\46\4\4\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\2\4\1\111\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\7\4\1\0\46\4\4\0"+
+    "\1\0\1\3\1\4\4\0\7\4\1\0\1\4\1\162"+
+    "\13\4\54\0\1\172\101\0\1\173\72\0\1\174\105\0"+
+    "\1\175\20\0\3\56\1\127\1\56\1\127\1\56\12\0"+
+    "\1\56\1\127\1\56\2\0\2\56\1\127\1\0\1\60"+
+    "\1\61\1\0\2\56\1\0\2\56\4\0\5\56\1\61"+
+    "\1\56\1\0\13\56\1\60\1\56\7\0\1\127\1\0"+
+    "\1\127\14\0\1\127\5\0\1\127\46\0\3\56\1\176"+
+    "\1\56\1\176\1\56\1\177\10\0\1\177\1\56\1\176"+
+    "\1\56\2\0\2\56\1\176\1\0\2\56\1\0\2\56"+
+    "\1\0\2\56\4\0\7\56\1\0\15\56\4\0\14\134"+
+    "\1\66\7\134\1\0\63\134\3\64\1\140\4\64\3\134"+
+    "\1\0\57\134\1\64\6\134\1\135\5\134\1\64\1\134"+
+    "\1\0\3\134\1\64\46\134\14\0\1\135\62\0\5\134"+
+    "\1\137\6\134\1\135\5\134\1\137\1\134\1\0\3\134"+
+    "\1\137\51\134\4\200\5\134\1\66\5\134\1\200\1\134"+
+    "\1\0\2\134\2\200\4\134\2\200\15\134\1\200\6\134"+
+    "\2\200\5\134\1\200\4\134\3\71\4\201\12\71\1\144"+
+    "\1\201\2\71\1\145\1\71\2\201\4\71\2\201\15\71"+
+    "\1\201\6\71\2\201\5\71\1\201\30\71\1\0\52\71"+
     "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
     "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\7\4"+
-    "\1\0\3\4\1\313\42\4\4\0\1\3\6\4\12\0"+
-    "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\2\4\1\300\4\4\1\0"+
-    "\46\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\7\4\1\0\14\4\1\314\31\4\4\0\1\3"+
+    "\1\0\14\4\1\105\4\0\3\56\4\147\12\0\1\56"+
+    "\1\147\1\56\2\0\1\56\2\147\1\0\1\202\1\203"+
+    "\1\0\2\147\1\0\2\56\4\0\5\56\1\203\1\147"+
+    "\1\0\5\56\2\147\4\56\1\202\1\147\4\0\1\3"+
     "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
     "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\13\4\1\315\32\4\4\0\1\3\6\4\12\0\1\3"+
+    "\10\4\1\105\4\4\4\0\1\3\6\4\12\0\1\3"+
     "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\2\4\1\316\4\4\1\0\46\4"+
-    "\4\0\1\3\6\4\11\0\1\317\1\3\2\4\2\0"+
-    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\7\4\1\0\46\4\4\0\1\3\6\4\12\0"+
-    "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\7\4\1\0\13\4\1\320"+
-    "\32\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\7\4\1\0\15\4\1\321\30\4\4\0\1\3"+
+    "\1\3\1\4\4\0\3\4\1\155\3\4\1\0\15\4"+
+    "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\1\4"+
+    "\1\110\1\4\1\0\2\4\1\0\2\4\1\0\1\3"+
+    "\1\4\4\0\7\4\1\0\15\4\4\0\1\3\6\4"+
+    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
+    "\2\4\1\0\1\3\1\4\4\0\3\4\1\105\3\4"+
+    "\1\0\15\4\4\0\1\3\6\4\12\0\1\3\2\4"+
+    "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
+    "\1\4\4\0\6\4\1\204\1\0\15\4\4\0\1\3"+
     "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\35\4\1\122\10\4\4\0\1\3\6\4\12\0\1\3"+
+    "\1\0\2\4\1\0\1\3\1\4\4\0\4\4\1\205"+
+    "\2\4\1\0\15\4\4\0\1\3\6\4\12\0\1\3"+
     "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\7\4\1\0\36\4\1\322\7\4"+
+    "\1\3\1\4\4\0\7\4\1\0\1\4\1\206\13\4"+
     "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
     "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\6\4\1\323\1\0\46\4\4\0\1\3\6\4\12\0"+
-    "\1\3\2\4\2\0\1\4\1\324\1\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\46\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\7\4\1\0\13\4\1\325\32\4\4\0\1\3"+
-    "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\6\4\1\326"+
-    "\1\0\46\4\4\0\1\3\6\4\12\0\1\3\2\4"+
-    "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\4\4\1\327\2\4\1\0\46\4\4\0"+
-    "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
-    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\1\4"+
-    "\1\122\5\4\1\0\46\4\4\0\1\3\6\4\12\0"+
-    "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\7\4\1\0\3\4\1\152"+
-    "\42\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\4\4\1\145\2\4\1\0\46\4\4\0\1\3"+
-    "\6\4\12\0\1\3\2\4\2\0\1\4\1\145\1\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\7\4\1\0\46\4\4\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\3\4\1\0\2\4\1\0\1\4\1\330"+
-    "\1\0\1\3\1\4\4\0\7\4\1\0\14\4\1\331"+
-    "\31\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\1\4\1\332\1\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\7\4\1\0\46\4\17\0\1\333"+
-    "\165\0\1\244\3\0\1\306\53\0\1\310\1\334\4\310"+
-    "\4\334\1\310\1\334\2\0\2\334\1\0\2\310\2\0"+
-    "\3\310\1\0\2\310\1\334\2\310\1\0\1\334\1\310"+
-    "\4\334\7\310\1\334\46\310\2\0\1\334\17\0\1\335"+
-    "\111\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\7\4\1\0\13\4\1\336\32\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\1\4\1\337\1\4\1\0"+
+    "\7\4\1\0\2\4\1\207\12\4\4\0\1\3\6\4"+
+    "\12\0\1\3\2\4\2\0\1\4\1\210\1\4\1\0"+
     "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\7\4"+
-    "\1\0\46\4\4\0\1\3\6\4\12\0\1\3\2\4"+
+    "\1\0\15\4\4\0\1\3\6\4\12\0\1\3\2\4"+
     "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\1\4\1\340\5\4\1\0\46\4\4\0"+
-    "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
-    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\7\4"+
-    "\1\0\3\4\1\341\42\4\22\0\1\342\111\0\1\3"+
+    "\1\4\4\0\6\4\1\105\1\0\15\4\4\0\1\3"+
     "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\15\4\1\343\30\4\4\0\1\3\6\4\12\0\1\3"+
+    "\1\0\2\4\1\0\1\3\1\4\4\0\5\4\1\162"+
+    "\1\4\1\0\15\4\4\0\1\3\6\4\12\0\1\3"+
     "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\4\4\1\344\2\4\1\0\46\4"+
+    "\1\3\1\4\4\0\7\4\1\0\13\4\1\211\1\4"+
     "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
-    "\1\0\2\4\1\0\1\4\1\345\1\0\1\3\1\4"+
-    "\4\0\7\4\1\0\46\4\4\0\1\3\6\4\12\0"+
-    "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\7\4\1\0\12\4\1\346"+
-    "\33\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\5\4\1\122\1\4\1\0\46\4\4\0\1\3"+
-    "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\12\4\1\122\33\4\4\0\1\3\3\4\1\111\2\4"+
+    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
+    "\7\4\1\0\5\4\1\212\7\4\4\0\1\3\6\4"+
     "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\6\4"+
-    "\1\111\6\4\1\347\7\4\1\350\20\4\4\0\1\3"+
+    "\2\4\1\0\1\3\1\4\4\0\5\4\1\152\1\4"+
+    "\1\0\15\4\4\0\1\3\6\4\12\0\1\3\2\4"+
+    "\2\0\1\4\1\150\1\4\1\0\2\4\1\0\2\4"+
+    "\1\0\1\3\1\4\4\0\7\4\1\0\15\4\4\0"+
+    "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
+    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\1\4"+
+    "\1\213\1\4\1\214\3\4\1\0\15\4\4\0\1\3"+
     "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\12\4\1\351\33\4\4\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\7\4\1\0\13\4\1\352\32\4"+
+    "\1\0\2\4\1\0\1\3\1\4\4\0\6\4\1\215"+
+    "\1\0\15\4\61\0\1\216\75\0\1\172\72\0\1\217"+
+    "\62\0\1\220\42\0\3\56\1\176\1\56\1\176\1\56"+
+    "\12\0\1\56\1\176\1\56\2\0\2\56\1\176\1\0"+
+    "\1\56\1\133\1\0\2\133\1\0\2\56\4\0\5\56"+
+    "\1\133\1\56\1\0\15\56\7\0\1\176\1\0\1\176"+
+    "\14\0\1\176\5\0\1\176\46\0\3\134\4\64\5\134"+
+    "\1\66\5\134\1\64\1\134\1\0\2\134\2\64\4\134"+
+    "\2\64\15\134\1\64\6\134\2\64\5\134\1\64\4\134"+
+    "\3\71\4\20\12\71\1\144\1\20\2\71\1\145\1\71"+
+    "\2\20\4\71\2\20\15\71\1\20\6\71\2\20\5\71"+
+    "\1\20\4\71\7\56\12\0\3\56\2\0\3\56\1\0"+
+    "\1\56\1\221\1\0\2\56\1\0\2\56\4\0\5\56"+
+    "\1\221\1\56\1\0\15\56\4\0\7\56\12\0\3\56"+
+    "\2\0\3\56\1\0\1\221\1\56\1\0\2\56\1\0"+
+    "\2\56\4\0\7\56\1\0\13\56\1\221\1\56\4\0"+
+    "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
+    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\2\4"+
+    "\1\214\4\4\1\0\15\4\4\0\1\3\6\4\12\0"+
+    "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
+    "\1\0\1\3\1\4\4\0\7\4\1\0\14\4\1\222"+
     "\4\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
     "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\7\4\1\0\13\4\1\353\32\4\4\0\1\3\6\4"+
+    "\7\4\1\0\3\4\1\223\11\4\4\0\1\3\6\4"+
     "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\12\4"+
-    "\1\240\33\4\17\0\1\310\122\0\1\354\14\0\1\355"+
-    "\7\0\1\356\24\0\1\357\3\0\1\360\1\361\1\0"+
-    "\1\362\3\0\1\363\2\0\1\364\1\0\1\365\1\366"+
-    "\3\0\1\367\1\370\6\0\2\355\3\0\1\371\5\0"+
-    "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
-    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\4\4"+
-    "\1\372\2\4\1\0\46\4\4\0\1\3\6\4\12\0"+
+    "\2\4\1\0\1\3\1\4\4\0\2\4\1\224\4\4"+
+    "\1\0\15\4\4\0\1\3\6\4\12\0\1\3\2\4"+
+    "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
+    "\1\4\4\0\7\4\1\0\3\4\1\225\11\4\4\0"+
+    "\1\3\6\4\12\0\1\3\2\4\2\0\1\4\1\226"+
+    "\1\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
+    "\4\0\7\4\1\0\15\4\4\0\1\3\6\4\12\0"+
     "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\1\4\1\373\5\4\1\0"+
-    "\46\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
+    "\1\0\1\3\1\4\4\0\4\4\1\227\2\4\1\0"+
+    "\15\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
     "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\7\4\1\0\12\4\1\210\33\4\37\0\1\374"+
-    "\23\0\1\375\1\376\3\0\1\377\1\u0100\5\0\1\u0101"+
-    "\2\0\1\u0100\1\0\1\u0102\1\u0103\1\0\1\u0104\24\0"+
-    "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
-    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\4\4"+
-    "\1\344\2\4\1\0\13\4\1\u0105\32\4\4\0\1\3"+
+    "\4\0\1\4\1\105\5\4\1\0\15\4\4\0\1\3"+
     "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\5\4\1\u0106"+
-    "\1\4\1\0\46\4\4\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\7\4\1\0\27\4\1\u0107\16\4"+
-    "\4\0\1\3\6\4\11\0\1\u0108\1\3\2\4\2\0"+
-    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\7\4\1\0\46\4\4\0\1\3\6\4\12\0"+
+    "\1\0\2\4\1\0\1\3\1\4\4\0\6\4\1\225"+
+    "\1\0\15\4\17\0\1\230\134\0\1\172\3\0\1\216"+
+    "\22\0\1\220\1\231\4\220\4\231\1\220\1\231\2\0"+
+    "\2\231\1\0\2\220\2\0\3\220\1\0\2\220\1\231"+
+    "\2\220\1\0\1\231\1\220\4\231\7\220\1\231\15\220"+
+    "\2\0\1\231\1\0\1\3\6\4\12\0\1\3\2\4"+
+    "\2\0\1\4\1\232\1\4\1\0\2\4\1\0\2\4"+
+    "\1\0\1\3\1\4\4\0\7\4\1\0\15\4\4\0"+
+    "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
+    "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\1\4"+
+    "\1\233\5\4\1\0\15\4\4\0\1\3\6\4\12\0"+
     "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\7\4\1\0\3\4\1\u0109"+
-    "\42\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\3\4\1\0\1\4\1\111\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\46\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\17\4"+
-    "\1\220\26\4\4\0\1\3\6\4\12\0\1\3\2\4"+
-    "\2\0\1\4\1\u010a\1\4\1\0\2\4\1\0\2\4"+
-    "\1\0\1\3\1\4\4\0\7\4\1\0\46\4\4\0"+
-    "\1\3\6\4\12\0\1\3\2\4\2\0\1\4\1\151"+
-    "\1\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\7\4\1\0\46\4\123\0\1\u010b\37\0\1\u010c"+
-    "\161\0\1\u010d\124\0\1\u010e\123\0\1\u010f\16\0\1\u0110"+
-    "\105\0\1\u0111\20\0\1\u0112\111\0\1\u0113\104\0\1\u0114"+
-    "\22\0\1\u0115\25\0\1\355\101\0\1\u0116\16\0\1\u0117"+
-    "\110\0\1\u0118\1\0\1\u0119\23\0\1\355\126\0\1\u011a"+
-    "\57\0\1\u011b\175\0\1\u011c\32\0\1\3\6\4\12\0"+
-    "\1\3\2\4\2\0\1\4\1\u011d\1\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\46\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\1\4\1\210\1\4\1\0\2\4\1\0\2\4\1\0"+
-    "\1\3\1\4\4\0\7\4\1\0\46\4\65\0\1\u011e"+
-    "\5\0\1\u011f\12\0\1\u0120\101\0\1\u0121\20\0\1\u0122"+
-    "\100\0\1\u0123\12\0\1\u0124\13\0\1\u0125\101\0\1\u0126"+
-    "\4\0\1\u0127\133\0\1\u0128\121\0\1\u0129\130\0\1\u012a"+
-    "\103\0\1\u012b\175\0\1\u012c\32\0\1\3\6\4\12\0"+
-    "\1\3\2\4\2\0\1\4\1\u012d\1\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\46\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
-    "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\6\4\1\111\1\0\46\4\4\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\13\4"+
-    "\1\u012e\32\4\22\0\1\u012f\111\0\1\3\3\4\1\u0130"+
-    "\2\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\7\4\1\0"+
-    "\46\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
+    "\1\0\1\3\1\4\4\0\7\4\1\0\2\4\1\234"+
+    "\12\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
     "\3\4\1\0\2\4\1\0\2\4\1\0\1\3\1\4"+
-    "\4\0\7\4\1\0\4\4\1\u0106\41\4\101\0\1\u0131"+
-    "\124\0\1\u0132\110\0\1\u0133\135\0\1\u0134\137\0\1\355"+
-    "\65\0\1\u0135\45\0\1\u0136\106\0\1\u0137\101\0\1\u0138"+
-    "\21\0\1\u0139\132\0\1\u013a\163\0\1\u013b\71\0\1\u013c"+
-    "\125\0\1\u013d\134\0\1\u013e\122\0\1\u013f\133\0\1\u0140"+
-    "\123\0\1\u0141\151\0\1\u0142\120\0\1\u0143\45\0\1\3"+
+    "\4\0\7\4\1\0\7\4\1\105\5\4\4\0\1\3"+
     "\6\4\12\0\1\3\2\4\2\0\3\4\1\0\2\4"+
-    "\1\0\2\4\1\0\1\3\1\4\4\0\5\4\1\111"+
-    "\1\4\1\0\46\4\33\0\1\u0144\147\0\1\u0145\134\0"+
-    "\1\u0146\122\0\1\u0147\20\0\1\u0148\133\0\1\u0149\107\0"+
-    "\1\u014a\143\0\1\u014b\4\0\1\u014c\123\0\1\u014d\65\0"+
-    "\1\u014e\147\0\1\u014f\141\0\1\u0150\130\0\1\u0151\74\0"+
-    "\1\u0152\151\0\1\u0153\140\0\1\u0154\45\0\1\3\6\4"+
-    "\12\0\1\3\2\4\2\0\3\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\21\4"+
-    "\1\u0106\24\4\4\0\1\3\6\4\12\0\1\3\2\4"+
+    "\1\0\2\4\1\0\1\3\1\4\4\0\5\4\1\105"+
+    "\1\4\1\0\15\4\4\0\1\3\6\4\12\0\1\3"+
+    "\2\4\2\0\3\4\1\0\2\4\1\0\2\4\1\0"+
+    "\1\3\1\4\4\0\7\4\1\0\7\4\1\235\5\4"+
+    "\17\0\1\220\63\0\1\3\6\4\12\0\1\3\2\4"+
     "\2\0\3\4\1\0\2\4\1\0\2\4\1\0\1\3"+
-    "\1\4\4\0\7\4\1\0\13\4\1\u0155\32\4\12\0"+
-    "\1\u0156\24\0\1\u0157\1\0\1\u0158\22\0\1\u0159\3\0"+
-    "\1\u015a\1\u015b\1\0\1\u015c\3\0\1\u015d\2\0\1\u015e"+
-    "\1\0\1\u015f\2\0\1\u0160\1\0\1\u0161\1\u0162\1\0"+
-    "\1\u0163\1\0\1\u0164\15\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\1\4\1\u0165\1\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\46\4"+
-    "\56\0\1\u0166\147\0\1\u0167\110\0\1\u0168\145\0\1\u0169"+
-    "\114\0\1\u016a\141\0\1\u016b\121\0\1\u016c\117\0\1\u016d"+
-    "\152\0\1\u016e\106\0\1\u016f\151\0\1\u0170\2\0\1\u0170"+
-    "\125\0\1\355\136\0\1\370\72\0\1\u0171\101\0\1\u0172"+
-    "\41\0\1\u0173\13\0\1\u0174\4\0\1\u0175\6\0\1\u0172"+
-    "\1\u0176\103\0\1\u0177\107\0\1\u0178\125\0\1\u0179\127\0"+
-    "\1\355\151\0\1\u017a\111\0\1\u017b\147\0\1\u017c\113\0"+
-    "\1\u017d\3\0\1\u017e\11\0\1\u017f\105\0\1\u0180\133\0"+
-    "\1\u0181\76\0\1\u0182\147\0\1\u0183\150\0\1\u0184\135\0"+
-    "\1\u0185\100\0\1\u0186\140\0\1\u0187\3\0\1\u017e\11\0"+
-    "\1\u017f\126\0\1\u014c\106\0\1\u0188\147\0\1\u0189\133\0"+
-    "\1\u018a\114\0\1\u018b\42\0\1\3\6\4\12\0\1\3"+
-    "\2\4\2\0\1\4\1\u018c\1\4\1\0\2\4\1\0"+
-    "\2\4\1\0\1\3\1\4\4\0\7\4\1\0\46\4"+
-    "\57\0\1\u018d\103\0\1\u018e\22\0\1\u018f\6\0\1\u0190"+
-    "\75\0\1\u0191\23\0\1\u0192\126\0\1\u0193\1\u0194\5\0"+
-    "\1\u0195\7\0\1\u0196\105\0\1\u0197\1\u0198\3\0\1\u0199"+
-    "\134\0\1\u019a\7\0\1\u019b\107\0\1\u019c\147\0\1\u019d"+
-    "\112\0\1\u019e\150\0\1\u019f\127\0\1\u01a0\123\0\1\u01a1"+
-    "\65\0\1\u01a2\175\0\1\u01a3\106\0\1\u01a4\4\0\1\u01a5"+
-    "\46\0\1\3\6\4\12\0\1\3\2\4\2\0\3\4"+
-    "\1\0\2\4\1\0\2\4\1\0\1\3\1\4\4\0"+
-    "\3\4\1\u0106\3\4\1\0\46\4\54\0\1\u01a6\133\0"+
-    "\1\u01a7\140\0\1\u01a8\134\0\1\u01a9\60\0\1\u0172\71\0"+
-    "\2\u0172\124\0\1\355\136\0\1\u01aa\56\0\1\u01ab\125\0"+
-    "\1\u01ac\161\0\1\u0174\4\0\1\u0175\121\0\1\355\100\0"+
-    "\1\u01ad\172\0\1\u01ae\65\0\1\u010f\131\0\1\u01af\125\0"+
-    "\1\u01b0\156\0\1\u0174\115\0\1\u01b1\121\0\1\u01b2\135\0"+
-    "\1\u01b3\122\0\1\u017c\116\0\1\u01b4\137\0\1\u01b5\13\0"+
-    "\1\u01b6\131\0\1\u01b7\57\0\1\u01b8\171\0\1\u01b9\117\0"+
-    "\1\u01ba\115\0\1\u01b4\132\0\1\u01bb\124\0\1\u01bc\107\0"+
-    "\1\u01bd\154\0\1\u01b4\134\0\1\u01b5\152\0\1\u01be\107\0"+
-    "\1\u01bf\11\0\1\u01c0\104\0\1\u01c1\130\0\1\u01c2\53\0"+
+    "\1\4\4\0\1\4\1\236\5\4\1\0\15\4\4\0"+
     "\1\3\6\4\12\0\1\3\2\4\2\0\3\4\1\0"+
     "\2\4\1\0\2\4\1\0\1\3\1\4\4\0\7\4"+
-    "\1\0\16\4\1\111\27\4\57\0\1\u01c3\150\0\1\u01c4"+
-    "\102\0\1\u01c5\20\0\1\u01c6\66\0\1\u01c7\151\0\1\u01c8"+
-    "\105\0\1\u01c9\171\0\1\u01ca\112\0\1\u01cb\135\0\1\u01cc"+
-    "\121\0\1\u01cd\102\0\1\u01ce\153\0\1\u01cf\123\0\1\u01d0"+
-    "\141\0\1\u01d1\75\0\1\u01d2\164\0\1\u01d3\115\0\1\u01d4"+
-    "\126\0\1\u01d5\125\0\1\u01d6\142\0\1\u01d7\144\0\1\u01d8"+
-    "\56\0\1\u01d9\130\0\1\u01da\177\0\1\u01db\111\0\1\u01dc"+
-    "\130\0\1\u01dd\136\0\1\u01de\112\0\1\u01df\125\0\1\u01e0"+
-    "\127\0\1\u01e1\61\0\1\355\1\0\1\u01e2\23\0\1\u0143"+
-    "\1\u01e3\30\0\1\u01e4\1\u01e5\10\0\1\u01e6\6\0\1\u01e7"+
-    "\4\0\1\u01e8\21\0\1\355\1\0\1\u01e2\23\0\1\u0143"+
-    "\1\u01e3\30\0\1\u01e4\1\u01e5\10\0\1\u01e9\6\0\1\u01e7"+
-    "\4\0\1\u01e8\53\0\1\u01ea\143\0\1\u01eb\147\0\1\u01ec"+
-    "\104\0\1\u01ed\150\0\1\355\106\0\1\u01ee\142\0\1\u01ef"+
-    "\136\0\1\u01f0\127\0\1\u01f1\106\0\1\u01f2\131\0\1\u01f3"+
-    "\152\0\1\u01f4\122\0\1\u01f5\113\0\1\u01f6\123\0\1\u01f7"+
-    "\106\0\1\u01f8\161\0\1\u01f9\120\0\1\u01fa\104\0\1\u01fb"+
-    "\127\0\1\u01fc\152\0\1\u01fd\131\0\1\u01fe\127\0\1\u01d8"+
-    "\145\0\1\u01ff\104\0\1\u0200\146\0\1\u0201\140\0\1\u0202"+
-    "\57\0\1\u0203\163\0\1\u0204\73\0\1\u0205\147\0\1\u0206"+
-    "\132\0\1\u0207\141\0\1\u0208\6\0\1\u0209\16\0\1\u020a"+
-    "\106\0\1\u01c5\114\0\1\u020b\132\0\1\u020c\75\0\1\u020d"+
-    "\36\0\1\u020e\112\0\1\u020f\156\0\1\u0210\35\0\1\u0211"+
-    "\24\0\1\u0211\33\0\1\u0212\13\0\1\u0213\120\0\1\u01c5"+
-    "\125\0\1\u0214\20\0\1\u0206\63\0\1\u0215\142\0\1\u0216"+
-    "\121\0\1\u0217\76\0\1\355\71\0\1\355\61\0\1\u0218"+
-    "\150\0\1\u0219\122\0\1\u021a\153\0\1\u021b\74\0\1\u021c"+
-    "\122\0\1\u021d\141\0\1\u021e\75\0\1\u0143\31\0\1\u021f"+
-    "\155\0\1\u0220\47\0\1\u0143\136\0\1\u0221\157\0\1\u0222"+
-    "\110\0\1\u0223\134\0\1\u0224\127\0\1\u0225\136\0\1\u0226"+
-    "\130\0\1\u0227\1\u0228\10\0\1\u0229\105\0\1\u022a\110\0"+
-    "\1\u022b\171\0\1\u01b4\120\0\1\u0182\134\0\1\u022c\123\0"+
-    "\1\u01b4\73\0\1\u022d\145\0\1\u022e\151\0\1\u022f\124\0"+
-    "\1\u0230\131\0\1\u0231\102\0\1\u0232\130\0\1\u0233\150\0"+
-    "\1\u0234\44\0\1\u0235\24\0\1\u0235\1\0\1\u0236\31\0"+
-    "\1\u0237\13\0\1\u0238\104\0\1\u0239\12\0\1\u023a\105\0"+
-    "\1\u01c5\131\0\1\u01c6\145\0\1\u023b\117\0\1\u023c\115\0"+
-    "\1\u023d\134\0\1\u01c5\143\0\1\u01c6\111\0\1\u023e\127\0"+
-    "\1\u023f\131\0\1\u0240\57\0\1\u0241\26\0\1\u0242\24\0"+
-    "\1\u0243\3\0\1\u0244\2\0\1\u0245\3\0\1\u023a\107\0"+
-    "\1\u0246\144\0\1\u0247\125\0\1\u0248\70\0\1\u0249\152\0"+
-    "\1\u024a\163\0\1\u024b\70\0\1\u024c\160\0\1\u024d\140\0"+
-    "\1\u024e\45\0\1\u020d\165\0\1\u024f\5\0\1\u0250\124\0"+
-    "\1\u0251\113\0\1\367\162\0\1\355\73\0\1\u0252\76\0"+
-    "\1\355\66\0\1\355\6\0\2\355\44\0\1\u0251\120\0"+
-    "\1\u0253\156\0\1\u01b2\146\0\1\u0254\104\0\1\u0255\126\0"+
-    "\1\u0256\124\0\1\u0251\127\0\1\355\143\0\1\355\127\0"+
-    "\1\u0257\126\0\1\u0258\145\0\1\u0259\126\0\1\u025a\60\0"+
-    "\1\u025b\154\0\1\u025c\126\0\1\u025d\130\0\1\u025e\126\0"+
-    "\1\u025f\126\0\1\u0260\145\0\1\u0261\111\0\1\u0262\131\0"+
-    "\1\u0260\121\0\1\u017c\132\0\1\u01c6\142\0\1\u0263\11\0"+
-    "\1\u0264\137\0\1\u0265\56\0\1\u0266\141\0\1\u0267\160\0"+
-    "\1\u0266\110\0\1\u0268\120\0\1\u0202\141\0\1\u0269\100\0"+
-    "\1\u01c5\22\0\1\u01c5\3\0\2\u01c5\1\0\1\u01c5\3\0"+
-    "\1\u01c5\110\0\1\u026a\145\0\1\u026b\110\0\1\u026b\144\0"+
-    "\1\u026c\111\0\1\u026d\104\0\1\u026e\146\0\1\u026f\12\0"+
-    "\1\u0268\115\0\1\u0270\27\0\1\u0271\120\0\1\u0272\111\0"+
-    "\1\u0273\143\0\1\u0202\115\0\1\u0274\141\0\1\u01c6\150\0"+
-    "\1\u0275\74\0\1\u0276\127\0\1\u0277\133\0\1\u0278\134\0"+
-    "\1\u01d8\71\0\1\u0279\174\0\1\u027a\102\0\1\355\134\0"+
-    "\1\355\144\0\1\u0251\107\0\1\u027b\127\0\1\u027c\132\0"+
-    "\1\u0251\133\0\1\u027d\104\0\1\u022b\22\0\1\u027e\3\0"+
-    "\1\u027f\1\u0280\1\0\1\u0281\3\0\1\u0282\125\0\1\u0283"+
-    "\65\0\1\u0284\150\0\1\u0262\147\0\1\u0285\66\0\1\u0286"+
-    "\164\0\1\u0287\1\u0288\71\0\1\u0289\172\0\1\u01b4\127\0"+
-    "\1\u0262\134\0\1\u0271\57\0\1\u028a\154\0\1\u028b\133\0"+
-    "\1\u01d8\123\0\1\u028c\135\0\1\u028d\115\0\1\u028e\65\0"+
-    "\1\u0235\24\0\1\u0235\33\0\1\u0237\13\0\1\u0238\100\0"+
-    "\1\u028f\145\0\1\u0290\104\0\1\u0291\154\0\1\u0292\62\0"+
-    "\1\u0293\171\0\1\u0294\127\0\1\u0295\105\0\1\u0296\152\0"+
-    "\1\u01d8\126\0\1\u0297\112\0\1\u0298\102\0\1\u0299\162\0"+
-    "\1\u0278\116\0\1\u01d8\125\0\1\u029a\130\0\1\u0206\133\0"+
-    "\1\u029b\105\0\1\u0143\1\u029c\31\0\1\u01e5\24\0\1\u01af"+
-    "\70\0\1\u029d\140\0\1\u029e\124\0\1\u029f\75\0\1\u02a0"+
-    "\170\0\1\u02a1\133\0\1\u02a2\107\0\1\u02a3\123\0\1\u02a4"+
-    "\143\0\1\u02a5\1\u0262\130\0\1\u0262\140\0\1\u02a6\126\0"+
-    "\1\u02a7\117\0\1\u01b4\111\0\1\u01d8\106\0\1\u02a8\162\0"+
-    "\1\u01d8\130\0\1\u02a9\135\0\1\u02aa\144\0\1\u02ab\75\0"+
-    "\1\u02ac\135\0\1\u0264\121\0\1\u02ad\144\0\1\u02ae\110\0"+
-    "\1\u02af\131\0\1\u02b0\127\0\1\u02b1\137\0\1\u02b2\116\0"+
-    "\1\u01d8\124\0\1\u02b3\106\0\1\u01c5\104\0\1\355\16\0"+
-    "\1\355\71\0\2\355\40\0\1\u02b4\154\0\1\u02b5\126\0"+
-    "\1\u02b6\123\0\1\u02b7\126\0\1\u02b8\131\0\1\u02b9\133\0"+
-    "\1\u02ba\137\0\1\u0227\112\0\1\u02bb\151\0\1\u02bc\65\0"+
-    "\1\u02bd\150\0\1\u02be\140\0\1\u01d8\120\0\1\u02bf\104\0"+
-    "\1\u02c0\171\0\1\u02c1\127\0\1\u01d8\65\0\1\u02c2\170\0"+
-    "\1\u02c3\113\0\1\u02c4\141\0\1\u0292\115\0\1\u02c5\134\0"+
-    "\1\u02c6\117\0\1\u02c7\125\0\1\u0262\132\0\1\u0261\104\0"+
-    "\1\u0262\154\0\1\u02c8\127\0\1\u0262\143\0\1\u0262\66\0"+
-    "\1\u02c9\154\0\1\u02ca\123\0\1\u01b4\140\0\1\u02c4\115\0"+
-    "\1\u02cb\151\0\1\u028a\131\0\1\u02cc\133\0\1\u02cd\116\0"+
-    "\1\u01d8\131\0\1\u01d8\136\0\1\u02ce\120\0\1\u0278\110\0"+
-    "\1\u0262\147\0\1\u02cf\105\0\1\u02b9\134\0\1\u02d0\127\0"+
-    "\1\u0278\102\0\1\u02d1\147\0\1\u0292\151\0\1\u02d2\112\0"+
-    "\1\u02d3\143\0\1\u01b4\130\0\1\u02d4\112\0\1\u02d5\143\0"+
-    "\1\u02d6\125\0\1\u02d7\110\0\1\u0278\127\0\1\u01f2\134\0"+
-    "\1\u02d8\122\0\1\u01d8\60\0";
+    "\1\0\7\4\1\152\5\4\4\0\1\3\6\4\12\0"+
+    "\1\3\2\4\2\0\3\4\1\0\2\4\1\0\2\4"+
+    "\1\0\1\3\1\4\4\0\7\4\1\0\13\4\1\162"+
+    "\1\4\4\0\1\3\6\4\12\0\1\3\2\4\2\0"+
+    "\1\4\1\152\1\4\1\0\2\4\1\0\2\4\1\0"+
+    "\1\3\1\4\4\0\7\4\1\0\15\4\4\0";
 
   private static int [] zzUnpackTrans() {
-    int [] result = new int[61600];
+    int [] result = new int[8820];
     int offset = 0;
     offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
     return result;
@@ -979,20 +513,13 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
   private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
 
   private static final String ZZ_ATTRIBUTE_PACKED_0 =
-    "\2\0\4\1\1\11\1\1\1\11\16\1\2\11\32\1"+
-    "\1\11\10\1\1\11\2\1\1\11\3\1\1\11\52\1"+
-    "\4\0\1\1\1\0\4\1\1\11\7\1\1\11\42\1"+
-    "\4\0\1\1\1\0\34\1\2\0\2\1\1\0\4\1"+
-    "\1\0\13\1\3\0\4\1\1\0\11\1\1\0\1\11"+
-    "\14\0\2\1\11\0\3\1\1\0\2\1\22\0\1\1"+
-    "\17\0\2\1\1\0\1\1\44\0\1\1\5\0\1\1"+
-    "\11\0\1\1\6\0\1\1\14\0\1\11\16\0\1\1"+
-    "\3\0\1\1\47\0\1\11\20\0\1\11\22\0\1\11"+
-    "\12\0\1\1\3\0\2\1\53\0\1\1\115\0\1\11"+
-    "\101\0\1\1\64\0";
+    "\2\0\4\1\1\11\1\1\1\11\15\1\2\11\21\1"+
+    "\1\11\10\1\1\11\2\1\1\11\3\1\1\11\30\1"+
+    "\4\0\1\1\1\0\4\1\1\11\7\1\1\11\24\1"+
+    "\4\0\1\1\1\0\16\1\2\0\10\1\2\0\5\1";
 
   private static int [] zzUnpackAttribute() {
-    int [] result = new int[728];
+    int [] result = new int[158];
     int offset = 0;
     offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
     return result;
@@ -1042,6 +569,42 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
   /* user code: */
 
 
+	/**
+	 * The maximum number of lines whose tokens each instance caches, or
+	 * <code>0</code> for no caching.
+	 */
+	private static volatile int tokenListCacheSize = 2048;
+
+	/**
+	 * Longer lines are always re-lexed, to keep the cache's memory bounded.
+	 */
+	private static final int MAX_CACHED_LINE_LENGTH = 512;
+
+	/**
+	 * The tokens of recently lexed lines, least recently used first.  Each
+	 * value holds the type, start, end and hyperlink flag of each token, with
+	 * start and end relative to the start of the line.
+	 */
+	private Map<LineKey, int[]> tokenListCache;
+	private LineKey lookupKey;
+
+	/**
+	 * Functions and constants declared or imported by the code being edited.
+	 */
+	private Map<String, Integer> userIdentifierMap;
+	private IdentifierTable userIdentifiers;
+
+	/**
+	 * Restyles identifiers by what they refer to, if non-<code>null</code>.
+	 */
+	private SemanticHighlighter semanticHighlighter;
+
+	private static final char[] ARROW = "->".toCharArray();
+	private static final char[] GAME = "Game".toCharArray();
+	private static final char[] LINK = "Link".toCharArray();
+	private static final char[] SCREEN = "Screen".toCharArray();
+
+
 	/**
 	 * Constructor.  This must be here because JFlex does not generate a
 	 * no-parameter constructor.
@@ -1063,6 +626,47 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
 	}
 
 
+	/**
+	 * Adds the identifier just matched to the current linked list of tokens.
+	 * Built-in functions, members of <code>Link</code>, <code>Screen</code>
+	 * and <code>Game</code>, and user functions and constants are given their
+	 * own token types.
+	 */
+	private void addIdentifierToken() {
+
+		int start = zzStartRead;
+		int len = zzMarkedPos - start;
+		BuiltInCatalog catalog = BuiltInCatalog.get();
+		int type;
+
+		// e.g. "Link->X"
+		if (currentToken!=null && currentToken.is(Token.OPERATOR, ARROW) &&
+				previousToken!=null && previousToken.getType()==Token.RESERVED_WORD) {
+			IdentifierTable members = null;
+			if (previousToken.is(Token.RESERVED_WORD, LINK)) {
+				members = catalog.getMemberIdentifiers("Link");
+			}
+			else if (previousToken.is(Token.RESERVED_WORD, SCREEN)) {
+				members = catalog.getMemberIdentifiers("Screen");
+			}
+			else if (previousToken.is(Token.RESERVED_WORD, GAME)) {
+				members = catalog.getMemberIdentifiers("Game");
+			}
+			type = members!=null ? members.get(zzBuffer, start, len) : Token.NULL;
+		}
+
+		else {
+			type = catalog.getGlobalFunctionIdentifiers().get(zzBuffer, start, len);
+			if (type==Token.NULL && userIdentifiers!=null) {
+				type = userIdentifiers.get(zzBuffer, start, len);
+			}
+		}
+
+		addToken(type!=Token.NULL ? type : Token.IDENTIFIER);
+
+	}
+
+
 	/**
 	 * Adds the token specified to the current linked list of tokens.
 	 *
@@ -1110,10 +714,29 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
 	}
 
 
+	/**
+	 * Returns the maximum number of lines whose tokens each instance
+	 * caches.
+	 *
+	 * @return The cache size, or <code>0</code> if caching is disabled.
+	 * @see #setTokenListCacheSize(int)
+	 */
+	public static int getTokenListCacheSize() {
+		return tokenListCacheSize;
+	}
+
+
 	/**
 	 * Returns the first token in the linked list of tokens generated
 	 * from <code>text</code>.  This method must be implemented by
-	 * subclasses so they can correctly implement syntax highlighting.
+	 * subclasses so they can correctly implement syntax highlighting.<p>
+	 *
+	 * The same lines are tokenized over and over, e.g. on each repaint or
+	 * as the mouse moves over them, so the tokens of recently seen lines are
+	 * cached.  A line is looked up by its text and initial token type, so a
+	 * line whose text is unchanged but that now starts in a different state
+	 * is re-lexed.  Semantic styles, if any, are applied afterward, since
+	 * they depend on where the line is rather than just its text.
 	 *
 	 * @param text The text from which to get tokens.
 	 * @param initialTokenType The token type we should start with.
@@ -1121,9 +744,57 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
 	 *        <code>text</code> starts.
 	 * @return The first <code>Token</code> in a linked list representing
 	 *         the syntax highlighted text.
+	 * @see #setTokenListCacheSize(int)
 	 */
 	@Override
 	public Token getTokenList(Segment text, int initialTokenType, int startOffset) {
+		Token first = getLexicalTokenList(text, initialTokenType, startOffset);
+		if (semanticHighlighter!=null) {
+			semanticHighlighter.apply(first);
+		}
+		return first;
+	}
+
+
+	/**
+	 * Returns the tokens of a line, from the cache if possible.
+	 */
+	private Token getLexicalTokenList(Segment text, int initialTokenType,
+			int startOffset) {
+
+		int cacheSize = tokenListCacheSize;
+		if (cacheSize==0 || text.count>MAX_CACHED_LINE_LENGTH) {
+			tokenListCache = null;
+			return lex(text, startOffset);
+		}
+
+		if (tokenListCache==null) {
+			tokenListCache = new LinkedHashMap<LineKey, int[]>(64, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<LineKey, int[]> eldest) {
+					return size()>tokenListCacheSize;
+				}
+			};
+			lookupKey = new LineKey();
+		}
+
+		lookupKey.set(text.array, text.offset, text.count, initialTokenType);
+		int[] cached = tokenListCache.get(lookupKey);
+		if (cached!=null) {
+			return replay(cached, text, startOffset);
+		}
+
+		Token first = lex(text, startOffset);
+		tokenListCache.put(lookupKey.copy(), record(first, text.offset));
+		return first;
+
+	}
+
+
+	/**
+	 * Runs the lexer over a line.
+	 */
+	private Token lex(Segment text, int startOffset) {
 
 		resetTokenList();
 		this.offsetShift = -text.offset + startOffset;
@@ -1144,6 +815,95 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
 	}
 
 
+	/**
+	 * Returns the tokens of a line in the form they are cached.
+	 */
+	private static int[] record(Token first, int textOffset) {
+		int count = 0;
+		for (Token t=first; t!=null; t=t.getNextToken()) {
+			count++;
+		}
+		int[] tokens = new int[count*4];
+		int i = 0;
+		for (Token t=first; t!=null; t=t.getNextToken()) {
+			tokens[i++] = t.getType();
+			if (t.getType()!=Token.NULL) {
+				tokens[i] = t.getTextOffset() - textOffset;
+				tokens[i+1] = tokens[i] + t.length() - 1;
+				tokens[i+2] = t.isHyperlink() ? 1 : 0;
+			}
+			i += 3;
+		}
+		return tokens;
+	}
+
+
+	/**
+	 * Rebuilds the tokens of a line from the cache.
+	 */
+	private Token replay(int[] tokens, Segment text, int startOffset) {
+		resetTokenList();
+		for (int i=0; i<tokens.length; i+=4) {
+			if (tokens[i]==Token.NULL) {
+				addNullToken();
+			}
+			else {
+				int start = text.offset + tokens[i+1];
+				super.addToken(text.array, start, text.offset + tokens[i+2],
+						tokens[i], startOffset + tokens[i+1], tokens[i+3]==1);
+			}
+		}
+		return firstToken;
+	}
+
+
+	/**
+	 * Sets the highlighter that restyles identifiers by what they refer to.
+	 *
+	 * @param highlighter The highlighter, or <code>null</code> for none.
+	 */
+	void setSemanticHighlighter(SemanticHighlighter highlighter) {
+		semanticHighlighter = highlighter;
+	}
+
+
+	/**
+	 * Sets the functions and constants declared or imported by the code
+	 * being edited, so they are highlighted like built-in ones.  Lines
+	 * already cached are discarded if these change.
+	 *
+	 * @param identifiers The identifiers, each mapped to a token type such
+	 *        as <code>Token.FUNCTION</code>.  This may be <code>null</code>.
+	 * @return Whether the identifiers changed, and so the text should be
+	 *         repainted.
+	 */
+	boolean setUserIdentifiers(Map<String, Integer> identifiers) {
+		if (identifiers==null ? userIdentifierMap==null :
+				identifiers.equals(userIdentifierMap)) {
+			return false;
+		}
+		userIdentifierMap = identifiers;
+		userIdentifiers = identifiers!=null ? new IdentifierTable(identifiers) : null;
+		tokenListCache = null;
+		return true;
+	}
+
+
+	/**
+	 * Sets the maximum number of lines whose tokens each instance caches.
+	 * This affects all instances.
+	 *
+	 * @param size The cache size, or <code>0</code> to disable caching.
+	 * @see #getTokenListCacheSize()
+	 */
+	public static void setTokenListCacheSize(int size) {
+		if (size<0) {
+			throw new IllegalArgumentException("size must be >= 0: " + size);
+		}
+		tokenListCacheSize = size;
+	}
+
+
 	/**
 	 * Refills the input buffer.
 	 *
@@ -1184,6 +944,66 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
 	}
 
 
+	/**
+	 * The text and initial token type of a line, used as a cache key.  The
+	 * key used for lookups points into the line's own array, so a lookup
+	 * doesn't allocate; keys stored in the cache have their own copy.
+	 */
+	private static final class LineKey {
+
+		private char[] array;
+		private int offset;
+		private int count;
+		private int initialTokenType;
+		private int hash;
+
+		private LineKey copy() {
+			LineKey key = new LineKey();
+			key.array = Arrays.copyOfRange(array, offset, offset+count);
+			key.count = count;
+			key.initialTokenType = initialTokenType;
+			key.hash = hash;
+			return key;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof LineKey)) {
+				return false;
+			}
+			LineKey key = (LineKey)obj;
+			if (hash!=key.hash || count!=key.count ||
+					initialTokenType!=key.initialTokenType) {
+				return false;
+			}
+			for (int i=0; i<count; i++) {
+				if (array[offset+i]!=key.array[key.offset+i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		private void set(char[] array, int offset, int count, int initialTokenType) {
+			this.array = array;
+			this.offset = offset;
+			this.count = count;
+			this.initialTokenType = initialTokenType;
+			int h = initialTokenType;
+			for (int i=0; i<count; i++) {
+				h = 31*h + array[offset+i];
+			}
+			hash = h;
+		}
+
+	}
+
+
 
 
   /**
@@ -1216,7 +1036,7 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
     char [] map = new char[0x10000];
     int i = 0;  /* index in packed string  */
     int j = 0;  /* index in unpacked array */
-    while (i < 200) {
+    while (i < 166) {
       int  count = packed.charAt(i++);
       char value = packed.charAt(i++);
       do map[j++] = value; while (--count > 0);
@@ -1408,148 +1228,106 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
       zzMarkedPos = zzMarkedPosL;
 
       switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
-        case 31: 
-          { int temp = zzStartRead;
-								addToken(temp, temp+3, Token.RESERVED_WORD);
-								addToken(temp+4, temp+5, Token.OPERATOR);
-								addToken(temp+6, zzMarkedPos-1, Token.FUNCTION);
-          }
-        case 32: break;
-        case 28: 
-          { int temp = zzStartRead;
-									addToken(temp, temp+3, Token.RESERVED_WORD);
-									addToken(temp+4, temp+5, Token.OPERATOR);
-									addToken(temp+6, zzMarkedPos-1, Token.FUNCTION);
-          }
-        case 33: break;
         case 25: 
           { addToken(Token.PREPROCESSOR);
           }
-        case 34: break;
+        case 26: break;
         case 19: 
           { addToken(Token.LITERAL_CHAR);
           }
-        case 35: break;
-        case 8: 
+        case 27: break;
+        case 9: 
           { addToken(Token.WHITESPACE);
           }
-        case 36: break;
+        case 28: break;
         case 21: 
           { addToken(Token.LITERAL_NUMBER_HEXADECIMAL);
           }
-        case 37: break;
-        case 14: 
+        case 29: break;
+        case 15: 
           { addToken(Token.ERROR_CHAR); /*addNullToken(); return firstToken;*/
           }
-        case 38: break;
+        case 30: break;
         case 20: 
           { addToken(Token.ERROR_STRING_DOUBLE);
           }
-        case 39: break;
-        case 12: 
+        case 31: break;
+        case 13: 
           { addToken(Token.LITERAL_NUMBER_FLOAT);
           }
-        case 40: break;
+        case 32: break;
         case 18: 
           { addToken(Token.RESERVED_WORD);
           }
-        case 41: break;
+        case 33: break;
         case 5: 
           { addToken(Token.SEPARATOR);
           }
-        case 42: break;
-        case 2: 
+        case 34: break;
+        case 7: 
           { addToken(Token.IDENTIFIER);
           }
-        case 43: break;
-        case 10: 
+        case 35: break;
+        case 11: 
           { addToken(start,zzStartRead-1, Token.COMMENT_EOL); addNullToken(); return firstToken;
           }
-        case 44: break;
-        case 13: 
+        case 36: break;
+        case 14: 
           { start = zzMarkedPos-2; yybegin(EOL_COMMENT);
           }
-        case 45: break;
+        case 37: break;
         case 6: 
           { addToken(Token.ERROR_CHAR); addNullToken(); return firstToken;
           }
-        case 46: break;
-        case 17: 
-          { addToken(Token.FUNCTION);
-          }
-        case 47: break;
-        case 7: 
+        case 38: break;
+        case 8: 
           { addToken(Token.ERROR_STRING_DOUBLE); addNullToken(); return firstToken;
           }
-        case 48: break;
+        case 39: break;
         case 22: 
           { addToken(Token.DATA_TYPE);
           }
-        case 49: break;
+        case 40: break;
         case 1: 
           { addToken(Token.ERROR_IDENTIFIER);
           }
-        case 50: break;
-        case 15: 
+        case 41: break;
+        case 16: 
           { addToken(Token.ERROR_CHAR);
           }
-        case 51: break;
-        case 27: 
-          { int temp = zzStartRead;
-									addToken(temp, temp+5, Token.RESERVED_WORD);
-									addToken(temp+6, temp+7, Token.OPERATOR);
-									addToken(temp+8, zzMarkedPos-1, Token.VARIABLE);
-          }
-        case 52: break;
+        case 42: break;
         case 23: 
           { addToken(Token.LITERAL_BOOLEAN);
           }
-        case 53: break;
-        case 16: 
+        case 43: break;
+        case 17: 
           { addToken(Token.LITERAL_STRING_DOUBLE_QUOTE);
           }
-        case 54: break;
-        case 30: 
-          { int temp = zzStartRead;
-									addToken(temp, temp+5, Token.RESERVED_WORD);
-									addToken(temp+6, temp+7, Token.OPERATOR);
-									addToken(temp+8, zzMarkedPos-1, Token.FUNCTION);
-          }
-        case 55: break;
+        case 44: break;
         case 24: 
           { int temp=zzStartRead; addToken(start,zzStartRead-1, Token.COMMENT_EOL); addHyperlinkToken(temp,zzMarkedPos-1, Token.COMMENT_EOL); start = zzMarkedPos;
           }
-        case 56: break;
-        case 11: 
+        case 45: break;
+        case 12: 
           { addToken(Token.ERROR_NUMBER_FORMAT);
           }
-        case 57: break;
-        case 29: 
-          { int temp = zzStartRead;
-								addToken(temp, temp+3, Token.RESERVED_WORD);
-								addToken(temp+4, temp+5, Token.OPERATOR);
-								addToken(temp+6, zzMarkedPos-1, Token.VARIABLE);
-          }
-        case 58: break;
-        case 26: 
-          { int temp = zzStartRead;
-									addToken(temp, temp+3, Token.RESERVED_WORD);
-									addToken(temp+4, temp+5, Token.OPERATOR);
-									addToken(temp+6, zzMarkedPos-1, Token.VARIABLE);
+        case 46: break;
+        case 2: 
+          { addIdentifierToken();
           }
-        case 59: break;
+        case 47: break;
         case 3: 
           { addToken(Token.LITERAL_NUMBER_DECIMAL_INT);
           }
-        case 60: break;
+        case 48: break;
         case 4: 
           { addToken(Token.OPERATOR);
           }
-        case 61: break;
-        case 9: 
+        case 49: break;
+        case 10: 
           { 
           }
-        case 62: break;
+        case 50: break;
         default: 
           if (zzInput == YYEOF && zzStartRead == zzCurrentPos) {
             zzAtEOF = true;
@@ -1557,11 +1335,11 @@ public class ZScriptTokenMaker extends AbstractJFlexCTokenMaker {
             case EOL_COMMENT: {
               addToken(start,zzStartRead-1, Token.COMMENT_EOL); addNullToken(); return firstToken;
             }
-            case 729: break;
+            case 159: break;
             case YYINITIAL: {
               addNullToken(); return firstToken;
             }
-            case 730: break;
+            case 160: break;
             default:
             return null;
             }
@@ -6,10 +6,7 @@
  */
 package org.fife.rsta.zscript;
 
-import java.util.List;
-
 import org.fife.rsta.zscript.ast.VariableDecNode;
-import org.fife.rsta.zscript.ast.VariablesInScopeGrabber;
 import org.fife.rsta.zscript.ast.ZScriptAst;
 import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
 
@@ -33,23 +30,10 @@ public final class ZScriptUtils {
 	public static VariableDecNode getVariableDeclaration(String varName,
                                                          RSyntaxTextArea textArea, ZScriptAst ast, int offs) {
 
-		VariableDecNode varDec = null;
-
-		VariablesInScopeGrabber grabber = new VariablesInScopeGrabber(offs);
-		ast.getRootNode().accept(grabber);
-
 		// TODO: Check for '(' token and check for matching function first?
 
 		// Find matching variable declaration in "deepest" scope.
-		List<VariableDecNode> varList = grabber.getVariableList();
-		for (VariableDecNode vdn : varList) {
-			if (varName.equals(vdn.getName())) {
-				varDec = vdn;
-				break;
-			}
-		}
-
-		return varDec;
+		return ast.getScopeIndex().getVariableDec(varName, offs);
 
 	}
 
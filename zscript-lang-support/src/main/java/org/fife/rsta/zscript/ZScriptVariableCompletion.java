@@ -18,6 +18,12 @@ public class ZScriptVariableCompletion extends VariableCompletion {
 
 	private IconData iconData;
 
+	/**
+	 * If non-<code>null</code>, the short description has not been decoded
+	 * yet.
+	 */
+	private BinaryCatalog.LazyDescription lazyDesc;
+
 
 	public ZScriptVariableCompletion(CompletionProvider provider, VariableDecNode node) {
 		this(provider, node.getName(), node.getType(), node.isConstant());
@@ -27,7 +33,7 @@ public class ZScriptVariableCompletion extends VariableCompletion {
 	public ZScriptVariableCompletion(CompletionProvider provider,
 			String name, String type, boolean constant) {
 		super(provider, name, type);
-		iconData = new IconData(IconFactory.FIELD_PUBLIC_ICON, constant);
+		iconData = constant ? IconData.CONSTANT_FIELD : IconData.FIELD;
 	}
 
 
@@ -47,6 +53,16 @@ public class ZScriptVariableCompletion extends VariableCompletion {
 	}
 
 
+	@Override
+	public String getShortDescription() {
+		if (lazyDesc!=null) {
+			setShortDescription(lazyDesc.decode());
+			lazyDesc = null;
+		}
+		return super.getShortDescription();
+	}
+
+
 	@Override
 	public String getToolTipText() {
 		String url = IconFactory.get().getIconUrl(iconData);
@@ -59,4 +75,15 @@ public class ZScriptVariableCompletion extends VariableCompletion {
 	}
 
 
+	/**
+	 * Sets the short description to be decoded from a compiled catalog the
+	 * first time it is needed.
+	 *
+	 * @param desc The description.
+	 */
+	void setLazyShortDescription(BinaryCatalog.LazyDescription desc) {
+		lazyDesc = desc;
+	}
+
+
 }
\ No newline at end of file
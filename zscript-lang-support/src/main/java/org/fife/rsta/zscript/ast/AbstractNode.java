@@ -34,6 +34,17 @@ public abstract class AbstractNode implements Node {
 	}
 
 
+	/**
+	 * Returns the end of this node, for reuse when re-creating it.
+	 *
+	 * @return The end position.  This may be <code>null</code>.
+	 * @see #getStartPosition()
+	 */
+	Position getEndPosition() {
+		return end;
+	}
+
+
 	@Override
 	public abstract IconData getIcon();
 
@@ -44,6 +55,17 @@ public abstract class AbstractNode implements Node {
 	}
 
 
+	/**
+	 * Returns the start of this node, for reuse when re-creating it.
+	 *
+	 * @return The start position.
+	 * @see #getEndPosition()
+	 */
+	Position getStartPosition() {
+		return start;
+	}
+
+
 	@Override
 	public int getNodeType() {
 		return type;
@@ -7,7 +7,18 @@
 package org.fife.rsta.zscript.ast;
 
 import java.io.IOException;
-
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
 import javax.swing.text.Position;
 
 import org.fife.io.DocumentReader;
@@ -34,6 +45,12 @@ import org.fife.ui.rsyntaxtextarea.parser.ParserNotice.Level;
  * VarValue          -> ( INT | FLOAT | BOOL | STRING )
  * </pre>
  *
+ * Source can be parsed from a <code>CharSequence</code>, a <code>char</code>
+ * array, a file or a <code>Reader</code> without involving Swing; nodes
+ * created this way have fixed offsets.  The constructors taking an
+ * <code>RSyntaxDocument</code> or {@link OffsetTracker} are for parsing
+ * code being edited, and create nodes whose offsets track edits.
+ *
  * @author Robert Futrell
  * @version 1.0
  */
@@ -41,19 +58,172 @@ public class AstFactory implements TokenTypes {
 
 	private Scanner scanner;
 	private ZScriptParseResult result;
+
+	/**
+	 * The number of nodes created so far, so the AST's size is known
+	 * without walking it.
+	 */
+	private int nodeCount;
 //private CodeCompletionProvider ccp;
 
 
+	/**
+	 * Constructor.  Offsets of nodes in the AST created will track changes
+	 * to the document, so it can later be incrementally re-parsed via
+	 * {@link #reparseMember(ZScriptAst, List, RSyntaxDocument, int, int, int, int, Parser, OffsetTracker)}.
+	 *
+	 * @param doc The document to parse.
+	 * @param parser The parser to attribute notices to.
+	 * @param ccp Not currently used.
+	 */
 	public AstFactory(RSyntaxDocument doc, Parser parser, CodeCompletionProvider ccp) {
-		scanner = new Scanner(new DocumentReader(doc));
-		result = new ZScriptParseResult(parser);
+		this(new DocumentReader(doc), parser);
+		scanner.setDocument(doc);
 		//this.ccp = ccp;
 	}
 
 
+	/**
+	 * Constructor.  Heap <code>CharBuffer</code>s, such as those created by
+	 * {@link #AstFactory(Path, Charset, Parser)}, are scanned in place;
+	 * other sequences are read in chunks, without copying them into a
+	 * <code>String</code>.
+	 *
+	 * @param text The source to parse.
+	 * @param parser The parser to attribute notices to.  This may be
+	 *        <code>null</code>.
+	 */
+	public AstFactory(CharSequence text, Parser parser) {
+		this(createScanner(text), parser);
+	}
+
+
+	/**
+	 * Constructor.  The array is scanned in place, without copying it.
+	 *
+	 * @param text The array containing the source to parse.  This should not
+	 *        be modified until parsing completes.
+	 * @param offs The start of the source in the array.
+	 * @param len The length of the source.
+	 * @param parser The parser to attribute notices to.  This may be
+	 *        <code>null</code>.
+	 */
+	public AstFactory(char[] text, int offs, int len, Parser parser) {
+		this(new Scanner(text, offs, len), parser);
+	}
+
+
+	/**
+	 * Constructor.  The file is memory-mapped and decoded in one pass, which
+	 * is the fastest way to parse many files, e.g. in batch tools.
+	 *
+	 * @param file The file to parse.
+	 * @param charset The encoding of the file.
+	 * @param parser The parser to attribute notices to.  This may be
+	 *        <code>null</code>.
+	 * @throws IOException If an IO error occurs reading the file.
+	 */
+	public AstFactory(Path file, Charset charset, Parser parser)
+			throws IOException {
+		this(map(file, charset), parser);
+	}
+
+
+	/**
+	 * Constructor.  This is useful for parsing a snapshot of a document's
+	 * content, for example on a thread other than the EDT.
+	 *
+	 * @param r The source to parse.
+	 * @param parser The parser to attribute notices to.
+	 */
+	public AstFactory(Reader r, Parser parser) {
+		this(new Scanner(r), parser);
+	}
+
+
+	/**
+	 * Constructor.  Offsets of nodes in the AST created will be kept up to
+	 * date by an {@link OffsetTracker}, rather than by a
+	 * <code>Position</code> in the document per offset.
+	 *
+	 * @param r The source to parse.  This may be a snapshot of the document
+	 *        the tracker is listening to.
+	 * @param parser The parser to attribute notices to.
+	 * @param tracker The offset tracker.
+	 * @param editCount The value of <code>tracker.getEditCount()</code>
+	 *        when the text read by <code>r</code> was taken from the
+	 *        document.
+	 */
+	public AstFactory(Reader r, Parser parser, OffsetTracker tracker,
+			int editCount) {
+		this(new Scanner(r), parser);
+		scanner.setOffsetTracker(tracker, editCount);
+	}
+
+
+	private AstFactory(Scanner scanner, Parser parser) {
+		this.scanner = scanner;
+		result = new ZScriptParseResult(parser);
+	}
+
+
+	/**
+	 * Returns whether an offset range is inside of the curly braces of a
+	 * node's body.
+	 */
+	private static boolean bodyContainsRange(BodiedNode node, int start, int end) {
+		return node.getBodyStartOffset()<start && end<=node.getBodyEndOffset() &&
+				node.getBodyEndOffset()!=Integer.MAX_VALUE;
+	}
+
+
+	/**
+	 * Creates a function with the same header (return type, name and
+	 * arguments) as another, but with no body.
+	 */
+	private static FunctionDecNode copyFunctionHeader(FunctionDecNode func) {
+		FunctionDecNode copy = new FunctionDecNode(func.getStartPosition());
+		copy.setType(func.getType());
+		copy.setName(func.getName());
+		copy.setEndOffset(func.getEndPosition());
+		for (int i=0; i<func.getArgumentCount(); i++) {
+			copy.addArgument(func.getArgument(i));
+		}
+		return copy;
+	}
+
+
+	/**
+	 * Returns a scanner for a character sequence, scanning it in place if
+	 * possible.
+	 */
+	private static Scanner createScanner(CharSequence text) {
+		if (text instanceof CharBuffer && ((CharBuffer)text).hasArray()) {
+			CharBuffer buf = (CharBuffer)text;
+			return new Scanner(buf.array(), buf.arrayOffset() + buf.position(),
+					buf.remaining());
+		}
+		return new Scanner(new CharSequenceReader(text));
+	}
+
+
+	/**
+	 * Memory-maps a file and decodes it.
+	 */
+	private static CharBuffer map(Path file, Charset charset)
+			throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY,
+					0, channel.size());
+			return charset.decode(bytes); // Malformed input is replaced
+		}
+	}
+
+
 	public ZScriptParseResult parse() {
 
 		RootNode root = new RootNode(scanner.createOffset(0));
+		nodeCount++;
 		try {
 			parseRoot(root);
 		} catch (ParseException pe) {
@@ -63,7 +233,167 @@ public class AstFactory implements TokenTypes {
 		}
 
 		ZScriptAst ast = new ZScriptAst();
-		ast.setRootNode(root);
+		ast.setRootNode(root, nodeCount);
+		result.setAst(ast);
+		return result;
+
+	}
+
+
+	/**
+	 * Re-parses only the body of the function or script containing an edit,
+	 * and splices the result into a previous AST.  Other members are reused
+	 * as-is, since their offsets track changes to the document.<p>
+	 *
+	 * The previous AST must have been created from the same document, with
+	 * offsets that track changes to it.  It is not modified by this method,
+	 * though the new AST shares all unchanged nodes with it.
+	 *
+	 * @param previous The AST of the document before the edit(s).
+	 * @param prevNotices The notices from the parse that created
+	 *        <code>previous</code>.
+	 * @param doc The document.
+	 * @param changeStart The start of the range of text changed since
+	 *        <code>previous</code> was created.
+	 * @param changeEnd The end of the changed range, exclusive.
+	 * @param lengthDelta The net number of characters inserted since
+	 *        <code>previous</code> was created.
+	 * @param lineDelta The net number of lines inserted since
+	 *        <code>previous</code> was created.
+	 * @param parser The parser to attribute notices to.
+	 * @param tracker The tracker used for offsets in <code>previous</code>,
+	 *        or <code>null</code> if it uses <code>Position</code>s in the
+	 *        document.
+	 * @return The result of the parse, or <code>null</code> if the edit
+	 *         could not be handled incrementally (for example, it spans
+	 *         multiple members or changes the brace balance of the member).
+	 *         In that case, the caller should fall back on a full parse.
+	 */
+	public static ZScriptParseResult reparseMember(ZScriptAst previous,
+			List<ParserNotice> prevNotices, RSyntaxDocument doc,
+			int changeStart, int changeEnd, int lengthDelta, int lineDelta,
+			Parser parser, OffsetTracker tracker) {
+
+		RootNode root = previous.getRootNode();
+
+		MemberNode member = null;
+		for (MemberNode m : root.getAllMembers()) {
+			if (m instanceof BodiedNode &&
+					bodyContainsRange((BodiedNode)m, changeStart, changeEnd)) {
+				member = m;
+				break;
+			}
+		}
+		if (member==null) {
+			return null;
+		}
+
+		// If the edit is inside a function in a script, only that function
+		// needs to be re-parsed.
+		BodiedNode target = (BodiedNode)member;
+		if (member instanceof ScriptNode) {
+			ScriptNode script = (ScriptNode)member;
+			for (int i=0; i<script.getFunctionCount(); i++) {
+				FunctionDecNode func = script.getFunction(i);
+				if (bodyContainsRange(func, changeStart, changeEnd)) {
+					target = func;
+					break;
+				}
+			}
+		}
+
+		// Imports in a script are added to the root node, so we can't
+		// re-parse around them.
+		int bodyStart = target.getBodyStartOffset();
+		int bodyEnd = target.getBodyEndOffset(); // The closing curly
+		for (int i=0; i<root.getImportCount(); i++) {
+			int offs = root.getImport(i).getStartOffset();
+			if (offs>=bodyStart && offs<=bodyEnd) {
+				return null;
+			}
+		}
+
+		String text;
+		Element rootElem = doc.getDefaultRootElement();
+		int startLine = rootElem.getElementIndex(bodyStart);
+		try {
+			text = doc.getText(bodyStart, bodyEnd+1-bodyStart);
+		} catch (BadLocationException ble) { // Never happens
+			ble.printStackTrace();
+			return null;
+		}
+
+		Scanner scanner = new Scanner(new StringReader(text), bodyStart, startLine);
+		if (tracker!=null) {
+			scanner.setOffsetTracker(tracker, tracker.getEditCount());
+		}
+		else {
+			scanner.setDocument(doc);
+		}
+		AstFactory factory = new AstFactory(scanner, parser);
+		RootNode tempRoot = new RootNode(scanner.createOffset(bodyStart));
+		BodiedNode replacement;
+
+		try {
+			if (target instanceof FunctionDecNode) {
+				FunctionDecNode func = copyFunctionHeader((FunctionDecNode)target);
+				Token openCurly = scanner.yylexNonNull(SEPARATOR_LBRACE, "'{' expected");
+				factory.parseCodeBlock(func, openCurly);
+				replacement = func;
+			}
+			else {
+				ScriptNode old = (ScriptNode)target;
+				ScriptNode script = new ScriptNode(old.getScriptType(),
+						old.getStartPosition());
+				script.setName(old.getName());
+				script.setType(old.getType());
+				script.setEndOffset(old.getEndPosition());
+				factory.parseScript(tempRoot, script);
+				replacement = script;
+			}
+			// Tokens after the body's closing curly means brace balance
+			// changed; the edit affects more than just this member.
+			if (scanner.yylex()!=null || tempRoot.getImportCount()>0) {
+				return null;
+			}
+		} catch (IOException ioe) { // Including unexpected EOF
+			return null;
+		}
+
+		// Splice the member into a new root, so the previous AST is left
+		// as-is for anyone still using it
+		MemberNode newMember = (MemberNode)replacement;
+		if (target!=member) {
+			newMember = ((ScriptNode)member).copyReplacingFunction(
+					(FunctionDecNode)target, (FunctionDecNode)replacement);
+		}
+		RootNode newRoot = root.copyReplacingMember(member, newMember);
+
+		// Keep notices outside of the re-parsed body, shifting those after
+		// it to account for the edit.
+		ZScriptParseResult result = new ZScriptParseResult(parser);
+		int oldBodyEnd = bodyEnd - lengthDelta;
+		int oldEndLine = rootElem.getElementIndex(bodyEnd) - lineDelta;
+		for (ParserNotice notice : prevNotices) {
+			int offs = notice.getOffset();
+			boolean before = offs>-1 ? offs<bodyStart : notice.getLine()<startLine;
+			boolean after = offs>-1 ? offs>oldBodyEnd : notice.getLine()>oldEndLine;
+			if (before) {
+				result.addShiftedNotice(notice, 0, 0);
+			}
+			else if (after) {
+				result.addShiftedNotice(notice, lengthDelta, lineDelta);
+			}
+		}
+		for (ParserNotice notice : factory.result.getNotices()) {
+			result.addShiftedNotice(notice, 0, 0);
+		}
+
+		// Only the re-parsed member is counted, not the whole AST
+		int nodeCount = previous.getNodeCount() - NodeCounter.count(target) +
+				NodeCounter.count(replacement);
+		ZScriptAst ast = new ZScriptAst();
+		ast.setRootNode(newRoot, nodeCount);
 		result.setAst(ast);
 		return result;
 
@@ -74,6 +404,7 @@ public class AstFactory implements TokenTypes {
 			throws IOException {
 
 		CodeBlock block = new CodeBlock(parent, scanner.createOffset(openCurly.getOffset()));
+		nodeCount++;
 		parent.setCodeBlock(block);
 
 		try {
@@ -115,6 +446,7 @@ public class AstFactory implements TokenTypes {
 	private void parseDoWhile(CodeBlock block, Token doToken) throws IOException {
 
 		DoWhileNode doWhile = new DoWhileNode(scanner.createOffset(doToken.getOffset()));
+		nodeCount++;
 		block.addStatement(doWhile);
 
 		// ZScript is cool with a single statement as do/while body; e.g.
@@ -143,6 +475,7 @@ public class AstFactory implements TokenTypes {
 	private boolean parseElse(CodeBlock block, Token elseToken, IfNode ifNode) throws IOException {
 
 		ElseNode elseNode = new ElseNode(scanner.createOffset(elseToken.getOffset()), ifNode);
+		nodeCount++;
 		ifNode.addElse(elseNode);
 		block.addStatement(elseNode);
 		boolean canChainAnother = false;
@@ -195,6 +528,7 @@ public class AstFactory implements TokenTypes {
 		// I assume for-loops can only declare one variable, since you cannot
 		// initialize multiple variables on a single line (or can you?)
 		ForNode forNode = new ForNode(scanner.createOffset(forToken.getOffset()));
+		nodeCount++;
 		block.addStatement(forNode);
 		VariableDecNode forNodeVarDec;
 		Token counter;
@@ -217,6 +551,7 @@ public class AstFactory implements TokenTypes {
 					Token type = next;
 					counter = scanner.yylexNonNull(IDENTIFIER, "Counter variable expected");
 					forNodeVarDec = new VariableDecNode(scanner.createOffset(type.getOffset()));
+					nodeCount++;
 					forNodeVarDec.setType(type.getLexeme());
 					forNodeVarDec.setName(counter.getLexeme());
 					forNodeVarDec.setEndOffset(scanner.createOffset(counter.getEndOffset()));
@@ -287,6 +622,7 @@ public class AstFactory implements TokenTypes {
 			throws IOException {
 
 		FunctionDecNode funcNode = new FunctionDecNode(scanner.createOffset(type.getOffset()));
+		nodeCount++;
 		funcNode.setType(type.getLexeme());
 		parent.addFunctionDec(funcNode);
 
@@ -310,6 +646,7 @@ public class AstFactory implements TokenTypes {
 
 			Token argName = scanner.yylexNonNull(IDENTIFIER, "Argument name expected");
 			VariableDecNode argNode = new VariableDecNode(scanner.createOffset(argName.getOffset()));
+			nodeCount++;
 			argNode.setName(argName.getLexeme());
 			argNode.setType(t.getLexeme());
 			argNode.setEndOffset(scanner.createOffset(argName.getEndOffset()+1)); // why +1???
@@ -374,6 +711,7 @@ public class AstFactory implements TokenTypes {
 			name = scanner.yylexNonNull(IDENTIFIER, "Script name expected");
 			ScriptNode script = new ScriptNode(scriptType,
 					scanner.createOffset(name.getOffset()));
+			nodeCount++;
 			script.setName(name.getLexeme());
 			script.setType(basicType.getLexeme());
 			script.setEndOffset(scanner.createOffset(script.getStartOffset()+name.getLength()));
@@ -405,6 +743,7 @@ public class AstFactory implements TokenTypes {
 	private IfNode parseIf(CodeBlock block, Token ifToken) throws IOException {
 
 		IfNode ifNode = new IfNode(scanner.createOffset(ifToken.getOffset()));
+		nodeCount++;
 		block.addStatement(ifNode);
 
 		scanner.yylexNonNull(SEPARATOR_LPAREN, "'(' expected");
@@ -431,7 +770,7 @@ public class AstFactory implements TokenTypes {
 
 	private ImportNode parseImport(Token importToken) throws IOException {
 
-		ImportNode importNode = new ImportNode(scanner.createOffset(importToken.getColumn()));
+		ImportNode importNode = new ImportNode(scanner.createOffset(importToken.getOffset()));
 		Token file = scanner.yylexNonNull(LITERAL_STRING, "File to import expected");
 		String fileName = file.getLexeme();
 		fileName = fileName.substring(1, fileName.length()-1);
@@ -440,6 +779,7 @@ public class AstFactory implements TokenTypes {
 
 		verifyNextTokenNotSemicolon();
 
+		nodeCount++; // Only now is it sure to be added
 		return importNode;
 
 	}
@@ -468,6 +808,7 @@ public class AstFactory implements TokenTypes {
 					Token name = scanner.yylexNonNull(IDENTIFIER, "Script name expected");
 					ScriptNode script = new ScriptNode(ScriptType.GLOBAL,
 							scanner.createOffset(name.getOffset()));
+					nodeCount++;
 					script.setName(name.getLexeme());
 					script.setEndOffset(scanner.createOffset(script.getStartOffset()+name.getLength()+1));
 					script.setType("global");
@@ -577,6 +918,7 @@ public class AstFactory implements TokenTypes {
 			case KEYWORD_CONST:
 				Token type = yylexDataType();
 				block.addStatement(parseVariable(block, type, null, true));
+				nodeCount++;
 				break;
 
 			case KEYWORD_FOR:
@@ -611,6 +953,7 @@ public class AstFactory implements TokenTypes {
 			default:
 				if (t.isBasicType()) {
 					block.addStatement(parseVariable(block, t, null, false));
+					nodeCount++;
 				}
 				else {
 					scanner.yyPushback(t);
@@ -670,6 +1013,9 @@ public class AstFactory implements TokenTypes {
 		varNode.setEndOffset(scanner.createOffset(name.getEndOffset()+1));
 
 		ShadowedVarInfo shadowedVarInfo = parent.addVariableDec(varNode); // Requires name to be set
+		if (!(parent instanceof CodeBlock)) {
+			nodeCount++; // Local variables are counted once they're statements
+		}
 		if (shadowedVarInfo!=null) {
 			String msg = "Variable declaration shadows prior variable " +
 					shadowedVarInfo.getType() + " " + shadowedVarInfo.getName();
@@ -729,6 +1075,7 @@ public class AstFactory implements TokenTypes {
 	private void parseWhile(CodeBlock block, Token whileToken) throws IOException {
 
 		WhileNode whileNode = new WhileNode(scanner.createOffset(whileToken.getOffset()));
+		nodeCount++;
 		block.addStatement(whileNode);
 
 		scanner.yylexNonNull(SEPARATOR_LPAREN, "'(' expected");
@@ -0,0 +1,83 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.ast;
+
+import java.io.Reader;
+
+
+/**
+ * A <code>Reader</code> over any <code>CharSequence</code>.  Unlike
+ * <code>StringReader</code>, this doesn't require the content to be
+ * converted into a <code>String</code> first, and unlike
+ * <code>DocumentReader</code>, it doesn't require a Swing document.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class CharSequenceReader extends Reader {
+
+	private CharSequence text;
+	private int pos;
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param text The text to read.
+	 */
+	CharSequenceReader(CharSequence text) {
+		this.text = text;
+	}
+
+
+	@Override
+	public void close() {
+		// Do nothing (comment for Sonar)
+	}
+
+
+	@Override
+	public int read() {
+		return pos<text.length() ? text.charAt(pos++) : -1;
+	}
+
+
+	@Override
+	public int read(char[] cbuf, int off, int len) {
+
+		int count = Math.min(len, text.length() - pos);
+		if (count<=0) {
+			return len==0 ? 0 : -1;
+		}
+
+		if (text instanceof String) {
+			((String)text).getChars(pos, pos+count, cbuf, off);
+		}
+		else if (text instanceof StringBuilder) {
+			((StringBuilder)text).getChars(pos, pos+count, cbuf, off);
+		}
+		else {
+			for (int i=0; i<count; i++) {
+				cbuf[off+i] = text.charAt(pos+i);
+			}
+		}
+
+		pos += count;
+		return count;
+
+	}
+
+
+	@Override
+	public long skip(long n) {
+		int count = (int)Math.max(0, Math.min(n, text.length() - pos));
+		pos += count;
+		return count;
+	}
+
+
+}
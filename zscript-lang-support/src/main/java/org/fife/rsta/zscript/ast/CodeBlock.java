@@ -31,7 +31,7 @@ public class CodeBlock extends AbstractNode implements VariableContainer,
 
 	private CodeBlockParent parent;
 	private List<AbstractCodeBlockStatementNode> childBlockParentStatements;
-	private List<VariableDecNode> vars;
+	private SymbolTable vars;
 	private List<StatementNode> statements;
 
 
@@ -39,7 +39,7 @@ public class CodeBlock extends AbstractNode implements VariableContainer,
 		super(CODE_BLOCK, start);
 		this.parent = parent;
 		childBlockParentStatements = new ArrayList<>();
-		vars = new ArrayList<>();
+		vars = new SymbolTable();
 		statements = new ArrayList<>();
 	}
 
@@ -183,11 +183,9 @@ public class CodeBlock extends AbstractNode implements VariableContainer,
 
 	@Override
 	public VariableDecNode getVariableDecByName(String name) {
-		for (int i=0; i<getVariableCount(); i++) {
-			VariableDecNode var = getVariableDec(i);
-			if (name.equals(var.getName())) {
-				return var;
-			}
+		VariableDecNode var = vars.getByName(name);
+		if (var!=null) {
+			return var;
 		}
 		if (parent instanceof VariableContainer) {
 			return ((VariableContainer)parent).getVariableDecByName(name);
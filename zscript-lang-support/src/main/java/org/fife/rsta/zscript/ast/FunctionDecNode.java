@@ -6,12 +6,10 @@
  */
 package org.fife.rsta.zscript.ast;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import javax.swing.text.Position;
 
-import org.fife.rsta.zscript.IconFactory;
 import org.fife.rsta.zscript.IconFactory.IconData;
 
 
@@ -24,13 +22,13 @@ import org.fife.rsta.zscript.IconFactory.IconData;
  */
 public class FunctionDecNode extends MemberNode implements CodeBlockParent {
 
-	private List<VariableDecNode> args;
+	private SymbolTable args;
 	private CodeBlock codeBlock;
 
 
 	public FunctionDecNode(Position start) {
 		super(FUNCTION_DEC, start);
-		args = new ArrayList<>();
+		args = new SymbolTable();
 	}
 
 
@@ -65,13 +63,7 @@ public class FunctionDecNode extends MemberNode implements CodeBlockParent {
 
 
 	public VariableDecNode getArgumentByName(String name) {
-		for (int i=0; i<getArgumentCount(); i++) {
-			VariableDecNode arg = getArgument(i);
-			if (name.equals(arg.getName())) {
-				return arg;
-			}
-		}
-		return null;
+		return args.getByName(name);
 	}
 
 
@@ -120,7 +112,7 @@ public class FunctionDecNode extends MemberNode implements CodeBlockParent {
 
 	@Override
 	public IconData getIcon() {
-		return new IconData(IconFactory.METHOD_PUBLIC_ICON, false);
+		return IconData.METHOD;
 	}
 
 
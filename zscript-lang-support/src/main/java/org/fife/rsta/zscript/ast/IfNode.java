@@ -60,7 +60,7 @@ public class IfNode extends AbstractCodeBlockStatementNode {
 
 
 	public int getElseNodeCount() {
-		return elseNodes.size();
+		return elseNodes==null ? 0 : elseNodes.size();
 	}
 
 
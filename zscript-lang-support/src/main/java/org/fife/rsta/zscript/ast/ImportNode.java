@@ -8,7 +8,6 @@ package org.fife.rsta.zscript.ast;
 
 import javax.swing.text.Position;
 
-import org.fife.rsta.zscript.IconFactory;
 import org.fife.rsta.zscript.IconFactory.IconData;
 
 
@@ -30,7 +29,7 @@ public class ImportNode extends AbstractNode {
 
 	@Override
 	public IconData getIcon() {
-		return new IconData(IconFactory.IMPORT_ICON, false);
+		return IconData.IMPORT;
 	}
 
 
@@ -0,0 +1,111 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.ast;
+
+
+/**
+ * Interns lexemes straight from the scanner's buffer, so each distinct
+ * keyword, operator and identifier is only allocated as a
+ * <code>String</code> once per parse, no matter how many times it occurs.
+ * This is an open-addressing hash table keyed on char ranges, so lookups of
+ * already-seen lexemes allocate nothing.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class LexemeTable {
+
+	private String[] table;
+	private int size;
+
+	/**
+	 * Lexemes longer than this (long comments, string literals) are unlikely
+	 * to repeat, so they aren't interned.
+	 */
+	private static final int MAX_INTERNED_LENGTH = 64;
+
+
+	LexemeTable() {
+		table = new String[256];
+	}
+
+
+	private static boolean equals(String str, char[] buf, int start, int len) {
+		if (str.length()!=len) {
+			return false;
+		}
+		for (int i=0; i<len; i++) {
+			if (str.charAt(i)!=buf[start+i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	private static int hash(char[] buf, int start, int len) {
+		int h = 0;
+		for (int i=0; i<len; i++) {
+			h = 31*h + buf[start+i]; // Same as String.hashCode()
+		}
+		return h ^ (h>>>16);
+	}
+
+
+	/**
+	 * Returns a string for a range of characters, reusing a previously
+	 * returned instance if possible.
+	 *
+	 * @param buf The buffer.
+	 * @param start The start of the range.
+	 * @param len The length of the range.
+	 * @return The string.
+	 */
+	String intern(char[] buf, int start, int len) {
+
+		if (len>MAX_INTERNED_LENGTH) {
+			return new String(buf, start, len);
+		}
+
+		int mask = table.length - 1;
+		int index = hash(buf, start, len) & mask;
+		String str;
+		while ((str=table[index])!=null) {
+			if (equals(str, buf, start, len)) {
+				return str;
+			}
+			index = (index+1) & mask;
+		}
+
+		str = new String(buf, start, len);
+		table[index] = str;
+		if (++size>table.length/2) {
+			rehash();
+		}
+		return str;
+
+	}
+
+
+	private void rehash() {
+		String[] old = table;
+		table = new String[old.length*2];
+		int mask = table.length - 1;
+		for (String str : old) {
+			if (str!=null) {
+				int h = str.hashCode();
+				int index = (h ^ (h>>>16)) & mask;
+				while (table[index]!=null) {
+					index = (index+1) & mask;
+				}
+				table[index] = str;
+			}
+		}
+	}
+
+
+}
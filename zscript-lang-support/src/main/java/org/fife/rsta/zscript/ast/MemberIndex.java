@@ -0,0 +1,153 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.ast;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The bodied nodes of a {@link ZScriptAst} - scripts, functions and
+ * statements with code blocks - flattened into an array in source order,
+ * with the index of each node's parent.  Since nodes are added in
+ * pre-order, the array is sorted by start offset, and the nodes containing
+ * an offset are found via binary search instead of a visit of the tree.<p>
+ *
+ * Like {@link ScopeIndex}, offsets are read from the nodes themselves, so
+ * this index stays valid as the document is edited, as long as the AST
+ * itself is.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see ZScriptAst#getMemberContaining(int)
+ * @see ZScriptAst#getDeepestBodiedNodeContaining(int)
+ * @see ZScriptAst#getScriptNodeContaining(int)
+ */
+final class MemberIndex {
+
+	private BodiedNode[] nodes;
+	private int[] parents;
+
+
+	MemberIndex(RootNode root) {
+
+		List<BodiedNode> nodeList = new ArrayList<>();
+		List<Integer> parentList = new ArrayList<>();
+		for (MemberNode member : root.getAllMembers()) {
+			if (member instanceof ScriptNode) {
+				ScriptNode script = (ScriptNode)member;
+				int index = add(script, -1, nodeList, parentList);
+				for (int i=0; i<script.getFunctionCount(); i++) {
+					addFunction(script.getFunction(i), index, nodeList,
+							parentList);
+				}
+			}
+			else if (member instanceof FunctionDecNode) {
+				addFunction((FunctionDecNode)member, -1, nodeList, parentList);
+			}
+		}
+
+		nodes = nodeList.toArray(new BodiedNode[0]);
+		parents = new int[nodes.length];
+		for (int i=0; i<parents.length; i++) {
+			parents[i] = parentList.get(i);
+		}
+
+	}
+
+
+	private static int add(BodiedNode node, int parent,
+			List<BodiedNode> nodeList, List<Integer> parentList) {
+		nodeList.add(node);
+		parentList.add(parent);
+		return nodeList.size() - 1;
+	}
+
+
+	private static void addBlockParents(CodeBlock block, int parent,
+			List<BodiedNode> nodeList, List<Integer> parentList) {
+		for (int i=0; i<block.getCodeBlockCount(); i++) {
+			CodeBlockParent cbp = block.getChildCodeBlockParentStatement(i);
+			int index = add(cbp, parent, nodeList, parentList);
+			CodeBlock child = cbp.getCodeBlock();
+			if (child!=null) {
+				addBlockParents(child, index, nodeList, parentList);
+			}
+		}
+	}
+
+
+	private static void addFunction(FunctionDecNode function, int parent,
+			List<BodiedNode> nodeList, List<Integer> parentList) {
+		int index = add(function, parent, nodeList, parentList);
+		CodeBlock block = function.getCodeBlock();
+		if (block!=null) {
+			addBlockParents(block, index, nodeList, parentList);
+		}
+	}
+
+
+	/**
+	 * Returns the deepest bodied node whose body contains an offset.
+	 *
+	 * @param offs The offset.
+	 * @return The node, or <code>null</code> if the offset isn't in the
+	 *         body of any script or function.
+	 */
+	BodiedNode getDeepestBodiedNodeContaining(int offs) {
+		int index = getDeepestIndexContaining(offs);
+		return index>-1 ? nodes[index] : null;
+	}
+
+
+	private int getDeepestIndexContaining(int offs) {
+
+		// Nodes are in pre-order, so the last one starting at or before offs
+		// is either the deepest node containing it, or a descendant of it
+		// that ended before offs.
+		int low = 0;
+		int high = nodes.length - 1;
+		while (low<=high) {
+			int mid = (low + high) >>> 1;
+			if (nodes[mid].getStartOffset()<=offs) {
+				low = mid + 1;
+			}
+			else {
+				high = mid - 1;
+			}
+		}
+
+		int index = high;
+		while (index>-1 && !nodes[index].bodyContainsOffset(offs)) {
+			index = parents[index];
+		}
+		return index;
+
+	}
+
+
+	/**
+	 * Returns the top-level script or function whose body contains an
+	 * offset.
+	 *
+	 * @param offs The offset.
+	 * @return The member, or <code>null</code> if the offset isn't in the
+	 *         body of any script or global function.
+	 */
+	MemberNode getMemberContaining(int offs) {
+		int index = getDeepestIndexContaining(offs);
+		if (index==-1) {
+			return null;
+		}
+		while (parents[index]>-1) {
+			index = parents[index];
+		}
+		return (MemberNode)nodes[index];
+	}
+
+
+}
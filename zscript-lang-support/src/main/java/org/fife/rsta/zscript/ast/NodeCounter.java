@@ -0,0 +1,176 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.ast;
+
+
+/**
+ * Counts the nodes in an AST, or part of one, including code blocks, the
+ * root, function arguments and script variables.  This gives the same count
+ * as {@link AstFactory} does while parsing, so it can be used to adjust that
+ * count when a member is re-parsed.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see ZScriptAst#getNodeCount()
+ */
+final class NodeCounter implements ZScriptAstVisitor {
+
+	private int count;
+
+
+	private boolean count() {
+		count++;
+		return true;
+	}
+
+
+	/**
+	 * Returns the number of nodes in a subtree.
+	 *
+	 * @param node The root of the subtree.
+	 * @return The node count.
+	 */
+	static int count(Node node) {
+		NodeCounter counter = new NodeCounter();
+		node.accept(counter);
+		return counter.count;
+	}
+
+
+	@Override
+	public void postVisit(CodeBlock block) {
+	}
+
+
+	@Override
+	public void postVisit(DoWhileNode doWhileNode) {
+	}
+
+
+	@Override
+	public void postVisit(ElseNode elseNode) {
+	}
+
+
+	@Override
+	public void postVisit(ForNode forNode) {
+	}
+
+
+	@Override
+	public void postVisit(FunctionDecNode functionDec) {
+	}
+
+
+	@Override
+	public void postVisit(IfNode ifNode) {
+	}
+
+
+	@Override
+	public void postVisit(ImportNode importNode) {
+	}
+
+
+	@Override
+	public void postVisit(RootNode root) {
+	}
+
+
+	@Override
+	public void postVisit(ScriptNode script) {
+	}
+
+
+	@Override
+	public void postVisit(VariableDecNode varDec) {
+	}
+
+
+	@Override
+	public void postVisit(WhileNode whileNode) {
+	}
+
+
+	@Override
+	public boolean visit(CodeBlock block) {
+		return count();
+	}
+
+
+	@Override
+	public boolean visit(DoWhileNode doWhileNode) {
+		return count();
+	}
+
+
+	@Override
+	public boolean visit(ElseNode elseNode) {
+		return count();
+	}
+
+
+	@Override
+	public boolean visit(ForNode forNode) {
+		if (forNode.getVariableDeclaration()!=null) {
+			count++;
+		}
+		return count();
+	}
+
+
+	@Override
+	public boolean visit(FunctionDecNode functionDec) {
+		count += functionDec.getArgumentCount();
+		return count();
+	}
+
+
+	@Override
+	public boolean visit(IfNode ifNode) {
+		// Else nodes are also statements in the enclosing block, so they're
+		// only visited from there
+		count();
+		if (ifNode.getCodeBlock()!=null) {
+			ifNode.getCodeBlock().accept(this);
+		}
+		return false;
+	}
+
+
+	@Override
+	public boolean visit(ImportNode importNode) {
+		return count();
+	}
+
+
+	@Override
+	public boolean visit(RootNode root) {
+		return count();
+	}
+
+
+	@Override
+	public boolean visit(ScriptNode script) {
+		count += script.getVariableCount();
+		return count();
+	}
+
+
+	@Override
+	public boolean visit(VariableDecNode varDec) {
+		return count();
+	}
+
+
+	@Override
+	public boolean visit(WhileNode whileNode) {
+		return count();
+	}
+
+
+}
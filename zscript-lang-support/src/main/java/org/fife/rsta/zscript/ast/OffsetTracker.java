@@ -0,0 +1,213 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.ast;
+
+import java.util.Arrays;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.Document;
+import javax.swing.text.Position;
+
+
+/**
+ * Keeps the offsets of AST nodes up to date as a document is edited,
+ * without creating a Swing <code>Position</code> (and thus a mark in the
+ * document's content) per node.<p>
+ *
+ * Instead, this class is a single listener on the document that records
+ * each edit in a log.  Positions it creates store a raw offset along with
+ * the number of edits logged when they were created; when queried, they
+ * replay the edits made since then, and cache the result.  Offsets move the
+ * same way Swing positions do.<p>
+ *
+ * Each node still gets its own small position object, rather than storing
+ * a raw offset and edit count itself: nodes take a <code>Position</code>
+ * in their public constructors and setters, and ASTs built by other code
+ * use Swing positions.  What this class saves is the document marks, which
+ * are what made editing slow in large files.<p>
+ *
+ * An AST's positions should all come from the same tracker, and the tracker
+ * should be disposed of when the AST is no longer used; its positions then
+ * stop moving.  Positions may be created and queried on any thread, e.g. by
+ * a background parse or the semantic highlighter, while the document is
+ * edited on the EDT.  The edit log is only appended to, and the edit count
+ * is published after each entry is written, so readers always see a
+ * complete prefix of the log.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see AstFactory#AstFactory(java.io.Reader, org.fife.ui.rsyntaxtextarea.parser.Parser, OffsetTracker, int)
+ */
+public final class OffsetTracker implements DocumentListener {
+
+	private Document doc;
+
+	/**
+	 * The offset of each edit, and the number of chars inserted (positive)
+	 * or removed (negative).
+	 */
+	private int[] editOffsets;
+	private int[] editDeltas;
+	private volatile int editCount;
+
+
+	/**
+	 * Constructor.  This starts tracking edits to the document.
+	 *
+	 * @param doc The document.
+	 * @see #dispose()
+	 */
+	public OffsetTracker(Document doc) {
+		this.doc = doc;
+		editOffsets = new int[16];
+		editDeltas = new int[16];
+		doc.addDocumentListener(this);
+	}
+
+
+	/**
+	 * Returns the value of an offset created after <code>fromEdit</code>
+	 * edits, after <code>toEdit</code> edits.  <code>toEdit</code> must have
+	 * been read from {@link #editCount} before calling this method.
+	 */
+	private int adjust(int offs, int fromEdit, int toEdit) {
+		int[] offsets = editOffsets;
+		int[] deltas = editDeltas;
+		for (int i=fromEdit; i<toEdit; i++) {
+			int editOffs = offsets[i];
+			int delta = deltas[i];
+			if (delta>0) {
+				// Like Swing positions, move with text inserted at our
+				// offset, unless we're at the very start of the document
+				if (editOffs<offs || (editOffs==offs && offs!=0)) {
+					offs += delta;
+				}
+			}
+			else if (offs>=editOffs-delta) {
+				offs += delta;
+			}
+			else if (offs>editOffs) {
+				offs = editOffs;
+			}
+		}
+		return offs;
+	}
+
+
+	@Override
+	public void changedUpdate(DocumentEvent e) {
+		// Attribute changes don't move anything
+	}
+
+
+	/**
+	 * Returns a position for an offset in the document as it is now.
+	 *
+	 * @param offs The offset.
+	 * @return The position.
+	 */
+	public Position createPosition(int offs) {
+		return new TrackedPosition(offs, editCount);
+	}
+
+
+	/**
+	 * Returns a position for an offset in an earlier version of the
+	 * document.  This is used when parsing a snapshot of the document's
+	 * text in the background.
+	 *
+	 * @param offs The offset.
+	 * @param editCount The value of {@link #getEditCount()} when the
+	 *        snapshot was taken.
+	 * @return The position.
+	 */
+	public Position createPosition(int offs, int editCount) {
+		return new TrackedPosition(offs, editCount);
+	}
+
+
+	/**
+	 * Stops tracking edits.  Positions created by this tracker will no
+	 * longer move.
+	 */
+	public void dispose() {
+		doc.removeDocumentListener(this);
+	}
+
+
+	/**
+	 * Returns the number of edits made to the document since this tracker
+	 * was created.
+	 *
+	 * @return The edit count.
+	 */
+	public int getEditCount() {
+		return editCount;
+	}
+
+
+	@Override
+	public void insertUpdate(DocumentEvent e) {
+		log(e.getOffset(), e.getLength());
+	}
+
+
+	private void log(int offs, int delta) {
+		if (editCount==editOffsets.length) {
+			editOffsets = Arrays.copyOf(editOffsets, editCount*2);
+			editDeltas = Arrays.copyOf(editDeltas, editCount*2);
+		}
+		editOffsets[editCount] = offs;
+		editDeltas[editCount] = delta;
+		editCount++; // Publishes the entry to other threads
+	}
+
+
+	@Override
+	public void removeUpdate(DocumentEvent e) {
+		log(e.getOffset(), -e.getLength());
+	}
+
+
+	/**
+	 * A position that catches up with the edits made since it was last
+	 * queried.  The offset and the edit count it is current as of are
+	 * packed into one <code>long</code>, so they're always updated together.
+	 * If two threads update it at once, either result is correct.
+	 */
+	private final class TrackedPosition implements Position {
+
+		/**
+		 * The edit count in the high 32 bits, and the offset in the low 32.
+		 */
+		private volatile long state;
+
+		private TrackedPosition(int offs, int asOfEdit) {
+			state = pack(offs, asOfEdit);
+		}
+
+		@Override
+		public int getOffset() {
+			long s = state;
+			int offs = (int)s;
+			int asOfEdit = (int)(s>>>32);
+			int count = editCount;
+			if (asOfEdit!=count) {
+				offs = adjust(offs, asOfEdit, count);
+				state = pack(offs, count);
+			}
+			return offs;
+		}
+
+		private long pack(int offs, int asOfEdit) {
+			return ((long)asOfEdit<<32) | (offs & 0xffffffffL);
+		}
+
+	}
+
+
+}
@@ -17,7 +17,7 @@ public class RootNode extends AbstractNode implements MemberContainer {
 
 	private List<ImportNode> imports;
 	private List<MemberNode> allMembers;
-	private List<VariableDecNode> vars;
+	private SymbolTable vars;
 	private List<FunctionDecNode> functions;
 	private List<ScriptNode> scripts;
 
@@ -26,7 +26,7 @@ public class RootNode extends AbstractNode implements MemberContainer {
 		super(ROOT, start);
 		imports = new ArrayList<>();
 		allMembers = new ArrayList<>();
-		vars = new ArrayList<>();
+		vars = new SymbolTable();
 		functions = new ArrayList<>();
 		scripts = new ArrayList<>();
 	}
@@ -82,6 +82,41 @@ public class RootNode extends AbstractNode implements MemberContainer {
 	}
 
 
+	/**
+	 * Returns a copy of this node with a function or script replaced by a
+	 * re-parsed version of it.  This node is not modified; the copy shares
+	 * its imports and all other members.
+	 *
+	 * @param old The member to replace.
+	 * @param replacement The new version of the member.  This should be of
+	 *        the same type as <code>old</code>.
+	 * @return The copy.
+	 */
+	RootNode copyReplacingMember(MemberNode old, MemberNode replacement) {
+		if (!(old instanceof FunctionDecNode) && !(old instanceof ScriptNode)) {
+			throw new IllegalArgumentException("Only functions and scripts can be replaced");
+		}
+		RootNode copy = new RootNode(getStartPosition());
+		copy.setEndOffset(getEndPosition());
+		copy.imports.addAll(imports);
+		for (MemberNode member : allMembers) {
+			if (member==old) {
+				member = replacement;
+			}
+			if (member instanceof FunctionDecNode) {
+				copy.addFunctionDec((FunctionDecNode)member);
+			}
+			else if (member instanceof ScriptNode) {
+				copy.addScript((ScriptNode)member);
+			}
+			else {
+				copy.addVariableDec((VariableDecNode)member);
+			}
+		}
+		return copy;
+	}
+
+
 	public List<MemberNode> getAllMembers() {
 		return allMembers;
 	}
@@ -139,13 +174,7 @@ public class RootNode extends AbstractNode implements MemberContainer {
 
 	@Override
 	public VariableDecNode getVariableDecByName(String name) {
-		for (int i=0; i<getVariableCount(); i++) {
-			VariableDecNode var = getVariableDec(i);
-			if (name.equals(var.getName())) {
-				return var;
-			}
-		}
-		return null;
+		return vars.getByName(name);
 	}
 
 
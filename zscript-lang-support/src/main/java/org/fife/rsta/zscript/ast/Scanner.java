@@ -9,8 +9,9 @@ package org.fife.rsta.zscript.ast;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
-import java.util.Stack;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.Document;
 import javax.swing.text.Position;
@@ -35,7 +36,12 @@ public class Scanner {
 	/**
 	 * Stack of tokens that have been "pushed back".
 	 */
-	private Stack<Token> stack;
+	private Deque<Token> stack;
+
+	/**
+	 * Reused by {@link #yyPeek(int)} to hold the tokens it reads.
+	 */
+	private Token[] peekBuffer;
 
 	/**
 	 * The depth in which we're in TypeArguments or TypeParameters.
@@ -48,6 +54,18 @@ public class Scanner {
 	 */
 	private Document doc;
 
+	/**
+	 * If non-<code>null</code>, offsets are tracked via this instead of
+	 * <code>Position</code>s in {@link #doc}.
+	 */
+	private OffsetTracker offsetTracker;
+
+	/**
+	 * The edit count of {@link #offsetTracker} the text being scanned
+	 * corresponds to.
+	 */
+	private int offsetTrackerEdit;
+
 	/**
 	 * The most recently lexed token, or <code>null</code> if EOS was
 	 * reached.
@@ -70,7 +88,7 @@ public class Scanner {
 	 * @param tokens Tokens to return.
 	 */
 	public Scanner(List<Token> tokens) {
-		stack = new Stack<>();
+		stack = new ArrayDeque<>();
 		for (int i=tokens.size()-1; i>=0; i--) {
 			stack.push(tokens.get(i));
 		}
@@ -84,7 +102,37 @@ public class Scanner {
 	 */
 	public Scanner(Reader r) {
 		s = r!=null ? new ZScriptScanner(r) : null;
-		stack = new Stack<>();
+		stack = new ArrayDeque<>();
+	}
+
+
+	/**
+	 * Constructor.  The array is scanned directly, without copying it.
+	 *
+	 * @param array The array containing the source to scan.  This should
+	 *        not be modified while it is being scanned.
+	 * @param offs The start of the source in the array.
+	 * @param len The length of the source.
+	 */
+	public Scanner(char[] array, int offs, int len) {
+		s = new ZScriptScanner((Reader)null);
+		s.setInput(array, offs, len);
+		stack = new ArrayDeque<>();
+	}
+
+
+	/**
+	 * Constructor for scanning a fragment of a larger document.  Offsets
+	 * and lines of tokens returned will be relative to the document, not
+	 * the fragment.
+	 *
+	 * @param r The stream to read from.
+	 * @param startOffset The offset in the document the fragment starts at.
+	 * @param startLine The line in the document the fragment starts on.
+	 */
+	public Scanner(Reader r, int startOffset, int startLine) {
+		this(r);
+		s.setInputStart(startOffset, startLine);
 	}
 
 
@@ -129,8 +177,12 @@ private void pushOntoStack(Token t) {
 	 * @param offs The offset.
 	 * @return An object representing the offset.
 	 * @see #setDocument(Document)
+	 * @see #setOffsetTracker(OffsetTracker, int)
 	 */
 	public Position createOffset(final int offs) {
+		if (offsetTracker!=null) {
+			return offsetTracker.createPosition(offs, offsetTrackerEdit);
+		}
 		if (doc!=null) {
 			try {
 				return doc.createPosition(offs);
@@ -452,15 +504,15 @@ private void pushOntoStack(Token t) {
 	}
 
 
-private Stack<Stack<Token>> resetPositions;
-private Stack<Token> currentResetTokenStack;
+private Deque<Deque<Token>> resetPositions;
+private Deque<Token> currentResetTokenStack;
 private int currentResetStartOffset;
 	public void markResetPosition() {
 		if (s!=null) { // Hack!  We should really do something for token-only scanners
 			if (resetPositions==null) {
-				resetPositions = new Stack<>();
+				resetPositions = new ArrayDeque<>();
 			}
-			currentResetTokenStack = new Stack<>();
+			currentResetTokenStack = new ArrayDeque<>();
 			resetPositions.push(currentResetTokenStack);
 			currentResetStartOffset = s.getOffset();
 		}
@@ -515,6 +567,22 @@ private int currentResetStartOffset;
 	}
 
 
+	/**
+	 * Sets the tracker to use to keep offsets up to date as the document
+	 * being parsed is edited.  This takes precedence over
+	 * {@link #setDocument(Document)}, and avoids creating a
+	 * <code>Position</code> in the document for each offset.
+	 *
+	 * @param tracker The tracker, or <code>null</code> for none.
+	 * @param editCount The value of <code>tracker.getEditCount()</code>
+	 *        when the text being scanned was read from the document.
+	 */
+	public void setOffsetTracker(OffsetTracker tracker, int editCount) {
+		this.offsetTracker = tracker;
+		this.offsetTrackerEdit = editCount;
+	}
+
+
 	/**
 	 * Skips all bracket pairs ('[' followed by ']') in the stream.
 	 *
@@ -557,7 +625,7 @@ private int currentResetStartOffset;
 		}
 
 		debugPrintToken(t);
-		if (currentResetTokenStack!=null) {
+		if (currentResetTokenStack!=null && t!=null) { // EOS is replayed anyway
 			currentResetTokenStack.push(t);
 		}
 		if (t!=null) { // Don't let EOS corrupt most recent token
@@ -684,22 +752,17 @@ private int currentResetStartOffset;
 			throw new /*IllegalArgumentException*/
 					IOException("Internal error!  Stack depth must be >= 1");
 		}
-		Stack<Token> read = new Stack<>();
-		for (int i=0; i<depth; i++) {
-			Token t = yylex();
-			if (t!=null) {
-				read.push(t);
-			}
-			else {
-				while (!read.isEmpty()) {
-					yyPushback(read.pop());
-				}
-				return null;
-			}
+		if (peekBuffer==null || peekBuffer.length<depth) {
+			peekBuffer = new Token[Math.max(depth, 4)];
+		}
+		int read = 0;
+		Token t = null;
+		while (read<depth && (t=yylex())!=null) {
+			peekBuffer[read++] = t;
 		}
-		Token t = read.peek();
-		while (!read.isEmpty()) {
-			yyPushback(read.pop());
+		while (read>0) {
+			yyPushback(peekBuffer[--read]);
+			peekBuffer[read] = null;
 		}
 		return t;
 	}
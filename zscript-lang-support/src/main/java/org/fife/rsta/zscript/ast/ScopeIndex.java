@@ -0,0 +1,322 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+
+/**
+ * Answers "what's in scope at this offset?" for a {@link ZScriptAst}
+ * without visiting the entire tree.  The enclosing script and function are
+ * found via binary search over their (source-ordered) siblings.  Each
+ * function's code blocks are flattened, once, into an array in source
+ * order with a parent chain, so the deepest block containing an offset is
+ * also found via binary search.<p>
+ *
+ * Offsets are always read from the nodes themselves rather than cached, so
+ * this index stays valid as the document is edited, as long as the AST
+ * itself is.<p>
+ *
+ * The results are the same, and in the same order, as those of
+ * {@link VariablesInScopeGrabber}: local variables from the innermost
+ * block outward, then function arguments, script variables and global
+ * variables.<p>
+ *
+ * Instances of this class are safe to use from several threads at once,
+ * e.g. the EDT and a worker resolving the identifiers in a snapshot of the
+ * document.  Since offsets are read from the nodes, a worker's results are
+ * only meaningful if the document was not edited while it was running.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see ZScriptAst#getScopeIndex()
+ */
+public class ScopeIndex {
+
+	private RootNode root;
+	private MemberIndex memberIndex;
+
+	/**
+	 * Lazily-created block tables for functions that have been queried.
+	 */
+	private Map<FunctionDecNode, BlockTable> blockTables;
+
+
+	ScopeIndex(RootNode root, MemberIndex memberIndex) {
+		this.root = root;
+		this.memberIndex = memberIndex;
+		blockTables = Collections.synchronizedMap(new IdentityHashMap<>());
+	}
+
+
+	/**
+	 * Visits the variables in scope at an offset, innermost first.
+	 *
+	 * @param offs The offset.
+	 * @param visitor Receives each variable, and returns whether to keep
+	 *        going.
+	 * @return Whether all variables were visited.
+	 */
+	private boolean forEachVariable(int offs, Predicate<VariableDecNode> visitor) {
+
+		MemberNode member = memberIndex.getMemberContaining(offs);
+		if (!forEachLocalVariable(member, offs, visitor)) {
+			return false;
+		}
+
+		if (member instanceof ScriptNode &&
+				!forEachVariable((ScriptNode)member, offs, visitor)) {
+			return false;
+		}
+		return forEachVariable(root, offs, visitor);
+
+	}
+
+
+	/**
+	 * Visits the local variables and function arguments in scope at an
+	 * offset, innermost first.
+	 *
+	 * @param member The member containing the offset, if any.
+	 * @param offs The offset.
+	 * @param visitor Receives each variable, and returns whether to keep
+	 *        going.
+	 * @return Whether all variables were visited.
+	 */
+	private boolean forEachLocalVariable(MemberNode member, int offs,
+			Predicate<VariableDecNode> visitor) {
+
+		FunctionDecNode function = null;
+		if (member instanceof ScriptNode) {
+			function = getFunctionContaining((ScriptNode)member, offs);
+		}
+		else if (member instanceof FunctionDecNode) {
+			function = (FunctionDecNode)member;
+		}
+
+		if (function!=null) {
+			BlockTable table = getBlockTable(function);
+			for (int i=table.getDeepestBlockContaining(offs); i>-1; i=table.parents[i]) {
+				CodeBlock block = table.blocks[i];
+				if (block.getStartOffset()<offs) {
+					for (int j=0; j<block.getVariableCount(); j++) {
+						VariableDecNode varDec = block.getVariableDec(j);
+						if (varDec.getEndOffset()>=offs) {
+							break; // Declared after the offset
+						}
+						if (!visitor.test(varDec)) {
+							return false;
+						}
+					}
+				}
+			}
+			for (int i=0; i<function.getArgumentCount(); i++) {
+				if (!visitor.test(function.getArgument(i))) {
+					return false;
+				}
+			}
+		}
+		return true;
+
+	}
+
+
+	private static boolean forEachVariable(VariableContainer vc, int offs,
+			Predicate<VariableDecNode> visitor) {
+		if (vc.getStartOffset()<offs) {
+			for (int i=0; i<vc.getVariableCount(); i++) {
+				if (!visitor.test(vc.getVariableDec(i))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+
+	private BlockTable getBlockTable(FunctionDecNode function) {
+		return blockTables.computeIfAbsent(function,
+				f -> new BlockTable(f.getCodeBlock()));
+	}
+
+
+	/**
+	 * Returns the function in a script whose body contains an offset.
+	 */
+	private static FunctionDecNode getFunctionContaining(ScriptNode script,
+			int offs) {
+		int low = 0;
+		int high = script.getFunctionCount() - 1;
+		while (low<=high) { // Find the last function starting before offs
+			int mid = (low + high) >>> 1;
+			if (script.getFunction(mid).getStartOffset()<=offs) {
+				low = mid + 1;
+			}
+			else {
+				high = mid - 1;
+			}
+		}
+		if (high>-1) {
+			FunctionDecNode function = script.getFunction(high);
+			if (function.bodyContainsOffset(offs)) {
+				return function;
+			}
+		}
+		return null;
+	}
+
+
+	/**
+	 * Returns the functions callable at an offset: those in the enclosing
+	 * script, if any, followed by global functions.
+	 *
+	 * @param offs The offset.
+	 * @return The functions.
+	 */
+	public List<FunctionDecNode> getFunctionsInScope(int offs) {
+		List<FunctionDecNode> functions = new ArrayList<>();
+		MemberNode member = memberIndex.getMemberContaining(offs);
+		if (member instanceof ScriptNode) {
+			ScriptNode script = (ScriptNode)member;
+			if (script.getStartOffset()<offs) {
+				for (int i=0; i<script.getFunctionCount(); i++) {
+					functions.add(script.getFunction(i));
+				}
+			}
+		}
+		if (root.getStartOffset()<offs) {
+			for (int i=0; i<root.getFunctionCount(); i++) {
+				functions.add(root.getFunction(i));
+			}
+		}
+		return functions;
+	}
+
+
+	/**
+	 * Returns the declaration of a variable visible at an offset.  If
+	 * several are visible, the one in the innermost scope is returned.
+	 *
+	 * @param name The name of the variable.
+	 * @param offs The offset.
+	 * @return The declaration, or <code>null</code> if none is in scope.
+	 */
+	public VariableDecNode getVariableDec(String name, int offs) {
+
+		MemberNode member = memberIndex.getMemberContaining(offs);
+		VariableDecNode[] result = new VariableDecNode[1];
+		forEachLocalVariable(member, offs, varDec -> {
+			if (name.equals(varDec.getName())) {
+				result[0] = varDec;
+				return false;
+			}
+			return true;
+		});
+
+		if (result[0]==null && member instanceof ScriptNode) {
+			result[0] = getVariableDec((ScriptNode)member, name, offs);
+		}
+		if (result[0]==null) {
+			result[0] = getVariableDec(root, name, offs);
+		}
+		return result[0];
+
+	}
+
+
+	private static VariableDecNode getVariableDec(VariableContainer vc,
+			String name, int offs) {
+		return vc.getStartOffset()<offs ? vc.getVariableDecByName(name) : null;
+	}
+
+
+	/**
+	 * Returns all variables in scope at an offset, innermost first.
+	 *
+	 * @param offs The offset.
+	 * @return The variables.
+	 */
+	public List<VariableDecNode> getVariablesInScope(int offs) {
+		List<VariableDecNode> vars = new ArrayList<>();
+		forEachVariable(offs, vars::add);
+		return vars;
+	}
+
+
+	/**
+	 * A function's code blocks, in source order, with the index of each
+	 * block's parent.
+	 */
+	private static final class BlockTable {
+
+		private CodeBlock[] blocks;
+		private int[] parents;
+
+		BlockTable(CodeBlock root) {
+			List<CodeBlock> blockList = new ArrayList<>();
+			List<Integer> parentList = new ArrayList<>();
+			if (root!=null) {
+				addBlocks(root, -1, blockList, parentList);
+			}
+			blocks = blockList.toArray(new CodeBlock[0]);
+			parents = new int[blocks.length];
+			for (int i=0; i<parents.length; i++) {
+				parents[i] = parentList.get(i);
+			}
+		}
+
+		private static void addBlocks(CodeBlock block, int parent,
+				List<CodeBlock> blockList, List<Integer> parentList) {
+			int index = blockList.size();
+			blockList.add(block);
+			parentList.add(parent);
+			for (int i=0; i<block.getCodeBlockCount(); i++) {
+				CodeBlock child = block.getChildCodeBlock(i);
+				if (child!=null) {
+					addBlocks(child, index, blockList, parentList);
+				}
+			}
+		}
+
+		/**
+		 * Returns the index of the deepest block containing an offset, or
+		 * <code>-1</code> if none do.
+		 */
+		int getDeepestBlockContaining(int offs) {
+
+			// Blocks are in pre-order, so the last one starting at or before
+			// offs is either the deepest block containing it, or a
+			// descendant of it that ended before offs.
+			int low = 0;
+			int high = blocks.length - 1;
+			while (low<=high) {
+				int mid = (low + high) >>> 1;
+				if (blocks[mid].getStartOffset()<=offs) {
+					low = mid + 1;
+				}
+				else {
+					high = mid - 1;
+				}
+			}
+
+			int index = high;
+			while (index>-1 && !blocks[index].containsOffset(offs)) {
+				index = parents[index];
+			}
+			return index;
+
+		}
+
+	}
+
+
+}
@@ -10,7 +10,6 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.swing.text.Position;
 
-import org.fife.rsta.zscript.IconFactory;
 import org.fife.rsta.zscript.IconFactory.IconData;
 
 
@@ -29,13 +28,14 @@ public class ScriptNode extends MemberNode implements MemberContainer, BodiedNod
 	private List<FunctionDecNode> functions;
 
 	/** Note that script-scoped vars are deprecated in 2.5. */
-	private List<VariableDecNode> vars;
+	private SymbolTable vars;
 
 
 	public ScriptNode(ScriptType type, Position start) {
 		super(SCRIPT_DEC, start);
+		this.type = type;
 		functions = new ArrayList<>();
-		vars = new ArrayList<>();
+		vars = new SymbolTable();
 	}
 
 
@@ -88,6 +88,33 @@ public class ScriptNode extends MemberNode implements MemberContainer, BodiedNod
 	}
 
 
+	/**
+	 * Returns a copy of this script with a function replaced by a re-parsed
+	 * version of it.  This script is not modified; the copy shares its
+	 * variables and all other functions.
+	 *
+	 * @param old The function to replace.
+	 * @param replacement The new version of the function.
+	 * @return The copy.
+	 */
+	ScriptNode copyReplacingFunction(FunctionDecNode old,
+			FunctionDecNode replacement) {
+		ScriptNode copy = new ScriptNode(type, getStartPosition());
+		copy.setName(getName());
+		copy.setType(getType());
+		copy.setEndOffset(getEndPosition());
+		copy.bodyStart = bodyStart;
+		copy.bodyEnd = bodyEnd;
+		for (FunctionDecNode function : functions) {
+			copy.addFunctionDec(function==old ? replacement : function);
+		}
+		for (int i=0; i<vars.size(); i++) {
+			copy.addVariableDec(vars.get(i));
+		}
+		return copy;
+	}
+
+
 	@Override
 	public BodiedNode getDeepestBodiedNodeContaining(int offs) {
 		if (bodyContainsOffset(offs)) { // Should always be true
@@ -117,7 +144,7 @@ public class ScriptNode extends MemberNode implements MemberContainer, BodiedNod
 
 	@Override
 	public IconData getIcon() {
-		return new IconData(IconFactory.SCRIPT_ICON, false);
+		return IconData.SCRIPT;
 	}
 
 
@@ -140,13 +167,7 @@ public class ScriptNode extends MemberNode implements MemberContainer, BodiedNod
 
 	@Override
 	public VariableDecNode getVariableDecByName(String name) {
-		for (int i=0; i<getVariableCount(); i++) {
-			VariableDecNode var = getVariableDec(i);
-			if (name.equals(var.getName())) {
-				return var;
-			}
-		}
-		return null;
+		return vars.getByName(name);
 	}
 
 
@@ -0,0 +1,100 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.ast;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+
+/**
+ * The variables (or arguments) declared in a single scope, in declaration
+ * order.  Small scopes are searched linearly; once a scope grows past a
+ * threshold, a name-to-declaration map is built the first time it is
+ * searched, and kept up to date from then on.  This keeps lookups - and
+ * thus the shadowing checks done for each declaration while parsing -
+ * from being quadratic in global-heavy files.<p>
+ *
+ * As with a linear search, if a name is declared more than once in a
+ * scope, the first declaration is returned.  Once parsing is done, lookups
+ * may be made from several threads at once.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class SymbolTable extends AbstractList<VariableDecNode>
+		implements RandomAccess {
+
+	private List<VariableDecNode> decs;
+	private volatile Map<String, VariableDecNode> byName;
+
+	/**
+	 * Scopes with at most this many declarations aren't hashed.
+	 */
+	private static final int HASH_THRESHOLD = 8;
+
+
+	SymbolTable() {
+		decs = new ArrayList<>();
+	}
+
+
+	@Override
+	public boolean add(VariableDecNode dec) {
+		decs.add(dec);
+		if (byName!=null) {
+			byName.putIfAbsent(dec.getName(), dec);
+		}
+		return true;
+	}
+
+
+	@Override
+	public VariableDecNode get(int index) {
+		return decs.get(index);
+	}
+
+
+	/**
+	 * Returns the first declaration with a given name.
+	 *
+	 * @param name The name.
+	 * @return The declaration, or <code>null</code> if there is none.
+	 */
+	VariableDecNode getByName(String name) {
+		Map<String, VariableDecNode> map = byName;
+		if (map==null) {
+			if (decs.size()<=HASH_THRESHOLD) {
+				for (VariableDecNode dec : decs) {
+					if (name.equals(dec.getName())) {
+						return dec;
+					}
+				}
+				return null;
+			}
+			// Filled before it's published, so other threads never see it
+			// partly built
+			map = new HashMap<>();
+			for (VariableDecNode dec : decs) {
+				map.putIfAbsent(dec.getName(), dec);
+			}
+			byName = map;
+		}
+		return map.get(name);
+	}
+
+
+	@Override
+	public int size() {
+		return decs.size();
+	}
+
+
+}
@@ -8,7 +8,6 @@ package org.fife.rsta.zscript.ast;
 
 import javax.swing.text.Position;
 
-import org.fife.rsta.zscript.IconFactory;
 import org.fife.rsta.zscript.IconFactory.IconData;
 
 
@@ -65,7 +64,7 @@ public class VariableDecNode extends MemberNode implements StatementNode {
 
 	@Override
 	public IconData getIcon() {
-		return new IconData(IconFactory.FIELD_PUBLIC_ICON, constant);
+		return constant ? IconData.CONSTANT_FIELD : IconData.FIELD;
 	}
 
 
@@ -11,10 +11,13 @@ import java.util.List;
 
 
 /**
- * Generates a list of all local variables in scope at an offset.
+ * Generates a list of all local variables in scope at an offset.  This
+ * visits the entire AST; for repeated queries against the same AST, use its
+ * {@link ScopeIndex} instead.
  *
  * @author Robert Futrell
  * @version 1.0
+ * @see ZScriptAst#getScopeIndex()
  */
 public class VariablesInScopeGrabber implements ZScriptAstVisitor {
 
@@ -6,10 +6,6 @@
  */
 package org.fife.rsta.zscript.ast;
 
-import java.util.List;
-
-import org.fife.rsta.zscript.EnclosingScriptNodeGrabber;
-
 
 /**
  * Abstract syntax tree for ZScript.
@@ -20,19 +16,51 @@ import org.fife.rsta.zscript.EnclosingScriptNodeGrabber;
 public class ZScriptAst {
 
 	private RootNode root;
+	private MemberIndex memberIndex;
+	private ScopeIndex scopeIndex;
+
+	/**
+	 * The number of nodes in this AST.  This is only set along with the
+	 * root, before the AST is shared with other threads.
+	 */
+	private int nodeCount;
 
 
+	/**
+	 * Returns the deepest script, function or statement whose body
+	 * contains an offset.
+	 *
+	 * @param offs The offset.
+	 * @return The node, or <code>null</code> if the offset is not in the
+	 *         body of a script or function.
+	 */
 	public BodiedNode getDeepestBodiedNodeContaining(int offs) {
-		List<MemberNode> members = root.getAllMembers();
-		for (MemberNode member : members) {
-			if (member instanceof BodiedNode) {
-				BodiedNode bn = (BodiedNode)member;
-				if (bn.bodyContainsOffset(offs)) {
-					return bn.getDeepestBodiedNodeContaining(offs);
-				}
-			}
-		}
-		return null;
+		return memberIndex.getDeepestBodiedNodeContaining(offs);
+	}
+
+
+	/**
+	 * Returns the top-level script or function whose body contains an
+	 * offset.
+	 *
+	 * @param offs The offset.
+	 * @return The member, or <code>null</code> if the offset is not in the
+	 *         body of a script or global function.
+	 */
+	public MemberNode getMemberContaining(int offs) {
+		return memberIndex.getMemberContaining(offs);
+	}
+
+
+	/**
+	 * Returns the number of nodes in this AST, including code blocks, the
+	 * root, function arguments and script variables.  ASTs created by
+	 * {@link AstFactory} count their nodes while parsing, so this is cheap.
+	 *
+	 * @return The node count.
+	 */
+	public int getNodeCount() {
+		return nodeCount;
 	}
 
 
@@ -41,6 +69,21 @@ public class ZScriptAst {
 	}
 
 
+	/**
+	 * Returns an index for quickly determining the variables and functions
+	 * in scope at an offset.  This is created the first time it is
+	 * requested, and may be used off the EDT.
+	 *
+	 * @return The scope index.
+	 */
+	public synchronized ScopeIndex getScopeIndex() {
+		if (scopeIndex==null) {
+			scopeIndex = new ScopeIndex(root, memberIndex);
+		}
+		return scopeIndex;
+	}
+
+
 	/**
 	 * Returns the deepest enclosing script node for a given offset.
 	 *
@@ -49,15 +92,33 @@ public class ZScriptAst {
 	 *         <code>null</code> if the offset is not in a script node.
 	 */
 	public ScriptNode getScriptNodeContaining(int offs) {
-		EnclosingScriptNodeGrabber scriptNodeGrabber =
-				new EnclosingScriptNodeGrabber(offs);
-		root.accept(scriptNodeGrabber);
-		return scriptNodeGrabber.getEnclosingScriptNode();
+		MemberNode member = getMemberContaining(offs);
+		return member instanceof ScriptNode ? (ScriptNode)member : null;
 	}
 
 
+	/**
+	 * Sets the root of this AST, and indexes its members by offset.  The
+	 * root should not be modified afterward.
+	 *
+	 * @param root The root node.
+	 */
 	public void setRootNode(RootNode root) {
+		setRootNode(root, NodeCounter.count(root));
+	}
+
+
+	/**
+	 * Sets the root of this AST, whose nodes have already been counted.
+	 *
+	 * @param root The root node.
+	 * @param nodeCount The number of nodes in the AST.
+	 */
+	synchronized void setRootNode(RootNode root, int nodeCount) {
 		this.root = root;
+		this.nodeCount = nodeCount;
+		memberIndex = new MemberIndex(root);
+		scopeIndex = null;
 	}
 
 
@@ -45,6 +45,37 @@ public class ZScriptParseResult {
 	}
 
 
+	/**
+	 * Adds a notice from a previous parse, adjusting its location for text
+	 * inserted or removed before it since.
+	 *
+	 * @param notice The notice.
+	 * @param offsetDelta The number of characters inserted before the notice
+	 *        (negative if text was removed).
+	 * @param lineDelta The number of lines inserted before the notice
+	 *        (negative if lines were removed).
+	 */
+	public void addShiftedNotice(ParserNotice notice, int offsetDelta, int lineDelta) {
+		if (offsetDelta==0 && lineDelta==0) {
+			notices.add(notice);
+			return;
+		}
+		int offs = notice.getOffset();
+		DefaultParserNotice shifted;
+		if (offs>-1) {
+			shifted = new DefaultParserNotice(parser, notice.getMessage(),
+					notice.getLine() + lineDelta, offs + offsetDelta,
+					notice.getLength());
+		}
+		else {
+			shifted = new DefaultParserNotice(parser, notice.getMessage(),
+					notice.getLine() + lineDelta);
+		}
+		shifted.setLevel(notice.getLevel());
+		notices.add(shifted);
+	}
+
+
 	public List<ParserNotice> getNotices() {
 		return notices;
 	}
@@ -535,6 +535,23 @@ class ZScriptScanner implements TokenTypes {
 	 */
 	private boolean returnWhitespace;
 
+	/**
+	 * Added to the offset of each token.  This is non-zero when scanning a
+	 * fragment of a larger document.
+	 */
+	private int offsetBase;
+
+	/**
+	 * Added to the line of each token.  This is non-zero when scanning a
+	 * fragment of a larger document.
+	 */
+	private int lineBase;
+
+	/**
+	 * Shares the strings for repeated lexemes.
+	 */
+	private LexemeTable lexemes = new LexemeTable();
+
 
 	private Token createToken(int type) {
 		return createToken(type, false);
@@ -542,7 +559,10 @@ class ZScriptScanner implements TokenTypes {
 
 
 	private Token createToken(int type, boolean invalid) {
-		return new Token(type, yytext(), yyline, yycolumn, yychar, invalid);
+		String lexeme = lexemes.intern(zzBuffer, zzStartRead,
+				zzMarkedPos - zzStartRead);
+		return new Token(type, lexeme, lineBase + yyline, yycolumn,
+				offsetBase + yychar, invalid);
 	}
 
 
@@ -562,7 +582,7 @@ class ZScriptScanner implements TokenTypes {
 	 * @return The current line.
 	 */
 	public int getLine() {
-		return yyline;
+		return lineBase + yyline;
 	}
 
 
@@ -572,7 +592,7 @@ class ZScriptScanner implements TokenTypes {
 	 * @return The offset.
 	 */
 	public int getOffset() {
-		return yychar;
+		return offsetBase + yychar;
 	}
 
 
@@ -598,6 +618,42 @@ class ZScriptScanner implements TokenTypes {
 	}
 
 
+	/**
+	 * Scans a range of a <code>char</code> array directly, rather than
+	 * reading from a <code>Reader</code> into a buffer.  The array should
+	 * not be modified while it is being scanned.
+	 *
+	 * @param array The array.
+	 * @param offs The start of the range to scan.
+	 * @param len The length of the range to scan.
+	 */
+	public void setInput(char[] array, int offs, int len) {
+		zzReader = null;
+		zzBuffer = array;
+		zzStartRead = zzCurrentPos = zzMarkedPos = offs;
+		zzEndRead = offs + len;
+		zzAtEOF = true; // Everything is already "read"
+		yyline = yychar = yycolumn = 0;
+		zzLexicalState = YYINITIAL;
+	}
+
+
+	/**
+	 * Sets where the input being scanned starts in its enclosing document.
+	 * This should be called when scanning a fragment of a larger document,
+	 * so token offsets and lines are relative to the document rather than
+	 * the fragment.  Note that columns of tokens on the fragment's first
+	 * line are still relative to the fragment's start.
+	 *
+	 * @param offset The offset of the start of the input.
+	 * @param line The line of the start of the input.
+	 */
+	public void setInputStart(int offset, int line) {
+		offsetBase = offset;
+		lineBase = line;
+	}
+
+
 	/**
 	 * Sets whether comments are returned as tokens.
 	 *
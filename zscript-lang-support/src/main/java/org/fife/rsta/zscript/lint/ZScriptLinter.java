@@ -0,0 +1,413 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.lint;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.fife.rsta.zscript.ast.AstFactory;
+import org.fife.ui.rsyntaxtextarea.parser.Parser;
+import org.fife.ui.rsyntaxtextarea.parser.ParserNotice;
+
+
+/**
+ * Checks ZScript files for syntax errors from the command line, e.g. before
+ * packaging a quest.  Directories are searched recursively for
+ * <code>.z</code> and <code>.zh</code> files, which are parsed in parallel
+ * on a <code>ForkJoinPool</code>.  Each file's notices are written as soon
+ * as it has been parsed, followed by its parse time; a summary with the
+ * total throughput is written at the end.<p>
+ *
+ * Usage:
+ * <pre>
+ * java -cp ... org.fife.rsta.zscript.lint.ZScriptLinter [options] &lt;file-or-directory&gt;...
+ *
+ *   --format text|jsonl   Output format (default: text)
+ *   --threads n           Number of files to parse at once (default: one per core)
+ *   --charset name        Encoding of the files (default: UTF-8)
+ * </pre>
+ * The exit code is <code>0</code> if no errors were found, <code>1</code>
+ * if some were, and <code>2</code> if the linter could not run.<p>
+ *
+ * In JSON Lines format, each line is an object with a <code>type</code> of
+ * <code>"notice"</code>, <code>"file"</code> or <code>"summary"</code>.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public final class ZScriptLinter {
+
+	private PrintWriter out;
+	private Format format;
+	private Charset charset;
+	private int threads;
+
+	private AtomicInteger fileCount;
+	private AtomicLong byteCount;
+	private AtomicInteger errorCount;
+	private AtomicInteger warningCount;
+
+	private static final double NANOS_PER_MILLI = 1_000_000d;
+	private static final double BYTES_PER_MB = 1024 * 1024d;
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The stream to write results to.
+	 * @param format The output format.
+	 * @param charset The encoding of the files to lint.
+	 * @param threads The number of files to parse at once.
+	 */
+	public ZScriptLinter(PrintWriter out, Format format, Charset charset,
+			int threads) {
+		this.out = out;
+		this.format = format;
+		this.charset = charset;
+		this.threads = threads;
+		fileCount = new AtomicInteger();
+		byteCount = new AtomicLong();
+		errorCount = new AtomicInteger();
+		warningCount = new AtomicInteger();
+	}
+
+
+	/**
+	 * Adds a file, or all ZScript files in a directory, to a list.
+	 */
+	private static void collect(Path root, List<Source> sources)
+			throws IOException {
+
+		if (!Files.isDirectory(root)) {
+			sources.add(new Source(root, Files.size(root)));
+			return;
+		}
+
+		Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+				String name = file.getFileName().toString();
+				if (attrs.isRegularFile() &&
+						(name.endsWith(".z") || name.endsWith(".zh"))) {
+					sources.add(new Source(file, attrs.size()));
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		});
+
+	}
+
+
+	private static void escapeJson(StringBuilder sb, String str) {
+		sb.append('"');
+		for (int i=0; i<str.length(); i++) {
+			char ch = str.charAt(i);
+			switch (ch) {
+				case '"':
+					sb.append("\\\"");
+					break;
+				case '\\':
+					sb.append("\\\\");
+					break;
+				case '\n':
+					sb.append("\\n");
+					break;
+				case '\r':
+					sb.append("\\r");
+					break;
+				case '\t':
+					sb.append("\\t");
+					break;
+				default:
+					if (ch<0x20) {
+						sb.append(String.format("\\u%04x", (int)ch));
+					}
+					else {
+						sb.append(ch);
+					}
+					break;
+			}
+		}
+		sb.append('"');
+	}
+
+
+	/**
+	 * Lints files and directories, writing the results as they are found.
+	 *
+	 * @param roots The files and directories to lint.
+	 * @return The number of errors found.
+	 * @throws IOException If a directory cannot be searched.  Files that
+	 *         cannot be read are reported as errors instead.
+	 */
+	public int lint(List<Path> roots) throws IOException {
+
+		long start = System.nanoTime();
+
+		List<Source> sources = new ArrayList<>();
+		for (Path root : roots) {
+			collect(root, sources);
+		}
+		// Start on the biggest files so no thread is left with one at the end
+		sources.sort((s1, s2) -> Long.compare(s2.size, s1.size));
+
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			pool.submit(() -> sources.parallelStream().forEach(this::lint)).get();
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException ee) {
+			throw new IOException(ee.getCause());
+		} finally {
+			pool.shutdown();
+		}
+
+		StringBuilder sb = new StringBuilder();
+		format.appendSummary(sb, fileCount.get(), byteCount.get(),
+				System.nanoTime() - start, errorCount.get(), warningCount.get());
+		out.print(sb);
+		out.flush();
+		return errorCount.get();
+
+	}
+
+
+	private void lint(Source source) {
+
+		StringBuilder sb = new StringBuilder();
+		String file = source.file.toString();
+		int errors = 0;
+		int warnings = 0;
+
+		long start = System.nanoTime();
+		try {
+			List<ParserNotice> notices = new AstFactory(source.file, charset,
+					(Parser)null).parse().getNotices();
+			long nanos = System.nanoTime() - start;
+			for (ParserNotice notice : notices) {
+				if (notice.getLevel()==ParserNotice.Level.ERROR) {
+					errors++;
+				}
+				else if (notice.getLevel()==ParserNotice.Level.WARNING) {
+					warnings++;
+				}
+				format.appendNotice(sb, file, notice.getLine() + 1,
+						notice.getOffset(), notice.getLength(),
+						levelName(notice.getLevel()), notice.getMessage());
+			}
+			format.appendFile(sb, file, source.size, nanos, errors, warnings);
+		} catch (IOException | RuntimeException e) {
+			errors++;
+			format.appendNotice(sb, file, 0, -1, -1, "error",
+					"Cannot parse file: " + e);
+		}
+
+		fileCount.incrementAndGet();
+		byteCount.addAndGet(source.size);
+		errorCount.addAndGet(errors);
+		warningCount.addAndGet(warnings);
+
+		// Each file's output is written in one piece, as soon as it's ready
+		synchronized (out) {
+			out.print(sb);
+			out.flush();
+		}
+
+	}
+
+
+	private static String levelName(ParserNotice.Level level) {
+		return level.name().toLowerCase(Locale.ENGLISH);
+	}
+
+
+	/**
+	 * Program entry point.
+	 *
+	 * @param args The command line arguments.
+	 */
+	public static void main(String[] args) {
+
+		System.setProperty("java.awt.headless", "true");
+
+		Format format = Format.TEXT;
+		Charset charset = StandardCharsets.UTF_8;
+		int threads = Runtime.getRuntime().availableProcessors();
+		List<Path> roots = new ArrayList<>();
+
+		try {
+			for (int i=0; i<args.length; i++) {
+				switch (args[i]) {
+					case "--format":
+						format = Format.valueOf(args[++i].toUpperCase(Locale.ENGLISH));
+						break;
+					case "--threads":
+						threads = Integer.parseInt(args[++i]);
+						if (threads<1) {
+							throw new IllegalArgumentException("threads: " + threads);
+						}
+						break;
+					case "--charset":
+						charset = Charset.forName(args[++i]);
+						break;
+					default:
+						roots.add(Paths.get(args[i]));
+						break;
+				}
+			}
+		} catch (RuntimeException e) { // Missing or bad option values
+			roots.clear();
+		}
+
+		if (roots.isEmpty()) {
+			System.err.println("Usage: ZScriptLinter [--format text|jsonl] " +
+					"[--threads n] [--charset name] <file-or-directory>...");
+			System.exit(2);
+		}
+
+		PrintWriter out = new PrintWriter(new BufferedWriter(
+				new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+		int errors = 0;
+		try {
+			errors = new ZScriptLinter(out, format, charset, threads).lint(roots);
+		} catch (IOException ioe) {
+			ioe.printStackTrace();
+			System.exit(2);
+		}
+		System.exit(errors>0 ? 1 : 0);
+
+	}
+
+
+	/**
+	 * The output formats supported.
+	 */
+	public enum Format {
+
+		/**
+		 * Human-readable output, similar to that of <code>javac</code>.
+		 */
+		TEXT {
+			@Override
+			void appendNotice(StringBuilder sb, String file, int line,
+					int offset, int length, String level, String message) {
+				sb.append(file).append(':').append(line).append(": ")
+					.append(level).append(": ").append(message).append('\n');
+			}
+
+			@Override
+			void appendFile(StringBuilder sb, String file, long bytes,
+					long nanos, int errors, int warnings) {
+				sb.append(file).append(": ").append(errors).append(" error(s), ")
+					.append(warnings).append(" warning(s), ")
+					.append(String.format(Locale.ENGLISH, "%.2f",
+							nanos / NANOS_PER_MILLI))
+					.append(" ms\n");
+			}
+
+			@Override
+			void appendSummary(StringBuilder sb, int files, long bytes,
+					long nanos, int errors, int warnings) {
+				double seconds = nanos / 1_000_000_000d;
+				sb.append(String.format(Locale.ENGLISH,
+						"%d file(s), %.2f MB in %.2f s (%.1f files/s, %.2f MB/s): " +
+						"%d error(s), %d warning(s)\n", files,
+						bytes / BYTES_PER_MB, seconds, files / seconds,
+						bytes / BYTES_PER_MB / seconds, errors, warnings));
+			}
+		},
+
+		/**
+		 * One JSON object per line, for consumption by other tools.
+		 */
+		JSONL {
+			@Override
+			void appendNotice(StringBuilder sb, String file, int line,
+					int offset, int length, String level, String message) {
+				sb.append("{\"type\":\"notice\",\"file\":");
+				escapeJson(sb, file);
+				sb.append(",\"line\":").append(line)
+					.append(",\"offset\":").append(offset)
+					.append(",\"length\":").append(length)
+					.append(",\"level\":\"").append(level)
+					.append("\",\"message\":");
+				escapeJson(sb, message);
+				sb.append("}\n");
+			}
+
+			@Override
+			void appendFile(StringBuilder sb, String file, long bytes,
+					long nanos, int errors, int warnings) {
+				sb.append("{\"type\":\"file\",\"file\":");
+				escapeJson(sb, file);
+				sb.append(",\"bytes\":").append(bytes)
+					.append(",\"parseMillis\":").append(String.format(
+							Locale.ENGLISH, "%.3f", nanos / NANOS_PER_MILLI))
+					.append(",\"errors\":").append(errors)
+					.append(",\"warnings\":").append(warnings)
+					.append("}\n");
+			}
+
+			@Override
+			void appendSummary(StringBuilder sb, int files, long bytes,
+					long nanos, int errors, int warnings) {
+				double seconds = nanos / 1_000_000_000d;
+				sb.append(String.format(Locale.ENGLISH,
+						"{\"type\":\"summary\",\"files\":%d,\"bytes\":%d," +
+						"\"seconds\":%.3f,\"filesPerSecond\":%.1f," +
+						"\"mbPerSecond\":%.2f,\"errors\":%d,\"warnings\":%d}\n",
+						files, bytes, seconds, files / seconds,
+						bytes / BYTES_PER_MB / seconds, errors, warnings));
+			}
+		};
+
+		abstract void appendNotice(StringBuilder sb, String file, int line,
+				int offset, int length, String level, String message);
+
+		abstract void appendFile(StringBuilder sb, String file, long bytes,
+				long nanos, int errors, int warnings);
+
+		abstract void appendSummary(StringBuilder sb, int files, long bytes,
+				long nanos, int errors, int warnings);
+
+	}
+
+
+	/**
+	 * A file to lint.
+	 */
+	private static final class Source {
+
+		private Path file;
+		private long size;
+
+		private Source(Path file, long size) {
+			this.file = file;
+			this.size = size;
+		}
+
+	}
+
+
+}
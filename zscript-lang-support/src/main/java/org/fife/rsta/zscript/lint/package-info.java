@@ -0,0 +1,4 @@
+/**
+ * A command-line linter for ZScript files.
+ */
+package org.fife.rsta.zscript.lint;
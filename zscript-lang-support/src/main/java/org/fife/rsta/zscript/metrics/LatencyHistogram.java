@@ -0,0 +1,172 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A thread-safe histogram of latencies.  Latencies are counted in buckets
+ * whose width grows with their value, eight per power of two, so
+ * percentiles are accurate to within 12.5% whatever their magnitude, and
+ * recording a latency never allocates.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+	private AtomicLongArray buckets;
+	private AtomicLong count;
+	private AtomicLong totalNanos;
+	private AtomicLong maxNanos;
+
+	/**
+	 * The number of buckets per power of two is <code>1 &lt;&lt;
+	 * SUB_BUCKET_BITS</code>.
+	 */
+	private static final int SUB_BUCKET_BITS	= 3;
+	private static final int SUB_BUCKET_COUNT	= 1 << SUB_BUCKET_BITS;
+
+	private static final int BUCKET_COUNT =
+			(64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+
+	public LatencyHistogram() {
+		buckets = new AtomicLongArray(BUCKET_COUNT);
+		count = new AtomicLong();
+		totalNanos = new AtomicLong();
+		maxNanos = new AtomicLong();
+	}
+
+
+	/**
+	 * Returns the index of the bucket a latency is counted in.
+	 */
+	private static int getBucket(long nanos) {
+		if (nanos<SUB_BUCKET_COUNT) {
+			return (int)nanos;
+		}
+		int exp = 63 - Long.numberOfLeadingZeros(nanos);
+		int shift = exp - SUB_BUCKET_BITS;
+		int sub = (int)(nanos>>>shift) & (SUB_BUCKET_COUNT-1);
+		return (shift+1)*SUB_BUCKET_COUNT + sub;
+	}
+
+
+	/**
+	 * Returns the largest latency counted in a bucket.
+	 */
+	private static long getBucketMax(int bucket) {
+		if (bucket<SUB_BUCKET_COUNT) {
+			return bucket;
+		}
+		int shift = bucket/SUB_BUCKET_COUNT - 1;
+		long sub = SUB_BUCKET_COUNT + bucket%SUB_BUCKET_COUNT;
+		return ((sub+1)<<shift) - 1;
+	}
+
+
+	/**
+	 * Returns the number of latencies recorded.
+	 *
+	 * @return The count.
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+
+	/**
+	 * Returns the largest latency recorded.
+	 *
+	 * @return The latency, in nanoseconds.
+	 */
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+
+	/**
+	 * Returns the average latency.
+	 *
+	 * @return The latency, in nanoseconds, or <code>0</code> if none have
+	 *         been recorded.
+	 */
+	public long getMeanNanos() {
+		long n = count.get();
+		return n>0 ? totalNanos.get() / n : 0;
+	}
+
+
+	/**
+	 * Returns a percentile of the latencies recorded, e.g. the median.
+	 *
+	 * @param percentile The percentile, from <code>0</code> to
+	 *        <code>100</code>.
+	 * @return The latency, in nanoseconds, or <code>0</code> if none have
+	 *         been recorded.  This is the largest latency that could be in
+	 *         the bucket the percentile falls in, but no more than
+	 *         {@link #getMaxNanos()}.
+	 */
+	public long getPercentileNanos(double percentile) {
+
+		// Counts are read without a lock, so use what the buckets add up to
+		long total = 0;
+		long[] counts = new long[BUCKET_COUNT];
+		for (int i=0; i<BUCKET_COUNT; i++) {
+			counts[i] = buckets.get(i);
+			total += counts[i];
+		}
+		if (total==0) {
+			return 0;
+		}
+
+		long rank = Math.max(1, (long)Math.ceil(total * percentile / 100));
+		long seen = 0;
+		for (int i=0; i<BUCKET_COUNT; i++) {
+			seen += counts[i];
+			if (seen>=rank) {
+				return Math.min(getBucketMax(i), maxNanos.get());
+			}
+		}
+		return maxNanos.get(); // Never happens
+
+	}
+
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param nanos The latency, in nanoseconds.  Negative values are
+	 *        treated as <code>0</code>.
+	 */
+	public void record(long nanos) {
+		nanos = Math.max(0, nanos);
+		buckets.incrementAndGet(getBucket(nanos));
+		count.incrementAndGet();
+		totalNanos.addAndGet(nanos);
+		maxNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+
+	/**
+	 * Forgets all latencies recorded.  Latencies recorded concurrently may
+	 * or may not be kept.
+	 */
+	public void reset() {
+		for (int i=0; i<BUCKET_COUNT; i++) {
+			buckets.set(i, 0);
+		}
+		count.set(0);
+		totalNanos.set(0);
+		maxNanos.set(0);
+	}
+
+
+}
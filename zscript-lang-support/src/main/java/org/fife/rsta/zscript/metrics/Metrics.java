@@ -0,0 +1,131 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.metrics;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import javax.swing.text.Document;
+
+import org.fife.rsta.zscript.ast.ZScriptAst;
+
+
+/**
+ * Reports timings to the registered {@link MetricsListener}, if any.  When
+ * there is none, nothing is timed, so the calls made by this library cost
+ * next to nothing.  Timed code looks like:
+ *
+ * <pre>
+ * long start = Metrics.start();
+ * try {
+ *    // ...
+ * } finally {
+ *    Metrics.end(doc, Operation.LINK, start);
+ * }
+ * </pre>
+ *
+ * The listener is the first one found via {@link ServiceLoader}, unless
+ * another one is set.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public final class Metrics {
+
+	private static volatile MetricsListener listener = loadListener();
+
+	/**
+	 * Returned by {@link #start()} when nothing is being timed.
+	 */
+	private static final long NOT_TIMED = Long.MIN_VALUE;
+
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private Metrics() {
+	}
+
+
+	/**
+	 * Reports that a document has been parsed.  The AST's nodes are only
+	 * counted if there is a listener.
+	 *
+	 * @param doc The document.
+	 * @param length The length of the text parsed.
+	 * @param ast The resulting AST.
+	 */
+	public static void documentParsed(Document doc, int length, ZScriptAst ast) {
+		MetricsListener l = listener;
+		if (l!=null) {
+			l.documentParsed(doc, length, ast.getNodeCount());
+		}
+	}
+
+
+	/**
+	 * Reports that an operation has completed.
+	 *
+	 * @param doc The document operated on.
+	 * @param op The operation.
+	 * @param start The value returned by {@link #start()} when the operation
+	 *        started.
+	 */
+	public static void end(Document doc, Operation op, long start) {
+		MetricsListener l = listener;
+		if (start!=NOT_TIMED && l!=null) {
+			l.operationCompleted(doc, op, System.nanoTime() - start);
+		}
+	}
+
+
+	/**
+	 * Returns the listener timings are reported to.
+	 *
+	 * @return The listener, or <code>null</code> if there is none.
+	 * @see #setListener(MetricsListener)
+	 */
+	public static MetricsListener getListener() {
+		return listener;
+	}
+
+
+	private static MetricsListener loadListener() {
+		try {
+			Iterator<MetricsListener> i = ServiceLoader.load(
+					MetricsListener.class).iterator();
+			return i.hasNext() ? i.next() : null;
+		} catch (ServiceConfigurationError sce) {
+			sce.printStackTrace();
+			return null;
+		}
+	}
+
+
+	/**
+	 * Sets the listener timings are reported to.
+	 *
+	 * @param listener The listener, or <code>null</code> to stop timing.
+	 * @see #getListener()
+	 */
+	public static void setListener(MetricsListener listener) {
+		Metrics.listener = listener;
+	}
+
+
+	/**
+	 * Called when an operation starts.
+	 *
+	 * @return The value to pass to
+	 *         {@link #end(Document, Operation, long)} when it completes.
+	 */
+	public static long start() {
+		return listener!=null ? System.nanoTime() : NOT_TIMED;
+	}
+
+
+}
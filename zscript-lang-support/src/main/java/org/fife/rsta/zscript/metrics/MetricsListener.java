@@ -0,0 +1,51 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.metrics;
+
+import javax.swing.text.Document;
+
+
+/**
+ * Receives timings of the operations this library performs on documents.
+ * Applications register one via {@link Metrics#setListener(MetricsListener)},
+ * or by naming an implementation in a
+ * <code>META-INF/services/org.fife.rsta.zscript.metrics.MetricsListener</code>
+ * file.<p>
+ *
+ * Parses may run on background threads, so implementations must be
+ * thread-safe.  They should also be fast, since they are called while the
+ * user is typing.  {@link MetricsRecorder} is a ready-made implementation.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public interface MetricsListener {
+
+
+	/**
+	 * Called when a document has been parsed.
+	 *
+	 * @param doc The document.  This may be called off the EDT, so it should
+	 *        only be used as a key.
+	 * @param length The length of the text parsed.
+	 * @param nodeCount The number of nodes in the resulting AST.
+	 */
+	void documentParsed(Document doc, int length, int nodeCount);
+
+
+	/**
+	 * Called when an operation on a document has completed.
+	 *
+	 * @param doc The document.  This may be called off the EDT, so it should
+	 *        only be used as a key.
+	 * @param op The operation.
+	 * @param nanos How long the operation took, in nanoseconds.
+	 */
+	void operationCompleted(Document doc, Operation op, long nanos);
+
+
+}
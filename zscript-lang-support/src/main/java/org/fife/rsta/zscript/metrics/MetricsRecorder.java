@@ -0,0 +1,124 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.swing.text.Document;
+
+
+/**
+ * A {@link MetricsListener} that keeps counts and latency histograms for
+ * each operation, per document.  Documents are only weakly referenced, so
+ * their metrics are discarded when they are closed and garbage collected.
+ * UIs displaying the metrics live can simply poll
+ * {@link #getMetrics(Document)}.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public class MetricsRecorder implements MetricsListener {
+
+	private Map<Document, DocumentMetrics> metrics;
+
+
+	public MetricsRecorder() {
+		metrics = Collections.synchronizedMap(new WeakHashMap<>());
+	}
+
+
+	@Override
+	public void documentParsed(Document doc, int length, int nodeCount) {
+		DocumentMetrics dm = getOrCreateMetrics(doc);
+		dm.length = length;
+		dm.nodeCount = nodeCount;
+	}
+
+
+	/**
+	 * Returns the metrics for a document.
+	 *
+	 * @param doc The document.
+	 * @return The metrics, or <code>null</code> if nothing has been
+	 *         recorded for the document.
+	 */
+	public DocumentMetrics getMetrics(Document doc) {
+		return metrics.get(doc);
+	}
+
+
+	private DocumentMetrics getOrCreateMetrics(Document doc) {
+		return metrics.computeIfAbsent(doc, d -> new DocumentMetrics());
+	}
+
+
+	@Override
+	public void operationCompleted(Document doc, Operation op, long nanos) {
+		getOrCreateMetrics(doc).getHistogram(op).record(nanos);
+	}
+
+
+	/**
+	 * Forgets everything recorded so far.
+	 */
+	public void reset() {
+		metrics.clear();
+	}
+
+
+	/**
+	 * The metrics recorded for a single document.
+	 */
+	public static final class DocumentMetrics {
+
+		private Map<Operation, LatencyHistogram> histograms;
+		private volatile int length;
+		private volatile int nodeCount;
+
+		private DocumentMetrics() {
+			histograms = new EnumMap<>(Operation.class);
+			for (Operation op : Operation.values()) {
+				histograms.put(op, new LatencyHistogram());
+			}
+		}
+
+		/**
+		 * Returns the latencies of an operation.
+		 *
+		 * @param op The operation.
+		 * @return The latencies.
+		 */
+		public LatencyHistogram getHistogram(Operation op) {
+			return histograms.get(op);
+		}
+
+		/**
+		 * Returns the length of the text last parsed.
+		 *
+		 * @return The length, or <code>0</code> if the document hasn't been
+		 *         parsed.
+		 */
+		public int getLength() {
+			return length;
+		}
+
+		/**
+		 * Returns the number of nodes in the AST last parsed.
+		 *
+		 * @return The node count, or <code>0</code> if the document hasn't
+		 *         been parsed.
+		 */
+		public int getNodeCount() {
+			return nodeCount;
+		}
+
+	}
+
+
+}
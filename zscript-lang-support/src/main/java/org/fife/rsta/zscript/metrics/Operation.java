@@ -0,0 +1,46 @@
+/*
+ * 10/18/2026
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.metrics;
+
+
+/**
+ * The operations timed by this library.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see MetricsListener#operationCompleted(javax.swing.text.Document, Operation, long)
+ */
+public enum Operation {
+
+	/**
+	 * A parse of a document, in the foreground or background.  Parses
+	 * skipped because the document hadn't changed are not timed.
+	 */
+	PARSE,
+
+	/**
+	 * Gathering the completions for the text at the caret.
+	 */
+	COMPLETIONS,
+
+	/**
+	 * Gathering the completions for the text under the mouse, e.g. for a
+	 * tool tip.
+	 */
+	COMPLETIONS_AT,
+
+	/**
+	 * Checking whether the text under the mouse is a link.
+	 */
+	LINK,
+
+	/**
+	 * Updating the outline tree after a parse.
+	 */
+	OUTLINE_UPDATE
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Hooks for measuring how long parsing, code completion, link resolution
+ * and outline updates take.
+ */
+package org.fife.rsta.zscript.metrics;
@@ -8,12 +8,22 @@ package org.fife.rsta.zscript.tree;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.swing.BorderFactory;
 import javax.swing.event.TreeSelectionEvent;
 import javax.swing.event.TreeSelectionListener;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreeNode;
 import javax.swing.tree.TreePath;
 
 import org.fife.rsta.ac.AbstractSourceTree;
@@ -22,20 +32,11 @@ import org.fife.rsta.ac.LanguageSupportFactory;
 import org.fife.rsta.zscript.IconFactory;
 import org.fife.rsta.zscript.ZScriptLanguageSupport;
 import org.fife.rsta.zscript.ZScriptParser;
-import org.fife.rsta.zscript.ast.CodeBlock;
-import org.fife.rsta.zscript.ast.DoWhileNode;
-import org.fife.rsta.zscript.ast.ElseNode;
-import org.fife.rsta.zscript.ast.ForNode;
-import org.fife.rsta.zscript.ast.FunctionDecNode;
 import org.fife.rsta.zscript.ast.AbstractNode;
-import org.fife.rsta.zscript.ast.IfNode;
 import org.fife.rsta.zscript.ast.RootNode;
-import org.fife.rsta.zscript.ast.ScriptNode;
-import org.fife.rsta.zscript.ast.VariableDecNode;
-import org.fife.rsta.zscript.ast.WhileNode;
 import org.fife.rsta.zscript.ast.ZScriptAst;
-import org.fife.rsta.zscript.ast.ImportNode;
-import org.fife.rsta.zscript.ast.ZScriptAstVisitor;
+import org.fife.rsta.zscript.metrics.Metrics;
+import org.fife.rsta.zscript.metrics.Operation;
 import org.fife.ui.rsyntaxtextarea.DocumentRange;
 import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
 import org.fife.ui.rsyntaxtextarea.RSyntaxUtilities;
@@ -43,7 +44,13 @@ import org.fife.ui.rsyntaxtextarea.RSyntaxUtilities;
 
 /**
  * A tree view showing the outline of ZScript source, similar to the "Outline"
- * view in the Eclipse JDT.
+ * view in the Eclipse JDT.<p>
+ *
+ * When the source is re-parsed, the members of the new AST are matched
+ * against the existing tree nodes by kind and name, and only the nodes that
+ * were added, removed or renamed are reported to the tree model, so
+ * expanded and selected nodes stay that way.  Nodes for the members of
+ * collapsed scripts and functions aren't created until they're needed.
  *
  * @author Robert Futrell
  * @version 1.0
@@ -55,10 +62,22 @@ public class ZScriptOutlineTree extends AbstractSourceTree {
 	private ZScriptParser parser;
 	private Listener listener;
 
-	private static final int SORT_PRIORITY_IMPORTS		= 0;
-	private static final int SORT_PRIORITY_SCRIPT		= 1;
-	private static final int SORT_PRIORITY_FUNCTION		= 2;
-	private static final int SORT_PRIORITY_VARIABLE		= 3;
+	/**
+	 * The root of the tree built for the last AST, or <code>null</code> if
+	 * there was none.
+	 */
+	private ZScriptTreeNode root;
+
+	/**
+	 * The "Imports" node, or <code>null</code> if it isn't shown.
+	 */
+	private ZScriptTreeNode importRoot;
+
+	/**
+	 * Whether the tree is being updated, and so selection changes weren't
+	 * made by the user.
+	 */
+	private boolean updating;
 
 
 	/**
@@ -91,27 +110,85 @@ public class ZScriptOutlineTree extends AbstractSourceTree {
 
 
 	/**
-	 * Refreshes this tree.
+	 * Refreshes this tree, timing how long it takes.
 	 *
 	 * @param ast The parsed compilation unit.  If this is <code>null</code>
 	 *        then the tree is cleared.
 	 */
 	private void update(ZScriptAst ast) {
+		long start = Metrics.start();
+		try {
+			updateImpl(ast);
+		} finally {
+			Metrics.end(textArea.getDocument(), Operation.OUTLINE_UPDATE, start);
+		}
+	}
+
+
+	/**
+	 * Refreshes this tree.
+	 *
+	 * @param ast The parsed compilation unit.  If this is <code>null</code>
+	 *        then the tree is cleared.
+	 */
+	private void updateImpl(ZScriptAst ast) {
 
-		ZScriptTreeNode root = new ZScriptTreeNode("Remove me!",
-									IconFactory.SOURCE_FILE_ICON, false);
-		root.setSortable(true);
 		if (ast==null) {
-			model.setRoot(root);
+			root = importRoot = null;
+			ZScriptTreeNode empty = new ZScriptTreeNode("Remove me!",
+										IconFactory.SOURCE_FILE_ICON, false);
+			empty.setSortable(true);
+			model.setRoot(empty);
 			return;
 		}
 
-		NodeGenerator generator = new NodeGenerator(root);
-		generator.generate(ast);
+		RootNode rootNode = ast.getRootNode();
+		List<AbstractNode> imports = new ArrayList<>();
+		for (int i=0; i<rootNode.getImportCount(); i++) {
+			imports.add(rootNode.getImport(i));
+		}
+		List<AbstractNode> members = new ArrayList<>(rootNode.getAllMembers());
+
+		// Build the tree from scratch the first time, or if it would no
+		// longer have the same "Imports" node
+		boolean showImports = !getShowMajorElementsOnly();
+		if (root==null || model.getRoot()!=root ||
+				showImports!=(importRoot!=null)) {
+			root = new ZScriptTreeNode("Remove me!",
+										IconFactory.SOURCE_FILE_ICON, false);
+			root.setSortable(true);
+			List<ZScriptTreeNode> children = new ArrayList<>();
+			importRoot = null;
+			if (showImports) {
+				importRoot = new ZScriptTreeNode("Imports",
+									IconFactory.IMPORT_ROOT_ICON, false);
+				importRoot.setSortPriority(ZScriptTreeNode.SORT_PRIORITY_IMPORTS);
+				List<ZScriptTreeNode> importNodes = new ArrayList<>();
+				for (AbstractNode importNode : imports) {
+					importNodes.add(ZScriptTreeNode.create(importNode, false));
+				}
+				importRoot.setChildren(importNodes);
+				children.add(importRoot);
+			}
+			for (AbstractNode member : members) {
+				children.add(ZScriptTreeNode.create(member, false));
+			}
+			root.setChildren(children);
+			model.setRoot(root);
+			root.setSorted(isSorted());
+			refresh();
+			return;
+		}
 
-		model.setRoot(root);
-		root.setSorted(isSorted());
-		refresh();
+		updating = true;
+		try {
+			if (importRoot!=null) {
+				syncChildren(importRoot, imports);
+			}
+			syncChildren(root, members);
+		} finally {
+			updating = false;
+		}
 
 	}
 
@@ -159,6 +236,66 @@ public class ZScriptOutlineTree extends AbstractSourceTree {
 	}
 
 
+	/**
+	 * Expands the given paths, if their nodes are still in the tree.
+	 *
+	 * @param paths The paths to expand.
+	 */
+	private void expandPaths(List<TreePath> paths) {
+		for (TreePath path : paths) {
+			TreeNode node = (TreeNode)path.getLastPathComponent();
+			if (isAttached(node)) {
+				expandPath(new TreePath(((ZScriptTreeNode)node).getPath()));
+			}
+		}
+	}
+
+
+	private void fireChanged(ZScriptTreeNode parent, List<TreeNode> visible,
+							Set<TreeNode> changed) {
+		List<Integer> indices = new ArrayList<>();
+		for (int i=0; i<visible.size(); i++) {
+			if (changed.contains(visible.get(i))) {
+				indices.add(i);
+			}
+		}
+		if (!indices.isEmpty()) {
+			model.nodesChanged(parent, toArray(indices));
+		}
+	}
+
+
+	private void fireInserted(ZScriptTreeNode parent, List<TreeNode> newVisible,
+							Set<TreeNode> oldSet) {
+		List<Integer> indices = new ArrayList<>();
+		for (int i=0; i<newVisible.size(); i++) {
+			if (!oldSet.contains(newVisible.get(i))) {
+				indices.add(i);
+			}
+		}
+		if (!indices.isEmpty()) {
+			model.nodesWereInserted(parent, toArray(indices));
+		}
+	}
+
+
+	private void fireRemoved(ZScriptTreeNode parent, List<TreeNode> oldVisible,
+							Set<TreeNode> newSet) {
+		List<Integer> indices = new ArrayList<>();
+		List<Object> removed = new ArrayList<>();
+		for (int i=0; i<oldVisible.size(); i++) {
+			TreeNode child = oldVisible.get(i);
+			if (!newSet.contains(child)) {
+				indices.add(i);
+				removed.add(child);
+			}
+		}
+		if (!indices.isEmpty()) {
+			model.nodesWereRemoved(parent, toArray(indices), removed.toArray());
+		}
+	}
+
+
 	private void gotoElementAtPath(TreePath path) {
 		DefaultMutableTreeNode node = (DefaultMutableTreeNode)path.
 													getLastPathComponent();
@@ -187,6 +324,20 @@ public class ZScriptOutlineTree extends AbstractSourceTree {
 	}
 
 
+	/**
+	 * Returns whether a node is still part of this tree.
+	 *
+	 * @param node The node.
+	 * @return Whether it is attached to the current root.
+	 */
+	private boolean isAttached(TreeNode node) {
+		while (node!=null && node!=root) {
+			node = node.getParent();
+		}
+		return node!=null;
+	}
+
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -213,6 +364,135 @@ public class ZScriptOutlineTree extends AbstractSourceTree {
 	}
 
 
+	/**
+	 * Updates a node's children to match the members of the new AST.
+	 * Existing tree nodes are reused for members of the same kind and name,
+	 * and the tree model is told only about the children that were added,
+	 * removed or changed.  If sorting or filtering moved any of the reused
+	 * children, the node's structure is reported as changed instead, and
+	 * its expanded descendants are expanded again.<p>
+	 *
+	 * Reused children that are expanded are updated the same way; those that
+	 * are collapsed forget their children, to be created again when needed.
+	 *
+	 * @param parent The tree node to update.
+	 * @param members The AST nodes its children should represent.  Children
+	 *        not representing an AST node, such as the "Imports" node, are
+	 *        kept at the front.
+	 */
+	private void syncChildren(ZScriptTreeNode parent,
+							List<AbstractNode> members) {
+
+		List<TreeNode> oldVisible = parent.getVisibleChildren();
+
+		List<ZScriptTreeNode> newChildren = new ArrayList<>();
+		Map<String, Deque<ZScriptTreeNode>> reusable = new HashMap<>();
+		for (ZScriptTreeNode child : parent.getAllChildren()) {
+			if (child.getNode()==null) {
+				newChildren.add(child);
+			}
+			else {
+				String key = ZScriptTreeNode.getKey(child.getNode());
+				reusable.computeIfAbsent(key, k -> new ArrayDeque<>()).add(child);
+			}
+		}
+
+		List<ZScriptTreeNode> reused = new ArrayList<>();
+		Set<TreeNode> changed = Collections.newSetFromMap(
+				new IdentityHashMap<>());
+		for (AbstractNode member : members) {
+			Deque<ZScriptTreeNode> candidates =
+					reusable.get(ZScriptTreeNode.getKey(member));
+			ZScriptTreeNode child = candidates!=null ? candidates.poll() : null;
+			if (child!=null) {
+				String oldText = child.getText(false);
+				child.setNode(member);
+				if (!oldText.equals(child.getText(false))) {
+					changed.add(child);
+				}
+				reused.add(child);
+			}
+			else {
+				child = ZScriptTreeNode.create(member, isSorted());
+			}
+			newChildren.add(child);
+		}
+
+		parent.setChildren(newChildren);
+		List<TreeNode> newVisible = parent.getVisibleChildren();
+
+		// Children visible both before and after, in their old and new order
+		Set<TreeNode> oldSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		oldSet.addAll(oldVisible);
+		Set<TreeNode> newSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		newSet.addAll(newVisible);
+		List<TreeNode> keptOld = new ArrayList<>();
+		for (TreeNode child : oldVisible) {
+			if (newSet.contains(child)) {
+				keptOld.add(child);
+			}
+		}
+		List<TreeNode> keptNew = new ArrayList<>();
+		for (TreeNode child : newVisible) {
+			if (oldSet.contains(child)) {
+				keptNew.add(child);
+			}
+		}
+
+		if (keptOld.equals(keptNew)) {
+			fireRemoved(parent, oldVisible, newSet);
+			fireInserted(parent, newVisible, oldSet);
+			fireChanged(parent, newVisible, changed);
+		}
+		else {
+			TreePath parentPath = new TreePath(parent.getPath());
+			List<TreePath> expanded = new ArrayList<>();
+			Enumeration<TreePath> e = getExpandedDescendants(parentPath);
+			if (e!=null) {
+				expanded.addAll(Collections.list(e));
+			}
+			TreePath[] selection = getSelectionPaths();
+			model.nodeStructureChanged(parent);
+			expandPaths(expanded);
+			if (selection!=null) {
+				for (TreePath path : selection) {
+					TreeNode node = (TreeNode)path.getLastPathComponent();
+					if (isAttached(node)) {
+						addSelectionPath(new TreePath(
+								((ZScriptTreeNode)node).getPath()));
+					}
+				}
+			}
+		}
+
+		for (ZScriptTreeNode child : reused) {
+			List<AbstractNode> childMembers =
+					ZScriptTreeNode.getMembers(child.getNode());
+			if (!child.isChildrenLoaded() ||
+					(childMembers.isEmpty() && child.getAllChildren().isEmpty())) {
+				continue;
+			}
+			if (isExpanded(new TreePath(child.getPath()))) {
+				syncChildren(child, childMembers);
+			}
+			else {
+				child.unloadChildren();
+				model.nodeStructureChanged(child);
+			}
+		}
+
+	}
+
+
+	private static int[] toArray(List<Integer> list) {
+		int[] array = new int[list.size()];
+		for (int i=0; i<array.length; i++) {
+			array[i] = list.get(i);
+		}
+		return array;
+	}
+
+
 	/**
 	 *{@inheritDoc}
 	 */
@@ -279,7 +559,7 @@ public class ZScriptOutlineTree extends AbstractSourceTree {
 		 */
 		@Override
 		public void valueChanged(TreeSelectionEvent e) {
-			if (getGotoSelectedElementOnClick()) {
+			if (getGotoSelectedElementOnClick() && !updating) {
 				//gotoSelectedElement();
 				TreePath newPath = e.getNewLeadSelectionPath();
 				if (newPath!=null) {
@@ -291,164 +571,4 @@ public class ZScriptOutlineTree extends AbstractSourceTree {
 	}
 
 
-	private class NodeGenerator implements ZScriptAstVisitor {
-
-		private ZScriptTreeNode treeRoot;
-		private ZScriptTreeNode importRoot;
-		private Stack<ZScriptTreeNode> functionContainers;
-		private Stack<ZScriptTreeNode> variableContainers;
-
-		NodeGenerator(ZScriptTreeNode treeRoot) {
-			this.treeRoot = treeRoot;
-			functionContainers = new Stack<>();
-			variableContainers = new Stack<>();
-		}
-
-		public void generate(ZScriptAst ast) {
-			ast.getRootNode().accept(this);
-		}
-
-		public ZScriptTreeNode getFunctionContainer() {
-			return functionContainers.peek();
-		}
-
-		public ZScriptTreeNode getVariableContainer() {
-			return variableContainers.peek();
-		}
-
-		@Override
-		public void postVisit(CodeBlock block) {
-		}
-
-		@Override
-		public void postVisit(DoWhileNode doWhileNode) {
-		}
-
-		@Override
-		public void postVisit(ElseNode elseNode) {
-		}
-
-		@Override
-		public void postVisit(ForNode forNode) {
-		}
-
-		@Override
-		public void postVisit(IfNode ifNode) {
-		}
-
-		@Override
-		public void postVisit(FunctionDecNode functionDec) {
-			popAndVerify("variable", variableContainers, functionDec);
-		}
-
-		@Override
-		public void postVisit(ImportNode importNode) {
-		}
-
-		@Override
-		public void postVisit(RootNode root) {
-		}
-
-		@Override
-		public void postVisit(ScriptNode script) {
-			popAndVerify("function", functionContainers, script);
-			popAndVerify("variable", variableContainers, script);
-		}
-
-		@Override
-		public void postVisit(VariableDecNode varDec) {
-		}
-
-		@Override
-		public void postVisit(WhileNode whileNode) {
-		}
-
-		private void popAndVerify(String type, Stack<ZScriptTreeNode> stack, Object top) {
-			ZScriptTreeNode node = stack.pop();
-			if (node.getNode()!=top) {
-				throw new InternalError(type + " stack: " + top + " not on top!");
-			}
-		}
-
-		@Override
-		public boolean visit(CodeBlock block) {
-			return true;
-		}
-
-		@Override
-		public boolean visit(DoWhileNode doWhileNode) {
-			return false;
-		}
-
-		@Override
-		public boolean visit(ElseNode elseNode) {
-			return false;
-		}
-
-		@Override
-		public boolean visit(ForNode forNode) {
-			return false;
-		}
-
-		@Override
-		public boolean visit(FunctionDecNode functionDec) {
-			ZScriptTreeNode funcNode = new ZScriptTreeNode(functionDec);
-			funcNode.setSortPriority(SORT_PRIORITY_FUNCTION);
-			getFunctionContainer().add(funcNode);
-			variableContainers.push(funcNode);
-			return true;
-		}
-
-		@Override
-		public boolean visit(IfNode ifNode) {
-			return false;
-		}
-
-		@Override
-		public boolean visit(ImportNode importNode) {
-			if (!getShowMajorElementsOnly()) {
-				importRoot.add(new ZScriptTreeNode(importNode));
-			}
-			return false;
-		}
-
-		@Override
-		public boolean visit(RootNode root) {
-			if (!getShowMajorElementsOnly()) {
-				importRoot = new ZScriptTreeNode("Imports",
-									IconFactory.IMPORT_ROOT_ICON, false);
-				importRoot.setSortPriority(SORT_PRIORITY_IMPORTS);
-				treeRoot.add(importRoot);
-			}
-			functionContainers.push(treeRoot);
-			variableContainers.push(treeRoot);
-			return true;
-		}
-
-		@Override
-		public boolean visit(ScriptNode script) {
-			ZScriptTreeNode scriptNode = new ZScriptTreeNode(script);
-			scriptNode.setSortPriority(SORT_PRIORITY_SCRIPT);
-			treeRoot.add(scriptNode);
-			functionContainers.push(scriptNode);
-			variableContainers.push(scriptNode);
-			return true;
-		}
-
-		@Override
-		public boolean visit(VariableDecNode varDec) {
-			ZScriptTreeNode varNode = new ZScriptTreeNode(varDec);
-			varNode.setSortPriority(SORT_PRIORITY_VARIABLE);
-			getVariableContainer().add(varNode);
-			return false;
-		}
-
-		@Override
-		public boolean visit(WhileNode whileNode) {
-			return false;
-		}
-
-	}
-
-
 }
@@ -6,15 +6,33 @@
  */
 package org.fife.rsta.zscript.tree;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Vector;
+import java.util.regex.Pattern;
 import javax.swing.Icon;
+import javax.swing.tree.TreeNode;
 
 import org.fife.rsta.ac.SourceTreeNode;
 import org.fife.rsta.zscript.IconFactory;
 import org.fife.rsta.zscript.ast.AbstractNode;
+import org.fife.rsta.zscript.ast.CodeBlock;
+import org.fife.rsta.zscript.ast.FunctionDecNode;
+import org.fife.rsta.zscript.ast.ImportNode;
+import org.fife.rsta.zscript.ast.MemberNode;
+import org.fife.rsta.zscript.ast.ScriptNode;
+import org.fife.rsta.zscript.ast.StatementNode;
+import org.fife.rsta.zscript.ast.VariableDecNode;
 
 
 /**
- * Base class for nodes in the Java outline tree.
+ * Base class for nodes in the Java outline tree.<p>
+ *
+ * Nodes for scripts and functions create the nodes for their members the
+ * first time they are asked for them, e.g. when they are first expanded.
+ * Until then, whether they are a leaf is answered from the AST.
  *
  * @author Robert Futrell
  * @version 1.0
@@ -28,10 +46,33 @@ class ZScriptTreeNode extends SourceTreeNode {
 	 */
 	private Icon icon;
 
+	/**
+	 * Whether the nodes for this node's members have been created.
+	 */
+	private boolean childrenLoaded;
+
+	/**
+	 * The filter last applied to this node, so it can be applied to
+	 * children created later.
+	 */
+	private Pattern filterPattern;
+
+	/**
+	 * The labels for this node when not selected and selected, created the
+	 * first time they are requested.
+	 */
+	private String text;
+	private String selectedText;
+
 	protected static final int PRIORITY_METHOD = 0;
 	protected static final int PRIORITY_VAR = 1;
 	protected static final int PRIORITY_VAR_CONST = 1;
 
+	static final int SORT_PRIORITY_IMPORTS		= 0;
+	static final int SORT_PRIORITY_SCRIPT		= 1;
+	static final int SORT_PRIORITY_FUNCTION		= 2;
+	static final int SORT_PRIORITY_VARIABLE		= 3;
+
 
 	ZScriptTreeNode(AbstractNode node) {
 		this(node, false);
@@ -41,6 +82,8 @@ class ZScriptTreeNode extends SourceTreeNode {
 	private ZScriptTreeNode(AbstractNode node, boolean sorted) {
 		super(node, sorted);
 		this.node = node;
+		childrenLoaded = !(node instanceof ScriptNode ||
+				node instanceof FunctionDecNode);
 	}
 
 
@@ -49,6 +92,14 @@ class ZScriptTreeNode extends SourceTreeNode {
 		if (iconName!=null) {
 			icon = IconFactory.get().getIcon(iconName);
 		}
+		childrenLoaded = true;
+	}
+
+
+	@Override
+	public Enumeration<TreeNode> children() {
+		ensureChildrenLoaded();
+		return super.children();
 	}
 
 
@@ -69,8 +120,81 @@ class ZScriptTreeNode extends SourceTreeNode {
 	}
 
 
-	public AbstractNode getNode() {
-		return node;
+	/**
+	 * Creates the tree node for an AST node.
+	 *
+	 * @param node The AST node.
+	 * @param sorted Whether the new node should sort its children.
+	 * @return The tree node.
+	 */
+	static ZScriptTreeNode create(AbstractNode node, boolean sorted) {
+		ZScriptTreeNode treeNode = new ZScriptTreeNode(node);
+		if (node instanceof ScriptNode) {
+			treeNode.setSortPriority(SORT_PRIORITY_SCRIPT);
+		}
+		else if (node instanceof FunctionDecNode) {
+			treeNode.setSortPriority(SORT_PRIORITY_FUNCTION);
+		}
+		else if (node instanceof VariableDecNode) {
+			treeNode.setSortPriority(SORT_PRIORITY_VARIABLE);
+		}
+		treeNode.setSorted(sorted);
+		return treeNode;
+	}
+
+
+	private void ensureChildrenLoaded() {
+		if (!childrenLoaded) {
+			childrenLoaded = true;
+			List<ZScriptTreeNode> newChildren = new ArrayList<>();
+			for (AbstractNode member : getMembers(node)) {
+				newChildren.add(create(member, isSorted()));
+			}
+			setChildren(newChildren);
+		}
+	}
+
+
+	/**
+	 * Overridden to remember the filter for children created later.
+	 */
+	@Override
+	protected void filter(Pattern pattern) {
+		filterPattern = pattern;
+		super.filter(pattern);
+	}
+
+
+	@Override
+	public TreeNode getChildAt(int index) {
+		ensureChildrenLoaded();
+		return super.getChildAt(index);
+	}
+
+
+	@Override
+	public int getChildCount() {
+		ensureChildrenLoaded();
+		return super.getChildCount();
+	}
+
+
+	/**
+	 * Returns all children of this node, including any filtered out, in the
+	 * order they were added.
+	 *
+	 * @return The children.  This will be empty if they have not been
+	 *         loaded.
+	 * @see #setChildren(List)
+	 */
+	List<ZScriptTreeNode> getAllChildren() {
+		List<ZScriptTreeNode> all = new ArrayList<>();
+		if (children!=null) {
+			for (TreeNode child : children) {
+				all.add((ZScriptTreeNode)child);
+			}
+		}
+		return all;
 	}
 
 
@@ -79,13 +203,185 @@ class ZScriptTreeNode extends SourceTreeNode {
 	}
 
 
+	@Override
+	public int getIndex(TreeNode child) {
+		ensureChildrenLoaded();
+		return super.getIndex(child);
+	}
+
+
+	/**
+	 * Returns a string identifying an AST node across parses, e.g. a
+	 * function's name.  Several nodes may share the same key.
+	 *
+	 * @param node The AST node.
+	 * @return The key.
+	 */
+	static String getKey(AbstractNode node) {
+		if (node instanceof ImportNode) {
+			return "import:" + ((ImportNode)node).getImport();
+		}
+		else if (node instanceof MemberNode) {
+			return node.getClass().getSimpleName() + ':' +
+					((MemberNode)node).getName();
+		}
+		return node.toString();
+	}
+
+
+	/**
+	 * Returns the members of an AST node shown in the outline.
+	 *
+	 * @param node The AST node.
+	 * @return The members shown as its children.
+	 */
+	static List<AbstractNode> getMembers(AbstractNode node) {
+
+		List<AbstractNode> members = new ArrayList<>();
+
+		if (node instanceof ScriptNode) {
+			ScriptNode script = (ScriptNode)node;
+			for (int i=0; i<script.getFunctionCount(); i++) {
+				members.add(script.getFunction(i));
+			}
+		}
+
+		// Local variables in the function's body, but not nested blocks
+		else if (node instanceof FunctionDecNode) {
+			CodeBlock block = ((FunctionDecNode)node).getCodeBlock();
+			if (block!=null) {
+				for (int i=0; i<block.getStatementCount(); i++) {
+					StatementNode statement = block.getStatement(i);
+					if (statement instanceof VariableDecNode) {
+						members.add((VariableDecNode)statement);
+					}
+				}
+			}
+		}
+
+		return members;
+
+	}
+
+
+	public AbstractNode getNode() {
+		return node;
+	}
+
+
+	/**
+	 * Returns the children currently visible, i.e. sorted and filtered.
+	 *
+	 * @return The visible children.
+	 */
+	List<TreeNode> getVisibleChildren() {
+		int count = getChildCount();
+		List<TreeNode> visible = new ArrayList<>(count);
+		for (int i=0; i<count; i++) {
+			visible.add(getChildAt(i));
+		}
+		return visible;
+	}
+
+
+	/**
+	 * Returns the label for this node.  Labels are cached until the node is
+	 * pointed at a new AST node.
+	 *
+	 * @param selected Whether the node is selected.  If it isn't, the label
+	 *        may be HTML.
+	 * @return The label.
+	 * @see #setNode(AbstractNode)
+	 */
 	public String getText(boolean selected) {
-		Object obj = getUserObject();
-		if (obj instanceof AbstractNode) { // Always true?
-			AbstractNode node = (AbstractNode)obj;
-			return node.toString(!selected);
+		String label = selected ? selectedText : text;
+		if (label==null) {
+			Object obj = getUserObject();
+			if (obj instanceof AbstractNode) { // Always true?
+				AbstractNode node = (AbstractNode)obj;
+				label = node.toString(!selected);
+			}
+			else {
+				label = obj!=null ? obj.toString() : null;
+			}
+			if (selected) {
+				selectedText = label;
+			}
+			else {
+				text = label;
+			}
+		}
+		return label;
+	}
+
+
+	/**
+	 * Returns whether the nodes for this node's members have been created.
+	 *
+	 * @return Whether this node's children are loaded.
+	 * @see #unloadChildren()
+	 */
+	boolean isChildrenLoaded() {
+		return childrenLoaded;
+	}
+
+
+	/**
+	 * Overridden so that a node's children aren't created just to render
+	 * it.
+	 */
+	@Override
+	public boolean isLeaf() {
+		if (!childrenLoaded) {
+			return getMembers(node).isEmpty();
+		}
+		return super.isLeaf();
+	}
+
+
+	/**
+	 * Overridden to skip nodes whose children haven't been loaded.
+	 */
+	@Override
+	public void refresh() {
+		if (childrenLoaded) {
+			super.refresh();
+		}
+	}
+
+
+	/**
+	 * Replaces this node's children.  Children that are not in the new list
+	 * are detached, and the current sort order and filter are applied to
+	 * the new ones.  No events are fired.
+	 *
+	 * @param newChildren The new children, in the order they should appear
+	 *        when not sorted.
+	 * @see #getAllChildren()
+	 */
+	void setChildren(List<ZScriptTreeNode> newChildren) {
+		for (ZScriptTreeNode child : getAllChildren()) {
+			child.setParent(null);
 		}
-		return obj!=null ? obj.toString() : null;
+		children = newChildren.isEmpty() ? null : new Vector<>(newChildren);
+		for (ZScriptTreeNode child : newChildren) {
+			child.setParent(this);
+		}
+		childrenLoaded = true;
+		filter(filterPattern); // Also refreshes the visible children
+	}
+
+
+	/**
+	 * Points this tree node at a new version of its AST node.  Its
+	 * children are left alone, and its cached labels are discarded.
+	 *
+	 * @param node The new AST node.
+	 */
+	void setNode(AbstractNode node) {
+		this.node = node;
+		setUserObject(node);
+		text = selectedText = null;
 	}
 
 
@@ -101,4 +397,16 @@ class ZScriptTreeNode extends SourceTreeNode {
 	}
 
 
+	/**
+	 * Discards this node's children, so they are created again from the
+	 * AST when next needed.  No events are fired.
+	 *
+	 * @see #isChildrenLoaded()
+	 */
+	void unloadChildren() {
+		setChildren(Collections.emptyList());
+		childrenLoaded = false;
+	}
+
+
 }
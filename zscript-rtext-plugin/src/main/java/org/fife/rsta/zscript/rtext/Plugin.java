@@ -10,6 +10,7 @@ package org.fife.rsta.zscript.rtext;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.util.function.BooleanSupplier;
 import javax.swing.Action;
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
@@ -62,6 +63,8 @@ public class Plugin extends GUIPlugin {
 			"viewZScriptDockedWindow";
 	private static final String VIEW_ZSCRIPT_SEARCH_DIALOG_ACTION =
 			"viewScriptSearchDialog";
+	private static final String VIEW_ZSCRIPT_PERFORMANCE_WINDOW_ACTION =
+			"viewZScriptPerformanceWindow";
 
 	private RText rtext;
 	private String version;
@@ -69,6 +72,9 @@ public class Plugin extends GUIPlugin {
 	private ZScriptDockableWindow window;
 	private int initialDockableWindowPosition;
 	private boolean initialDockableWindowVisible;
+	private ZScriptPerformanceWindow performanceWindow;
+	private int initialPerformanceWindowPosition;
+	private boolean initialPerformanceWindowVisible;
 	private ScriptSearchDialog scriptSearchDialog;
 
 
@@ -87,6 +93,45 @@ public class Plugin extends GUIPlugin {
 		a.setAccelerator(prefs.scriptSearchDialogAccelerator);
 		rtext.addAction(VIEW_ZSCRIPT_SEARCH_DIALOG_ACTION, a);
 
+		a = new ViewPerformanceWindowAction(rtext, this);
+		a.setAccelerator(prefs.performanceWindowVisibilityAccelerator);
+		rtext.addAction(VIEW_ZSCRIPT_PERFORMANCE_WINDOW_ACTION, a);
+		initialPerformanceWindowPosition = prefs.performanceWindowPosition;
+		initialPerformanceWindowVisible = prefs.performanceWindowVisible;
+
+	}
+
+
+	/**
+	 * Adds a check box menu item for toggling a dockable window's visibility.
+	 *
+	 * @param menu The menu to add to.
+	 * @param actionName The name of the action toggling the window.
+	 * @param visible Whether the window is visible.  This is polled when the
+	 *        menu is displayed.
+	 */
+	private void addDockableWindowMenuItem(JMenu menu, String actionName,
+			BooleanSupplier visible) {
+		Action a = rtext.getAction(actionName);
+		final JCheckBoxMenuItem item = new JCheckBoxMenuItem(a);
+		item.setToolTipText(null);
+		item.applyComponentOrientation(rtext.getComponentOrientation());
+		menu.add(item);
+		JPopupMenu popup = menu.getPopupMenu();
+		popup.pack();
+		// Only needed for pre-1.6 support
+		popup.addPopupMenuListener(new PopupMenuListener() {
+			@Override
+			public void popupMenuCanceled(PopupMenuEvent e) {
+			}
+			@Override
+			public void popupMenuWillBecomeInvisible(PopupMenuEvent e) {
+			}
+			@Override
+			public void popupMenuWillBecomeVisible(PopupMenuEvent e) {
+				item.setSelected(visible.getAsBoolean());
+			}
+		});
 	}
 
 
@@ -133,6 +178,18 @@ public class Plugin extends GUIPlugin {
 	}
 
 
+	/**
+	 * Returns the performance window's position, even if it has not yet
+	 * been created.
+	 *
+	 * @return The performance window's position.
+	 */
+	private int getPerformanceWindowPosition() {
+		return performanceWindow==null ? initialPerformanceWindowPosition :
+				performanceWindow.getPosition();
+	}
+
+
 	/**
 	 * Returns the ID of the option panel that should be the parent of this
 	 * one.
@@ -216,28 +273,14 @@ public class Plugin extends GUIPlugin {
 				sbpPrefix + SYNTAX_STYLE_ZSCRIPT,
 				"org.fife.rsta.zscript.rtext.ZScriptSourceBrowserTreeConstructor");
 
-		// Add an item to the "View" menu to toggle console visibility
+		setPerformanceWindowVisible(initialPerformanceWindowVisible);
+
+		// Add items to the "View" menu to toggle our windows' visibility
 		JMenu menu = mb.getMenuByName(RTextMenuBar.MENU_DOCKED_WINDOWS);
-		Action a = rtext.getAction(VIEW_ZSCRIPT_DOCKED_WIDNOW_ACTION);
-		final JCheckBoxMenuItem item = new JCheckBoxMenuItem(a);
-		item.setToolTipText(null);
-		item.applyComponentOrientation(app.getComponentOrientation());
-		menu.add(item);
-		JPopupMenu popup = menu.getPopupMenu();
-		popup.pack();
-		// Only needed for pre-1.6 support
-		popup.addPopupMenuListener(new PopupMenuListener() {
-			@Override
-			public void popupMenuCanceled(PopupMenuEvent e) {
-			}
-			@Override
-			public void popupMenuWillBecomeInvisible(PopupMenuEvent e) {
-			}
-			@Override
-			public void popupMenuWillBecomeVisible(PopupMenuEvent e) {
-				item.setSelected(isDockableWindowVisible());
-			}
-		});
+		addDockableWindowMenuItem(menu, VIEW_ZSCRIPT_DOCKED_WIDNOW_ACTION,
+				this::isDockableWindowVisible);
+		addDockableWindowMenuItem(menu, VIEW_ZSCRIPT_PERFORMANCE_WINDOW_ACTION,
+				this::isPerformanceWindowVisible);
 
 		addZScriptSubMenu(mb);
 
@@ -267,6 +310,17 @@ public class Plugin extends GUIPlugin {
 	}
 
 
+	/**
+	 * Returns whether the performance window is visible.
+	 *
+	 * @return Whether the performance window is visible.
+	 * @see #setPerformanceWindowVisible(boolean)
+	 */
+	boolean isPerformanceWindowVisible() {
+		return performanceWindow!=null && performanceWindow.isActive();
+	}
+
+
 	/**
 	 * Loads saved preferences.  If this is the first time through, default
 	 * values will be returned.
@@ -330,6 +384,10 @@ public class Plugin extends GUIPlugin {
 		// Plugin-specific stuff
 		a = (StandardAction)rtext.getAction(VIEW_ZSCRIPT_SEARCH_DIALOG_ACTION);
 		prefs.scriptSearchDialogAccelerator = a.getAccelerator();
+		prefs.performanceWindowPosition = getPerformanceWindowPosition();
+		a = (StandardAction)rtext.getAction(VIEW_ZSCRIPT_PERFORMANCE_WINDOW_ACTION);
+		prefs.performanceWindowVisibilityAccelerator = a.getAccelerator();
+		prefs.performanceWindowVisible = isPerformanceWindowVisible();
 
 		File prefsFile = getPrefsFile();
 		try {
@@ -361,6 +419,26 @@ public class Plugin extends GUIPlugin {
 	}
 
 
+	/**
+	 * Toggles the visibility of the performance window.
+	 *
+	 * @param visible Whether the performance window should be visible.
+	 * @see #isPerformanceWindowVisible()
+	 */
+	void setPerformanceWindowVisible(boolean visible) {
+		if (visible!=isPerformanceWindowVisible()) {
+			if (visible && performanceWindow==null) {
+				performanceWindow = new ZScriptPerformanceWindow(rtext, this);
+				performanceWindow.setPosition(initialPerformanceWindowPosition);
+				// Must manually add since we are lazily created
+				rtext.addDockableWindow(performanceWindow);
+				putDockableWindow("zscriptPerformanceWindow", performanceWindow);
+			}
+			performanceWindow.setActive(visible);
+		}
+	}
+
+
 	/**
 	 * Displays the dialog allowing the searching of PureZC scripts.
 	 */
@@ -0,0 +1,49 @@
+/*
+ * 10/18/2026
+ *
+ * ViewPerformanceWindowAction.java - Toggles visibility of the performance
+ * window.
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.rtext;
+
+import java.awt.event.ActionEvent;
+
+import org.fife.rtext.RText;
+import org.fife.ui.app.AppAction;
+
+
+/**
+ * Toggles visibility of the ZScript performance window.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class ViewPerformanceWindowAction extends AppAction<RText> {
+
+	/**
+	 * The parent plugin.
+	 */
+	private Plugin plugin;
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param owner The parent RText instance.
+	 * @param plugin The plugin.
+	 */
+	ViewPerformanceWindowAction(RText owner, Plugin plugin) {
+		super(owner, Messages.getBundle(), "Action.ViewPerformanceWindow");
+		this.plugin = plugin;
+	}
+
+
+	@Override
+	public void actionPerformed(ActionEvent e) {
+		plugin.setPerformanceWindowVisible(!plugin.isPerformanceWindowVisible());
+	}
+
+
+}
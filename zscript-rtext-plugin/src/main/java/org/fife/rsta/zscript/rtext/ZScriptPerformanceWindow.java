@@ -0,0 +1,241 @@
+/*
+ * 10/18/2026
+ *
+ * ZScriptPerformanceWindow.java - Shows latencies of ZScript operations.
+ * This library is distributed under a modified BSD license.  See the included
+ * ZScriptLanguageSupport.License.txt file for details.
+ */
+package org.fife.rsta.zscript.rtext;
+
+import java.awt.BorderLayout;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+
+import org.fife.rsta.zscript.metrics.LatencyHistogram;
+import org.fife.rsta.zscript.metrics.Metrics;
+import org.fife.rsta.zscript.metrics.MetricsListener;
+import org.fife.rsta.zscript.metrics.MetricsRecorder;
+import org.fife.rsta.zscript.metrics.Operation;
+import org.fife.rtext.AbstractMainView;
+import org.fife.rtext.RText;
+import org.fife.rtext.RTextEditorPane;
+import org.fife.ui.RScrollPane;
+import org.fife.ui.dockablewindows.DockableWindow;
+import org.fife.ui.dockablewindows.DockableWindowScrollPane;
+
+
+/**
+ * Dockable window that displays how long parsing, code completion, link
+ * resolution and outline updates take in each open ZScript editor.  The
+ * figures are refreshed every second while the window is visible.<p>
+ *
+ * Operations are only timed while this window is active.  If another
+ * {@link MetricsListener} was registered with {@link Metrics}, it is
+ * replaced while this window is active and restored afterward.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public class ZScriptPerformanceWindow extends DockableWindow
+		implements ActionListener {
+
+	private RText rtext;
+	private PerformanceTableModel model;
+	private Timer timer;
+	private MetricsRecorder recorder;
+	private MetricsListener oldListener;
+	private boolean timing;
+
+	private static final int REFRESH_MILLIS = 1000;
+
+
+	public ZScriptPerformanceWindow(RText app, Plugin plugin) {
+
+		this.rtext = app;
+		recorder = new MetricsRecorder();
+		timer = new Timer(REFRESH_MILLIS, this);
+
+		model = new PerformanceTableModel();
+		JTable table = new JTable(model);
+		table.setAutoCreateRowSorter(true);
+		RScrollPane sp = new DockableWindowScrollPane(table);
+		setLayout(new BorderLayout());
+		add(sp);
+
+		setDockableWindowName(Messages.getString("PerformanceWindow.Title"));
+		setIcon(plugin.getPluginIcon());
+		setPosition(DockableWindow.BOTTOM);
+		setActive(true);
+
+		applyComponentOrientation(app.getComponentOrientation());
+
+	}
+
+
+	/**
+	 * Called every second to refresh the displayed figures.
+	 */
+	@Override
+	public void actionPerformed(ActionEvent e) {
+		refresh();
+	}
+
+
+	private void refresh() {
+
+		List<Object[]> rows = new ArrayList<>();
+		AbstractMainView mainView = rtext.getMainView();
+
+		for (int i=0; i<mainView.getNumDocuments(); i++) {
+			RTextEditorPane textArea = mainView.getRTextEditorPaneAt(i);
+			if (!Plugin.SYNTAX_STYLE_ZSCRIPT.equals(textArea.getSyntaxEditingStyle())) {
+				continue;
+			}
+			MetricsRecorder.DocumentMetrics dm = recorder.getMetrics(
+					textArea.getDocument());
+			if (dm==null) {
+				continue;
+			}
+			for (Operation op : Operation.values()) {
+				LatencyHistogram histogram = dm.getHistogram(op);
+				if (histogram.getCount()>0) {
+					rows.add(new Object[] { textArea.getFileName(),
+						dm.getLength(), dm.getNodeCount(),
+						Messages.getString("Operation." + op.name()),
+						histogram.getCount(),
+						toMillis(histogram.getPercentileNanos(50)),
+						toMillis(histogram.getPercentileNanos(99)),
+						toMillis(histogram.getMaxNanos()) });
+				}
+			}
+		}
+
+		model.setRows(rows);
+
+	}
+
+
+	/**
+	 * Overridden to only time operations and refresh while this window is
+	 * active (visible).
+	 *
+	 * @param active Whether this window should be active.
+	 */
+	@Override
+	public void setActive(boolean active) {
+		if (active!=isActive()) {
+			super.setActive(active);
+			if (active && !timing) {
+				startTiming();
+			}
+			else if (!active && timing) {
+				stopTiming();
+			}
+		}
+	}
+
+
+	/**
+	 * Starts timing operations and refreshing the displayed figures.
+	 *
+	 * @see #stopTiming()
+	 */
+	private void startTiming() {
+		oldListener = Metrics.getListener();
+		Metrics.setListener(recorder);
+		timer.start();
+		timing = true;
+	}
+
+
+	/**
+	 * Stops timing operations, and discards the figures recorded.
+	 *
+	 * @see #startTiming()
+	 */
+	private void stopTiming() {
+		timer.stop();
+		if (Metrics.getListener()==recorder) {
+			Metrics.setListener(oldListener);
+		}
+		oldListener = null;
+		recorder.reset();
+		model.setRows(new ArrayList<>());
+		timing = false;
+	}
+
+
+	/**
+	 * Converts a latency to milliseconds, rounded to two decimal places.
+	 */
+	private static double toMillis(long nanos) {
+		return Math.round(nanos / 10_000d) / 100d;
+	}
+
+
+	/**
+	 * Table model for the performance table.
+	 */
+	private static class PerformanceTableModel extends AbstractTableModel {
+
+		private List<Object[]> rows;
+		private String[] columnNames;
+
+		private static final Class<?>[] COLUMN_CLASSES = {
+			String.class, Integer.class, Integer.class, String.class,
+			Long.class, Double.class, Double.class, Double.class,
+		};
+
+		PerformanceTableModel() {
+			rows = new ArrayList<>();
+			columnNames = new String[] {
+				Messages.getString("PerformanceWindow.Column.Editor"),
+				Messages.getString("PerformanceWindow.Column.Size"),
+				Messages.getString("PerformanceWindow.Column.Nodes"),
+				Messages.getString("PerformanceWindow.Column.Operation"),
+				Messages.getString("PerformanceWindow.Column.Count"),
+				Messages.getString("PerformanceWindow.Column.P50"),
+				Messages.getString("PerformanceWindow.Column.P99"),
+				Messages.getString("PerformanceWindow.Column.Max"),
+			};
+		}
+
+		@Override
+		public Class<?> getColumnClass(int column) {
+			return COLUMN_CLASSES[column];
+		}
+
+		@Override
+		public int getColumnCount() {
+			return columnNames.length;
+		}
+
+		@Override
+		public String getColumnName(int column) {
+			return columnNames[column];
+		}
+
+		@Override
+		public int getRowCount() {
+			return rows.size();
+		}
+
+		@Override
+		public Object getValueAt(int row, int column) {
+			return rows.get(row)[column];
+		}
+
+		void setRows(List<Object[]> rows) {
+			this.rows = rows;
+			fireTableDataChanged();
+		}
+
+	}
+
+
+}
@@ -44,6 +44,21 @@ public class ZScriptPrefs extends Prefs {
 	 */
 	public KeyStroke scriptSearchDialogAccelerator;
 
+	/**
+	 * Whether the performance window is active (visible).
+	 */
+	public boolean performanceWindowVisible;
+
+	/**
+	 * The location of the performance window.
+	 */
+	public int performanceWindowPosition;
+
+	/**
+	 * Key stroke that toggles the performance window's visibility.
+	 */
+	public KeyStroke performanceWindowVisibilityAccelerator;
+
 
 	@Override
 	public void setDefaults() {
@@ -53,6 +68,9 @@ public class ZScriptPrefs extends Prefs {
 		int ctrlShift = Toolkit.getDefaultToolkit().getMenuShortcutKeyMaskEx() |
 				InputEvent.SHIFT_DOWN_MASK;
 		scriptSearchDialogAccelerator = KeyStroke.getKeyStroke(KeyEvent.VK_Z, ctrlShift);
+		performanceWindowVisible = false;
+		performanceWindowPosition = DockableWindow.BOTTOM;
+		performanceWindowVisibilityAccelerator = null;
 	}
 
 